@@ -0,0 +1,26 @@
+package com.majtom.oas.benchmarks;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Spring-Kontext mit allen Core-Komponenten für die Benchmarks.
+ *
+ * Der Parse-Cache ist deaktiviert, damit jede Iteration tatsächlich parst.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static AnnotationConfigApplicationContext create() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("oas.parser.cache.max-weight-mb", "0")));
+        context.scan("com.majtom.oas");
+        context.refresh();
+        return context;
+    }
+}
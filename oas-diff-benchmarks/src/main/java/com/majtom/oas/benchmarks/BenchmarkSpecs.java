@@ -0,0 +1,131 @@
+package com.majtom.oas.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.majtom.oas.parser.SpecificationFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Erzeugt Benchmark-Eingaben unterschiedlicher Größe aus den Beispiel-Spezifikationen.
+ *
+ * Die Größe wird über die Anzahl der Kopien gesteuert: jede Kopie enthält alle Pfade
+ * (mit Präfix {@code /c<n>}) und alle Component-Schemas (mit Suffix {@code _<n>}) der
+ * Vorlage, {@code $ref}s werden entsprechend umgeschrieben.
+ */
+public final class BenchmarkSpecs {
+
+    /** Alte Version der Vorlage. */
+    public static final String OLD_TEMPLATE = "todo-api-v1.yaml";
+
+    /** Neue Version der Vorlage. */
+    public static final String NEW_TEMPLATE = "todo-api-v2.yaml";
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final YAMLMapper YAML_MAPPER = new YAMLMapper();
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private BenchmarkSpecs() {
+    }
+
+    /**
+     * Erzeugt eine vergrößerte Spezifikation.
+     *
+     * @param template Dateiname der Vorlage unter {@code /examples}
+     * @param copies Anzahl der Kopien von Pfaden und Schemas
+     * @param format Ausgabeformat (YAML oder JSON)
+     * @return Spezifikation als String
+     */
+    public static String scaled(String template, int copies, SpecificationFormat format) {
+        ObjectNode root = (ObjectNode) readTemplate(template);
+        ObjectNode paths = (ObjectNode) root.get("paths");
+        ObjectNode schemas = (ObjectNode) root.path("components").get("schemas");
+
+        ObjectNode scaledPaths = JSON_MAPPER.createObjectNode();
+        ObjectNode scaledSchemas = JSON_MAPPER.createObjectNode();
+        for (int copy = 0; copy < copies; copy++) {
+            String suffix = "_" + copy;
+            for (Iterator<Map.Entry<String, JsonNode>> it = paths.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                scaledPaths.set("/c" + copy + entry.getKey(), renameRefs(entry.getValue().deepCopy(), suffix));
+            }
+            if (schemas != null) {
+                for (Iterator<Map.Entry<String, JsonNode>> it = schemas.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> entry = it.next();
+                    scaledSchemas.set(entry.getKey() + suffix, renameRefs(entry.getValue().deepCopy(), suffix));
+                }
+            }
+        }
+
+        root.set("paths", scaledPaths);
+        if (schemas != null) {
+            ((ObjectNode) root.get("components")).set("schemas", scaledSchemas);
+        }
+
+        try {
+            return format == SpecificationFormat.JSON
+                    ? JSON_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(root)
+                    : YAML_MAPPER.writeValueAsString(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Schreibt eine vergrößerte Spezifikation in eine temporäre Datei.
+     *
+     * @return Pfad der Datei, wird beim Beenden der JVM gelöscht
+     */
+    public static Path writeScaled(String template, int copies, SpecificationFormat format) {
+        return writeTemp(scaled(template, copies, format), format);
+    }
+
+    /**
+     * Schreibt eine Spezifikation in eine temporäre Datei.
+     *
+     * @return Pfad der Datei, wird beim Beenden der JVM gelöscht
+     */
+    public static Path writeTemp(String content, SpecificationFormat format) {
+        try {
+            String suffix = format == SpecificationFormat.JSON ? ".json" : ".yaml";
+            Path file = Files.createTempFile("oas-benchmark-", suffix);
+            file.toFile().deleteOnExit();
+            Files.writeString(file, content);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonNode readTemplate(String template) {
+        try (InputStream in = BenchmarkSpecs.class.getResourceAsStream("/examples/" + template)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Vorlage nicht gefunden: " + template);
+            }
+            return YAML_MAPPER.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonNode renameRefs(JsonNode node, String suffix) {
+        if (node instanceof ObjectNode object) {
+            JsonNode ref = object.get("$ref");
+            if (ref != null && ref.isTextual() && ref.asText().startsWith(SCHEMA_REF_PREFIX)) {
+                object.put("$ref", ref.asText() + suffix);
+            }
+        }
+        for (JsonNode child : node) {
+            renameRefs(child, suffix);
+        }
+        return node;
+    }
+}
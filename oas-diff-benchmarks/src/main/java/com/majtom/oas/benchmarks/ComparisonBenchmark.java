@@ -0,0 +1,77 @@
+package com.majtom.oas.benchmarks;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.SpecificationFormat;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vollständiger Vergleich mit allen Regeln, einmal mit bereits geparsten Spezifikationen
+ * und einmal inklusive Parsen beider Dateien.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComparisonBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int specSize;
+
+    private AnnotationConfigApplicationContext context;
+    private OasComparisonService comparisonService;
+    private String oldSpecPath;
+    private String newSpecPath;
+    private OpenAPI oldSpec;
+    private OpenAPI newSpec;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OasParseException {
+        context = BenchmarkContext.create();
+        comparisonService = context.getBean(OasComparisonService.class);
+
+        oldSpecPath = BenchmarkSpecs.writeScaled(BenchmarkSpecs.OLD_TEMPLATE, specSize, SpecificationFormat.YAML)
+                .toString();
+        newSpecPath = BenchmarkSpecs.writeScaled(BenchmarkSpecs.NEW_TEMPLATE, specSize, SpecificationFormat.YAML)
+                .toString();
+
+        OasParser parser = context.getBean(OasParser.class);
+        oldSpec = parser.parseFromFile(oldSpecPath);
+        newSpec = parser.parseFromFile(newSpecPath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ComparisonResult compareParsed() {
+        return comparisonService.compareSpecifications(oldSpec, newSpec);
+    }
+
+    @Benchmark
+    public ComparisonResult compareFiles() throws OasParseException {
+        return comparisonService.compareSpecifications(oldSpecPath, newSpecPath);
+    }
+}
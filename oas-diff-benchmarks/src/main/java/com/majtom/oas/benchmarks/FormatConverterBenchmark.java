@@ -0,0 +1,48 @@
+package com.majtom.oas.benchmarks;
+
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.SpecificationFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Konvertierung von YAML nach JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatConverterBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int specSize;
+
+    private FormatConverter converter;
+    private String yaml;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = new FormatConverter();
+        yaml = BenchmarkSpecs.scaled(BenchmarkSpecs.OLD_TEMPLATE, specSize, SpecificationFormat.YAML);
+    }
+
+    @Benchmark
+    public String yamlToJson() throws OasParseException {
+        return converter.yamlToJson(yaml);
+    }
+}
@@ -0,0 +1,61 @@
+package com.majtom.oas.benchmarks;
+
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.SpecificationFormat;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsen von YAML- und JSON-Spezifikationen aus Datei und String, ohne Parse-Cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int specSize;
+
+    @Param({"YAML", "JSON"})
+    public SpecificationFormat format;
+
+    private OasParser parser;
+    private String filePath;
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new OasParser(new FormatDetector(), new FormatConverter());
+        content = BenchmarkSpecs.scaled(BenchmarkSpecs.OLD_TEMPLATE, specSize, format);
+        filePath = BenchmarkSpecs.writeScaled(BenchmarkSpecs.OLD_TEMPLATE, specSize, format).toString();
+    }
+
+    @Benchmark
+    public OpenAPI parseFromFile() throws OasParseException {
+        return parser.parseFromFile(filePath);
+    }
+
+    @Benchmark
+    public OpenAPI parseFromString() throws OasParseException {
+        return parser.parseFromString(content);
+    }
+}
@@ -0,0 +1,69 @@
+package com.majtom.oas.benchmarks;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.SpecificationFormat;
+import com.majtom.oas.report.HumanReadableReportGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Erstellung des Textberichts für ein vorab berechnetes Vergleichsergebnis, als String und
+ * gestreamt in einen Writer ohne Ziel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int specSize;
+
+    private AnnotationConfigApplicationContext context;
+    private HumanReadableReportGenerator reportGenerator;
+    private ComparisonResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OasParseException {
+        context = BenchmarkContext.create();
+        reportGenerator = context.getBean(HumanReadableReportGenerator.class);
+        result = context.getBean(OasComparisonService.class).compareSpecifications(
+                BenchmarkSpecs.writeScaled(BenchmarkSpecs.OLD_TEMPLATE, specSize, SpecificationFormat.YAML).toString(),
+                BenchmarkSpecs.writeScaled(BenchmarkSpecs.NEW_TEMPLATE, specSize, SpecificationFormat.YAML).toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generateTextReport() {
+        return reportGenerator.generateTextReport(result);
+    }
+
+    @Benchmark
+    public void writeTextReport() throws IOException {
+        reportGenerator.writeTextReport(result, Writer.nullWriter());
+    }
+}
@@ -0,0 +1,142 @@
+package com.majtom.oas.benchmarks;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.SpecificationFormat;
+import com.majtom.oas.rules.BreakingChangeRule;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Einzelauswertung jeder Regel über {@link BreakingChangeRule#evaluate}.
+ *
+ * Neue Regeln müssen in {@link #rule} ergänzt werden. Einzelne Regeln lassen sich mit
+ * {@code -p rule=EndpointRemovedRule} auswählen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RuleBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int specSize;
+
+    @Param({
+            "AdditionalPropertiesForbiddenRule",
+            "AdditionalPropertiesTypeChangedRule",
+            "ApiVersionChangedRule",
+            "ArrayMaxItemsDecreasedRule",
+            "ArrayMinItemsIncreasedRule",
+            "ArrayUniqueItemsAddedRule",
+            "BasePathChangedRule",
+            "CallbackAddedRule",
+            "CallbackRemovedRule",
+            "CallbackUrlChangedRule",
+            "DefaultValueChangedRule",
+            "DefaultValueRemovedRule",
+            "DiscriminatorChangedRule",
+            "EndpointAddedRule",
+            "EndpointRemovedRule",
+            "EnumValueAddedRule",
+            "EnumValueRemovedRule",
+            "LinkAddedRule",
+            "LinkRemovedRule",
+            "MethodAddedRule",
+            "MethodRemovedRule",
+            "OAuthFlowChangedRule",
+            "OAuthScopeAddedRule",
+            "OAuthScopeRemovedRule",
+            "OneOfOptionRemovedRule",
+            "OperationDeprecatedAddedRule",
+            "ParameterAddedRule",
+            "ParameterDeprecatedAddedRule",
+            "ParameterExplodeChangedRule",
+            "ParameterLocationChangedRule",
+            "ParameterRemovedRule",
+            "ParameterStyleChangedRule",
+            "ParameterTypeChangedRule",
+            "PropertyAddedRule",
+            "PropertyFormatChangedRule",
+            "PropertyMaxLengthDecreasedRule",
+            "PropertyMaximumDecreasedRule",
+            "PropertyMinLengthIncreasedRule",
+            "PropertyMinimumIncreasedRule",
+            "PropertyPatternAddedRule",
+            "PropertyPatternChangedRule",
+            "PropertyReadOnlyChangedRule",
+            "PropertyRemovedRule",
+            "PropertyRequiredAddedRule",
+            "PropertyTypeChangedRule",
+            "PropertyWriteOnlyChangedRule",
+            "RequestBodyAddedRule",
+            "RequestBodyRemovedRule",
+            "RequestBodyRequiredAddedRule",
+            "RequestContentTypeAddedRule",
+            "RequestContentTypeRemovedRule",
+            "RequestSchemaChangedRule",
+            "RequiredParameterAddedRule",
+            "ResponseCodeChangedRule",
+            "ResponseCodeRemovedRule",
+            "ResponseContentTypeAddedRule",
+            "ResponseContentTypeRemovedRule",
+            "ResponseHeaderAddedRule",
+            "ResponseHeaderRemovedRule",
+            "ResponseHeaderRequiredAddedRule",
+            "ResponseSchemaChangedRule",
+            "SchemaDeprecatedAddedRule",
+            "SecurityRequirementAddedRule",
+            "SecurityRequirementRemovedRule",
+            "SecuritySchemeChangedRule"
+    })
+    public String rule;
+
+    private AnnotationConfigApplicationContext context;
+    private BreakingChangeRule breakingChangeRule;
+    private OpenAPI oldSpec;
+    private OpenAPI newSpec;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OasParseException {
+        context = BenchmarkContext.create();
+        breakingChangeRule = context.getBeansOfType(BreakingChangeRule.class).values().stream()
+                .filter(candidate -> candidate.getClass().getSimpleName().equals(rule))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unbekannte Regel: " + rule));
+
+        OasParser parser = context.getBean(OasParser.class);
+        oldSpec = parser.parseFromString(
+                BenchmarkSpecs.scaled(BenchmarkSpecs.OLD_TEMPLATE, specSize, SpecificationFormat.YAML));
+        newSpec = parser.parseFromString(
+                BenchmarkSpecs.scaled(BenchmarkSpecs.NEW_TEMPLATE, specSize, SpecificationFormat.YAML));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ApiChange> evaluate() {
+        return breakingChangeRule.evaluate(oldSpec, newSpec);
+    }
+}
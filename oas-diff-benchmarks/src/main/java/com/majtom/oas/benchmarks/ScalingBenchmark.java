@@ -0,0 +1,95 @@
+package com.majtom.oas.benchmarks;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.examples.generator.GeneratedSpecPair;
+import com.majtom.oas.examples.generator.SpecGenerator;
+import com.majtom.oas.examples.generator.SpecGeneratorConfig;
+import com.majtom.oas.model.ChangeType;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.SpecificationFormat;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsen und Vergleich synthetischer Spezifikationen wachsender Größe aus dem
+ * {@link SpecGenerator}. Die neue Version enthält jede unterstützte Änderung einmal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ScalingBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int pathCount;
+
+    private AnnotationConfigApplicationContext context;
+    private OasComparisonService comparisonService;
+    private OasParser parser;
+    private String oldSpecPath;
+    private String newSpecPath;
+    private OpenAPI oldSpec;
+    private OpenAPI newSpec;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OasParseException {
+        context = BenchmarkContext.create();
+        comparisonService = context.getBean(OasComparisonService.class);
+        parser = context.getBean(OasParser.class);
+
+        SpecGeneratorConfig.Builder config = SpecGeneratorConfig.builder()
+                .pathCount(pathCount)
+                .schemaCount(Math.max(SpecGenerator.SUPPORTED_MUTATIONS.size(), pathCount / 2));
+        for (ChangeType type : SpecGenerator.SUPPORTED_MUTATIONS) {
+            config.mutation(type, 1);
+        }
+        GeneratedSpecPair pair = new SpecGenerator(config.build()).generate();
+
+        oldSpecPath = BenchmarkSpecs.writeTemp(pair.oldSpecAsString(SpecificationFormat.YAML), SpecificationFormat.YAML)
+                .toString();
+        newSpecPath = BenchmarkSpecs.writeTemp(pair.newSpecAsString(SpecificationFormat.YAML), SpecificationFormat.YAML)
+                .toString();
+
+        oldSpec = parser.parseFromFile(oldSpecPath);
+        newSpec = parser.parseFromFile(newSpecPath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OpenAPI parse() throws OasParseException {
+        return parser.parseFromFile(newSpecPath);
+    }
+
+    @Benchmark
+    public ComparisonResult compareParsed() {
+        return comparisonService.compareSpecifications(oldSpec, newSpec);
+    }
+
+    @Benchmark
+    public ComparisonResult compareFiles() throws OasParseException {
+        return comparisonService.compareSpecifications(oldSpecPath, newSpecPath);
+    }
+}
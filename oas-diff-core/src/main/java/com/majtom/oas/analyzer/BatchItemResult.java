@@ -0,0 +1,27 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.model.ComparisonResult;
+
+/**
+ * Ergebnis eines einzelnen Paars in einem Batch-Vergleich: entweder ein Vergleichsergebnis
+ * oder der Fehler, an dem der Vergleich gescheitert ist.
+ *
+ * @param index Position des Paars in der Eingabeliste
+ * @param pair Verglichenes Paar
+ * @param result Vergleichsergebnis, oder null bei einem Fehler
+ * @param error Fehler beim Parsen oder Vergleichen, oder null
+ */
+public record BatchItemResult(int index, SpecPair pair, ComparisonResult result, Exception error) {
+
+    static BatchItemResult success(int index, SpecPair pair, ComparisonResult result) {
+        return new BatchItemResult(index, pair, result, null);
+    }
+
+    static BatchItemResult failure(int index, SpecPair pair, Exception error) {
+        return new BatchItemResult(index, pair, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
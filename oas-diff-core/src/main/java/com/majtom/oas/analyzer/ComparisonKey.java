@@ -0,0 +1,21 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.parser.ParsedSpecCache;
+
+/**
+ * Identifiziert ein Vergleichsergebnis über die Inhalte beider Spezifikationen und den
+ * Regelsatz, mit dem verglichen wurde.
+ *
+ * @param oldContentKey Inhalts-Schlüssel der alten Spezifikation, siehe {@link ParsedSpecCache#fileKey}
+ * @param newContentKey Inhalts-Schlüssel der neuen Spezifikation
+ * @param ruleSetVersion Version des Regelsatzes, siehe {@link OasComparisonService#getRuleSetVersion()}
+ */
+public record ComparisonKey(String oldContentKey, String newContentKey, String ruleSetVersion) {
+
+    /**
+     * @return Hex-kodierter SHA-256-Hash über alle Bestandteile, z.B. als ETag
+     */
+    public String hash() {
+        return ParsedSpecCache.contentKey(oldContentKey + "\n" + newContentKey + "\n" + ruleSetVersion);
+    }
+}
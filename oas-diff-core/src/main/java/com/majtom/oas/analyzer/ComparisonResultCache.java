@@ -0,0 +1,127 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.OasParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Begrenzter Cache für Vergleichsergebnisse.
+ *
+ * Schlüssel ist ein {@link ComparisonKey} aus den Inhalts-Hashes beider Spezifikationen und
+ * der Version des Regelsatzes. Einträge verfallen nach der TTL; zusätzlich wird nach LRU
+ * verdrängt, sobald mehr als die maximale Anzahl Einträge gespeichert ist. Extern
+ * referenzierte Dateien sind in den Inhalts-Hashes enthalten, siehe {@link OasParser#contentKey}.
+ * Zurückgegebene Ergebnisse werden geteilt.
+ *
+ * Konfiguration:
+ * <pre>
+ * oas.analyzer.result-cache.max-entries=256   (0 = Cache deaktiviert)
+ * oas.analyzer.result-cache.ttl-seconds=600
+ * </pre>
+ */
+@Component
+public class ComparisonResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ComparisonResultCache.class);
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<ComparisonKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    @Autowired
+    public ComparisonResultCache(@Value("${oas.analyzer.result-cache.max-entries:256}") int maxEntries,
+                                 @Value("${oas.analyzer.result-cache.ttl-seconds:600}") long ttlSeconds) {
+        this(maxEntries, Duration.ofSeconds(ttlSeconds), System::nanoTime);
+        log.info("ComparisonResultCache initialisiert (max. Einträge: {}, TTL: {} s)", this.maxEntries, ttlSeconds);
+    }
+
+    ComparisonResultCache(int maxEntries, Duration ttl, LongSupplier nanoClock) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Erstellt einen deaktivierten Cache, der nie Einträge speichert.
+     *
+     * @return Deaktivierter Cache
+     */
+    public static ComparisonResultCache disabled() {
+        return new ComparisonResultCache(0, Duration.ZERO, System::nanoTime);
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0 && ttlNanos > 0;
+    }
+
+    /**
+     * Liefert ein gecachtes, noch nicht abgelaufenes Ergebnis und zählt Treffer bzw. Fehlschläge.
+     *
+     * @param key Schlüssel des Vergleichs
+     * @return Ergebnis oder null
+     */
+    public synchronized ComparisonResult get(ComparisonKey key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Entry entry = entries.get(key);
+        if (entry != null && nanoClock.getAsLong() - entry.storedAt() >= ttlNanos) {
+            entries.remove(key);
+            expirations++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.result();
+    }
+
+    /**
+     * Speichert ein Ergebnis und verdrängt bei Bedarf die am längsten nicht verwendeten Einträge.
+     *
+     * @param key Schlüssel des Vergleichs
+     * @param result Vergleichsergebnis
+     */
+    public synchronized void put(ComparisonKey key, ComparisonResult result) {
+        if (!isEnabled()) {
+            return;
+        }
+        entries.put(key, new Entry(result, nanoClock.getAsLong()));
+        Iterator<Map.Entry<ComparisonKey, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            Map.Entry<ComparisonKey, Entry> eldest = iterator.next();
+            iterator.remove();
+            evictions++;
+            log.debug("Vergleichsergebnis aus Cache verdrängt: {}", eldest.getKey());
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized ResultCacheStats getStats() {
+        return new ResultCacheStats(hits, misses, evictions, expirations, entries.size(), maxEntries);
+    }
+
+    private record Entry(ComparisonResult result, long storedAt) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.majtom.oas.analyzer;
+
+import java.util.List;
+
+/**
+ * Zusammenfassung eines Vergleichs zweier Verzeichnisbäume.
+ *
+ * @param oldRoot Wurzel des alten Baums
+ * @param newRoot Wurzel des neuen Baums
+ * @param matchMode Verwendete Zuordnung
+ * @param comparedCount Anzahl verglichener Dateipaare
+ * @param failedCount Anzahl der Paare, deren Vergleich fehlgeschlagen ist
+ * @param withBreakingChangesCount Anzahl der Paare mit Breaking Changes
+ * @param totalChanges Summe der Änderungen über alle Paare
+ * @param breakingChanges Summe der Breaking Changes über alle Paare
+ * @param removedSpecs Relative Pfade der Spezifikationen, die nur im alten Baum vorkommen
+ * @param addedSpecs Relative Pfade der Spezifikationen, die nur im neuen Baum vorkommen
+ * @param ambiguousSpecs Pfade der Spezifikationen, die bei {@link DirectoryMatchMode#TITLE} wegen
+ *                       eines mehrfach vorkommenden Titels nicht zugeordnet wurden
+ * @param durationMillis Laufzeit inklusive Suche, Parsen und Vergleich
+ */
+public record DirectoryComparisonSummary(String oldRoot, String newRoot, DirectoryMatchMode matchMode,
+                                         int comparedCount, int failedCount, int withBreakingChangesCount,
+                                         long totalChanges, long breakingChanges,
+                                         List<String> removedSpecs, List<String> addedSpecs,
+                                         List<String> ambiguousSpecs,
+                                         long durationMillis) {
+
+    /**
+     * @return true, wenn ein Paar Breaking Changes enthält oder eine Spezifikation entfernt wurde
+     */
+    public boolean hasBreakingChanges() {
+        return withBreakingChangesCount > 0 || !removedSpecs.isEmpty();
+    }
+}
@@ -0,0 +1,17 @@
+package com.majtom.oas.analyzer;
+
+/**
+ * Zuordnung der Spezifikationen zweier Verzeichnisbäume beim Verzeichnisvergleich.
+ */
+public enum DirectoryMatchMode {
+    /**
+     * Dateien mit gleichem Pfad relativ zur jeweiligen Wurzel werden verglichen (Standard)
+     */
+    RELATIVE_PATH,
+
+    /**
+     * Dateien mit gleichem {@code info.title} werden verglichen, auch wenn sie verschoben oder
+     * umbenannt wurden. Titel, die in einem Baum mehrfach vorkommen, werden nicht zugeordnet.
+     */
+    TITLE
+}
@@ -0,0 +1,864 @@
+package com.majtom.oas.analyzer;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeSeverity;
+import com.majtom.oas.model.ChangeType;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.model.ComparisonResult.ChangeSet;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.traversal.SpecFingerprints;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vergleichssitzung mit einer festen alten und einer schrittweise bearbeiteten neuen
+ * Spezifikation, die nach jeder Bearbeitung nur die betroffenen Teilbäume neu parst und
+ * auswertet.
+ *
+ * Einheiten sind die Einträge unter {@code /paths}, die Einträge der Abschnitte unter
+ * {@code /components} und die übrigen Felder der obersten Ebene. Geänderte Einheiten werden
+ * durch Vergleich der JSON-Bäume erkannt und zusammen mit den von ihnen referenzierten
+ * Komponenten als Teildokument geparst; das Ergebnis ersetzt die entsprechenden Teile des
+ * bisherigen Modells. Ein Pfad, der eine geänderte Komponente direkt oder indirekt
+ * referenziert, gilt ebenfalls als geändert; eine Änderung an {@code servers},
+ * {@code security} oder den Security Schemes betrifft alle Pfade.
+ *
+ * Die Regeln laufen auf Ausschnitten der Spezifikation: für einen Pfad mit den von ihm
+ * erreichbaren Komponenten, abzüglich der Änderungen, die derselbe Ausschnitt ohne den Pfad
+ * liefert. Die Sitzung hält die Änderungen pro Teilbaum als {@link ChangeSet} und ersetzt nach
+ * einer Bearbeitung nur die Mengen der neu ausgewerteten Teilbäume; das neue
+ * {@link ComparisonResult} wird aus den Mengen zusammengesetzt, ohne die übrigen Änderungen zu
+ * kopieren. Es enthält dieselben Änderungen wie ein vollständiger Vergleich, jedoch nach
+ * Teilbäumen gruppiert: oberste Ebene, Pfade, Komponenten, jeweils in Regelreihenfolge.
+ *
+ * Betrifft eine Bearbeitung mehr als die Hälfte der Pfade, etwa über {@code servers} oder
+ * {@code security}, wird die Spezifikation stattdessen in einem Regellauf ausgewertet und das
+ * Ergebnis nicht nach Teilbäumen gruppiert. Die nächste Bearbeitung, die weniger Pfade betrifft,
+ * wertet die Teilbäume wieder einzeln aus.
+ *
+ * Änderungen an {@code openapi}, das Hinzufügen oder Entfernen des ganzen {@code paths}-Abschnitts
+ * und Änderungen an anderen Einträgen als den bekannten Abschnitten unter {@code paths} und
+ * {@code components} werden vollständig neu geparst und ausgewertet. Externe
+ * Referenzen auf andere Dateien werden nicht aufgelöst.
+ */
+public final class IncrementalComparisonSession {
+
+    private static final Logger log = LoggerFactory.getLogger(IncrementalComparisonSession.class);
+
+    private static final String OPENAPI = "openapi";
+    private static final String PATHS = "paths";
+    private static final String COMPONENTS = "components";
+    private static final String SECURITY_SCHEMES = "securitySchemes";
+    private static final String REF = "$ref";
+    private static final String REF_PREFIX = "#/components/";
+
+    /** Abschnitte unter {@code components}, deren Einträge einzeln ersetzt werden. */
+    private static final List<String> SECTIONS = List.of("schemas", "responses", "parameters", "examples",
+            "requestBodies", "headers", SECURITY_SCHEMES, "links", "callbacks", "pathItems");
+    /** Felder der obersten Ebene, von denen die Auswertung der Pfade abhängt. */
+    private static final Set<String> PATH_CONTEXT = Set.of("servers", "security");
+    /**
+     * Anteil der Pfade, ab dem eine Bearbeitung die Spezifikation einmal vollständig auswertet:
+     * Ein einzeln ausgewerteter Pfad kostet zwei Regelläufe auf Ausschnitten.
+     */
+    private static final double FULL_EVALUATION_RATIO = 0.5;
+
+    private final OasParser parser;
+    private final List<BreakingChangeRule> rules;
+    private final RuleExecutor ruleExecutor;
+    private final OpenAPI oldSpec;
+    private final String oldVersion;
+    private final Map<String, Set<String>> oldPathRefs;
+    private final Map<String, Set<String>> oldComponentRefs;
+
+    private ObjectNode newTree;
+    private OpenAPI newSpec;
+    /** Direkt referenzierte Komponenten ({@code "schemas/User"}) pro Pfad bzw. Komponente. */
+    private Map<String, Set<String>> newPathRefs;
+    private Map<String, Set<String>> newComponentRefs;
+
+    /** Änderungen, die ohne Pfade und Komponenten entstehen. */
+    private ChangeSet specChanges;
+    /** Änderungen, die durch die Komponenten hinzukommen. */
+    private ChangeSet componentChanges;
+    /** Änderungen pro Pfad. */
+    private final Map<String, ChangeSet> pathChanges = new HashMap<>();
+    /**
+     * Änderungen der letzten vollständigen Auswertung, solange keine Änderungen pro Teilbaum
+     * vorliegen; sonst null.
+     */
+    private ChangeSet fullChanges;
+    private ComparisonResult result;
+
+    IncrementalComparisonSession(OasParser parser, List<BreakingChangeRule> rules, RuleExecutor ruleExecutor,
+                                 JsonNode oldTree, JsonNode newTree) throws OasParseException {
+        this.parser = parser;
+        this.rules = rules;
+        this.ruleExecutor = ruleExecutor;
+
+        ObjectNode oldRoot = requireObject(oldTree);
+        this.oldSpec = parser.parseFromTree(oldRoot);
+        this.oldVersion = parser.extractVersion(oldSpec);
+        this.oldPathRefs = pathRefs(oldRoot);
+        this.oldComponentRefs = componentRefs(oldRoot);
+
+        int evaluated = recomputeAll(requireObject(newTree));
+        log.info("Inkrementelle Sitzung geöffnet: {} Pfade ausgewertet, {}", evaluated, result.getSummary());
+    }
+
+    /**
+     * @return Vergleichsergebnis des aktuellen Stands
+     */
+    public synchronized ComparisonResult getResult() {
+        return result;
+    }
+
+    /**
+     * Ersetzt die neue Spezifikation durch einen bearbeiteten Stand. Ausgewertet werden nur die
+     * Teilbäume, die sich gegenüber dem vorherigen Stand unterscheiden.
+     *
+     * @param newContent Vollständiger neuer OAS-Inhalt (YAML oder JSON)
+     * @return Geänderte Teilbäume und aktuelles Ergebnis
+     * @throws OasParseException wenn sich der Inhalt nicht parsen lässt; der bisherige Stand bleibt erhalten
+     */
+    public synchronized IncrementalUpdate update(String newContent) throws OasParseException {
+        return apply(parser.readTree(newContent));
+    }
+
+    /**
+     * Ersetzt einen einzelnen Teilbaum der neuen Spezifikation. Anders als bei
+     * {@link #update(String)} wird nur das Fragment gelesen, nicht das ganze Dokument.
+     *
+     * @param pointer JSON-Pointer des Teilbaums, z.B. {@code /paths/~1users/get}; in einem Array
+     *                hängt {@code -} ein Element an
+     * @param fragment Neuer Inhalt des Teilbaums (YAML oder JSON), oder null, um ihn zu entfernen
+     * @return Geänderte Teilbäume und aktuelles Ergebnis
+     * @throws OasParseException wenn sich das Fragment oder das Ergebnis nicht parsen lässt;
+     *                           der bisherige Stand bleibt erhalten
+     * @throws IllegalArgumentException wenn der Pointer ungültig ist oder auf keinen vorhandenen
+     *                                  Teilbaum zeigt
+     */
+    public synchronized IncrementalUpdate replace(String pointer, String fragment) throws OasParseException {
+        JsonPointer target;
+        try {
+            target = JsonPointer.compile(pointer);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Ungültiger JSON-Pointer: " + pointer, e);
+        }
+        if (target.matches()) {
+            if (fragment == null) {
+                throw new IllegalArgumentException("Das Dokument selbst kann nicht entfernt werden");
+            }
+            return apply(parser.readTree(fragment));
+        }
+
+        JsonNode value = fragment == null ? null : parser.readTree(fragment);
+        return apply(withReplaced(newTree, target, value, pointer));
+    }
+
+    private IncrementalUpdate apply(JsonNode tree) throws OasParseException {
+        long start = System.nanoTime();
+        ObjectNode root = requireObject(tree);
+
+        Delta delta = Delta.between(newTree, root);
+        if (delta.pointers.isEmpty()) {
+            newTree = root;
+            return update(delta, 0, false, start);
+        }
+        if (delta.structural) {
+            log.debug("Strukturelle Änderung {}, werte vollständig aus", delta.pointers);
+            return update(delta, recomputeAll(root), true, start);
+        }
+
+        // Referenzen der geänderten Einheiten neu erfassen; Zustand erst nach erfolgreichem Parsen ersetzen
+        Map<String, Set<String>> pathRefs = new HashMap<>(newPathRefs);
+        for (String path : delta.paths) {
+            JsonNode item = root.path(PATHS).get(path);
+            if (item == null) {
+                pathRefs.remove(path);
+            } else {
+                pathRefs.put(path, refsIn(item));
+            }
+        }
+        Map<String, Set<String>> componentRefs = new HashMap<>(newComponentRefs);
+        for (String component : delta.components) {
+            JsonNode node = componentNode(root, component);
+            if (node == null) {
+                componentRefs.remove(component);
+            } else {
+                componentRefs.put(component, refsIn(node));
+            }
+        }
+
+        Set<String> affected = referencing(delta.components, componentRefs);
+        Set<String> dirtyPaths = new LinkedHashSet<>(delta.paths);
+        if (!Collections.disjoint(delta.global, PATH_CONTEXT)
+                || affected.stream().anyMatch(component -> component.startsWith(SECURITY_SCHEMES + "/"))) {
+            dirtyPaths.addAll(pathKeys(root));
+        } else {
+            pathRefs.forEach((path, refs) -> {
+                if (!Collections.disjoint(refs, affected)) {
+                    dirtyPaths.add(path);
+                }
+            });
+        }
+
+        // Geänderte Pfade mit allen erreichbaren Komponenten als Teildokument parsen
+        Set<String> presentPaths = new LinkedHashSet<>();
+        Set<String> needed = new HashSet<>(affected);
+        for (String path : dirtyPaths) {
+            if (root.path(PATHS).has(path)) {
+                presentPaths.add(path);
+                needed.addAll(pathRefs.get(path));
+            }
+        }
+        OpenAPI part = parser.parseFromTree(partialDocument(root, presentPaths, reachable(needed, componentRefs)));
+
+        OpenAPI patched = slice(part, patchPaths(root, part, presentPaths), patchComponents(root, part, affected));
+        SpecFingerprints.derive(patched, newSpec);
+
+        newTree = root;
+        newSpec = patched;
+        newPathRefs = pathRefs;
+        newComponentRefs = componentRefs;
+
+        Set<String> allPaths = pathKeys(root);
+        if (dirtyPaths.size() > allPaths.size() * FULL_EVALUATION_RATIO) {
+            log.debug("{} von {} Pfaden betroffen, werte die Spezifikation einmal vollständig aus",
+                    dirtyPaths.size(), allPaths.size());
+            evaluateFull();
+            return update(delta, allPaths.size(), false, start);
+        }
+        if (fullChanges != null) {
+            // Nach einer vollständigen Auswertung fehlen die Änderungen pro Teilbaum
+            return update(delta, evaluateAll(), false, start);
+        }
+
+        if (!delta.global.isEmpty() || !affected.isEmpty()) {
+            evaluateSpecAndComponents();
+        }
+        for (String path : dirtyPaths) {
+            if (allPaths.contains(path)) {
+                pathChanges.put(path, changeSet(evaluatePath(path)));
+            } else {
+                pathChanges.remove(path);
+            }
+        }
+        assemble();
+        return update(delta, dirtyPaths.size(), false, start);
+    }
+
+    private IncrementalUpdate update(Delta delta, int reevaluatedPaths, boolean fullRecompute, long start) {
+        return new IncrementalUpdate(List.copyOf(delta.pointers), reevaluatedPaths, fullRecompute, result,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Parst und wertet die neue Spezifikation vollständig aus.
+     *
+     * @return Anzahl der ausgewerteten Pfade
+     */
+    private int recomputeAll(ObjectNode root) throws OasParseException {
+        OpenAPI spec = parser.parseFromTree(root);
+
+        newTree = root;
+        newSpec = spec;
+        newPathRefs = pathRefs(root);
+        newComponentRefs = componentRefs(root);
+        return evaluateAll();
+    }
+
+    /**
+     * Wertet die oberste Ebene, die Komponenten und jeden Pfad einzeln aus.
+     *
+     * @return Anzahl der ausgewerteten Pfade
+     */
+    private int evaluateAll() {
+        fullChanges = null;
+        evaluateSpecAndComponents();
+        pathChanges.clear();
+        for (String path : pathKeys(newTree)) {
+            pathChanges.put(path, changeSet(evaluatePath(path)));
+        }
+        assemble();
+        return pathChanges.size();
+    }
+
+    /**
+     * Wertet die ganze Spezifikation in einem Regellauf aus. Die Änderungen pro Teilbaum werden
+     * verworfen und erst bei der nächsten Bearbeitung, die weniger Pfade betrifft, neu erhoben.
+     */
+    private void evaluateFull() {
+        specChanges = null;
+        componentChanges = null;
+        pathChanges.clear();
+        fullChanges = changeSet(evaluate(oldSpec, newSpec));
+        result = ComparisonResult.ofChangeSets(oldVersion, parser.extractVersion(newSpec), List.of(fullChanges));
+    }
+
+    private void evaluateSpecAndComponents() {
+        List<List<ApiChange>> withoutComponents = evaluate(slice(oldSpec, none(oldSpec), null),
+                slice(newSpec, none(newSpec), null));
+        List<List<ApiChange>> withComponents = evaluate(slice(oldSpec, none(oldSpec), oldSpec.getComponents()),
+                slice(newSpec, none(newSpec), newSpec.getComponents()));
+        specChanges = changeSet(withoutComponents);
+        componentChanges = changeSet(subtract(withComponents, withoutComponents));
+    }
+
+    /**
+     * Wertet einen Pfad zusammen mit den von ihm erreichbaren Komponenten aus und zieht die
+     * Änderungen ab, die diese Komponenten allein liefern.
+     */
+    private List<List<ApiChange>> evaluatePath(String path) {
+        Set<String> names = reachable(oldPathRefs.getOrDefault(path, Set.of()), oldComponentRefs);
+        names.addAll(reachable(newPathRefs.getOrDefault(path, Set.of()), newComponentRefs));
+        Components oldComponents = restrict(oldSpec.getComponents(), names);
+        Components newComponents = restrict(newSpec.getComponents(), names);
+
+        List<List<ApiChange>> withPath = evaluate(slice(oldSpec, single(oldSpec, path), oldComponents),
+                slice(newSpec, single(newSpec, path), newComponents));
+        if (withPath.stream().allMatch(List::isEmpty)) {
+            return withPath;
+        }
+        return subtract(withPath, evaluate(slice(oldSpec, none(oldSpec), oldComponents),
+                slice(newSpec, none(newSpec), newComponents)));
+    }
+
+    private List<List<ApiChange>> evaluate(OpenAPI oldSlice, OpenAPI newSlice) {
+        SpecFingerprints.derive(oldSlice, oldSpec);
+        SpecFingerprints.derive(newSlice, newSpec);
+        return ruleExecutor.evaluateAll(rules, oldSlice, newSlice);
+    }
+
+    /**
+     * Setzt das Ergebnis aus den Änderungsmengen zusammen: oberste Ebene, Pfade (alte
+     * Reihenfolge, dann neu hinzugekommene) und Komponenten. Die Änderungen selbst werden dabei
+     * weder kopiert noch neu gruppiert.
+     */
+    private void assemble() {
+        List<ChangeSet> sets = new ArrayList<>(pathChanges.size() + 2);
+        sets.add(specChanges);
+        for (String path : pathKeys(newTree)) {
+            sets.add(pathChanges.get(path));
+        }
+        sets.add(componentChanges);
+        result = ComparisonResult.ofChangeSets(oldVersion, parser.extractVersion(newSpec), sets);
+    }
+
+    /**
+     * @return Änderungsmenge aus den Änderungen pro Regel, in Regelreihenfolge
+     */
+    private static ChangeSet changeSet(List<List<ApiChange>> changesPerRule) {
+        List<ApiChange> changes = new ArrayList<>();
+        changesPerRule.forEach(changes::addAll);
+        return ChangeSet.of(changes);
+    }
+
+    /**
+     * @return Pfade der alten Spezifikation, gefolgt von den neu hinzugekommenen
+     */
+    private Set<String> pathKeys(JsonNode root) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (oldSpec.getPaths() != null) {
+            keys.addAll(oldSpec.getPaths().keySet());
+        }
+        root.path(PATHS).fieldNames().forEachRemaining(keys::add);
+        return keys;
+    }
+
+    private Paths patchPaths(ObjectNode root, OpenAPI part, Set<String> reparsed) {
+        if (!root.has(PATHS)) {
+            return null;
+        }
+        Paths paths = new Paths();
+        root.path(PATHS).fieldNames().forEachRemaining(path -> {
+            PathItem item = pathItem(reparsed.contains(path) ? part : newSpec, path);
+            if (item != null) {
+                paths.addPathItem(path, item);
+            }
+        });
+        return paths;
+    }
+
+    private Components patchComponents(ObjectNode root, OpenAPI part, Set<String> reparsed) {
+        JsonNode tree = root.path(COMPONENTS);
+        if (reparsed.isEmpty() || !tree.isObject()) {
+            return reparsed.isEmpty() ? newSpec.getComponents() : null;
+        }
+
+        Components previous = newSpec.getComponents();
+        Components components = new Components();
+        for (String section : SECTIONS) {
+            JsonNode entries = tree.get(section);
+            if (entries == null) {
+                continue;
+            }
+            Map<String, Object> before = section(previous, section);
+            Map<String, Object> after = section(part.getComponents(), section);
+            Map<String, Object> merged = new LinkedHashMap<>();
+            entries.fieldNames().forEachRemaining(name -> {
+                Map<String, Object> source = reparsed.contains(section + "/" + name) ? after : before;
+                Object value = source == null ? null : source.get(name);
+                if (value != null) {
+                    merged.put(name, value);
+                }
+            });
+            setSection(components, section, merged);
+        }
+        components.setExtensions(previous == null ? null : previous.getExtensions());
+        return components;
+    }
+
+    /**
+     * Baut ein Dokument aus den Feldern der obersten Ebene, den angegebenen Pfaden und
+     * Komponenten sowie allen Security Schemes.
+     */
+    private static ObjectNode partialDocument(ObjectNode root, Set<String> paths, Set<String> components) {
+        ObjectNode document = JsonNodeFactory.instance.objectNode();
+        root.fields().forEachRemaining(field -> {
+            if (!PATHS.equals(field.getKey()) && !COMPONENTS.equals(field.getKey())) {
+                document.set(field.getKey(), field.getValue());
+            }
+        });
+
+        ObjectNode pathsNode = document.putObject(PATHS);
+        for (String path : paths) {
+            pathsNode.set(path, root.path(PATHS).get(path));
+        }
+
+        JsonNode tree = root.path(COMPONENTS);
+        if (tree.isObject()) {
+            ObjectNode componentsNode = document.putObject(COMPONENTS);
+            for (String section : SECTIONS) {
+                JsonNode entries = tree.get(section);
+                if (entries == null) {
+                    continue;
+                }
+                if (SECURITY_SCHEMES.equals(section)) {
+                    componentsNode.set(section, entries);
+                    continue;
+                }
+                ObjectNode kept = JsonNodeFactory.instance.objectNode();
+                entries.fields().forEachRemaining(entry -> {
+                    if (components.contains(section + "/" + entry.getKey())) {
+                        kept.set(entry.getKey(), entry.getValue());
+                    }
+                });
+                if (!kept.isEmpty()) {
+                    componentsNode.set(section, kept);
+                }
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Erstellt eine Spezifikation mit den Feldern der obersten Ebene von {@code spec} und den
+     * angegebenen Pfaden und Komponenten.
+     */
+    private static OpenAPI slice(OpenAPI spec, Paths paths, Components components) {
+        OpenAPI slice = new OpenAPI(spec.getSpecVersion());
+        slice.setOpenapi(spec.getOpenapi());
+        slice.setInfo(spec.getInfo());
+        slice.setExternalDocs(spec.getExternalDocs());
+        slice.setServers(spec.getServers());
+        slice.setSecurity(spec.getSecurity());
+        slice.setTags(spec.getTags());
+        slice.setWebhooks(spec.getWebhooks());
+        slice.setJsonSchemaDialect(spec.getJsonSchemaDialect());
+        slice.setExtensions(spec.getExtensions());
+        slice.setPaths(paths);
+        slice.setComponents(components);
+        return slice;
+    }
+
+    /**
+     * @return Leere Pfade, oder null, wenn die Spezifikation keinen {@code paths}-Abschnitt hat
+     */
+    private static Paths none(OpenAPI spec) {
+        return spec.getPaths() == null ? null : new Paths();
+    }
+
+    /**
+     * @return Pfade mit nur dem angegebenen Eintrag, sofern vorhanden; null, wenn die
+     *         Spezifikation keinen {@code paths}-Abschnitt hat
+     */
+    private static Paths single(OpenAPI spec, String path) {
+        Paths paths = none(spec);
+        if (paths == null) {
+            return null;
+        }
+        PathItem item = pathItem(spec, path);
+        if (item != null) {
+            paths.addPathItem(path, item);
+        }
+        return paths;
+    }
+
+    private static PathItem pathItem(OpenAPI spec, String path) {
+        return spec.getPaths() == null ? null : spec.getPaths().get(path);
+    }
+
+    /**
+     * @return Komponenten, reduziert auf die angegebenen Einträge und alle Security Schemes
+     */
+    private static Components restrict(Components components, Set<String> names) {
+        if (components == null) {
+            return null;
+        }
+        Components restricted = new Components();
+        for (String section : SECTIONS) {
+            Map<String, Object> entries = section(components, section);
+            if (entries == null) {
+                continue;
+            }
+            if (SECURITY_SCHEMES.equals(section)) {
+                setSection(restricted, section, entries);
+                continue;
+            }
+            Map<String, Object> kept = new LinkedHashMap<>();
+            entries.forEach((name, value) -> {
+                if (names.contains(section + "/" + name)) {
+                    kept.put(name, value);
+                }
+            });
+            if (!kept.isEmpty()) {
+                setSection(restricted, section, kept);
+            }
+        }
+        restricted.setExtensions(components.getExtensions());
+        return restricted;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<String, Object> section(Components components, String section) {
+        if (components == null) {
+            return null;
+        }
+        return (Map) switch (section) {
+            case "schemas" -> components.getSchemas();
+            case "responses" -> components.getResponses();
+            case "parameters" -> components.getParameters();
+            case "examples" -> components.getExamples();
+            case "requestBodies" -> components.getRequestBodies();
+            case "headers" -> components.getHeaders();
+            case SECURITY_SCHEMES -> components.getSecuritySchemes();
+            case "links" -> components.getLinks();
+            case "callbacks" -> components.getCallbacks();
+            case "pathItems" -> components.getPathItems();
+            default -> throw new IllegalArgumentException("Unbekannter Abschnitt: " + section);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void setSection(Components components, String section, Map<String, Object> entries) {
+        Map map = entries;
+        switch (section) {
+            case "schemas" -> components.setSchemas(map);
+            case "responses" -> components.setResponses(map);
+            case "parameters" -> components.setParameters(map);
+            case "examples" -> components.setExamples(map);
+            case "requestBodies" -> components.setRequestBodies(map);
+            case "headers" -> components.setHeaders(map);
+            case SECURITY_SCHEMES -> components.setSecuritySchemes(map);
+            case "links" -> components.setLinks(map);
+            case "callbacks" -> components.setCallbacks(map);
+            case "pathItems" -> components.setPathItems(map);
+            default -> throw new IllegalArgumentException("Unbekannter Abschnitt: " + section);
+        }
+    }
+
+    /**
+     * Entfernt aus den Änderungen jeder Regel die bereits bekannten, mit Vielfachheit.
+     */
+    private static List<List<ApiChange>> subtract(List<List<ApiChange>> changes, List<List<ApiChange>> known) {
+        List<List<ApiChange>> remaining = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            if (known.get(i).isEmpty()) {
+                remaining.add(changes.get(i));
+                continue;
+            }
+            Map<ChangeKey, Integer> counts = new HashMap<>();
+            for (ApiChange change : known.get(i)) {
+                counts.merge(ChangeKey.of(change), 1, Integer::sum);
+            }
+            List<ApiChange> kept = new ArrayList<>();
+            for (ApiChange change : changes.get(i)) {
+                ChangeKey key = ChangeKey.of(change);
+                Integer count = counts.get(key);
+                if (count == null) {
+                    kept.add(change);
+                } else if (count == 1) {
+                    counts.remove(key);
+                } else {
+                    counts.put(key, count - 1);
+                }
+            }
+            remaining.add(kept);
+        }
+        return remaining;
+    }
+
+    /** Vergleichsschlüssel für {@link ApiChange}, das selbst keine Gleichheit definiert. */
+    private record ChangeKey(ChangeType type, ChangeSeverity severity, String path, String description,
+                             String oldValue, String newValue, boolean breaking) {
+
+        static ChangeKey of(ApiChange change) {
+            return new ChangeKey(change.getType(), change.getSeverity(), change.getPath(), change.getDescription(),
+                    change.getOldValue(), change.getNewValue(), change.isBreakingChange());
+        }
+    }
+
+    private static Map<String, Set<String>> pathRefs(ObjectNode root) {
+        Map<String, Set<String>> refs = new HashMap<>();
+        root.path(PATHS).fields().forEachRemaining(entry -> refs.put(entry.getKey(), refsIn(entry.getValue())));
+        return refs;
+    }
+
+    private static Map<String, Set<String>> componentRefs(ObjectNode root) {
+        Map<String, Set<String>> refs = new HashMap<>();
+        for (String section : SECTIONS) {
+            root.path(COMPONENTS).path(section).fields().forEachRemaining(
+                    entry -> refs.put(section + "/" + entry.getKey(), refsIn(entry.getValue())));
+        }
+        return refs;
+    }
+
+    private static JsonNode componentNode(ObjectNode root, String component) {
+        int separator = component.indexOf('/');
+        return root.path(COMPONENTS).path(component.substring(0, separator)).get(component.substring(separator + 1));
+    }
+
+    /**
+     * @return Alle lokalen Komponenten-Referenzen im Teilbaum, als {@code "abschnitt/name"}
+     */
+    private static Set<String> refsIn(JsonNode node) {
+        Set<String> refs = new HashSet<>();
+        Deque<JsonNode> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty()) {
+            JsonNode current = pending.pop();
+            JsonNode ref = current.get(REF);
+            if (ref != null && ref.isTextual() && ref.textValue().startsWith(REF_PREFIX)) {
+                String[] segments = ref.textValue().substring(REF_PREFIX.length()).split("/", 3);
+                if (segments.length >= 2) {
+                    refs.add(segments[0] + "/" + segments[1].replace("~1", "/").replace("~0", "~"));
+                }
+            }
+            if (current.isContainerNode()) {
+                current.elements().forEachRemaining(pending::push);
+            }
+        }
+        return refs;
+    }
+
+    /**
+     * @return Die Startknoten und alle über {@code references} von ihnen erreichbaren
+     */
+    private static Set<String> reachable(Collection<String> start, Map<String, Set<String>> references) {
+        Set<String> seen = new HashSet<>(start);
+        Deque<String> pending = new ArrayDeque<>(start);
+        while (!pending.isEmpty()) {
+            for (String next : references.getOrDefault(pending.poll(), Set.of())) {
+                if (seen.add(next)) {
+                    pending.add(next);
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * @return Die geänderten Komponenten und alle, die sie direkt oder indirekt referenzieren
+     */
+    private static Set<String> referencing(Collection<String> changed, Map<String, Set<String>> references) {
+        Map<String, Set<String>> referencedBy = new HashMap<>();
+        references.forEach((component, targets) -> targets.forEach(
+                target -> referencedBy.computeIfAbsent(target, key -> new HashSet<>()).add(component)));
+        return reachable(changed, referencedBy);
+    }
+
+    /**
+     * Kopiert die Knoten entlang des Pointers und ersetzt bzw. entfernt das Ziel; alle übrigen
+     * Teilbäume werden geteilt, damit der Vergleich mit dem vorherigen Stand sie über die
+     * Identität als unverändert erkennt.
+     */
+    private static JsonNode withReplaced(JsonNode node, JsonPointer pointer, JsonNode value, String original) {
+        JsonPointer tail = pointer.tail();
+        boolean last = tail.matches();
+
+        if (node instanceof ObjectNode object) {
+            String name = pointer.getMatchingProperty();
+            ObjectNode copy = object.objectNode();
+            copy.setAll(object);
+            if (!last) {
+                JsonNode child = object.get(name);
+                if (child == null) {
+                    throw notFound(original);
+                }
+                copy.set(name, withReplaced(child, tail, value, original));
+            } else if (value != null) {
+                copy.set(name, value);
+            } else if (copy.remove(name) == null) {
+                throw notFound(original);
+            }
+            return copy;
+        }
+
+        if (node instanceof ArrayNode array) {
+            ArrayNode copy = array.arrayNode();
+            copy.addAll(array);
+            if (last && value != null && "-".equals(pointer.getMatchingProperty())) {
+                copy.add(value);
+                return copy;
+            }
+            int index = pointer.getMatchingIndex();
+            if (index < 0 || index >= array.size()) {
+                throw notFound(original);
+            }
+            if (!last) {
+                copy.set(index, withReplaced(array.get(index), tail, value, original));
+            } else if (value != null) {
+                copy.set(index, value);
+            } else {
+                copy.remove(index);
+            }
+            return copy;
+        }
+        throw notFound(original);
+    }
+
+    private static IllegalArgumentException notFound(String pointer) {
+        return new IllegalArgumentException("Kein Teilbaum unter " + pointer);
+    }
+
+    private static ObjectNode requireObject(JsonNode tree) throws OasParseException {
+        if (tree instanceof ObjectNode root) {
+            return root;
+        }
+        throw new OasParseException("OAS-Dokument ist kein Objekt");
+    }
+
+    private static String escape(String segment) {
+        return segment.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Unterschiede zwischen zwei Ständen der neuen Spezifikation, nach Einheiten.
+     */
+    private static final class Delta {
+
+        final List<String> pointers = new ArrayList<>();
+        final Set<String> global = new LinkedHashSet<>();
+        final Set<String> paths = new LinkedHashSet<>();
+        final Set<String> components = new LinkedHashSet<>();
+        /** Änderung, die sich nicht auf einzelne Einheiten abbilden lässt. */
+        boolean structural;
+
+        static Delta between(ObjectNode previous, ObjectNode next) {
+            Delta delta = new Delta();
+            for (String field : fieldNames(previous, next)) {
+                JsonNode before = previous.path(field);
+                JsonNode after = next.path(field);
+                if (PATHS.equals(field)) {
+                    delta.diffPaths(before, after);
+                } else if (COMPONENTS.equals(field)) {
+                    delta.diffComponents(before, after);
+                } else if (!before.equals(after)) {
+                    delta.global.add(field);
+                    delta.pointers.add("/" + escape(field));
+                    delta.structural |= OPENAPI.equals(field);
+                }
+            }
+            return delta;
+        }
+
+        private void diffPaths(JsonNode before, JsonNode after) {
+            if (before.equals(after)) {
+                return;
+            }
+            // Ohne paths-Abschnitt werten die Regeln anders aus als mit leerem, das betrifft alle Pfade
+            if (!isObjectOrMissing(before) || !isObjectOrMissing(after)
+                    || before.isMissingNode() != after.isMissingNode()) {
+                structural = true;
+                pointers.add("/" + PATHS);
+                return;
+            }
+            for (String path : fieldNames(before, after)) {
+                if (!Objects.equals(before.get(path), after.get(path))) {
+                    paths.add(path);
+                    pointers.add("/" + PATHS + "/" + escape(path));
+                    // Erweiterungen unter paths sind keine Pfade
+                    structural |= path.startsWith("x-");
+                }
+            }
+        }
+
+        private void diffComponents(JsonNode before, JsonNode after) {
+            if (before.equals(after)) {
+                return;
+            }
+            if (!isObjectOrMissing(before) || !isObjectOrMissing(after)) {
+                structural = true;
+                pointers.add("/" + COMPONENTS);
+                return;
+            }
+            for (String section : fieldNames(before, after)) {
+                JsonNode sectionBefore = before.path(section);
+                JsonNode sectionAfter = after.path(section);
+                if (sectionBefore.equals(sectionAfter)) {
+                    continue;
+                }
+                if (!SECTIONS.contains(section) || !isObjectOrMissing(sectionBefore)
+                        || !isObjectOrMissing(sectionAfter)) {
+                    structural = true;
+                    pointers.add("/" + COMPONENTS + "/" + escape(section));
+                    continue;
+                }
+                for (String name : fieldNames(sectionBefore, sectionAfter)) {
+                    if (!Objects.equals(sectionBefore.get(name), sectionAfter.get(name))) {
+                        components.add(section + "/" + name);
+                        pointers.add("/" + COMPONENTS + "/" + section + "/" + escape(name));
+                    }
+                }
+            }
+        }
+
+        private static boolean isObjectOrMissing(JsonNode node) {
+            return node.isObject() || node.isMissingNode();
+        }
+
+        private static Set<String> fieldNames(JsonNode first, JsonNode second) {
+            Set<String> names = new LinkedHashSet<>();
+            first.fieldNames().forEachRemaining(names::add);
+            second.fieldNames().forEachRemaining(names::add);
+            return names;
+        }
+    }
+}
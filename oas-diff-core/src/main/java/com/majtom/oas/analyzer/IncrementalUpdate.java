@@ -0,0 +1,19 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.model.ComparisonResult;
+
+import java.util.List;
+
+/**
+ * Ergebnis einer Änderung in einer {@link IncrementalComparisonSession}.
+ *
+ * @param changedPointers JSON-Pointer der geänderten Teilbäume, z.B. {@code /paths/~1users}
+ *                        oder {@code /components/schemas/User}; leer, wenn sich nichts geändert hat
+ * @param reevaluatedPaths Anzahl der Pfade, deren Regeln erneut ausgewertet wurden
+ * @param fullRecompute true, wenn die Änderung ein vollständiges Parsen und Auswerten erforderte
+ * @param result Aktuelles Vergleichsergebnis der Sitzung
+ * @param durationMillis Dauer der Aktualisierung in Millisekunden
+ */
+public record IncrementalUpdate(List<String> changedPointers, int reevaluatedPaths, boolean fullRecompute,
+                                ComparisonResult result, long durationMillis) {
+}
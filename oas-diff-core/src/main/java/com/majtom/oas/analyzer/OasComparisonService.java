@@ -1,37 +1,102 @@
 package com.majtom.oas.analyzer;
 
+import com.majtom.oas.jfr.ResultConstructionEvent;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ComparisonResult;
 import com.majtom.oas.parser.OasParseException;
 import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParsedSpecCache;
+import com.majtom.oas.parser.ResolutionMode;
 import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.sink.ChangeSink;
+import com.majtom.oas.sink.CollectingChangeSink;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * Service für den Vergleich von OpenAPI-Spezifikationen.
  */
 @Service
-public class OasComparisonService {
+public class OasComparisonService implements AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(OasComparisonService.class);
 
+    private static final long BATCH_THREAD_KEEP_ALIVE_SECONDS = 30;
+
     private final OasParser parser;
     private final List<BreakingChangeRule> rules;
+    private final RuleExecutor ruleExecutor;
+    private final ComparisonResultCache resultCache;
+    private final int batchParallelism;
+    /** Von allen Batch-Vergleichen geteilt, damit gleichzeitige Batches die Thread-Zahl nicht vervielfachen. */
+    private final ThreadPoolExecutor batchExecutor;
+    private final String ruleSetVersion;
+    private final Map<ComparisonKey, FutureTask<ComparisonResult>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedComparisons = new AtomicLong();
 
     public OasComparisonService(OasParser parser, List<BreakingChangeRule> rules) {
+        this(parser, rules, RuleExecutor.sequential());
+    }
+
+    public OasComparisonService(OasParser parser, List<BreakingChangeRule> rules, RuleExecutor ruleExecutor) {
+        this(parser, rules, ruleExecutor, 0);
+    }
+
+    public OasComparisonService(OasParser parser, List<BreakingChangeRule> rules, RuleExecutor ruleExecutor,
+                                int batchParallelism) {
+        this(parser, rules, ruleExecutor, ComparisonResultCache.disabled(), batchParallelism);
+    }
+
+    @Autowired
+    public OasComparisonService(OasParser parser, List<BreakingChangeRule> rules, RuleExecutor ruleExecutor,
+                                ComparisonResultCache resultCache,
+                                @Value("${oas.analyzer.batch.parallelism:0}") int batchParallelism) {
         this.parser = parser;
         this.rules = rules;
-        log.info("OasComparisonService initialisiert mit {} Regeln", rules.size());
+        this.ruleExecutor = ruleExecutor;
+        this.resultCache = resultCache;
+        this.batchParallelism = batchParallelism > 0 ? batchParallelism : Runtime.getRuntime().availableProcessors();
+        this.batchExecutor = new ThreadPoolExecutor(this.batchParallelism, this.batchParallelism,
+                BATCH_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("oas-batch-", 0).daemon().factory());
+        // Ohne laufende Batches werden keine Threads gehalten
+        this.batchExecutor.allowCoreThreadTimeOut(true);
+        this.ruleSetVersion = ruleSetVersion(rules, parser.getResolutionMode());
+        log.info("OasComparisonService initialisiert mit {} Regeln (Ausführung: {}, Batch-Threads: {}, Regelsatz: {})",
+                rules.size(), ruleExecutor.getMode(), this.batchParallelism, ruleSetVersion);
     }
 
     /**
      * Vergleicht zwei OAS-Dateien und erkennt alle Änderungen inklusive Breaking Changes.
+     * Beide Dateien werden gleichzeitig geparst und aufgelöst.
      *
      * @param oldSpecPath Pfad zur alten OAS-Datei
      * @param newSpecPath Pfad zur neuen OAS-Datei
@@ -41,10 +106,9 @@ public class OasComparisonService {
     public ComparisonResult compareSpecifications(String oldSpecPath, String newSpecPath) throws OasParseException {
         log.info("Starte Vergleich: {} -> {}", oldSpecPath, newSpecPath);
 
-        OpenAPI oldSpec = parser.parseFromFile(oldSpecPath);
-        OpenAPI newSpec = parser.parseFromFile(newSpecPath);
+        List<OpenAPI> specs = parser.parseFromFiles(List.of(oldSpecPath, newSpecPath));
 
-        return compareSpecifications(oldSpec, newSpec);
+        return compareSpecifications(specs.get(0), specs.get(1));
     }
 
     /**
@@ -60,22 +124,461 @@ public class OasComparisonService {
 
         log.info("Vergleiche Versionen: {} -> {}", oldVersion, newVersion);
 
-        List<ApiChange> allChanges = new ArrayList<>();
-
-        for (BreakingChangeRule rule : rules) {
-            log.debug("Wende Regel an: {}", rule.getRuleName());
-            List<ApiChange> changes = rule.evaluate(oldSpec, newSpec);
-            allChanges.addAll(changes);
-            log.debug("Regel {} fand {} Änderungen", rule.getRuleName(), changes.size());
+        // Ergebnisse in Regelreihenfolge sammeln, unabhängig vom Ausführungsmodus
+        CollectingChangeSink sink = new CollectingChangeSink();
+        for (List<ApiChange> changes : ruleExecutor.evaluateAll(rules, oldSpec, newSpec)) {
+            sink.acceptAll(changes);
         }
 
-        ComparisonResult result = new ComparisonResult(oldVersion, newVersion, allChanges);
+        ResultConstructionEvent event = new ResultConstructionEvent();
+        event.begin();
+        ComparisonResult result = sink.toResult(oldVersion, newVersion);
+        if (event.shouldCommit()) {
+            event.oldVersion = oldVersion;
+            event.newVersion = newVersion;
+            event.changeCount = sink.size();
+            event.commit();
+        }
 
         log.info("Vergleich abgeschlossen: {}", result.getSummary());
 
         return result;
     }
 
+    /**
+     * Berechnet den Schlüssel eines Vergleichs aus den Inhalten beider Dateien und dem
+     * Regelsatz, ohne zu parsen. Unveränderte Dateien werden dank des Parse-Caches nicht
+     * erneut gelesen.
+     *
+     * @param oldSpecPath Pfad zur alten OAS-Datei
+     * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @return Schlüssel für den Ergebnis-Cache und ETags
+     * @throws OasParseException wenn eine Datei fehlt oder nicht lesbar ist
+     */
+    public ComparisonKey comparisonKey(String oldSpecPath, String newSpecPath) throws OasParseException {
+        return new ComparisonKey(parser.contentKey(oldSpecPath), parser.contentKey(newSpecPath), ruleSetVersion);
+    }
+
+    /**
+     * Vergleicht zwei OAS-Dateien wie {@link #compareSpecifications(String, String)}, liefert
+     * aber ein gecachtes Ergebnis, wenn für den Schlüssel bereits eines vorliegt.
+     * Gleichzeitige Aufrufe mit demselben Schlüssel werden zusammengefasst: Nur der erste parst
+     * und wertet aus, alle weiteren warten auf dessen Ergebnis bzw. Fehler.
+     *
+     * @param key Schlüssel aus {@link #comparisonKey(String, String)}
+     * @param oldSpecPath Pfad zur alten OAS-Datei
+     * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @return Vergleichsergebnis mit allen Änderungen
+     * @throws OasParseException wenn das Parsen fehlschlägt
+     */
+    public ComparisonResult compareSpecifications(ComparisonKey key, String oldSpecPath, String newSpecPath)
+            throws OasParseException {
+        ComparisonResult cached = resultCache.get(key);
+        if (cached != null) {
+            log.info("Vergleichsergebnis aus Cache: {} -> {}", oldSpecPath, newSpecPath);
+            return cached;
+        }
+        FutureTask<ComparisonResult> task = new FutureTask<>(() -> {
+            ComparisonResult result = compareSpecifications(oldSpecPath, newSpecPath);
+            // Vor dem Austragen cachen, damit spätere Aufrufe nicht erneut rechnen; wurde eine Datei
+            // zwischen Schlüssel und Parsen geändert, gehört das Ergebnis nicht zum Schlüssel
+            if (unchangedSince(key, oldSpecPath, newSpecPath)) {
+                resultCache.put(key, result);
+            } else {
+                log.info("Dateien während des Vergleichs geändert, Ergebnis wird nicht gecacht: {} -> {}",
+                        oldSpecPath, newSpecPath);
+            }
+            return result;
+        });
+        FutureTask<ComparisonResult> running = inFlight.putIfAbsent(key, task);
+        if (running != null) {
+            coalescedComparisons.incrementAndGet();
+            log.info("Warte auf laufenden Vergleich: {} -> {}", oldSpecPath, newSpecPath);
+            return await(running, oldSpecPath, newSpecPath);
+        }
+        try {
+            task.run();
+        } finally {
+            inFlight.remove(key, task);
+        }
+        return await(task, oldSpecPath, newSpecPath);
+    }
+
+    private boolean unchangedSince(ComparisonKey key, String oldSpecPath, String newSpecPath) {
+        try {
+            return key.equals(comparisonKey(oldSpecPath, newSpecPath));
+        } catch (OasParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Anzahl der Vergleiche, die auf eine bereits laufende Berechnung mit demselben Schlüssel
+     * gewartet haben, statt selbst zu parsen.
+     *
+     * @return Anzahl zusammengefasster Vergleiche seit dem Start
+     */
+    public long getCoalescedComparisons() {
+        return coalescedComparisons.get();
+    }
+
+    private static ComparisonResult await(FutureTask<ComparisonResult> task, String oldSpecPath,
+                                          String newSpecPath) throws OasParseException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OasParseException("Vergleich wurde unterbrochen: " + oldSpecPath + " -> " + newSpecPath, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof OasParseException parseException) {
+                throw parseException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new OasParseException("Unerwarteter Fehler beim Vergleich: " + oldSpecPath + " -> " + newSpecPath,
+                    e.getCause());
+        }
+    }
+
+    /**
+     * Vergleicht zwei OAS-Dateien und gibt die Änderungen an eine Senke weiter, ohne
+     * die vollständige Änderungsliste aufzubauen.
+     *
+     * @param oldSpecPath Pfad zur alten OAS-Datei
+     * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @param sink Empfänger der gefundenen Änderungen
+     * @throws OasParseException wenn das Parsen fehlschlägt
+     */
+    public void compareSpecifications(String oldSpecPath, String newSpecPath, ChangeSink sink)
+            throws OasParseException {
+        log.info("Starte Vergleich: {} -> {}", oldSpecPath, newSpecPath);
+
+        List<OpenAPI> specs = parser.parseFromFiles(List.of(oldSpecPath, newSpecPath));
+
+        compareSpecifications(specs.get(0), specs.get(1), sink);
+    }
+
+    /**
+     * Vergleicht zwei geparste OpenAPI-Spezifikationen und gibt die Änderungen an eine Senke
+     * weiter, sobald sie gefunden werden. Die Senke erhält dieselben Änderungen wie
+     * {@link #compareSpecifications(OpenAPI, OpenAPI)}, die Reihenfolge beschreibt
+     * {@link RuleExecutor#evaluateAll(List, OpenAPI, OpenAPI, ChangeSink)}.
+     *
+     * @param oldSpec Alte OpenAPI-Spezifikation
+     * @param newSpec Neue OpenAPI-Spezifikation
+     * @param sink Empfänger der gefundenen Änderungen
+     */
+    public void compareSpecifications(OpenAPI oldSpec, OpenAPI newSpec, ChangeSink sink) {
+        log.info("Vergleiche Versionen: {} -> {}", parser.extractVersion(oldSpec), parser.extractVersion(newSpec));
+
+        ruleExecutor.evaluateAll(rules, oldSpec, newSpec, sink);
+    }
+
+    /**
+     * Vergleicht viele Dateipaare und liefert die Ergebnisse in der Reihenfolge der Paare.
+     *
+     * @param pairs Zu vergleichende Paare
+     * @return Ergebnis oder Fehler pro Paar
+     * @see #compareBatch(List, Consumer)
+     */
+    public List<BatchItemResult> compareBatch(List<SpecPair> pairs) {
+        BatchItemResult[] results = new BatchItemResult[pairs.size()];
+        compareBatch(pairs, item -> results[item.index()] = item);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Vergleicht viele Dateipaare und meldet das Ergebnis jedes Paars, sobald es vorliegt.
+     *
+     * Jede Datei wird pro Batch nur einmal geparst, auch wenn sie in mehreren Paaren vorkommt
+     * (z.B. eine gemeinsame Baseline); Pfade werden dazu normalisiert. Eine geparste
+     * Spezifikation wird freigegeben, sobald ihr letztes Paar verglichen ist. Die Paare werden
+     * auf höchstens {@code oas.analyzer.batch.parallelism} Threads ausgewertet; diese teilen sich
+     * alle gleichzeitig laufenden Batches des Service.
+     *
+     * Parse- und Vergleichsfehler betreffen nur die Paare der jeweiligen Datei und werden als
+     * {@link BatchItemResult} gemeldet. Der Listener erhält die Ergebnisse in Abschlussreihenfolge
+     * und wird nie gleichzeitig aufgerufen. Wirft er, werden die übrigen Paare übersprungen und
+     * die Exception nach Abschluss der laufenden Paare weitergeworfen.
+     *
+     * @param pairs Zu vergleichende Paare
+     * @param listener Empfänger der Ergebnisse pro Paar
+     */
+    public void compareBatch(List<SpecPair> pairs, Consumer<BatchItemResult> listener) {
+        compareBatch(pairs, OasComparisonService::normalize, parser::parseFromFile, listener);
+    }
+
+    /**
+     * Vergleicht viele Paare, deren Spezifikationen über einen eigenen Loader geladen werden,
+     * z.B. aus einem Git-Repository. Jede ID wird pro Batch nur einmal geladen; ansonsten
+     * wie {@link #compareBatch(List, Consumer)}.
+     *
+     * @param pairs Zu vergleichende Paare von Spezifikations-IDs
+     * @param loader Lädt eine Spezifikation anhand ihrer ID
+     * @param listener Empfänger der Ergebnisse pro Paar
+     */
+    public void compareBatch(List<SpecPair> pairs, SpecLoader loader, Consumer<BatchItemResult> listener) {
+        compareBatch(pairs, UnaryOperator.identity(), loader, listener);
+    }
+
+    private void compareBatch(List<SpecPair> pairs, UnaryOperator<String> keyOf, SpecLoader loader,
+                              Consumer<BatchItemResult> listener) {
+        if (pairs.isEmpty()) {
+            return;
+        }
+
+        Map<String, SharedSpec> specs = new HashMap<>();
+        SharedSpec[] oldSpecs = new SharedSpec[pairs.size()];
+        SharedSpec[] newSpecs = new SharedSpec[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            oldSpecs[i] = specs.computeIfAbsent(keyOf.apply(pairs.get(i).oldSpecPath()),
+                    key -> new SharedSpec(key, loader)).retain();
+            newSpecs[i] = specs.computeIfAbsent(keyOf.apply(pairs.get(i).newSpecPath()),
+                    key -> new SharedSpec(key, loader)).retain();
+        }
+
+        log.info("Starte Batch-Vergleich: {} Paare, {} Dateien, {} Threads (geteilt)", pairs.size(), specs.size(),
+                batchParallelism);
+
+        Object deliveryLock = new Object();
+        AtomicReference<RuntimeException> listenerFailure = new AtomicReference<>();
+        List<Future<?>> futures = new ArrayList<>(pairs.size());
+        try {
+            for (int i = 0; i < pairs.size(); i++) {
+                int index = i;
+                futures.add(batchExecutor.submit(() -> {
+                    BatchItemResult item = compareShared(index, pairs.get(index), oldSpecs[index], newSpecs[index],
+                            listenerFailure);
+                    synchronized (deliveryLock) {
+                        if (item == null || listenerFailure.get() != null) {
+                            return;
+                        }
+                        try {
+                            listener.accept(item);
+                        } catch (RuntimeException e) {
+                            listenerFailure.set(e);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Batch-Vergleich wurde unterbrochen", e);
+        } catch (ExecutionException e) {
+            // compareShared fängt alle Exceptions, hier kommen nur Errors an
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Fehler im Batch-Vergleich", e.getCause());
+        }
+
+        if (listenerFailure.get() != null) {
+            throw listenerFailure.get();
+        }
+        log.info("Batch-Vergleich abgeschlossen: {} Paare", pairs.size());
+    }
+
+    /**
+     * Vergleicht eine geordnete Folge von Versionen in einem Aufruf.
+     *
+     * Alle benachbarten Versionen werden wie in {@link #compareBatch(List, Consumer)} parallel
+     * verglichen, zusätzlich die erste mit der letzten Version. Jede Datei wird dabei genau
+     * einmal geparst.
+     *
+     * @param specPaths Pfade zu den OAS-Dateien, älteste Version zuerst
+     * @return Ergebnisse aller Schritte und der kumulierte Vergleich
+     * @throws IllegalArgumentException wenn weniger als zwei Versionen übergeben werden
+     */
+    public VersionChainResult compareChain(List<String> specPaths) {
+        return compareChain(specPaths, OasComparisonService::normalize, parser::parseFromFile);
+    }
+
+    /**
+     * Vergleicht eine geordnete Folge von Versionen, die über einen eigenen Loader geladen werden,
+     * z.B. aufeinanderfolgende Git-Revisionen. Ansonsten wie {@link #compareChain(List)}.
+     *
+     * @param specIds IDs der Versionen, älteste zuerst
+     * @param loader Lädt eine Version anhand ihrer ID
+     * @return Ergebnisse aller Schritte und der kumulierte Vergleich
+     * @throws IllegalArgumentException wenn weniger als zwei Versionen übergeben werden
+     */
+    public VersionChainResult compareChain(List<String> specIds, SpecLoader loader) {
+        return compareChain(specIds, UnaryOperator.identity(), loader);
+    }
+
+    /**
+     * Wie {@link #compareChain(List, SpecLoader)}, Versionen mit gleichem Schlüssel werden aber nur
+     * einmal geladen, z.B. Git-Revisionen mit identischem Blob.
+     *
+     * @param specIds IDs der Versionen, älteste zuerst
+     * @param keyOf Bildet eine ID auf den Schlüssel ab, mit dem der Loader aufgerufen wird
+     * @param loader Lädt eine Version anhand ihres Schlüssels
+     * @return Ergebnisse aller Schritte und der kumulierte Vergleich
+     * @throws IllegalArgumentException wenn weniger als zwei Versionen übergeben werden
+     */
+    public VersionChainResult compareChain(List<String> specIds, UnaryOperator<String> keyOf, SpecLoader loader) {
+        if (specIds.size() < 2) {
+            throw new IllegalArgumentException("Mindestens zwei Versionen erforderlich, erhalten: " + specIds.size());
+        }
+
+        List<SpecPair> pairs = new ArrayList<>(specIds.size());
+        for (int i = 0; i + 1 < specIds.size(); i++) {
+            pairs.add(new SpecPair(specIds.get(i), specIds.get(i + 1)));
+        }
+        int steps = pairs.size();
+        if (steps > 1) {
+            pairs.add(new SpecPair(specIds.get(0), specIds.get(specIds.size() - 1)));
+        }
+
+        log.info("Starte Versionskette: {} Versionen", specIds.size());
+        BatchItemResult[] results = new BatchItemResult[pairs.size()];
+        compareBatch(pairs, keyOf, loader, item -> results[item.index()] = item);
+
+        // Bei zwei Versionen ist der einzige Schritt zugleich der kumulierte Vergleich
+        return new VersionChainResult(List.copyOf(specIds), List.of(Arrays.copyOf(results, steps)),
+                results[results.length - 1]);
+    }
+
+    /**
+     * Vergleicht alle Spezifikationen zweier Verzeichnisbäume, z.B. zweier Checkouts eines Monorepos.
+     *
+     * Die Dateien werden nach relativem Pfad oder {@code info.title} zugeordnet und wie in
+     * {@link #compareBatch(List, Consumer)} parallel verglichen; über den Parse-Cache werden
+     * unveränderte Dateien bei wiederholten Läufen nicht erneut geparst. Ergebnisse pro Datei
+     * gehen an den Listener, nur in einem Baum vorhandene Dateien stehen in der Zusammenfassung.
+     *
+     * @param oldRoot Wurzel des alten Baums
+     * @param newRoot Wurzel des neuen Baums
+     * @param mode Zuordnung der Dateien
+     * @param listener Empfänger der Ergebnisse pro Dateipaar
+     * @return Zusammenfassung über alle Dateien
+     * @throws IOException wenn ein Verzeichnis nicht durchsucht werden kann
+     */
+    public DirectoryComparisonSummary compareDirectories(Path oldRoot, Path newRoot, DirectoryMatchMode mode,
+                                                         Consumer<BatchItemResult> listener) throws IOException {
+        long start = System.nanoTime();
+        SpecDirectoryScanner.Matching matching = SpecDirectoryScanner.match(oldRoot, newRoot, mode);
+        log.info("Verzeichnisvergleich {} -> {}: {} Paare, {} entfernt, {} hinzugefügt", oldRoot, newRoot,
+                matching.pairs().size(), matching.removed().size(), matching.added().size());
+
+        int[] counts = new int[3];
+        long[] changes = new long[2];
+        compareBatch(matching.pairs(), item -> {
+            counts[0]++;
+            if (!item.isSuccess()) {
+                counts[1]++;
+            } else {
+                changes[0] += item.result().getTotalChangesCount();
+                changes[1] += item.result().getBreakingChangesCount();
+                if (item.result().hasBreakingChanges()) {
+                    counts[2]++;
+                }
+            }
+            listener.accept(item);
+        });
+
+        return new DirectoryComparisonSummary(oldRoot.toString(), newRoot.toString(), mode,
+                counts[0], counts[1], counts[2], changes[0], changes[1],
+                matching.removed(), matching.added(), matching.ambiguous(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private BatchItemResult compareShared(int index, SpecPair pair, SharedSpec oldSpec, SharedSpec newSpec,
+                                          AtomicReference<RuntimeException> listenerFailure) {
+        try {
+            if (listenerFailure.get() != null) {
+                return null;
+            }
+            return BatchItemResult.success(index, pair, compareSpecifications(oldSpec.get(), newSpec.get()));
+        } catch (OasParseException | RuntimeException e) {
+            log.warn("Batch-Vergleich {} -> {} fehlgeschlagen: {}", pair.oldSpecPath(), pair.newSpecPath(),
+                    e.getMessage());
+            return BatchItemResult.failure(index, pair, e);
+        } finally {
+            oldSpec.release();
+            newSpec.release();
+        }
+    }
+
+    private static String normalize(String specPath) {
+        try {
+            return Path.of(specPath).toAbsolutePath().normalize().toString();
+        } catch (InvalidPathException e) {
+            // Ungültige Pfade scheitern später beim Parsen mit einer passenden Meldung
+            return specPath;
+        }
+    }
+
+    /**
+     * Eine Spezifikation eines Batches. Sie wird vom ersten Paar geladen, das sie braucht; weitere
+     * Paare warten auf dieses Ergebnis. Nach dem letzten Paar wird das Ergebnis freigegeben.
+     */
+    private static final class SharedSpec {
+
+        private final String path;
+        private final AtomicInteger remainingUses = new AtomicInteger();
+        private volatile FutureTask<OpenAPI> parse;
+
+        SharedSpec(String path, SpecLoader loader) {
+            this.path = path;
+            this.parse = new FutureTask<>(() -> loader.load(path));
+        }
+
+        SharedSpec retain() {
+            remainingUses.incrementAndGet();
+            return this;
+        }
+
+        OpenAPI get() throws OasParseException {
+            FutureTask<OpenAPI> task = parse;
+            // Nur der erste Aufruf parst, alle weiteren warten auf dessen Ergebnis
+            task.run();
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OasParseException("Parsen wurde unterbrochen: " + path, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof OasParseException parseException) {
+                    throw parseException;
+                }
+                throw new OasParseException("Unerwarteter Fehler beim Parsen: " + path, e.getCause());
+            }
+        }
+
+        void release() {
+            if (remainingUses.decrementAndGet() == 0) {
+                parse = null;
+            }
+        }
+    }
+
+    /**
+     * Öffnet eine Sitzung, die die neue Spezifikation nach jeder Bearbeitung nur in den
+     * geänderten Teilbäumen neu parst und auswertet.
+     *
+     * @param oldContent Inhalt der alten Spezifikation, bleibt während der Sitzung fest
+     * @param newContent Ausgangsstand der neuen Spezifikation
+     * @return Sitzung mit dem Ergebnis des ersten, vollständigen Vergleichs
+     * @throws OasParseException wenn sich ein Inhalt nicht parsen lässt
+     */
+    public IncrementalComparisonSession openIncrementalSession(String oldContent, String newContent)
+            throws OasParseException {
+        return new IncrementalComparisonSession(parser, rules, ruleExecutor,
+                parser.readTree(oldContent), parser.readTree(newContent));
+    }
+
     /**
      * Überprüft, ob die neue Version Breaking Changes enthält.
      *
@@ -85,8 +588,48 @@ public class OasComparisonService {
      * @throws OasParseException wenn das Parsen fehlschlägt
      */
     public boolean hasBreakingChanges(String oldSpecPath, String newSpecPath) throws OasParseException {
-        ComparisonResult result = compareSpecifications(oldSpecPath, newSpecPath);
-        return result.hasBreakingChanges();
+        log.info("Prüfe auf Breaking Changes: {} -> {}", oldSpecPath, newSpecPath);
+
+        List<OpenAPI> specs = parser.parseFromFiles(List.of(oldSpecPath, newSpecPath));
+        return hasBreakingChanges(specs.get(0), specs.get(1));
+    }
+
+    /**
+     * Überprüft wie {@link #hasBreakingChanges(String, String)}, ob die neue Version Breaking
+     * Changes enthält, beantwortet dies aber aus dem Ergebnis-Cache, sofern möglich. Läuft für
+     * den Schlüssel bereits ein vollständiger Vergleich, wird dessen Ergebnis abgewartet.
+     *
+     * @param key Schlüssel aus {@link #comparisonKey(String, String)}
+     * @param oldSpecPath Pfad zur alten OAS-Datei
+     * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @return true wenn Breaking Changes gefunden wurden
+     * @throws OasParseException wenn das Parsen fehlschlägt
+     */
+    public boolean hasBreakingChanges(ComparisonKey key, String oldSpecPath, String newSpecPath)
+            throws OasParseException {
+        ComparisonResult cached = resultCache.get(key);
+        if (cached != null) {
+            return cached.hasBreakingChanges();
+        }
+        FutureTask<ComparisonResult> running = inFlight.get(key);
+        if (running != null) {
+            coalescedComparisons.incrementAndGet();
+            return await(running, oldSpecPath, newSpecPath).hasBreakingChanges();
+        }
+        return hasBreakingChanges(oldSpecPath, newSpecPath);
+    }
+
+    /**
+     * Überprüft, ob die neue Version Breaking Changes enthält.
+     * Es werden nur Regeln ausgewertet, die Breaking Changes melden können; die Prüfung
+     * endet beim ersten gefundenen Breaking Change.
+     *
+     * @param oldSpec Alte OpenAPI-Spezifikation
+     * @param newSpec Neue OpenAPI-Spezifikation
+     * @return true wenn Breaking Changes gefunden wurden
+     */
+    public boolean hasBreakingChanges(OpenAPI oldSpec, OpenAPI newSpec) {
+        return ruleExecutor.findFirstBreakingChange(rules, oldSpec, newSpec).isPresent();
     }
 
     /**
@@ -98,8 +641,69 @@ public class OasComparisonService {
      * @throws OasParseException wenn das Parsen fehlschlägt
      */
     public List<ApiChange> getBreakingChanges(String oldSpecPath, String newSpecPath) throws OasParseException {
-        ComparisonResult result = compareSpecifications(oldSpecPath, newSpecPath);
-        return result.getBreakingChanges();
+        List<OpenAPI> specs = parser.parseFromFiles(List.of(oldSpecPath, newSpecPath));
+
+        // Rein informative Regeln können nichts beitragen
+        List<BreakingChangeRule> breakingRules = rules.stream()
+                .filter(BreakingChangeRule::canProduceBreakingChanges)
+                .toList();
+
+        // Regelreihenfolge wie im Vergleichsergebnis
+        List<ApiChange> breakingChanges = new ArrayList<>();
+        for (List<ApiChange> changes : ruleExecutor.evaluateAll(breakingRules, specs.get(0), specs.get(1))) {
+            for (ApiChange change : changes) {
+                if (change.isBreakingChange()) {
+                    breakingChanges.add(change);
+                }
+            }
+        }
+        return breakingChanges;
+    }
+
+    /**
+     * Version des Regelsatzes: Hash über Auflösungsmodus, Reihenfolge und Bytecode der Regeln.
+     * Ändert sich eine Regel, ändern sich damit auch Cache-Schlüssel und ETags.
+     *
+     * @return Hex-kodierter Hash, gekürzt auf 16 Zeichen
+     */
+    public String getRuleSetVersion() {
+        return ruleSetVersion;
+    }
+
+    /**
+     * Gibt die Statistik des Ergebnis-Caches zurück.
+     *
+     * @return Treffer, Fehlschläge, Verdrängungen und abgelaufene Einträge
+     */
+    public ResultCacheStats getResultCacheStats() {
+        return resultCache.getStats();
+    }
+
+    /**
+     * Beendet die Batch-Threads; laufende Batch-Vergleiche werden noch abgeschlossen.
+     */
+    @Override
+    public void close() {
+        batchExecutor.shutdown();
+    }
+
+    private static String ruleSetVersion(List<BreakingChangeRule> rules, ResolutionMode resolutionMode) {
+        MessageDigest digest = ParsedSpecCache.newContentDigest();
+        digest.update(resolutionMode.name().getBytes(StandardCharsets.UTF_8));
+        for (BreakingChangeRule rule : rules) {
+            Class<?> type = rule.getClass();
+            digest.update(type.getName().getBytes(StandardCharsets.UTF_8));
+            String classFile = type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class";
+            try (InputStream in = type.getResourceAsStream(classFile)) {
+                if (in != null) {
+                    digest.update(in.readAllBytes());
+                }
+            } catch (IOException e) {
+                // Ohne Bytecode zählt nur der Klassenname
+                log.debug("Bytecode von {} nicht lesbar: {}", type.getName(), e.getMessage());
+            }
+        }
+        return ParsedSpecCache.contentKey(digest).substring(0, 16);
     }
 }
 
@@ -0,0 +1,20 @@
+package com.majtom.oas.analyzer;
+
+/**
+ * Momentaufnahme der Statistik des {@link ComparisonResultCache}.
+ *
+ * @param hits Anzahl der Cache-Treffer
+ * @param misses Anzahl der Fehlschläge, einschließlich abgelaufener Einträge
+ * @param evictions Anzahl verdrängter Einträge
+ * @param expirations Anzahl nach Ablauf der TTL entfernter Einträge
+ * @param entryCount Aktuelle Anzahl der Einträge
+ * @param maxEntries Maximale Anzahl der Einträge
+ */
+public record ResultCacheStats(long hits, long misses, long evictions, long expirations, int entryCount,
+                               int maxEntries) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,21 @@
+package com.majtom.oas.analyzer;
+
+/**
+ * Ausführungsmodus für die Auswertung der Breaking-Change-Regeln.
+ */
+public enum RuleExecutionMode {
+    /**
+     * Alle Regeln werden nacheinander im aufrufenden Thread ausgewertet (Standard)
+     */
+    SEQUENTIAL,
+
+    /**
+     * Regeln werden parallel auf einem eigenen ForkJoinPool ausgewertet
+     */
+    FORK_JOIN,
+
+    /**
+     * Regeln werden parallel auf virtuellen Threads ausgewertet (ein Thread pro Regel)
+     */
+    VIRTUAL_THREADS
+}
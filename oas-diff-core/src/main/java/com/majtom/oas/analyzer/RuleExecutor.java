@@ -0,0 +1,378 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.jfr.RuleEvaluationEvent;
+import com.majtom.oas.metrics.OasMetrics;
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.sink.ChangeSink;
+import com.majtom.oas.sink.CountingChangeSink;
+import com.majtom.oas.traversal.SpecTraversal;
+import com.majtom.oas.traversal.TraversalRule;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Wertet eine Liste von Breaking-Change-Regeln aus, wahlweise sequentiell oder parallel.
+ *
+ * Unabhängig vom Modus wird das Ergebnis pro Regel in der Reihenfolge der Regelliste
+ * zurückgegeben, sodass das zusammengeführte Ergebnis identisch zur sequentiellen
+ * Auswertung ist. {@link TraversalRule}s werden immer gemeinsam in einem einzigen
+ * {@link SpecTraversal} ausgewertet. Bei Weitergabe an eine {@link ChangeSink} werden im
+ * sequentiellen Modus Änderungen in Durchlaufreihenfolge gestreamt.
+ *
+ * Für die reine Breaking-Change-Prüfung ({@link #findFirstBreakingChange}) werden nur Regeln
+ * ausgeführt, die Breaking Changes melden können, sortiert nach ihrer bisher gemessenen
+ * Laufzeit; die Auswertung endet nach der ersten Regel mit einem Breaking Change.
+ *
+ * Sind {@link OasMetrics} aktiv, werden Laufzeit und gemeldete Änderungen jeder Regel
+ * aufgezeichnet. Für Traversal-Regeln zählt die Zeit in ihren Callbacks. Dieselben Werte
+ * werden als {@link RuleEvaluationEvent} an Java Flight Recorder gemeldet, sofern eine
+ * Aufzeichnung läuft; ohne Aufzeichnung und ohne Metriken wird keine Zeit gemessen.
+ *
+ * Konfiguration:
+ * <pre>
+ * oas.analyzer.rule-execution.mode=SEQUENTIAL|FORK_JOIN|VIRTUAL_THREADS
+ * oas.analyzer.rule-execution.parallelism=0   (0 = Anzahl verfügbarer Prozessoren, nur FORK_JOIN)
+ * </pre>
+ */
+@Component
+public class RuleExecutor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleExecutor.class);
+
+    private final RuleExecutionMode mode;
+    private final ExecutorService executor;
+    private final OasMetrics metrics;
+
+    /** Gleitender Mittelwert der Laufzeit pro Regel in Nanosekunden. */
+    private final Map<BreakingChangeRule, Long> ruleCosts = new ConcurrentHashMap<>();
+
+    public RuleExecutor(RuleExecutionMode mode, int parallelism) {
+        this(mode, parallelism, OasMetrics.disabled());
+    }
+
+    @Autowired
+    public RuleExecutor(@Value("${oas.analyzer.rule-execution.mode:SEQUENTIAL}") RuleExecutionMode mode,
+                        @Value("${oas.analyzer.rule-execution.parallelism:0}") int parallelism,
+                        OasMetrics metrics) {
+        this.mode = mode;
+        this.executor = createExecutor(mode, parallelism);
+        this.metrics = metrics;
+        log.info("RuleExecutor initialisiert (Modus: {})", mode);
+    }
+
+    /**
+     * Erstellt einen RuleExecutor, der alle Regeln im aufrufenden Thread auswertet.
+     *
+     * @return Sequentieller RuleExecutor
+     */
+    public static RuleExecutor sequential() {
+        return new RuleExecutor(RuleExecutionMode.SEQUENTIAL, 0);
+    }
+
+    private static ExecutorService createExecutor(RuleExecutionMode mode, int parallelism) {
+        switch (mode) {
+            case FORK_JOIN:
+                int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+                return new ForkJoinPool(threads);
+
+            case VIRTUAL_THREADS:
+                return Executors.newVirtualThreadPerTaskExecutor();
+
+            case SEQUENTIAL:
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Wertet alle Regeln gegen das Spezifikationspaar aus.
+     *
+     * @param rules Auszuwertende Regeln
+     * @param oldSpec Alte OpenAPI-Spezifikation
+     * @param newSpec Neue OpenAPI-Spezifikation
+     * @return Gefundene Änderungen pro Regel, in der Reihenfolge der Regelliste
+     */
+    public List<List<ApiChange>> evaluateAll(List<BreakingChangeRule> rules, OpenAPI oldSpec, OpenAPI newSpec) {
+        List<List<ApiChange>> results = new ArrayList<>(rules.size());
+        evaluate(rules, oldSpec, newSpec, (index, changes) -> results.add(changes));
+        return results;
+    }
+
+    /**
+     * Wertet alle Regeln aus und gibt die Änderungen an eine Senke weiter.
+     *
+     * Im Modus {@link RuleExecutionMode#SEQUENTIAL} werden keine Ergebnislisten pro Regel
+     * aufgebaut: Traversal-Regeln geben ihre Änderungen direkt nach jedem Callback weiter,
+     * klassische Regeln sobald sie ausgewertet sind. Die Reihenfolge ist dann die des
+     * gemeinsamen Durchlaufs, für dasselbe Element in Regelreihenfolge. In den parallelen
+     * Modi entspricht die Reihenfolge dem zusammengeführten Ergebnis von
+     * {@link #evaluateAll(List, OpenAPI, OpenAPI)}; die Ergebnisliste einer Regel wird
+     * weitergegeben, sobald sie und alle vorherigen Regeln fertig sind, und danach verworfen.
+     *
+     * Die Senke wird nur aus dem aufrufenden Thread aufgerufen.
+     *
+     * @param rules Auszuwertende Regeln
+     * @param oldSpec Alte OpenAPI-Spezifikation
+     * @param newSpec Neue OpenAPI-Spezifikation
+     * @param sink Empfänger der gefundenen Änderungen
+     */
+    public void evaluateAll(List<BreakingChangeRule> rules, OpenAPI oldSpec, OpenAPI newSpec, ChangeSink sink) {
+        if (executor != null && rules.size() >= 2) {
+            evaluateParallel(rules, oldSpec, newSpec, (index, changes) -> sink.acceptAll(changes));
+            return;
+        }
+
+        SpecTraversal traversal = SpecTraversal.forRules(rules);
+        if (!isRecording()) {
+            traversal.traverse(oldSpec, newSpec, sink);
+            return;
+        }
+
+        List<CountingChangeSink> counts = new ArrayList<>(rules.size());
+        List<ChangeSink> sinks = new ArrayList<>(rules.size());
+        for (int i = 0; i < rules.size(); i++) {
+            CountingChangeSink ruleCounts = new CountingChangeSink();
+            counts.add(ruleCounts);
+            sinks.add(ruleCounts.andThen(sink));
+        }
+        traversal.withTiming().traverse(oldSpec, newSpec, sinks);
+
+        long[] nanos = traversal.getVisitorNanos();
+        for (int i = 0; i < rules.size(); i++) {
+            RuleEvaluationEvent event = new RuleEvaluationEvent();
+            event.sharedTraversal = true;
+            record(rules.get(i), nanos[i], counts.get(i), event);
+        }
+    }
+
+    private void evaluate(List<BreakingChangeRule> rules, OpenAPI oldSpec, OpenAPI newSpec, RuleResultConsumer consumer) {
+        if (executor == null || rules.size() < 2) {
+            // Ein gemeinsamer Durchlauf für alle Regeln, klassische Regeln über den Adapter
+            SpecTraversal traversal = SpecTraversal.forRules(rules);
+            boolean recording = isRecording();
+            if (recording) {
+                traversal.withTiming();
+            }
+            List<List<ApiChange>> results = traversal.traverse(oldSpec, newSpec);
+            if (recording) {
+                recordTraversal(rules, traversal.getVisitorNanos(), results);
+            }
+            for (int i = 0; i < rules.size(); i++) {
+                deliver(rules, i, results.get(i), consumer);
+                results.set(i, null);
+            }
+        } else {
+            evaluateParallel(rules, oldSpec, newSpec, consumer);
+        }
+    }
+
+    private static void deliver(List<BreakingChangeRule> rules, int index, List<ApiChange> changes,
+                                RuleResultConsumer consumer) {
+        if (log.isDebugEnabled()) {
+            log.debug("Regel {} fand {} Änderungen", rules.get(index).getRuleName(), changes.size());
+        }
+        consumer.accept(index, changes);
+    }
+
+    private void evaluateParallel(List<BreakingChangeRule> rules, OpenAPI oldSpec, OpenAPI newSpec,
+                                  RuleResultConsumer consumer) {
+        // Traversal-Regeln teilen sich einen Durchlauf, klassische Regeln laufen als eigene Tasks
+        List<TraversalRule> traversalRules = new ArrayList<>();
+        List<Callable<List<ApiChange>>> tasks = new ArrayList<>();
+        for (BreakingChangeRule rule : rules) {
+            if (rule instanceof TraversalRule traversalRule) {
+                traversalRules.add(traversalRule);
+            } else {
+                tasks.add(() -> evaluateTimed(rule, oldSpec, newSpec));
+            }
+        }
+
+        try {
+            Future<List<List<ApiChange>>> traversalFuture = executor.submit(
+                    () -> traverseTimed(traversalRules, oldSpec, newSpec));
+            List<Future<List<ApiChange>>> futures = new ArrayList<>(tasks.size());
+            for (Callable<List<ApiChange>> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+
+            Iterator<List<ApiChange>> traversalResults = null;
+            Iterator<Future<List<ApiChange>>> ruleResults = futures.iterator();
+
+            try {
+                for (int i = 0; i < rules.size(); i++) {
+                    if (rules.get(i) instanceof TraversalRule) {
+                        if (traversalResults == null) {
+                            traversalResults = traversalFuture.get().iterator();
+                        }
+                        deliver(rules, i, traversalResults.next(), consumer);
+                    } else {
+                        deliver(rules, i, ruleResults.next().get(), consumer);
+                    }
+                }
+            } catch (RuntimeException | Error | InterruptedException | ExecutionException e) {
+                traversalFuture.cancel(true);
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Regelauswertung wurde unterbrochen", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Fehler bei der Regelauswertung", cause);
+        }
+    }
+
+    private List<ApiChange> evaluateTimed(BreakingChangeRule rule, OpenAPI oldSpec, OpenAPI newSpec) {
+        if (!isRecording()) {
+            return rule.evaluate(oldSpec, newSpec);
+        }
+        RuleEvaluationEvent event = new RuleEvaluationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        List<ApiChange> changes = rule.evaluate(oldSpec, newSpec);
+        record(rule, System.nanoTime() - start, changes, event);
+        return changes;
+    }
+
+    private List<List<ApiChange>> traverseTimed(List<TraversalRule> traversalRules, OpenAPI oldSpec, OpenAPI newSpec) {
+        SpecTraversal traversal = new SpecTraversal(traversalRules);
+        if (!isRecording()) {
+            return traversal.traverse(oldSpec, newSpec);
+        }
+        List<List<ApiChange>> results = traversal.withTiming().traverse(oldSpec, newSpec);
+        recordTraversal(traversalRules, traversal.getVisitorNanos(), results);
+        return results;
+    }
+
+    /**
+     * @return true, wenn Metriken aktiv sind oder eine JFR-Aufzeichnung Regel-Events erfasst
+     */
+    private boolean isRecording() {
+        return metrics.isEnabled() || RuleEvaluationEvent.isTypeEnabled();
+    }
+
+    /**
+     * Zeichnet die Regeln eines gemeinsamen Durchlaufs auf. Ihre Events haben keine eigene
+     * Dauer, die Rechenzeit steht in {@link RuleEvaluationEvent#evaluationTime}.
+     */
+    private void recordTraversal(List<? extends BreakingChangeRule> rules, long[] nanos,
+                                 List<List<ApiChange>> results) {
+        for (int i = 0; i < rules.size(); i++) {
+            RuleEvaluationEvent event = new RuleEvaluationEvent();
+            event.sharedTraversal = true;
+            record(rules.get(i), nanos[i], results.get(i), event);
+        }
+    }
+
+    private void record(BreakingChangeRule rule, long nanos, List<ApiChange> changes, RuleEvaluationEvent event) {
+        metrics.recordRule(rule, nanos, changes);
+        if (event.shouldCommit()) {
+            commit(event, rule, nanos, changes.size(),
+                    (int) changes.stream().filter(ApiChange::isBreakingChange).count());
+        }
+    }
+
+    private void record(BreakingChangeRule rule, long nanos, CountingChangeSink counts, RuleEvaluationEvent event) {
+        metrics.recordRule(rule, nanos, counts);
+        if (event.shouldCommit()) {
+            commit(event, rule, nanos, counts.getTotalCount(), counts.getBreakingCount());
+        }
+    }
+
+    private static void commit(RuleEvaluationEvent event, BreakingChangeRule rule, long nanos,
+                               int changeCount, int breakingChangeCount) {
+        event.ruleName = rule.getRuleName();
+        event.changeCount = changeCount;
+        event.breakingChangeCount = breakingChangeCount;
+        event.evaluationTime = nanos;
+        event.commit();
+    }
+
+    /**
+     * Sucht den ersten Breaking Change und bricht die Auswertung danach ab.
+     *
+     * Regeln ohne Breaking-Change-Potenzial werden übersprungen, die übrigen nacheinander
+     * in aufsteigender gemessener Laufzeit ausgewertet. Noch nicht gemessene Regeln laufen
+     * zuerst, damit ihre Kosten bekannt werden.
+     *
+     * @param rules Auszuwertende Regeln
+     * @param oldSpec Alte OpenAPI-Spezifikation
+     * @param newSpec Neue OpenAPI-Spezifikation
+     * @return Erster gefundener Breaking Change, oder leer
+     */
+    public Optional<ApiChange> findFirstBreakingChange(List<BreakingChangeRule> rules,
+                                                       OpenAPI oldSpec, OpenAPI newSpec) {
+        List<BreakingChangeRule> candidates = rules.stream()
+                .filter(BreakingChangeRule::canProduceBreakingChanges)
+                .sorted(Comparator.comparingLong(rule -> ruleCosts.getOrDefault(rule, 0L)))
+                .toList();
+
+        int evaluated = 0;
+        for (BreakingChangeRule rule : candidates) {
+            RuleEvaluationEvent event = new RuleEvaluationEvent();
+            event.begin();
+            long start = System.nanoTime();
+            List<ApiChange> changes = rule.evaluate(oldSpec, newSpec);
+            long nanos = System.nanoTime() - start;
+            recordCost(rule, nanos);
+            record(rule, nanos, changes, event);
+            evaluated++;
+
+            for (ApiChange change : changes) {
+                if (change.isBreakingChange()) {
+                    log.debug("Breaking Change durch {} gefunden ({} von {} Regeln ausgewertet)",
+                            rule.getRuleName(), evaluated, candidates.size());
+                    return Optional.of(change);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @FunctionalInterface
+    private interface RuleResultConsumer {
+        void accept(int ruleIndex, List<ApiChange> changes);
+    }
+
+    private void recordCost(BreakingChangeRule rule, long nanos) {
+        ruleCosts.merge(rule, nanos, (previous, current) -> (previous * 7 + current) / 8);
+    }
+
+    public RuleExecutionMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.majtom.oas.analyzer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.swagger.v3.parser.ObjectMapperFactory;
+import io.swagger.v3.parser.util.DeserializationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Sucht OAS-Dateien in zwei Verzeichnisbäumen und ordnet sie einander zu.
+ *
+ * Als Spezifikation zählt jede YAML- oder JSON-Datei mit einem {@code openapi}-Feld auf oberster
+ * Ebene; andere Dateien (z.B. {@code package.json}) werden ignoriert. Dazu und für den Titel
+ * wird nur der Anfang jeder Datei gestreamt, ohne sie zu parsen. Versteckte Verzeichnisse
+ * wie {@code .git} werden übersprungen.
+ */
+final class SpecDirectoryScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(SpecDirectoryScanner.class);
+
+    private static final JsonFactory JSON_FACTORY = ObjectMapperFactory.createJson().getFactory();
+    private static final JsonFactory YAML_FACTORY = DeserializationUtils.getYaml30Mapper().getFactory();
+
+    private SpecDirectoryScanner() {
+    }
+
+    /**
+     * Ergebnis der Zuordnung.
+     *
+     * @param pairs Zugeordnete Paare, sortiert nach Schlüssel
+     * @param removed Relative Pfade der Spezifikationen, die nur im alten Baum vorkommen
+     * @param added Relative Pfade der Spezifikationen, die nur im neuen Baum vorkommen
+     * @param ambiguous Pfade der Spezifikationen, die wegen eines mehrdeutigen Titels nicht
+     *                  zugeordnet wurden
+     */
+    record Matching(List<SpecPair> pairs, List<String> removed, List<String> added, List<String> ambiguous) {
+    }
+
+    static Matching match(Path oldRoot, Path newRoot, DirectoryMatchMode mode) throws IOException {
+        List<String> ambiguous = new ArrayList<>();
+        Map<String, Path> oldSpecs = index(oldRoot, mode, ambiguous);
+        Map<String, Path> newSpecs = index(newRoot, mode, ambiguous);
+
+        List<SpecPair> pairs = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (Map.Entry<String, Path> entry : oldSpecs.entrySet()) {
+            Path newSpec = newSpecs.remove(entry.getKey());
+            if (newSpec != null) {
+                pairs.add(new SpecPair(entry.getValue().toString(), newSpec.toString()));
+            } else {
+                removed.add(relative(oldRoot, entry.getValue()));
+            }
+        }
+        List<String> added = newSpecs.values().stream()
+                .map(path -> relative(newRoot, path))
+                .sorted()
+                .toList();
+
+        return new Matching(pairs, removed.stream().sorted().toList(), added, List.copyOf(ambiguous));
+    }
+
+    private static Map<String, Path> index(Path root, DirectoryMatchMode mode, List<String> ambiguous)
+            throws IOException {
+        Map<String, Path> specs = new TreeMap<>();
+        Set<String> duplicateTitles = new HashSet<>();
+
+        for (Path file : findSpecFiles(root)) {
+            SpecHeader header = readHeader(file);
+            if (!header.openApi()) {
+                continue;
+            }
+            if (mode == DirectoryMatchMode.RELATIVE_PATH) {
+                specs.put(relative(root, file), file);
+            } else if (header.title() == null) {
+                log.warn("Spezifikation ohne info.title wird nicht zugeordnet: {}", file);
+            } else if (duplicateTitles.contains(header.title()) || specs.putIfAbsent(header.title(), file) != null) {
+                log.warn("Titel '{}' mehrfach in {}, wird nicht zugeordnet: {}", header.title(), root, file);
+                if (duplicateTitles.add(header.title())) {
+                    ambiguous.add(specs.get(header.title()).toString());
+                }
+                ambiguous.add(file.toString());
+            }
+        }
+        duplicateTitles.forEach(specs::remove);
+
+        log.debug("{} Spezifikationen in {} gefunden", specs.size(), root);
+        return specs;
+    }
+
+    private static List<Path> findSpecFiles(Path root) throws IOException {
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                String name = dir.getFileName() != null ? dir.getFileName().toString() : "";
+                return !dir.equals(root) && name.startsWith(".") ? FileVisitResult.SKIP_SUBTREE
+                        : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && factoryFor(file) != null) {
+                    files.add(file.toAbsolutePath().normalize());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return files;
+    }
+
+    private static JsonFactory factoryFor(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".yaml") || name.endsWith(".yml")) {
+            return YAML_FACTORY;
+        }
+        return name.endsWith(".json") ? JSON_FACTORY : null;
+    }
+
+    /**
+     * Liest {@code openapi} und {@code info.title} von der obersten Ebene und bricht ab, sobald
+     * beide gefunden sind. Nicht lesbare Dateien gelten als Spezifikation, damit ihr Fehler
+     * beim Vergleich gemeldet wird.
+     */
+    private static SpecHeader readHeader(Path file) {
+        boolean openApi = false;
+        String title = null;
+        boolean infoSeen = false;
+        try (InputStream in = Files.newInputStream(file);
+             JsonParser json = factoryFor(file).createParser(in)) {
+            if (json.nextToken() != JsonToken.START_OBJECT) {
+                return new SpecHeader(false, null);
+            }
+            while (json.nextToken() == JsonToken.FIELD_NAME && !(openApi && infoSeen)) {
+                String field = json.currentName();
+                JsonToken value = json.nextToken();
+                if ("openapi".equals(field)) {
+                    openApi = true;
+                } else if ("info".equals(field) && value == JsonToken.START_OBJECT) {
+                    infoSeen = true;
+                    title = readTitle(json);
+                    continue;
+                }
+                json.skipChildren();
+            }
+            return new SpecHeader(openApi, title);
+        } catch (IOException e) {
+            log.warn("Konnte Kopf von {} nicht lesen: {}", file, e.getMessage());
+            return new SpecHeader(true, null);
+        }
+    }
+
+    private static String readTitle(JsonParser json) throws IOException {
+        String title = null;
+        while (json.nextToken() == JsonToken.FIELD_NAME) {
+            String field = json.currentName();
+            JsonToken value = json.nextToken();
+            if ("title".equals(field) && value.isScalarValue()) {
+                title = json.getValueAsString();
+            } else {
+                json.skipChildren();
+            }
+        }
+        return title;
+    }
+
+    private static String relative(Path root, Path file) {
+        return root.toAbsolutePath().normalize().relativize(file).toString().replace('\\', '/');
+    }
+
+    private record SpecHeader(boolean openApi, String title) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.parser.OasParseException;
+import io.swagger.v3.oas.models.OpenAPI;
+
+/**
+ * Lädt eine Spezifikation anhand ihrer ID für Batch- und Kettenvergleiche,
+ * z.B. einen Dateipfad oder eine Git-Revision.
+ */
+@FunctionalInterface
+public interface SpecLoader {
+
+    /**
+     * @param specId ID der Spezifikation, wie in {@link SpecPair} angegeben
+     * @return Geparste Spezifikation
+     * @throws OasParseException wenn die Spezifikation nicht geladen werden kann
+     */
+    OpenAPI load(String specId) throws OasParseException;
+}
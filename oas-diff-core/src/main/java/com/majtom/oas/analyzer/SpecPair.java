@@ -0,0 +1,10 @@
+package com.majtom.oas.analyzer;
+
+/**
+ * Zu vergleichendes Paar von OAS-Dateien in einem Batch-Vergleich.
+ *
+ * @param oldSpecPath Pfad zur alten OAS-Datei
+ * @param newSpecPath Pfad zur neuen OAS-Datei
+ */
+public record SpecPair(String oldSpecPath, String newSpecPath) {
+}
@@ -0,0 +1,30 @@
+package com.majtom.oas.analyzer;
+
+import java.util.List;
+
+/**
+ * Ergebnis eines Vergleichs über eine geordnete Folge von Versionen.
+ *
+ * @param specPaths Verglichene Dateien in Versionsreihenfolge
+ * @param steps Vergleich jeder Version mit ihrer Vorgängerin; {@code steps.get(i)} vergleicht
+ *              {@code specPaths.get(i)} mit {@code specPaths.get(i + 1)}
+ * @param cumulative Vergleich der ersten mit der letzten Version
+ */
+public record VersionChainResult(List<String> specPaths, List<BatchItemResult> steps, BatchItemResult cumulative) {
+
+    /**
+     * @return true, wenn mindestens ein Vergleich fehlgeschlagen ist
+     */
+    public boolean hasFailures() {
+        return !cumulative.isSuccess() || steps.stream().anyMatch(step -> !step.isSuccess());
+    }
+
+    /**
+     * @return Anzahl der Schritte mit Breaking Changes
+     */
+    public int getBreakingStepCount() {
+        return (int) steps.stream()
+                .filter(step -> step.isSuccess() && step.result().hasBreakingChanges())
+                .count();
+    }
+}
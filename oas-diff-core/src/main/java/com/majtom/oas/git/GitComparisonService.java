@@ -0,0 +1,93 @@
+package com.majtom.oas.git;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.analyzer.VersionChainResult;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.OasParseException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.eclipse.jgit.lib.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vergleicht Versionen einer Spezifikation aus einem lokalen Git-Repository, ohne sie
+ * auszuchecken.
+ */
+@Service
+public class GitComparisonService {
+
+    private static final Logger log = LoggerFactory.getLogger(GitComparisonService.class);
+
+    private final GitSpecReader reader;
+    private final OasComparisonService comparisonService;
+
+    public GitComparisonService(GitSpecReader reader, OasComparisonService comparisonService) {
+        this.reader = reader;
+        this.comparisonService = comparisonService;
+    }
+
+    /**
+     * Vergleicht eine Spezifikation zwischen zwei Commits, Tags oder Branches.
+     *
+     * @param repositoryDir Verzeichnis des Repositories
+     * @param specPath Pfad der Datei relativ zur Wurzel des Repositories
+     * @param oldRevision Alte Revision, z.B. {@code v1.0.0}
+     * @param newRevision Neue Revision, z.B. {@code main}
+     * @return Vergleichsergebnis
+     * @throws OasParseException wenn eine Revision oder die Datei nicht existiert oder das Parsen fehlschlägt
+     */
+    public ComparisonResult compareRevisions(Path repositoryDir, String specPath, String oldRevision,
+                                             String newRevision) throws OasParseException {
+        log.info("Git-Vergleich {}: {} -> {}", specPath, oldRevision, newRevision);
+
+        try (Repository repository = reader.openRepository(repositoryDir)) {
+            OpenAPI oldSpec = reader.parse(repository, oldRevision, specPath);
+            OpenAPI newSpec = reader.parse(repository, newRevision, specPath);
+            return comparisonService.compareSpecifications(oldSpec, newSpec);
+        }
+    }
+
+    /**
+     * Vergleicht alle Versionen einer Spezifikation in der Historie einer Revision als Versionskette.
+     *
+     * Jede Version ist ein Commit, der den Inhalt der Datei geändert hat; ihre ID in der Kette ist
+     * {@code <commit>:<specPath>}. Jeder Blob wird höchstens einmal geparst, bei aktivem Parse-Cache
+     * auch über mehrere Aufrufe hinweg.
+     *
+     * @param repositoryDir Verzeichnis des Repositories
+     * @param specPath Pfad der Datei relativ zur Wurzel des Repositories
+     * @param revision Revision, deren Historie durchlaufen wird, z.B. {@code main}
+     * @param maxCount Maximale Anzahl der jüngsten Versionen, 0 für alle
+     * @return Ergebnisse aller Schritte und der kumulierte Vergleich
+     * @throws OasParseException wenn die Historie nicht gelesen werden kann oder weniger als zwei Versionen hat
+     */
+    public VersionChainResult compareHistory(Path repositoryDir, String specPath, String revision, int maxCount)
+            throws OasParseException {
+        try (Repository repository = reader.openRepository(repositoryDir)) {
+            List<GitSpecRevision> revisions = reader.history(repository, revision, specPath, maxCount);
+            if (revisions.size() < 2) {
+                throw new OasParseException("Weniger als zwei Versionen von " + specPath + " in " + revision);
+            }
+            log.info("Git-Historie {}: {} Versionen bis {}", specPath, revisions.size(), revision);
+
+            Map<String, String> blobIds = new HashMap<>();
+            List<String> specIds = revisions.stream()
+                    .map(rev -> {
+                        String specId = rev.commitId() + ":" + specPath;
+                        blobIds.put(specId, rev.blobId());
+                        return specId;
+                    })
+                    .toList();
+
+            // Gleiche Blobs in verschiedenen Commits teilen sich ein Parse-Ergebnis
+            return comparisonService.compareChain(specIds, blobIds::get,
+                    blobId -> reader.parseBlob(repository, blobId));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.majtom.oas.git;
+
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Liest Spezifikationen direkt aus der Objektdatenbank eines lokalen Git-Repositories.
+ *
+ * Commits, Tags und Branches werden ohne Checkout aufgelöst; das Arbeitsverzeichnis wird nie
+ * gelesen oder verändert. Geparste Modelle werden im Parse-Cache unter der Blob-ID abgelegt,
+ * unveränderte Versionen werden daher über beliebig viele Commits hinweg nur einmal gelesen.
+ * Relative externe $refs können nicht aufgelöst werden.
+ */
+@Component
+public class GitSpecReader {
+
+    private static final Logger log = LoggerFactory.getLogger(GitSpecReader.class);
+
+    private final OasParser parser;
+
+    public GitSpecReader(OasParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Öffnet ein lokales Repository. Akzeptiert das Arbeitsverzeichnis, ein Unterverzeichnis
+     * davon oder ein Bare-Repository. Der Aufrufer muss das Repository schließen.
+     *
+     * @param directory Verzeichnis des Repositories
+     * @return Geöffnetes Repository
+     * @throws OasParseException wenn kein Repository gefunden wird
+     */
+    public Repository openRepository(Path directory) throws OasParseException {
+        try {
+            FileRepositoryBuilder builder = new FileRepositoryBuilder()
+                    .findGitDir(directory.toFile())
+                    .setMustExist(true);
+            if (builder.getGitDir() == null) {
+                builder.setGitDir(directory.toFile());
+            }
+            return builder.build();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new OasParseException("Kein Git-Repository: " + directory, e);
+        }
+    }
+
+    /**
+     * Parst eine Spezifikation in der Version einer Revision.
+     *
+     * @param repository Geöffnetes Repository
+     * @param revision Commit, Tag oder Branch, z.B. {@code v1.2.0} oder {@code main~3}
+     * @param specPath Pfad der Datei relativ zur Wurzel des Repositories
+     * @return Geparste Spezifikation
+     * @throws OasParseException wenn Revision oder Datei nicht existieren oder das Parsen fehlschlägt
+     */
+    public OpenAPI parse(Repository repository, String revision, String specPath) throws OasParseException {
+        return parseBlob(repository, resolveBlob(repository, revision, specPath));
+    }
+
+    /**
+     * Parst den Inhalt eines Blobs. Der Blob wird nur gelesen, wenn er nicht im Parse-Cache liegt.
+     *
+     * @param repository Geöffnetes Repository
+     * @param blobId ID des Blobs
+     * @return Geparste Spezifikation
+     * @throws OasParseException wenn das Lesen oder Parsen fehlschlägt
+     */
+    public OpenAPI parseBlob(Repository repository, String blobId) throws OasParseException {
+        ObjectId id = ObjectId.fromString(blobId);
+        return parser.parseFromStream("git-blob:" + blobId,
+                () -> repository.open(id, Constants.OBJ_BLOB).openStream());
+    }
+
+    /**
+     * Ermittelt den Blob einer Datei in einer Revision.
+     *
+     * @param repository Geöffnetes Repository
+     * @param revision Commit, Tag oder Branch
+     * @param specPath Pfad der Datei relativ zur Wurzel des Repositories
+     * @return ID des Blobs
+     * @throws OasParseException wenn Revision oder Datei nicht existieren
+     */
+    public String resolveBlob(Repository repository, String revision, String specPath) throws OasParseException {
+        try (RevWalk walk = new RevWalk(repository)) {
+            RevCommit commit = walk.parseCommit(resolveCommit(repository, revision));
+            try (TreeWalk treeWalk = TreeWalk.forPath(repository, specPath, commit.getTree())) {
+                if (treeWalk == null) {
+                    throw new OasParseException("Datei " + specPath + " existiert nicht in " + revision);
+                }
+                return treeWalk.getObjectId(0).name();
+            }
+        } catch (IOException e) {
+            throw new OasParseException("Fehler beim Lesen von " + revision + ":" + specPath, e);
+        }
+    }
+
+    /**
+     * Liefert alle Versionen einer Datei in der Historie einer Revision, älteste zuerst.
+     *
+     * Berücksichtigt werden nur Commits, die den Inhalt der Datei ändern; Commits, in denen sie
+     * gelöscht ist, entfallen. Umbenennungen werden nicht verfolgt.
+     *
+     * @param repository Geöffnetes Repository
+     * @param revision Commit, Tag oder Branch, dessen Historie durchlaufen wird
+     * @param specPath Pfad der Datei relativ zur Wurzel des Repositories
+     * @param maxCount Maximale Anzahl der jüngsten Versionen, 0 für alle
+     * @return Versionen der Datei in zeitlicher Reihenfolge
+     * @throws OasParseException wenn die Historie nicht gelesen werden kann
+     */
+    public List<GitSpecRevision> history(Repository repository, String revision, String specPath, int maxCount)
+            throws OasParseException {
+        List<GitSpecRevision> revisions = new ArrayList<>();
+        try (Git git = Git.wrap(repository)) {
+            String previousBlob = null;
+            for (RevCommit commit : git.log().add(resolveCommit(repository, revision)).addPath(specPath).call()) {
+                String blobId;
+                try (TreeWalk treeWalk = TreeWalk.forPath(repository, specPath, commit.getTree())) {
+                    if (treeWalk == null) {
+                        continue;
+                    }
+                    blobId = treeWalk.getObjectId(0).name();
+                }
+                // Merges können denselben Inhalt mehrfach liefern
+                if (blobId.equals(previousBlob)) {
+                    continue;
+                }
+                revisions.add(new GitSpecRevision(commit.name(), blobId, commit.getShortMessage(),
+                        commit.getCommitTime()));
+                previousBlob = blobId;
+                if (maxCount > 0 && revisions.size() == maxCount) {
+                    break;
+                }
+            }
+        } catch (IOException | GitAPIException e) {
+            throw new OasParseException("Fehler beim Lesen der Historie von " + specPath, e);
+        }
+
+        Collections.reverse(revisions);
+        log.debug("{} Versionen von {} in der Historie von {}", revisions.size(), specPath, revision);
+        return revisions;
+    }
+
+    private static ObjectId resolveCommit(Repository repository, String revision)
+            throws IOException, OasParseException {
+        ObjectId commitId = repository.resolve(revision + "^{commit}");
+        if (commitId == null) {
+            throw new OasParseException("Revision nicht gefunden: " + revision);
+        }
+        return commitId;
+    }
+}
@@ -0,0 +1,12 @@
+package com.majtom.oas.git;
+
+/**
+ * Eine Version einer Spezifikation in der Git-Historie.
+ *
+ * @param commitId ID des Commits, der diese Version eingeführt hat
+ * @param blobId ID des Blobs mit dem Inhalt der Spezifikation
+ * @param shortMessage Erste Zeile der Commit-Nachricht
+ * @param commitTime Commit-Zeitpunkt in Sekunden seit 1970
+ */
+public record GitSpecRevision(String commitId, String blobId, String shortMessage, long commitTime) {
+}
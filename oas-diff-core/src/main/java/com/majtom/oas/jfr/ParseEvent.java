@@ -0,0 +1,37 @@
+package com.majtom.oas.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR-Event für das Parsen einer Spezifikation inklusive Cache-Treffern.
+ *
+ * Die Auflösung der $refs ist als {@link ReferenceResolutionEvent} innerhalb dieses
+ * Events getrennt erfasst.
+ */
+@Name("com.majtom.oas.Parse")
+@Label("OAS Parse")
+@Category({"OAS Diff", "Parser"})
+@Description("Einlesen, Auflösen und Vorbereiten einer OpenAPI-Spezifikation")
+@StackTrace(false)
+public class ParseEvent extends jdk.jfr.Event {
+
+    @Label("Quelle")
+    @Description("Dateipfad oder <content> bei String-Eingaben")
+    public String source;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Größe")
+    @Description("Größe des Quelltexts, bei String-Eingaben in Zeichen")
+    @DataAmount
+    public long size;
+
+    @Label("Aus Cache")
+    public boolean cached;
+}
@@ -0,0 +1,24 @@
+package com.majtom.oas.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR-Event für die Auflösung der $refs einer eingelesenen Spezifikation.
+ */
+@Name("com.majtom.oas.ReferenceResolution")
+@Label("OAS $ref Resolution")
+@Category({"OAS Diff", "Parser"})
+@Description("Auflösung interner und externer $refs, im Modus FULL inklusive Inline-Kopie")
+@StackTrace(false)
+public class ReferenceResolutionEvent extends jdk.jfr.Event {
+
+    @Label("Quelle")
+    public String source;
+
+    @Label("Auflösungsmodus")
+    public String resolutionMode;
+}
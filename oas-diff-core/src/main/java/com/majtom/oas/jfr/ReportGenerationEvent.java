@@ -0,0 +1,30 @@
+package com.majtom.oas.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR-Event für die Erstellung eines Berichts.
+ */
+@Name("com.majtom.oas.ReportGeneration")
+@Label("OAS Report Generation")
+@Category({"OAS Diff", "Report"})
+@Description("Erstellung eines Berichts aus einem Vergleichsergebnis")
+@StackTrace(false)
+public class ReportGenerationEvent extends jdk.jfr.Event {
+
+    @Label("Berichtsart")
+    public String reportType;
+
+    @Label("Änderungen")
+    public int changeCount;
+
+    @Label("Länge")
+    @Description("Länge des Berichts in Zeichen")
+    @DataAmount
+    public long length;
+}
@@ -0,0 +1,27 @@
+package com.majtom.oas.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR-Event für das Zusammenführen der Regelergebnisse zum Vergleichsergebnis.
+ */
+@Name("com.majtom.oas.ResultConstruction")
+@Label("OAS Result Construction")
+@Category({"OAS Diff", "Analyzer"})
+@Description("Zusammenführen der Änderungen aller Regeln zu einem ComparisonResult")
+@StackTrace(false)
+public class ResultConstructionEvent extends jdk.jfr.Event {
+
+    @Label("Alte Version")
+    public String oldVersion;
+
+    @Label("Neue Version")
+    public String newVersion;
+
+    @Label("Änderungen")
+    public int changeCount;
+}
@@ -0,0 +1,49 @@
+package com.majtom.oas.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR-Event für die Auswertung einer Regel.
+ *
+ * Regeln, die gemeinsam in einem {@code SpecTraversal} ausgewertet werden, haben keine eigene
+ * Event-Dauer; ihre Rechenzeit (Summe ihrer Callbacks) steht in {@link #evaluationTime}.
+ */
+@Name("com.majtom.oas.RuleEvaluation")
+@Label("OAS Rule Evaluation")
+@Category({"OAS Diff", "Analyzer"})
+@Description("Auswertung einer Breaking-Change-Regel")
+@StackTrace(false)
+public class RuleEvaluationEvent extends jdk.jfr.Event {
+
+    private static final EventType TYPE = EventType.getEventType(RuleEvaluationEvent.class);
+
+    @Label("Regel")
+    public String ruleName;
+
+    @Label("Änderungen")
+    public int changeCount;
+
+    @Label("Breaking Changes")
+    public int breakingChangeCount;
+
+    @Label("Rechenzeit")
+    @Description("In der Regel verbrachte Zeit, im gemeinsamen Durchlauf die Summe ihrer Callbacks")
+    @Timespan(Timespan.NANOSECONDS)
+    public long evaluationTime;
+
+    @Label("Gemeinsamer Durchlauf")
+    public boolean sharedTraversal;
+
+    /**
+     * @return true, wenn eine laufende Aufzeichnung dieses Event erfasst
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,130 @@
+package com.majtom.oas.job;
+
+import com.majtom.oas.model.ComparisonResult;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Ein asynchroner Vergleich zweier OAS-Dateien, eingereicht über den {@link ComparisonJobService}.
+ *
+ * Zustand, Zeitpunkte und Ergebnis werden von genau einem Worker geschrieben und können von
+ * beliebigen Threads gelesen werden.
+ */
+public final class ComparisonJob {
+
+    private final String id;
+    private final String oldSpecPath;
+    private final String newSpecPath;
+    private final JobPriority priority;
+    private final long sequence;
+    private final Instant submittedAt;
+    private final CompletableFuture<ComparisonJob> completion = new CompletableFuture<>();
+
+    private volatile JobState state = JobState.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile ComparisonResult result;
+    private volatile String error;
+
+    ComparisonJob(String id, String oldSpecPath, String newSpecPath, JobPriority priority, long sequence,
+                  Instant submittedAt) {
+        this.id = id;
+        this.oldSpecPath = oldSpecPath;
+        this.newSpecPath = newSpecPath;
+        this.priority = priority;
+        this.sequence = sequence;
+        this.submittedAt = submittedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOldSpecPath() {
+        return oldSpecPath;
+    }
+
+    public String getNewSpecPath() {
+        return newSpecPath;
+    }
+
+    public JobPriority getPriority() {
+        return priority;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    public JobState getState() {
+        return state;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    /**
+     * @return Startzeitpunkt oder null, solange der Job wartet
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * @return Endzeitpunkt oder null, solange der Job nicht abgeschlossen ist
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * @return Vergleichsergebnis oder null, solange der Job nicht erfolgreich abgeschlossen ist
+     */
+    public ComparisonResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return Fehlermeldung oder null, sofern der Job nicht fehlgeschlagen ist
+     */
+    public String getError() {
+        return error;
+    }
+
+    public boolean isFinished() {
+        return state.isFinished();
+    }
+
+    /**
+     * Wird abgeschlossen, sobald der Job erfolgreich oder mit Fehler endet; nie ausnahmsweise.
+     *
+     * @return Abschluss des Jobs
+     */
+    public CompletionStage<ComparisonJob> completion() {
+        return completion.minimalCompletionStage();
+    }
+
+    void markRunning(Instant now) {
+        startedAt = now;
+        state = JobState.RUNNING;
+    }
+
+    void succeed(ComparisonResult comparisonResult, Instant now) {
+        result = comparisonResult;
+        finish(JobState.SUCCEEDED, now);
+    }
+
+    void fail(String message, Instant now) {
+        error = message;
+        finish(JobState.FAILED, now);
+    }
+
+    private void finish(JobState finalState, Instant now) {
+        finishedAt = now;
+        state = finalState;
+        completion.complete(this);
+    }
+}
@@ -0,0 +1,224 @@
+package com.majtom.oas.job;
+
+import com.majtom.oas.analyzer.ComparisonKey;
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.parser.OasParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Führt Vergleiche asynchron aus.
+ *
+ * Eingereichte Jobs warten in einer nach {@link JobPriority} und Eingangsreihenfolge sortierten,
+ * begrenzten Warteschlange, bis einer der Worker frei ist. Ist die Warteschlange voll, wird ein
+ * neuer Job mit {@link QueueFullException} abgelehnt, statt Speicher und Threads zu erschöpfen.
+ * Die Worker verwenden Ergebnis-Cache und Zusammenfassung gleicher Vergleiche des
+ * {@link OasComparisonService}. Abgeschlossene Jobs bleiben bis zum Ablauf der Aufbewahrungszeit
+ * abrufbar.
+ *
+ * Konfiguration:
+ * <pre>
+ * oas.jobs.workers=2
+ * oas.jobs.queue-capacity=100
+ * oas.jobs.retention-seconds=900
+ * </pre>
+ */
+@Service
+public class ComparisonJobService implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ComparisonJobService.class);
+
+    private static final Comparator<ComparisonJob> QUEUE_ORDER = Comparator
+            .comparing(ComparisonJob::getPriority)
+            .thenComparingLong(ComparisonJob::getSequence);
+
+    private final OasComparisonService comparisonService;
+    private final int workerCount;
+    private final int queueCapacity;
+    private final Duration retention;
+    private final Clock clock;
+    private final PriorityBlockingQueue<ComparisonJob> queue = new PriorityBlockingQueue<>(16, QUEUE_ORDER);
+    private final Map<String, ComparisonJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+    private final List<Thread> workers = new ArrayList<>();
+
+    /** Gleitender Mittelwert der Jobdauer für die Schätzung von Retry-After. */
+    private volatile long averageJobMillis = 1000;
+    private volatile boolean closed;
+
+    @Autowired
+    public ComparisonJobService(OasComparisonService comparisonService,
+                                @Value("${oas.jobs.workers:2}") int workerCount,
+                                @Value("${oas.jobs.queue-capacity:100}") int queueCapacity,
+                                @Value("${oas.jobs.retention-seconds:900}") long retentionSeconds) {
+        this(comparisonService, workerCount, queueCapacity, Duration.ofSeconds(retentionSeconds),
+                Clock.systemUTC());
+    }
+
+    ComparisonJobService(OasComparisonService comparisonService, int workerCount, int queueCapacity,
+                         Duration retention, Clock clock) {
+        this.comparisonService = comparisonService;
+        this.workerCount = Math.max(1, workerCount);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.retention = retention;
+        this.clock = clock;
+        for (int i = 0; i < this.workerCount; i++) {
+            Thread worker = Thread.ofPlatform().name("oas-job-" + i).daemon().unstarted(this::work);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("ComparisonJobService initialisiert (Worker: {}, Warteschlange: {}, Aufbewahrung: {} s)",
+                this.workerCount, this.queueCapacity, retention.toSeconds());
+    }
+
+    /**
+     * Reiht einen Vergleich ein. Fehlende Dateien werden sofort gemeldet, alle weiteren Fehler
+     * am Job.
+     *
+     * @param oldSpecPath Pfad zur alten OAS-Datei
+     * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @param priority Priorität des Jobs
+     * @return Eingereihter Job
+     * @throws OasParseException wenn eine Datei nicht existiert
+     * @throws QueueFullException wenn die Warteschlange voll ist
+     */
+    public ComparisonJob submit(String oldSpecPath, String newSpecPath, JobPriority priority)
+            throws OasParseException, QueueFullException {
+        requireFile(oldSpecPath);
+        requireFile(newSpecPath);
+        purgeExpired();
+
+        ComparisonJob job;
+        // Nur das Einreihen ist synchronisiert; Worker entnehmen parallel und verkleinern die Schlange nur
+        synchronized (queue) {
+            if (closed) {
+                throw new IllegalStateException("ComparisonJobService ist beendet");
+            }
+            if (queue.size() >= queueCapacity) {
+                long retryAfter = estimateRetryAfterSeconds();
+                log.warn("Job abgelehnt, Warteschlange voll ({} Jobs), Retry-After {} s", queue.size(), retryAfter);
+                throw new QueueFullException("Warteschlange voll (" + queueCapacity + " Jobs)", retryAfter);
+            }
+            job = new ComparisonJob(UUID.randomUUID().toString(), oldSpecPath, newSpecPath, priority,
+                    sequence.incrementAndGet(), clock.instant());
+            jobs.put(job.getId(), job);
+            queue.add(job);
+        }
+        log.info("Job {} eingereiht ({}): {} -> {}", job.getId(), priority, oldSpecPath, newSpecPath);
+        return job;
+    }
+
+    /**
+     * Sucht einen noch nicht abgelaufenen Job.
+     *
+     * @param id ID des Jobs
+     * @return Job, falls vorhanden
+     */
+    public Optional<ComparisonJob> getJob(String id) {
+        purgeExpired();
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    public JobQueueStats getStats() {
+        return new JobQueueStats(queue.size(), running.get(), queueCapacity, workerCount, jobs.size());
+    }
+
+    /**
+     * Beendet alle Worker. Wartende Jobs schlagen fehl, laufende werden unterbrochen.
+     */
+    @Override
+    public void close() {
+        synchronized (queue) {
+            closed = true;
+        }
+        workers.forEach(Thread::interrupt);
+        List<ComparisonJob> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        if (!pending.isEmpty()) {
+            log.info("Beende Job-Warteschlange, {} wartende Jobs verworfen", pending.size());
+        }
+        pending.forEach(job -> job.fail("Dienst wurde beendet", clock.instant()));
+    }
+
+    private void work() {
+        while (!closed) {
+            ComparisonJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            run(job);
+        }
+    }
+
+    private void run(ComparisonJob job) {
+        running.incrementAndGet();
+        long start = System.nanoTime();
+        job.markRunning(clock.instant());
+        try {
+            ComparisonKey key = comparisonService.comparisonKey(job.getOldSpecPath(), job.getNewSpecPath());
+            job.succeed(comparisonService.compareSpecifications(key, job.getOldSpecPath(), job.getNewSpecPath()),
+                    clock.instant());
+        } catch (OasParseException e) {
+            log.warn("Job {} fehlgeschlagen: {}", job.getId(), e.getMessage());
+            job.fail(e.getMessage(), clock.instant());
+        } catch (RuntimeException e) {
+            log.error("Job {} mit unerwartetem Fehler abgebrochen", job.getId(), e);
+            job.fail("Unerwarteter Fehler: " + e.getMessage(), clock.instant());
+        } catch (Error e) {
+            // z.B. StackOverflowError bei tief verschachtelten Spezifikationen: Der Job schlägt fehl,
+            // der Worker arbeitet weiter, damit die Zahl der Worker nicht schrumpft
+            log.error("Job {} mit schwerem Fehler abgebrochen", job.getId(), e);
+            job.fail("Schwerer Fehler: " + e, clock.instant());
+        } finally {
+            running.decrementAndGet();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            averageJobMillis = (averageJobMillis * 7 + millis) / 8;
+        }
+    }
+
+    /**
+     * Schätzt, wann die Worker die wartenden Jobs abgearbeitet haben werden.
+     */
+    private long estimateRetryAfterSeconds() {
+        double jobsPerWorker = Math.max(1, queue.size() / (double) workerCount);
+        return Math.max(1, (long) Math.ceil(jobsPerWorker * averageJobMillis / 1000.0));
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = clock.instant().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    private static void requireFile(String specPath) throws OasParseException {
+        try {
+            if (!Files.isRegularFile(Path.of(specPath))) {
+                throw new OasParseException("Datei nicht gefunden: " + specPath);
+            }
+        } catch (InvalidPathException e) {
+            throw new OasParseException("Ungültiger Pfad: " + specPath, e);
+        }
+    }
+}
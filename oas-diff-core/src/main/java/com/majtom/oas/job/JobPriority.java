@@ -0,0 +1,11 @@
+package com.majtom.oas.job;
+
+/**
+ * Priorität eines {@link ComparisonJob}s. Jobs höherer Priorität werden vor allen wartenden
+ * Jobs niedrigerer Priorität gestartet, innerhalb einer Priorität in Eingangsreihenfolge.
+ */
+public enum JobPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
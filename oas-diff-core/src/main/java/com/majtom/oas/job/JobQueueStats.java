@@ -0,0 +1,13 @@
+package com.majtom.oas.job;
+
+/**
+ * Momentaufnahme der Job-Warteschlange.
+ *
+ * @param queued Anzahl wartender Jobs
+ * @param running Anzahl laufender Jobs
+ * @param queueCapacity Maximale Anzahl wartender Jobs
+ * @param workers Anzahl der Worker
+ * @param retainedJobs Anzahl aller noch abrufbaren Jobs, einschließlich abgeschlossener
+ */
+public record JobQueueStats(int queued, int running, int queueCapacity, int workers, int retainedJobs) {
+}
@@ -0,0 +1,19 @@
+package com.majtom.oas.job;
+
+/**
+ * Zustand eines {@link ComparisonJob}s.
+ */
+public enum JobState {
+    /** Wartet in der Warteschlange. */
+    QUEUED,
+    /** Wird von einem Worker ausgeführt. */
+    RUNNING,
+    /** Abgeschlossen, das Ergebnis liegt vor. */
+    SUCCEEDED,
+    /** Abgebrochen mit Fehlermeldung. */
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,23 @@
+package com.majtom.oas.job;
+
+/**
+ * Wird geworfen, wenn die Job-Warteschlange voll ist und ein neuer Job abgelehnt wird.
+ */
+public class QueueFullException extends Exception {
+
+    private final long retryAfterSeconds;
+
+    public QueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Geschätzte Wartezeit, nach der wieder Platz in der Warteschlange sein sollte.
+     *
+     * @return Sekunden, mindestens 1
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,171 @@
+package com.majtom.oas.metrics;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeSeverity;
+import com.majtom.oas.parser.SpecificationFormat;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.sink.CountingChangeSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer-Metriken für Regelauswertung und Parsen.
+ *
+ * <ul>
+ *   <li>{@value #RULE_DURATION}: Laufzeit pro Regelauswertung, Tag {@code rule}</li>
+ *   <li>{@value #RULE_CHANGES}: gemeldete Änderungen, Tags {@code rule} und {@code severity}</li>
+ *   <li>{@value #PARSE_DURATION}: Parse-Dauer als Histogramm, Tag {@code format}</li>
+ *   <li>{@value #SPEC_SIZE}: Größe geparster Spezifikationen in Bytes als Histogramm, Tag {@code format}</li>
+ * </ul>
+ *
+ * Ist keine {@link MeterRegistry} vorhanden (z.B. ohne Actuator), werden keine Messungen
+ * durchgeführt; Aufrufer prüfen {@link #isEnabled()}, bevor sie Zeiten messen.
+ */
+@Component
+public class OasMetrics {
+
+    public static final String RULE_DURATION = "oas.rule.duration";
+    public static final String RULE_CHANGES = "oas.rule.changes";
+    public static final String PARSE_DURATION = "oas.parse.duration";
+    public static final String SPEC_SIZE = "oas.spec.size";
+
+    private static final ChangeSeverity[] SEVERITIES = ChangeSeverity.values();
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> ruleTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter[]> changeCounters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public OasMetrics(ObjectProvider<MeterRegistry> registryProvider) {
+        this(registryProvider.getIfAvailable());
+    }
+
+    /**
+     * @param registry Ziel-Registry, oder null für deaktivierte Metriken
+     */
+    public OasMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Erstellt eine Instanz ohne Registry, die nichts aufzeichnet.
+     *
+     * @return Deaktivierte Metriken
+     */
+    public static OasMetrics disabled() {
+        return new OasMetrics((MeterRegistry) null);
+    }
+
+    public boolean isEnabled() {
+        return registry != null;
+    }
+
+    /**
+     * Zeichnet eine Regelauswertung auf.
+     *
+     * @param rule Ausgewertete Regel
+     * @param nanos Laufzeit in Nanosekunden
+     * @param changes Von der Regel gemeldete Änderungen
+     */
+    public void recordRule(BreakingChangeRule rule, long nanos, List<ApiChange> changes) {
+        if (registry == null) {
+            return;
+        }
+
+        int[] counts = new int[SEVERITIES.length];
+        for (ApiChange change : changes) {
+            if (change.getSeverity() != null) {
+                counts[change.getSeverity().ordinal()]++;
+            }
+        }
+        record(rule.getRuleName(), nanos, counts);
+    }
+
+    /**
+     * Zeichnet eine Regelauswertung auf, deren Änderungen nur gezählt wurden.
+     *
+     * @param rule Ausgewertete Regel
+     * @param nanos Laufzeit in Nanosekunden
+     * @param counts Gezählte Änderungen der Regel
+     */
+    public void recordRule(BreakingChangeRule rule, long nanos, CountingChangeSink counts) {
+        if (registry == null) {
+            return;
+        }
+
+        int[] severityCounts = new int[SEVERITIES.length];
+        for (ChangeSeverity severity : SEVERITIES) {
+            severityCounts[severity.ordinal()] = counts.getCount(severity);
+        }
+        record(rule.getRuleName(), nanos, severityCounts);
+    }
+
+    private void record(String ruleName, long nanos, int[] counts) {
+        ruleTimers.computeIfAbsent(ruleName, name -> Timer.builder(RULE_DURATION)
+                        .description("Laufzeit einer Regelauswertung")
+                        .tag("rule", name)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        Counter[] counters = null;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                if (counters == null) {
+                    counters = changeCounters.computeIfAbsent(ruleName, name -> new Counter[SEVERITIES.length]);
+                }
+                if (counters[i] == null) {
+                    counters[i] = Counter.builder(RULE_CHANGES)
+                            .description("Von einer Regel gemeldete Änderungen")
+                            .tag("rule", ruleName)
+                            .tag("severity", SEVERITIES[i].name())
+                            .register(registry);
+                }
+                counters[i].increment(counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Zeichnet das Parsen einer Spezifikation auf. Cache-Treffer werden nicht erfasst.
+     *
+     * @param format Erkanntes Format
+     * @param nanos Dauer von Parsen und Auflösung in Nanosekunden
+     * @param sizeBytes Größe des Quelltexts in Bytes
+     */
+    public void recordParse(SpecificationFormat format, long nanos, long sizeBytes) {
+        if (registry == null) {
+            return;
+        }
+
+        String formatTag = format != null ? format.name() : "UNKNOWN";
+        Timer.builder(PARSE_DURATION)
+                .description("Dauer von Parsen und Auflösen einer Spezifikation")
+                .tag("format", formatTag)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(2))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder(SPEC_SIZE)
+                .description("Größe geparster Spezifikationen")
+                .baseUnit("bytes")
+                .tag("format", formatTag)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1024.0)
+                .maximumExpectedValue(512.0 * 1024 * 1024)
+                .register(registry)
+                .record(sizeBytes);
+    }
+}
@@ -2,11 +2,22 @@ package com.majtom.oas.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Fasst alle Änderungen zwischen zwei OAS-Versionen zusammen.
+ *
+ * Zähler pro Severity und Änderungstyp, die Aufteilung in Breaking- und Nicht-Breaking-Changes
+ * sowie die Gruppierung nach Pfad werden einmalig bei der Erstellung berechnet. Alle Sichten
+ * behalten die Reihenfolge von {@link #getChanges()} bei; Pfade erscheinen in der Reihenfolge
+ * ihrer ersten Änderung.
+ *
+ * Ein Ergebnis lässt sich auch aus {@link ChangeSet}s zusammensetzen, deren Sichten bereits
+ * berechnet sind. Die Änderungen werden dabei nicht kopiert; die Listen des Ergebnisses sind
+ * Sichten über die Teillisten der Änderungsmengen.
  */
 public class ComparisonResult {
 
@@ -15,11 +26,92 @@ public class ComparisonResult {
     private final List<ApiChange> changes;
     private final long timestamp;
 
+    private final List<ApiChange> breakingChanges;
+    private final List<ApiChange> nonBreakingChanges;
+    private final Map<ChangeSeverity, Integer> severityCounts;
+    private final Map<ChangeType, Integer> typeCounts;
+    private final Map<String, List<ApiChange>> changesByPath;
+
     public ComparisonResult(String oldVersion, String newVersion, List<ApiChange> changes) {
+        this(oldVersion, newVersion, new ArrayList<>(changes), System.currentTimeMillis());
+    }
+
+    private ComparisonResult(String oldVersion, String newVersion, ArrayList<ApiChange> changes, long timestamp) {
+        this(oldVersion, newVersion, new ChangeSet(changes), timestamp);
+    }
+
+    private ComparisonResult(String oldVersion, String newVersion, ChangeSet set, long timestamp) {
         this.oldVersion = oldVersion;
         this.newVersion = newVersion;
-        this.changes = new ArrayList<>(changes);
-        this.timestamp = System.currentTimeMillis();
+        this.timestamp = timestamp;
+        this.changes = set.changes;
+        this.breakingChanges = set.breakingChanges;
+        this.nonBreakingChanges = set.nonBreakingChanges;
+        this.severityCounts = set.severityCounts;
+        this.typeCounts = set.typeCounts;
+        this.changesByPath = set.changesByPath;
+    }
+
+    private ComparisonResult(String oldVersion, String newVersion, List<ChangeSet> sets, long timestamp) {
+        this.oldVersion = oldVersion;
+        this.newVersion = newVersion;
+        this.timestamp = timestamp;
+
+        List<List<ApiChange>> all = new ArrayList<>(sets.size());
+        List<List<ApiChange>> breaking = new ArrayList<>(sets.size());
+        List<List<ApiChange>> nonBreaking = new ArrayList<>(sets.size());
+        Map<ChangeSeverity, Integer> bySeverity = new EnumMap<>(ChangeSeverity.class);
+        Map<ChangeType, Integer> byType = new EnumMap<>(ChangeType.class);
+        Map<String, List<List<ApiChange>>> byPath = new LinkedHashMap<>();
+
+        for (ChangeSet set : sets) {
+            if (set.changes.isEmpty()) {
+                continue;
+            }
+            all.add(set.changes);
+            breaking.add(set.breakingChanges);
+            nonBreaking.add(set.nonBreakingChanges);
+            set.severityCounts.forEach((severity, count) -> bySeverity.merge(severity, count, Integer::sum));
+            set.typeCounts.forEach((type, count) -> byType.merge(type, count, Integer::sum));
+            set.changesByPath.forEach((path, pathChanges) ->
+                    byPath.computeIfAbsent(path, key -> new ArrayList<>(1)).add(pathChanges));
+        }
+
+        Map<String, List<ApiChange>> grouped = new LinkedHashMap<>();
+        byPath.forEach((path, parts) -> grouped.put(path, ConcatenatedList.of(parts)));
+
+        this.changes = ConcatenatedList.of(all);
+        this.breakingChanges = ConcatenatedList.of(breaking);
+        this.nonBreakingChanges = ConcatenatedList.of(nonBreaking);
+        this.severityCounts = Collections.unmodifiableMap(bySeverity);
+        this.typeCounts = Collections.unmodifiableMap(byType);
+        this.changesByPath = Collections.unmodifiableMap(grouped);
+    }
+
+    /**
+     * Erstellt ein Ergebnis, das die übergebene Liste übernimmt statt sie zu kopieren.
+     * Der Aufrufer darf die Liste danach nicht mehr verändern.
+     *
+     * @param oldVersion Version der alten Spezifikation
+     * @param newVersion Version der neuen Spezifikation
+     * @param changes Gesammelte Änderungen
+     * @return Vergleichsergebnis
+     */
+    public static ComparisonResult ofCollected(String oldVersion, String newVersion, ArrayList<ApiChange> changes) {
+        return new ComparisonResult(oldVersion, newVersion, changes, System.currentTimeMillis());
+    }
+
+    /**
+     * Setzt ein Ergebnis aus Änderungsmengen zusammen, ohne die Änderungen zu kopieren oder neu
+     * zu gruppieren. Die Reihenfolge der Änderungen folgt der Reihenfolge der Mengen.
+     *
+     * @param oldVersion Version der alten Spezifikation
+     * @param newVersion Version der neuen Spezifikation
+     * @param sets Änderungsmengen in Ergebnisreihenfolge
+     * @return Vergleichsergebnis
+     */
+    public static ComparisonResult ofChangeSets(String oldVersion, String newVersion, List<ChangeSet> sets) {
+        return new ComparisonResult(oldVersion, newVersion, sets, System.currentTimeMillis());
     }
 
     public String getOldVersion() {
@@ -31,23 +123,19 @@ public class ComparisonResult {
     }
 
     public List<ApiChange> getChanges() {
-        return Collections.unmodifiableList(changes);
+        return changes;
     }
 
     public List<ApiChange> getBreakingChanges() {
-        return changes.stream()
-                .filter(ApiChange::isBreakingChange)
-                .collect(Collectors.toList());
+        return breakingChanges;
     }
 
     public List<ApiChange> getNonBreakingChanges() {
-        return changes.stream()
-                .filter(change -> !change.isBreakingChange())
-                .collect(Collectors.toList());
+        return nonBreakingChanges;
     }
 
     public boolean hasBreakingChanges() {
-        return changes.stream().anyMatch(ApiChange::isBreakingChange);
+        return !breakingChanges.isEmpty();
     }
 
     public int getTotalChangesCount() {
@@ -55,7 +143,54 @@ public class ComparisonResult {
     }
 
     public int getBreakingChangesCount() {
-        return (int) changes.stream().filter(ApiChange::isBreakingChange).count();
+        return breakingChanges.size();
+    }
+
+    /**
+     * @param severity Severity
+     * @return Anzahl der Änderungen mit dieser Severity
+     */
+    public int getChangesCount(ChangeSeverity severity) {
+        return severityCounts.getOrDefault(severity, 0);
+    }
+
+    /**
+     * @param type Änderungstyp
+     * @return Anzahl der Änderungen dieses Typs
+     */
+    public int getChangesCount(ChangeType type) {
+        return typeCounts.getOrDefault(type, 0);
+    }
+
+    /**
+     * @return Anzahl pro Severity, nur Severities mit mindestens einer Änderung
+     */
+    public Map<ChangeSeverity, Integer> getSeverityCounts() {
+        return severityCounts;
+    }
+
+    /**
+     * @return Anzahl pro Änderungstyp, nur Typen mit mindestens einer Änderung
+     */
+    public Map<ChangeType, Integer> getTypeCounts() {
+        return typeCounts;
+    }
+
+    /**
+     * Gibt alle Änderungen gruppiert nach Pfad zurück.
+     *
+     * @return Änderungen pro Pfad, Pfade in der Reihenfolge ihrer ersten Änderung
+     */
+    public Map<String, List<ApiChange>> getChangesByPath() {
+        return changesByPath;
+    }
+
+    /**
+     * @param path Pfad, wie in {@link ApiChange#getPath()}
+     * @return Änderungen an diesem Pfad, oder eine leere Liste
+     */
+    public List<ApiChange> getChangesForPath(String path) {
+        return changesByPath.getOrDefault(path, List.of());
     }
 
     public long getTimestamp() {
@@ -69,8 +204,61 @@ public class ComparisonResult {
                 newVersion,
                 getTotalChangesCount(),
                 getBreakingChangesCount(),
-                getTotalChangesCount() - getBreakingChangesCount()
+                nonBreakingChanges.size()
         );
     }
-}
 
+    /**
+     * Unveränderliche Menge von Änderungen mit vorberechneten Sichten, aus der sich Ergebnisse
+     * über {@link #ofChangeSets(String, String, List)} zusammensetzen lassen. Wird ein Teil eines
+     * Vergleichs neu ausgewertet, genügt es, seine Menge zu ersetzen.
+     */
+    public static final class ChangeSet {
+
+        /** Leere Menge. */
+        public static final ChangeSet EMPTY = new ChangeSet(new ArrayList<>());
+
+        private final List<ApiChange> changes;
+        private final List<ApiChange> breakingChanges;
+        private final List<ApiChange> nonBreakingChanges;
+        private final Map<ChangeSeverity, Integer> severityCounts;
+        private final Map<ChangeType, Integer> typeCounts;
+        private final Map<String, List<ApiChange>> changesByPath;
+
+        private ChangeSet(ArrayList<ApiChange> changes) {
+            this.changes = Collections.unmodifiableList(changes);
+
+            List<ApiChange> breaking = new ArrayList<>();
+            List<ApiChange> nonBreaking = new ArrayList<>();
+            Map<ChangeSeverity, Integer> bySeverity = new EnumMap<>(ChangeSeverity.class);
+            Map<ChangeType, Integer> byType = new EnumMap<>(ChangeType.class);
+            Map<String, List<ApiChange>> byPath = new LinkedHashMap<>();
+
+            for (ApiChange change : changes) {
+                (change.isBreakingChange() ? breaking : nonBreaking).add(change);
+                bySeverity.merge(change.getSeverity(), 1, Integer::sum);
+                byType.merge(change.getType(), 1, Integer::sum);
+                byPath.computeIfAbsent(change.getPath(), path -> new ArrayList<>(2)).add(change);
+            }
+            byPath.replaceAll((path, pathChanges) -> Collections.unmodifiableList(pathChanges));
+
+            this.breakingChanges = Collections.unmodifiableList(breaking);
+            this.nonBreakingChanges = Collections.unmodifiableList(nonBreaking);
+            this.severityCounts = Collections.unmodifiableMap(bySeverity);
+            this.typeCounts = Collections.unmodifiableMap(byType);
+            this.changesByPath = Collections.unmodifiableMap(byPath);
+        }
+
+        /**
+         * @param changes Änderungen; die Liste wird kopiert
+         * @return Änderungsmenge mit berechneten Sichten
+         */
+        public static ChangeSet of(List<ApiChange> changes) {
+            return changes.isEmpty() ? EMPTY : new ChangeSet(new ArrayList<>(changes));
+        }
+
+        public List<ApiChange> getChanges() {
+            return changes;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.majtom.oas.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Unveränderliche Sicht auf mehrere aneinandergehängte Listen, ohne deren Elemente zu kopieren.
+ * Die Teillisten dürfen danach nicht mehr verändert werden.
+ *
+ * @param <E> Elementtyp
+ */
+final class ConcatenatedList<E> extends AbstractList<E> {
+
+    private final List<List<E>> parts;
+    /** Index des ersten Elements jeder Teilliste. */
+    private final int[] offsets;
+    private final int size;
+
+    private ConcatenatedList(List<List<E>> parts, int[] offsets, int size) {
+        this.parts = parts;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    /**
+     * @param parts Teillisten in Reihenfolge
+     * @return Sicht auf alle Elemente; bei höchstens einer Teilliste diese selbst, unveränderlich
+     */
+    static <E> List<E> of(List<List<E>> parts) {
+        if (parts.isEmpty()) {
+            return List.of();
+        }
+        if (parts.size() == 1) {
+            return Collections.unmodifiableList(parts.get(0));
+        }
+        List<List<E>> copy = List.copyOf(parts);
+        int[] offsets = new int[copy.size()];
+        int size = 0;
+        for (int i = 0; i < copy.size(); i++) {
+            offsets[i] = size;
+            size += copy.get(i).size();
+        }
+        return new ConcatenatedList<>(copy, offsets, size);
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " außerhalb von 0.." + size);
+        }
+        int part = Arrays.binarySearch(offsets, index);
+        if (part < 0) {
+            part = -part - 2;
+        } else {
+            // Leere Teillisten teilen sich den Offset mit ihrer Nachfolgerin
+            while (parts.get(part).isEmpty()) {
+                part++;
+            }
+        }
+        return parts.get(part).get(index - offsets[part]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int part;
+            private Iterator<E> current = parts.get(0).iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && part < parts.size() - 1) {
+                    current = parts.get(++part).iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+}
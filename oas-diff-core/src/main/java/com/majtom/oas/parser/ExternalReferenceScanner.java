@@ -0,0 +1,120 @@
+package com.majtom.oas.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.swagger.v3.parser.ObjectMapperFactory;
+import io.swagger.v3.parser.util.DeserializationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Ermittelt die Dateien, aus denen eine Spezifikation besteht: die Datei selbst und alle
+ * über relative {@code $ref}s erreichbaren Dateien, transitiv.
+ *
+ * Die Dateien werden nur gestreamt, nicht geparst. Referenzen auf URLs werden ignoriert;
+ * nicht vorhandene oder nicht lesbare Dateien gehören trotzdem zum Ergebnis, damit ihr
+ * Anlegen bzw. ihre Korrektur bemerkt wird.
+ *
+ * Verwendet vom Watch-Modus und von {@link OasParser#contentKey(String)}.
+ */
+public final class ExternalReferenceScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(ExternalReferenceScanner.class);
+
+    private static final JsonFactory JSON_FACTORY = ObjectMapperFactory.createJson().getFactory();
+    private static final JsonFactory YAML_FACTORY = DeserializationUtils.getYaml30Mapper().getFactory();
+
+    private ExternalReferenceScanner() {
+    }
+
+    /**
+     * @param spec Absoluter, normalisierter Pfad der Spezifikation
+     * @return Spezifikation und referenzierte Dateien, Spezifikation zuerst
+     */
+    public static Set<Path> scan(Path spec) {
+        return scan(spec, ExternalReferenceScanner::references);
+    }
+
+    /**
+     * @param spec Absoluter, normalisierter Pfad der Spezifikation
+     * @param lookup Liefert die direkten Referenzen einer Datei, z.B. gecacht
+     * @return Spezifikation und referenzierte Dateien, Spezifikation zuerst
+     */
+    static Set<Path> scan(Path spec, ReferenceLookup lookup) {
+        Set<Path> files = new LinkedHashSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        files.add(spec);
+        pending.add(spec);
+
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            try {
+                for (Path referenced : lookup.references(file)) {
+                    if (files.add(referenced)) {
+                        pending.add(referenced);
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("Referenzen in {} nicht lesbar: {}", file, e.getMessage());
+            }
+        }
+        return files;
+    }
+
+    /**
+     * @param file Zu lesende Datei
+     * @return Direkt über relative {@code $ref}s referenzierte Dateien
+     * @throws IOException wenn die Datei nicht lesbar ist
+     */
+    static Set<Path> references(Path file) throws IOException {
+        Set<Path> references = new LinkedHashSet<>();
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        JsonFactory factory = name.endsWith(".json") ? JSON_FACTORY : YAML_FACTORY;
+
+        try (InputStream in = Files.newInputStream(file);
+             JsonParser json = factory.createParser(in)) {
+            JsonToken token;
+            while ((token = json.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && "$ref".equals(json.currentName())
+                        && json.nextToken() == JsonToken.VALUE_STRING) {
+                    Path referenced = resolve(file, json.getText());
+                    if (referenced != null) {
+                        references.add(referenced);
+                    }
+                }
+            }
+        }
+        return references;
+    }
+
+    private static Path resolve(Path file, String ref) {
+        int fragment = ref.indexOf('#');
+        String location = fragment >= 0 ? ref.substring(0, fragment) : ref;
+        if (location.isEmpty() || location.contains(":/")) {
+            // Lokale Referenz oder URL
+            return null;
+        }
+        try {
+            return file.resolveSibling(location).normalize();
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface ReferenceLookup {
+        Set<Path> references(Path file) throws IOException;
+    }
+}
@@ -4,6 +4,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * Service zur Erkennung des Dateiformats (YAML oder JSON) von OAS-Spezifikationen.
  */
@@ -12,6 +15,9 @@ public class FormatDetector {
 
     private static final Logger log = LoggerFactory.getLogger(FormatDetector.class);
 
+    /** Höchstens so viele führende Bytes werden bei der Erkennung aus Streams gelesen. */
+    private static final int STREAM_PEEK_LIMIT = 4096;
+
     /**
      * Erkennt das Format anhand der Dateiendung.
      *
@@ -71,5 +77,43 @@ public class FormatDetector {
         log.warn("Format konnte nicht anhand Content erkannt werden");
         return SpecificationFormat.UNKNOWN;
     }
+
+    /**
+     * Erkennt das Format anhand des ersten Zeichens eines Streams, ohne es zu verbrauchen.
+     * Führende Leerzeichen, Zeilenumbrüche und ein UTF-8-BOM werden übersprungen.
+     *
+     * @param in Stream mit {@link InputStream#markSupported() mark/reset}
+     * @return JSON bei '{', YAML bei einem anderen Zeichen, UNKNOWN bei leerem Stream
+     * @throws IOException wenn das Lesen fehlschlägt
+     */
+    public SpecificationFormat detectFromStream(InputStream in) throws IOException {
+        if (!in.markSupported()) {
+            throw new IllegalArgumentException("Stream muss mark/reset unterstützen");
+        }
+
+        in.mark(STREAM_PEEK_LIMIT);
+        try {
+            for (int i = 0; i < STREAM_PEEK_LIMIT; i++) {
+                int b = in.read();
+                if (b == -1) {
+                    log.warn("Leerer Stream, Format kann nicht erkannt werden");
+                    return SpecificationFormat.UNKNOWN;
+                }
+                if (Character.isWhitespace(b) || b == 0xEF || b == 0xBB || b == 0xBF) {
+                    continue;
+                }
+                if (b == '{') {
+                    log.debug("JSON-Format anhand Stream erkannt");
+                    return SpecificationFormat.JSON;
+                }
+                log.debug("YAML-Format anhand Stream erkannt");
+                return SpecificationFormat.YAML;
+            }
+            log.warn("Format konnte nicht anhand Stream erkannt werden");
+            return SpecificationFormat.UNKNOWN;
+        } finally {
+            in.reset();
+        }
+    }
 }
 
@@ -1,38 +1,130 @@
 package com.majtom.oas.parser;
 
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.majtom.oas.jfr.ParseEvent;
+import com.majtom.oas.jfr.ReferenceResolutionEvent;
+import com.majtom.oas.metrics.OasMetrics;
+import com.majtom.oas.traversal.SpecFingerprints;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.parser.ObjectMapperFactory;
+import io.swagger.v3.parser.OpenAPIResolver;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import io.swagger.v3.parser.reference.DereferencerContext;
+import io.swagger.v3.parser.reference.DereferencersFactory;
+import io.swagger.v3.parser.reference.OpenAPIDereferencer;
+import io.swagger.v3.parser.util.DeserializationUtils;
+import io.swagger.v3.parser.util.ResolverFully;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Service zum Parsen von OpenAPI Specification Dateien.
  * Unterstützt sowohl YAML als auch JSON Format.
  * Alle Vergleiche werden intern auf JSON-Basis durchgeführt.
+ *
+ * Geparste Modelle werden im {@link ParsedSpecCache} abgelegt, wiederholte Anfragen mit
+ * gleichem Inhalt sparen so das Parsen und die vollständige Auflösung.
+ *
+ * Im {@link ResolutionMode#REFERENCES}-Modus bleiben lokale Schema-Referenzen erhalten,
+ * statt jedes referenzierte Schema an jeder Verwendungsstelle zu kopieren.
+ *
+ * Dauer und Größe jedes tatsächlichen Parse-Vorgangs werden in {@link OasMetrics} erfasst.
+ * Für Java Flight Recorder werden Einlesen ({@link ParseEvent}) und Auflösung der $refs
+ * ({@link ReferenceResolutionEvent}) als getrennte Events aufgezeichnet.
  */
 @Component
 public class OasParser {
 
     private static final Logger log = LoggerFactory.getLogger(OasParser.class);
 
+    private static final String REQUEST_BODY_PREFIX = "#/components/requestBodies/";
+
+    /** Quelle in JFR-Events für Spezifikationen, die als String übergeben wurden. */
+    private static final String CONTENT_SOURCE = "<content>";
+    /** Quelle in JFR-Events für Spezifikationen aus einem Stream. */
+    private static final String STREAM_SOURCE = "<stream>";
+    /** Quelle in JFR-Events für Spezifikationen, die als JSON-Baum übergeben wurden. */
+    private static final String TREE_SOURCE = "<tree>";
+
+    /** Wie der Swagger-Parser für JSON-Inhalte konfiguriert. */
+    private static final ObjectMapper JSON_TREE_MAPPER = ObjectMapperFactory.createJson();
+
+    /** Parsen ist überwiegend I/O und Auflösung, ein virtueller Thread pro Datei genügt. */
+    private static final ExecutorService PARSE_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("oas-parse-", 0).factory());
+
     private final OpenAPIV3Parser parser;
     private final ParseOptions parseOptions;
+    /** Optionen ohne Auflösung; die $refs werden anschließend in {@link #resolveReferences} aufgelöst. */
+    private final ParseOptions readOptions;
     private final FormatDetector formatDetector;
     private final FormatConverter formatConverter;
+    private final ParsedSpecCache cache;
+    private final ResolutionMode resolutionMode;
+    private final OasMetrics metrics;
 
     public OasParser(FormatDetector formatDetector, FormatConverter formatConverter) {
+        this(formatDetector, formatConverter, ParsedSpecCache.disabled());
+    }
+
+    public OasParser(FormatDetector formatDetector, FormatConverter formatConverter, ParsedSpecCache cache) {
+        this(formatDetector, formatConverter, cache, ResolutionMode.FULL);
+    }
+
+    public OasParser(FormatDetector formatDetector, FormatConverter formatConverter, ParsedSpecCache cache,
+                     ResolutionMode resolutionMode) {
+        this(formatDetector, formatConverter, cache, resolutionMode, OasMetrics.disabled());
+    }
+
+    @Autowired
+    public OasParser(FormatDetector formatDetector, FormatConverter formatConverter, ParsedSpecCache cache,
+                     @Value("${oas.parser.resolution-mode:FULL}") ResolutionMode resolutionMode,
+                     OasMetrics metrics) {
         this.parser = new OpenAPIV3Parser();
         this.parseOptions = new ParseOptions();
         this.parseOptions.setResolve(true);
-        this.parseOptions.setResolveFully(true);
+        this.parseOptions.setResolveFully(resolutionMode == ResolutionMode.FULL);
+        this.readOptions = new ParseOptions();
+        this.readOptions.setResolve(false);
+        this.readOptions.setResolveFully(false);
         this.formatDetector = formatDetector;
         this.formatConverter = formatConverter;
+        this.cache = cache;
+        this.resolutionMode = resolutionMode;
+        this.metrics = metrics;
     }
 
     /**
@@ -44,17 +136,44 @@ public class OasParser {
      * @throws OasParseException wenn das Parsen fehlschlägt
      */
     public OpenAPI parseFromFile(String filePath) throws OasParseException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
         try {
             // Format erkennen
             SpecificationFormat format = formatDetector.detectFromFilePath(filePath);
             log.info("Parse OAS-Datei: {} (Format: {})", filePath, format);
+            event.source = filePath;
+            event.format = format.name();
 
-            if (!Files.exists(Path.of(filePath))) {
+            Path path = Path.of(filePath);
+            if (!Files.exists(path)) {
                 throw new OasParseException("Datei nicht gefunden: " + filePath);
             }
 
+            String cacheKey = null;
+            long contentLength = 0;
+            if (cache.isEnabled()) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                contentLength = attributes.size();
+                cacheKey = resolutionMode + ":" + specificationKey(path, attributes);
+                OpenAPI cached = cache.get(cacheKey);
+                if (cached != null) {
+                    log.info("OAS-Datei aus Cache geladen: {}", filePath);
+                    event.cached = true;
+                    event.size = contentLength;
+                    return cached;
+                }
+            }
+
+            if ((metrics.isEnabled() || event.isEnabled()) && contentLength == 0) {
+                contentLength = Files.size(path);
+            }
+            event.size = contentLength;
+            long start = System.nanoTime();
+
             // Swagger Parser unterstützt beide Formate nativ
-            SwaggerParseResult result = parser.readLocation(filePath, null, parseOptions);
+            SwaggerParseResult result = parser.readLocation(filePath, null, readOptions);
+            resolveReferences(result, filePath);
 
             if (result.getMessages() != null && !result.getMessages().isEmpty()) {
                 log.warn("Parse-Warnungen für {}: {}", filePath, result.getMessages());
@@ -71,13 +190,94 @@ public class OasParser {
                     openAPI.getInfo() != null ? openAPI.getInfo().getVersion() : "unbekannt",
                     format);
 
+            linkRequestBodies(openAPI);
+
+            // Fingerprints einmalig berechnen, damit unveränderte Teilbäume beim Vergleich übersprungen werden
+            SpecFingerprints.of(openAPI);
+            metrics.recordParse(format, System.nanoTime() - start, contentLength);
+
+            if (cacheKey != null) {
+                // Schlüssel und Modell stammen aus getrennten Lesevorgängen: Hat sich eine Datei
+                // dazwischen geändert, gehört das Modell nicht zum Schlüssel
+                String currentKey = resolutionMode + ":"
+                        + specificationKey(path, Files.readAttributes(path, BasicFileAttributes.class));
+                if (currentKey.equals(cacheKey)) {
+                    cache.put(cacheKey, openAPI, contentLength);
+                } else {
+                    log.info("OAS-Datei {} während des Parsens geändert, Modell wird nicht gecacht", filePath);
+                }
+            }
             return openAPI;
 
         } catch (Exception e) {
             throw new OasParseException("Fehler beim Parsen der OAS-Datei: " + filePath, e);
+        } finally {
+            event.commit();
         }
     }
 
+    /**
+     * Parst mehrere OAS-Dateien gleichzeitig.
+     *
+     * Alle Dateien werden unabhängig voneinander geparst und aufgelöst. Schlagen mehrere
+     * fehl, enthält die geworfene Exception den ersten Fehler als Ursache und alle weiteren
+     * als unterdrückte Exceptions.
+     *
+     * @param filePaths Pfade zu den OAS-Dateien
+     * @return Geparste Spezifikationen in der Reihenfolge der Pfade
+     * @throws OasParseException wenn mindestens eine Datei nicht geparst werden kann
+     */
+    public List<OpenAPI> parseFromFiles(List<String> filePaths) throws OasParseException {
+        if (filePaths.size() < 2) {
+            List<OpenAPI> specs = new ArrayList<>(filePaths.size());
+            for (String filePath : filePaths) {
+                specs.add(parseFromFile(filePath));
+            }
+            return specs;
+        }
+
+        List<Future<OpenAPI>> futures = new ArrayList<>(filePaths.size());
+        for (String filePath : filePaths) {
+            futures.add(PARSE_EXECUTOR.submit(() -> parseFromFile(filePath)));
+        }
+
+        List<OpenAPI> specs = new ArrayList<>(filePaths.size());
+        List<OasParseException> failures = new ArrayList<>();
+        for (Future<OpenAPI> future : futures) {
+            try {
+                specs.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new OasParseException("Parsen wurde unterbrochen", e);
+            } catch (ExecutionException e) {
+                failures.add(toParseException(e.getCause()));
+            }
+        }
+
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+        if (!failures.isEmpty()) {
+            OasParseException aggregated = new OasParseException(
+                    failures.size() + " von " + filePaths.size() + " OAS-Dateien konnten nicht geparst werden: "
+                            + failures.get(0).getMessage(), failures.get(0));
+            failures.stream().skip(1).forEach(aggregated::addSuppressed);
+            throw aggregated;
+        }
+        return specs;
+    }
+
+    private static OasParseException toParseException(Throwable cause) {
+        if (cause instanceof OasParseException parseException) {
+            return parseException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new OasParseException("Unerwarteter Fehler beim Parsen", cause);
+    }
+
     /**
      * Parst eine OAS-Spezifikation aus einem String (YAML oder JSON).
      * Das Format wird automatisch erkannt.
@@ -87,12 +287,30 @@ public class OasParser {
      * @throws OasParseException wenn das Parsen fehlschlägt
      */
     public OpenAPI parseFromString(String content) throws OasParseException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
         try {
             // Format aus Content erkennen
             SpecificationFormat format = formatDetector.detectFromContent(content);
             log.debug("Parse OAS aus String-Content (Format: {})", format);
+            event.source = CONTENT_SOURCE;
+            event.format = format.name();
+            event.size = content.length();
 
-            SwaggerParseResult result = parser.readContents(content, null, parseOptions);
+            String cacheKey = null;
+            if (cache.isEnabled()) {
+                cacheKey = resolutionMode + ":" + ParsedSpecCache.contentKey(content);
+                OpenAPI cached = cache.get(cacheKey);
+                if (cached != null) {
+                    log.debug("OAS-Content aus Cache geladen (Format: {})", format);
+                    event.cached = true;
+                    return cached;
+                }
+            }
+
+            long start = System.nanoTime();
+            SwaggerParseResult result = parser.readContents(content, null, readOptions);
+            resolveReferences(result, null);
 
             if (result.getMessages() != null && !result.getMessages().isEmpty()) {
                 log.warn("Parse-Warnungen: {}", result.getMessages());
@@ -104,13 +322,491 @@ public class OasParser {
             }
 
             log.debug("OAS-Content erfolgreich geparst (Format: {})", format);
+
+            linkRequestBodies(openAPI);
+            SpecFingerprints.of(openAPI);
+            // Größe in Zeichen, ohne den Inhalt für die Messung erneut zu kodieren
+            metrics.recordParse(format, System.nanoTime() - start, content.length());
+
+            if (cacheKey != null) {
+                cache.put(cacheKey, openAPI, content.length());
+            }
             return openAPI;
 
         } catch (Exception e) {
             throw new OasParseException("Fehler beim Parsen des OAS-Contents", e);
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Parst eine OAS-Spezifikation direkt aus einem Stream (YAML oder JSON, UTF-8).
+     * Das Format wird am ersten Zeichen erkannt.
+     *
+     * Der Inhalt wird ohne Zwischenkopie als String oder temporäre Datei in einen JSON-Baum
+     * gelesen; bei aktivem Cache wird er dabei gehasht. Cache-Treffer teilen sich die Schlüssel
+     * mit {@link #parseFromString(String)}. Relative externe $refs werden nicht aufgelöst.
+     * Der Stream wird vollständig gelesen, aber nicht geschlossen.
+     *
+     * @param in Stream mit der Spezifikation
+     * @return Geparste OpenAPI-Spezifikation
+     * @throws OasParseException wenn das Lesen oder Parsen fehlschlägt
+     */
+    public OpenAPI parseFromStream(InputStream in) throws OasParseException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        try {
+            BufferedInputStream buffered = new BufferedInputStream(in);
+            SpecificationFormat format = formatDetector.detectFromStream(buffered);
+            log.debug("Parse OAS aus Stream (Format: {})", format);
+            event.source = STREAM_SOURCE;
+            event.format = format.name();
+
+            MessageDigest digest = cache.isEnabled() ? ParsedSpecCache.newContentDigest() : null;
+            CountingInputStream counting = new CountingInputStream(
+                    digest != null ? new DigestInputStream(buffered, digest) : buffered);
+
+            long start = System.nanoTime();
+            JsonNode node = treeMapper(format).reader()
+                    .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                    .readTree(counting);
+            // Nachfolgende Leerzeilen gehören zum Inhalt und damit zum Cache-Schlüssel
+            counting.transferTo(OutputStream.nullOutputStream());
+            event.size = counting.getCount();
+
+            String cacheKey = null;
+            if (digest != null) {
+                cacheKey = resolutionMode + ":" + ParsedSpecCache.contentKey(digest);
+                OpenAPI cached = cache.get(cacheKey);
+                if (cached != null) {
+                    log.debug("OAS-Stream aus Cache geladen (Format: {})", format);
+                    event.cached = true;
+                    return cached;
+                }
+            }
+
+            OpenAPI openAPI = parseTree(node);
+            metrics.recordParse(format, System.nanoTime() - start, counting.getCount());
+
+            if (cacheKey != null) {
+                cache.put(cacheKey, openAPI, counting.getCount());
+            }
+            return openAPI;
+
+        } catch (Exception e) {
+            throw new OasParseException("Fehler beim Parsen des OAS-Streams", e);
+        } finally {
+            event.commit();
         }
     }
 
+    /**
+     * Parst eine OAS-Spezifikation aus einem Stream, der nur bei einem Cache-Fehlschlag geöffnet wird.
+     *
+     * Statt den Inhalt zu hashen, wird die übergebene ID als Cache-Schlüssel verwendet. Sie muss den
+     * Inhalt eindeutig bestimmen, z.B. eine Git-Blob-ID ({@code git-blob:<sha1>}); gleiche Inhalte
+     * mit unterschiedlichen IDs werden getrennt gecacht. Der Stream wird nach dem Lesen geschlossen.
+     *
+     * @param contentId Eindeutige ID des Inhalts
+     * @param source Öffnet den Stream mit der Spezifikation
+     * @return Geparste OpenAPI-Spezifikation
+     * @throws OasParseException wenn das Lesen oder Parsen fehlschlägt
+     */
+    public OpenAPI parseFromStream(String contentId, StreamSource source) throws OasParseException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        event.source = contentId;
+        try {
+            String cacheKey = resolutionMode + ":id:" + contentId;
+            if (cache.isEnabled()) {
+                OpenAPI cached = cache.get(cacheKey);
+                if (cached != null) {
+                    log.debug("OAS {} aus Cache geladen", contentId);
+                    event.cached = true;
+                    return cached;
+                }
+            }
+
+            try (InputStream in = source.open()) {
+                BufferedInputStream buffered = new BufferedInputStream(in);
+                SpecificationFormat format = formatDetector.detectFromStream(buffered);
+                log.debug("Parse OAS {} (Format: {})", contentId, format);
+                event.format = format.name();
+
+                CountingInputStream counting = new CountingInputStream(buffered);
+                long start = System.nanoTime();
+                JsonNode node = treeMapper(format).reader()
+                        .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                        .readTree(counting);
+                event.size = counting.getCount();
+
+                OpenAPI openAPI = parseTree(node);
+                metrics.recordParse(format, System.nanoTime() - start, counting.getCount());
+
+                if (cache.isEnabled()) {
+                    cache.put(cacheKey, openAPI, counting.getCount());
+                }
+                return openAPI;
+            }
+
+        } catch (Exception e) {
+            throw new OasParseException("Fehler beim Parsen von " + contentId, e);
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Öffnet den Stream einer Spezifikation erst bei Bedarf.
+     */
+    @FunctionalInterface
+    public interface StreamSource {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Parst mehrere aufeinanderfolgende Spezifikationen aus einem Stream: YAML-Dokumente
+     * getrennt durch {@code ---} oder aneinandergereihte JSON-Objekte.
+     *
+     * Die Dokumente werden nacheinander gelesen und geparst, ohne den Parse-Cache.
+     * Der Stream wird nicht geschlossen.
+     *
+     * @param in Stream mit den Spezifikationen
+     * @return Geparste Spezifikationen in Stream-Reihenfolge
+     * @throws OasParseException wenn das Lesen oder Parsen eines Dokuments fehlschlägt
+     */
+    public List<OpenAPI> parseDocumentsFromStream(InputStream in) throws OasParseException {
+        List<OpenAPI> specs = new ArrayList<>();
+        try {
+            BufferedInputStream buffered = new BufferedInputStream(in);
+            SpecificationFormat format = formatDetector.detectFromStream(buffered);
+            log.debug("Parse OAS-Dokumente aus Stream (Format: {})", format);
+
+            try (MappingIterator<JsonNode> documents = treeMapper(format).readerFor(JsonNode.class)
+                    .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                    .readValues(buffered)) {
+                long offset = 0;
+                while (documents.hasNextValue()) {
+                    ParseEvent event = new ParseEvent();
+                    event.begin();
+                    try {
+                        long start = System.nanoTime();
+                        JsonNode node = documents.nextValue();
+                        // Größe näherungsweise über die Position des Parsers im Stream
+                        long end = streamOffset(documents.getParser().currentLocation());
+                        event.source = STREAM_SOURCE;
+                        event.format = format.name();
+                        event.size = Math.max(0, end - offset);
+                        specs.add(parseTree(node));
+                        metrics.recordParse(format, System.nanoTime() - start, event.size);
+                        offset = end;
+                    } finally {
+                        event.commit();
+                    }
+                }
+            }
+            return specs;
+
+        } catch (Exception e) {
+            throw new OasParseException("Fehler beim Parsen von OAS-Dokument " + (specs.size() + 1)
+                    + " im Stream", e);
+        }
+    }
+
+    private static long streamOffset(JsonLocation location) {
+        // Der YAML-Parser liefert nur Zeichen-, der JSON-Parser nur Byte-Positionen
+        return location.getByteOffset() >= 0 ? location.getByteOffset() : Math.max(0, location.getCharOffset());
+    }
+
+    /**
+     * Liest eine OAS-Spezifikation (YAML oder JSON) in einen JSON-Baum, ohne das Modell zu
+     * erstellen. Das Format wird automatisch erkannt.
+     *
+     * @param content OAS-Inhalt als String
+     * @return Wurzel des Dokuments
+     * @throws OasParseException wenn der Inhalt kein gültiges YAML bzw. JSON ist
+     */
+    public JsonNode readTree(String content) throws OasParseException {
+        SpecificationFormat format = formatDetector.detectFromContent(content);
+        try {
+            return treeMapper(format).readTree(content);
+        } catch (IOException e) {
+            throw new OasParseException("Fehler beim Lesen des OAS-Contents (Format: " + format + ")", e);
+        }
+    }
+
+    /**
+     * Erstellt das Modell aus einem JSON-Baum, z.B. aus Teilen eines mit {@link #readTree}
+     * gelesenen Dokuments. Der Baum wird nicht verändert; das Ergebnis wird nicht gecacht.
+     *
+     * @param tree Wurzel des Dokuments
+     * @return Geparste OpenAPI-Spezifikation
+     * @throws OasParseException wenn das Parsen fehlschlägt
+     */
+    public OpenAPI parseFromTree(JsonNode tree) throws OasParseException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        event.source = TREE_SOURCE;
+        event.format = SpecificationFormat.JSON.name();
+        try {
+            return parseTree(tree);
+        } catch (OasParseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new OasParseException("Fehler beim Parsen des OAS-Baums", e);
+        } finally {
+            event.commit();
+        }
+    }
+
+    private static ObjectMapper treeMapper(SpecificationFormat format) {
+        return format == SpecificationFormat.JSON ? JSON_TREE_MAPPER : DeserializationUtils.getYaml30Mapper();
+    }
+
+    /**
+     * Erstellt das Modell aus einem bereits gelesenen JSON-Baum, wie {@link #parseFromString}.
+     */
+    private OpenAPI parseTree(JsonNode node) throws Exception {
+        if (node == null || node.isMissingNode() || node.isNull()) {
+            throw new OasParseException("Leere OAS-Spezifikation");
+        }
+
+        SwaggerParseResult result = parser.parseJsonNode(null, node, readOptions);
+        resolveReferences(result, null);
+
+        if (result.getMessages() != null && !result.getMessages().isEmpty()) {
+            log.warn("Parse-Warnungen: {}", result.getMessages());
+        }
+
+        OpenAPI openAPI = result.getOpenAPI();
+        if (openAPI == null) {
+            throw new OasParseException("Konnte OAS-Content nicht parsen. Fehler: " + result.getMessages());
+        }
+
+        linkRequestBodies(openAPI);
+        SpecFingerprints.of(openAPI);
+        return openAPI;
+    }
+
+    /**
+     * Zählt die gelesenen Bytes für Metriken, JFR und das Cache-Gewicht.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * Löst die $refs eines ohne Auflösung eingelesenen Ergebnisses auf, wie es der
+     * Swagger-Parser mit {@link #parseOptions} selbst tun würde. Das Dokument wird dafür nicht
+     * erneut gelesen; OpenAPI 3.1 wird wie im Swagger-Parser über die registrierten
+     * {@link OpenAPIDereferencer} aufgelöst.
+     *
+     * @param result Ohne Auflösung eingelesenes Ergebnis, wird direkt aufgelöst
+     * @param location Dateipfad für relative externe Referenzen, oder null
+     */
+    private void resolveReferences(SwaggerParseResult result, String location) {
+        OpenAPI openAPI = result.getOpenAPI();
+        if (openAPI == null) {
+            return;
+        }
+
+        ReferenceResolutionEvent event = new ReferenceResolutionEvent();
+        event.begin();
+        try {
+            if (openAPI.getOpenapi() != null && openAPI.getOpenapi().startsWith("3.1")) {
+                if (StringUtils.isBlank(System.getenv(OpenAPIV3Parser.DISABLE_OAS31_RESOLVE))) {
+                    DereferencerContext context = new DereferencerContext(result, new ArrayList<>(), location,
+                            parseOptions, null, null, true);
+                    List<OpenAPIDereferencer> dereferencers = DereferencersFactory.getInstance().getDereferencers();
+                    if (!dereferencers.isEmpty()) {
+                        dereferencers.get(0).dereference(context, dereferencers.iterator());
+                    }
+                }
+            } else {
+                new OpenAPIResolver(openAPI, new ArrayList<>(), location, null, parseOptions).resolve(result);
+            }
+            if (parseOptions.isResolveFully()) {
+                new ResolverFully(parseOptions.isResolveCombinators()).resolveFully(result.getOpenAPI());
+            }
+        } catch (Exception e) {
+            // Verhalten des Swagger-Parsers: Fehler der Auflösung sind Parse-Warnungen
+            log.warn("Fehler beim Auflösen der Referenzen: {}", e.getMessage());
+            if (result.getMessages() == null) {
+                result.setMessages(new ArrayList<>());
+            }
+            result.getMessages().add(e.getMessage());
+        } finally {
+            event.source = location != null ? location : CONTENT_SOURCE;
+            event.resolutionMode = resolutionMode.name();
+            event.commit();
+        }
+    }
+
+    /**
+     * Ersetzt Referenzen auf {@code #/components/requestBodies} durch das referenzierte Objekt.
+     * Der Swagger-Parser löst diese ohne {@code resolveFully} nicht auf; die Instanz wird
+     * geteilt, nicht kopiert.
+     */
+    private void linkRequestBodies(OpenAPI openAPI) {
+        if (resolutionMode != ResolutionMode.REFERENCES || openAPI.getPaths() == null
+                || openAPI.getComponents() == null || openAPI.getComponents().getRequestBodies() == null) {
+            return;
+        }
+
+        Map<String, RequestBody> requestBodies = openAPI.getComponents().getRequestBodies();
+        for (PathItem pathItem : openAPI.getPaths().values()) {
+            for (Operation operation : pathItem.readOperations()) {
+                RequestBody requestBody = operation.getRequestBody();
+                if (requestBody != null && requestBody.get$ref() != null
+                        && requestBody.get$ref().startsWith(REQUEST_BODY_PREFIX)) {
+                    RequestBody target = requestBodies.get(requestBody.get$ref().substring(REQUEST_BODY_PREFIX.length()));
+                    if (target != null) {
+                        operation.setRequestBody(target);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Entfernt das gecachte Modell einer Datei, damit der nächste Aufruf von
+     * {@link #parseFromFile(String)} sie neu parst. Änderungen an der Datei oder an extern
+     * referenzierten Dateien ändern den Cache-Schlüssel ohnehin.
+     *
+     * @param filePath Pfad zur OAS-Datei
+     */
+    public void evictFile(String filePath) {
+        if (!cache.isEnabled()) {
+            return;
+        }
+        Path path = Path.of(filePath);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            cache.remove(resolutionMode + ":" + specificationKey(path, attributes));
+        } catch (IOException e) {
+            // Nicht lesbare Dateien können auch nicht aus dem Cache geliefert werden
+            log.debug("Cache-Eintrag für {} nicht ermittelbar: {}", filePath, e.getMessage());
+        }
+    }
+
+    /**
+     * Berechnet den Inhalts-Schlüssel einer Datei wie der Parse-Cache, ohne sie zu parsen.
+     * Über relative {@code $ref}s erreichbare Dateien fließen mit ihrem Inhalt ein, fehlende
+     * mit ihrem Pfad. Solange Änderungszeitpunkt und Größe einer Datei unverändert sind, wird
+     * sie nicht erneut gelesen.
+     *
+     * @param filePath Pfad zur OAS-Datei
+     * @return Hash des Inhalts, ergänzt um das Verzeichnis bzw. um die referenzierten Dateien
+     * @throws OasParseException wenn die Datei fehlt oder nicht lesbar ist
+     */
+    public String contentKey(String filePath) throws OasParseException {
+        try {
+            Path path = Path.of(filePath);
+            if (!Files.isRegularFile(path)) {
+                throw new OasParseException("Datei nicht gefunden: " + filePath);
+            }
+            return specificationKey(path, Files.readAttributes(path, BasicFileAttributes.class));
+        } catch (IOException | InvalidPathException e) {
+            throw new OasParseException("Fehler beim Lesen der Datei: " + filePath, e);
+        }
+    }
+
+    /**
+     * Schlüssel einer Spezifikation samt aller extern referenzierten Dateien. Ohne externe
+     * Referenzen ist das der Schlüssel der Datei selbst.
+     */
+    private String specificationKey(Path path, BasicFileAttributes attributes) throws IOException {
+        Path spec = path.toAbsolutePath().normalize();
+        String key = fileKey(spec, attributes);
+        Set<Path> files = ExternalReferenceScanner.scan(spec, this::references);
+        if (files.size() == 1) {
+            return key;
+        }
+
+        StringBuilder combined = new StringBuilder(key);
+        for (Path file : files) {
+            if (!file.equals(spec)) {
+                combined.append('\n').append(file).append('=').append(referencedFileKey(file));
+            }
+        }
+        return ParsedSpecCache.contentKey(combined.toString());
+    }
+
+    private Set<Path> references(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        // Legt den Stempel an, an dem die Referenzen gemerkt werden
+        fileKey(file, attributes);
+        Set<Path> references = cache.lookupFileReferences(file, lastModified, attributes.size());
+        if (references == null) {
+            references = ExternalReferenceScanner.references(file);
+            cache.rememberFileReferences(file, lastModified, attributes.size(), references);
+        }
+        return references;
+    }
+
+    private String referencedFileKey(Path file) {
+        try {
+            return fileKey(file, Files.readAttributes(file, BasicFileAttributes.class));
+        } catch (IOException e) {
+            // Fehlt die Datei, ändert sich der Schlüssel, sobald sie angelegt wird
+            return "-";
+        }
+    }
+
+    /**
+     * Schneller Pfad: eine unveränderte Datei muss nicht erneut gehasht werden.
+     */
+    private String fileKey(Path path, BasicFileAttributes attributes) throws IOException {
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String key = cache.lookupFileKey(path, lastModified, attributes.size());
+        if (key == null) {
+            key = ParsedSpecCache.fileKey(Files.readAllBytes(path), path);
+            cache.rememberFileKey(path, lastModified, attributes.size(), key);
+        }
+        return key;
+    }
+
     /**
      * Extrahiert die Version aus einer OpenAPI-Spezifikation.
      *
@@ -134,6 +830,19 @@ public class OasParser {
         return formatConverter;
     }
 
+    public ResolutionMode getResolutionMode() {
+        return resolutionMode;
+    }
+
+    /**
+     * Gibt die Statistik des Parse-Caches zurück.
+     *
+     * @return Treffer, Fehlschläge, Verdrängungen und aktuelles Gewicht
+     */
+    public ParseCacheStats getCacheStats() {
+        return cache.getStats();
+    }
+
     /**
      * Gibt den FormatDetector zurück für Format-Erkennungen.
      *
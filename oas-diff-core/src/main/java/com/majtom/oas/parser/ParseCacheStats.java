@@ -0,0 +1,19 @@
+package com.majtom.oas.parser;
+
+/**
+ * Momentaufnahme der Statistik des {@link ParsedSpecCache}.
+ *
+ * @param hits Anzahl der Cache-Treffer
+ * @param misses Anzahl der Fehlschläge
+ * @param evictions Anzahl verdrängter Einträge
+ * @param entryCount Aktuelle Anzahl der Einträge
+ * @param weight Geschätztes Heap-Gewicht aller Einträge in Bytes
+ * @param maxWeight Maximales Gewicht in Bytes
+ */
+public record ParseCacheStats(long hits, long misses, long evictions, int entryCount, long weight, long maxWeight) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,251 @@
+package com.majtom.oas.parser;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Begrenzter Cache für geparste und vollständig aufgelöste OpenAPI-Modelle.
+ *
+ * Schlüssel ist der SHA-256-Hash des Inhalts. Bei Dateien fließt zusätzlich das
+ * Verzeichnis ein, da relative externe $refs davon abhängen. Für Dateien wird der Hash
+ * zu Änderungszeitpunkt und Größe gemerkt, sodass unveränderte Dateien nicht erneut
+ * gelesen werden müssen; ebenso die direkt über {@code $ref} referenzierten Dateien, aus
+ * denen {@link OasParser} den Schlüssel einer Spezifikation mit externen Referenzen bildet.
+ *
+ * Verdrängt wird nach LRU, sobald das geschätzte Heap-Gewicht aller Einträge das
+ * Limit übersteigt. Zurückgegebene Modelle werden geteilt und dürfen nicht verändert werden.
+ *
+ * Konfiguration:
+ * <pre>
+ * oas.parser.cache.max-weight-mb=64   (0 = Cache deaktiviert)
+ * </pre>
+ */
+@Component
+public class ParsedSpecCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ParsedSpecCache.class);
+
+    /**
+     * Geschätzte Heap-Bytes pro Byte Quelltext. Das vollständig aufgelöste Modell ist
+     * durch Objekt-Overhead und inline kopierte Referenzen deutlich größer als der Text.
+     */
+    static final int HEAP_BYTES_PER_CONTENT_BYTE = 12;
+
+    private static final int MAX_FILE_STAMPS = 1024;
+
+    private final long maxWeight;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Path, FileStamp> fileStamps = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, FileStamp> eldest) {
+            return size() > MAX_FILE_STAMPS;
+        }
+    };
+
+    private long currentWeight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ParsedSpecCache(@Value("${oas.parser.cache.max-weight-mb:64}") long maxWeightMb) {
+        this.maxWeight = Math.max(0, maxWeightMb) * 1024 * 1024;
+        log.info("ParsedSpecCache initialisiert (max. Gewicht: {} MB)", Math.max(0, maxWeightMb));
+    }
+
+    /**
+     * Erstellt einen deaktivierten Cache, der nie Einträge speichert.
+     *
+     * @return Deaktivierter Cache
+     */
+    public static ParsedSpecCache disabled() {
+        return new ParsedSpecCache(0);
+    }
+
+    public boolean isEnabled() {
+        return maxWeight > 0;
+    }
+
+    /**
+     * Berechnet den Cache-Schlüssel für String-Content.
+     *
+     * @param content OAS-Inhalt
+     * @return Hex-kodierter SHA-256-Hash
+     */
+    public static String contentKey(String content) {
+        return sha256(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Berechnet den Cache-Schlüssel für den Inhalt einer Datei.
+     *
+     * @param content Dateiinhalt
+     * @param file Datei, deren Verzeichnis die Auflösung relativer $refs bestimmt
+     * @return Hash des Inhalts, ergänzt um das Verzeichnis
+     */
+    public static String fileKey(byte[] content, Path file) {
+        Path directory = file.toAbsolutePath().normalize().getParent();
+        return sha256(content) + "@" + directory;
+    }
+
+    /**
+     * Liefert den gemerkten Schlüssel einer Datei, sofern Änderungszeitpunkt und
+     * Größe unverändert sind.
+     *
+     * @return Schlüssel oder null, wenn die Datei neu gelesen werden muss
+     */
+    public synchronized String lookupFileKey(Path file, long lastModified, long size) {
+        FileStamp stamp = fileStamps.get(file.toAbsolutePath().normalize());
+        if (stamp != null && stamp.lastModified() == lastModified && stamp.size() == size) {
+            return stamp.key();
+        }
+        return null;
+    }
+
+    public synchronized void rememberFileKey(Path file, long lastModified, long size, String key) {
+        if (isEnabled()) {
+            fileStamps.put(file.toAbsolutePath().normalize(), new FileStamp(lastModified, size, key, null));
+        }
+    }
+
+    /**
+     * Liefert die gemerkten direkten Referenzen einer Datei, sofern Änderungszeitpunkt und
+     * Größe unverändert sind.
+     *
+     * @return Referenzierte Dateien oder null, wenn die Datei neu gelesen werden muss
+     */
+    public synchronized Set<Path> lookupFileReferences(Path file, long lastModified, long size) {
+        FileStamp stamp = fileStamps.get(file.toAbsolutePath().normalize());
+        if (stamp != null && stamp.lastModified() == lastModified && stamp.size() == size) {
+            return stamp.references();
+        }
+        return null;
+    }
+
+    /**
+     * Merkt die direkten Referenzen zu einem mit {@link #rememberFileKey} gemerkten Stand.
+     */
+    public synchronized void rememberFileReferences(Path file, long lastModified, long size, Set<Path> references) {
+        Path normalized = file.toAbsolutePath().normalize();
+        FileStamp stamp = fileStamps.get(normalized);
+        if (stamp != null && stamp.lastModified() == lastModified && stamp.size() == size) {
+            fileStamps.put(normalized, new FileStamp(lastModified, size, stamp.key(),
+                    Collections.unmodifiableSet(new LinkedHashSet<>(references))));
+        }
+    }
+
+    /**
+     * Liefert ein gecachtes Modell und zählt Treffer bzw. Fehlschläge.
+     *
+     * @param key Cache-Schlüssel
+     * @return Modell oder null
+     */
+    public synchronized OpenAPI get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.openAPI();
+    }
+
+    /**
+     * Speichert ein Modell und verdrängt bei Bedarf die am längsten nicht genutzten Einträge.
+     *
+     * @param key Cache-Schlüssel
+     * @param openAPI Geparstes Modell
+     * @param contentLength Länge des Quelltexts in Bytes, Basis der Gewichtsschätzung
+     */
+    public synchronized void put(String key, OpenAPI openAPI, long contentLength) {
+        long weight = contentLength * HEAP_BYTES_PER_CONTENT_BYTE;
+        if (!isEnabled() || weight > maxWeight) {
+            return;
+        }
+
+        Entry previous = entries.put(key, new Entry(openAPI, weight));
+        if (previous != null) {
+            currentWeight -= previous.weight();
+        }
+        currentWeight += weight;
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (currentWeight > maxWeight && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            currentWeight -= eldest.getValue().weight();
+            iterator.remove();
+            evictions++;
+            log.debug("Geparste Spezifikation aus Cache verdrängt: {}", eldest.getKey());
+        }
+    }
+
+    /**
+     * Entfernt ein Modell aus dem Cache.
+     *
+     * @param key Cache-Schlüssel
+     */
+    public synchronized void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            currentWeight -= removed.weight();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        fileStamps.clear();
+        currentWeight = 0;
+    }
+
+    public synchronized ParseCacheStats getStats() {
+        return new ParseCacheStats(hits, misses, evictions, entries.size(), currentWeight, maxWeight);
+    }
+
+    /**
+     * Erstellt einen Digest, der über die UTF-8-Bytes eines Inhalts denselben Schlüssel wie
+     * {@link #contentKey(String)} liefert, z.B. für das Hashen während des Lesens eines Streams.
+     *
+     * @return Neuer SHA-256-Digest
+     */
+    public static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 nicht verfügbar", e);
+        }
+    }
+
+    /**
+     * Schließt einen mit {@link #newContentDigest()} erstellten Digest ab.
+     *
+     * @param digest Digest über den gesamten Inhalt
+     * @return Schlüssel wie {@link #contentKey(String)}
+     */
+    public static String contentKey(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String sha256(byte[] content) {
+        return HexFormat.of().formatHex(newContentDigest().digest(content));
+    }
+
+    private record Entry(OpenAPI openAPI, long weight) {
+    }
+
+    private record FileStamp(long lastModified, long size, String key, Set<Path> references) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.majtom.oas.parser;
+
+/**
+ * Legt fest, wie der {@link OasParser} {@code $ref}s behandelt.
+ */
+public enum ResolutionMode {
+    /**
+     * Alle {@code $ref}s werden aufgelöst und inline kopiert ({@code resolveFully}).
+     * Regeln sehen vollständige Schemas, mehrfach verwendete Schemas liegen aber
+     * mehrfach im Speicher.
+     */
+    FULL,
+    /**
+     * Externe Referenzen werden in die Components übernommen, lokale Schema-Referenzen
+     * bleiben als {@code $ref} erhalten. Referenzierte Schemas werden über die Components
+     * nur einmal verglichen.
+     */
+    REFERENCES
+}
@@ -1,19 +1,33 @@
 package com.majtom.oas.report;
 
+import com.majtom.oas.jfr.ReportGenerationEvent;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ComparisonResult;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Date;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Erstellt menschenlesbare Berichte aus Vergleichsergebnissen.
+ *
+ * Der Textbericht wird abschnittsweise in ein {@link Appendable} geschrieben, z.B. direkt in
+ * einen {@link java.io.Writer} der HTTP-Response oder einer Datei. Änderungen sind innerhalb
+ * jedes Abschnitts nach Pfad gruppiert; Pfade erscheinen in der Reihenfolge ihrer ersten
+ * Änderung im Vergleichsergebnis, Änderungen eines Pfads in ihrer Ergebnisreihenfolge.
  */
 @Component
 public class HumanReadableReportGenerator {
 
+    private static final String NL = System.lineSeparator();
+    private static final String DOUBLE_RULE = "═══════════════════════════════════════════════════════════════\n";
+    private static final String SINGLE_RULE = "───────────────────────────────────────────────────────────────\n";
+
+    /** Geschätzte Zeichen pro Änderung, um den Puffer für {@link #generateTextReport} vorzubelegen. */
+    private static final int ESTIMATED_CHARS_PER_CHANGE = 160;
+
     /**
      * Generiert einen formatierten Textbericht.
      *
@@ -21,25 +35,46 @@ public class HumanReadableReportGenerator {
      * @return Formatierter Bericht als String
      */
     public String generateTextReport(ComparisonResult result) {
-        StringBuilder report = new StringBuilder();
+        StringBuilder report = new StringBuilder(1024 + result.getTotalChangesCount() * ESTIMATED_CHARS_PER_CHANGE);
+        try {
+            writeTextReport(result, report);
+        } catch (IOException e) {
+            // StringBuilder wirft keine IOException
+            throw new UncheckedIOException(e);
+        }
+        return report.toString();
+    }
+
+    /**
+     * Schreibt einen formatierten Textbericht abschnittsweise in das Ziel.
+     * Das Ziel wird weder geflusht noch geschlossen.
+     *
+     * @param result Vergleichsergebnis
+     * @param out Ziel des Berichts
+     * @throws IOException wenn das Schreiben fehlschlägt
+     */
+    public void writeTextReport(ComparisonResult result, Appendable out) throws IOException {
+        ReportGenerationEvent event = new ReportGenerationEvent();
+        event.begin();
+        CountingAppendable report = new CountingAppendable(out);
 
-        report.append("═══════════════════════════════════════════════════════════════\n");
+        report.append(DOUBLE_RULE);
         report.append("       OAS VERSIONSVERGLEICH - ÄNDERUNGSBERICHT\n");
-        report.append("═══════════════════════════════════════════════════════════════\n\n");
+        report.append(DOUBLE_RULE).append('\n');
 
-        report.append(String.format("Alte Version:  %s%n", result.getOldVersion()));
-        report.append(String.format("Neue Version:  %s%n", result.getNewVersion()));
-        report.append(String.format("Zeitstempel:   %s%n", new java.util.Date(result.getTimestamp())));
-        report.append("\n");
+        report.append("Alte Version:  ").append(String.valueOf(result.getOldVersion())).append(NL);
+        report.append("Neue Version:  ").append(String.valueOf(result.getNewVersion())).append(NL);
+        report.append("Zeitstempel:   ").append(new Date(result.getTimestamp()).toString()).append(NL);
+        report.append('\n');
 
-        report.append("───────────────────────────────────────────────────────────────\n");
+        int nonBreakingCount = result.getTotalChangesCount() - result.getBreakingChangesCount();
+        report.append(SINGLE_RULE);
         report.append("  ZUSAMMENFASSUNG\n");
-        report.append("───────────────────────────────────────────────────────────────\n");
-        report.append(String.format("Änderungen gesamt:          %d%n", result.getTotalChangesCount()));
-        report.append(String.format("Breaking Changes:           %d%n", result.getBreakingChangesCount()));
-        report.append(String.format("Nicht-Breaking Changes:     %d%n",
-                result.getTotalChangesCount() - result.getBreakingChangesCount()));
-        report.append("\n");
+        report.append(SINGLE_RULE);
+        report.append("Änderungen gesamt:          ").append(Integer.toString(result.getTotalChangesCount())).append(NL);
+        report.append("Breaking Changes:           ").append(Integer.toString(result.getBreakingChangesCount())).append(NL);
+        report.append("Nicht-Breaking Changes:     ").append(Integer.toString(nonBreakingCount)).append(NL);
+        report.append('\n');
 
         if (result.hasBreakingChanges()) {
             report.append("⚠️  WARNUNG: Diese Version enthält BREAKING CHANGES!\n\n");
@@ -47,77 +82,66 @@ public class HumanReadableReportGenerator {
             report.append("✓ Diese Version ist abwärtskompatibel (keine Breaking Changes).\n\n");
         }
 
-        // Breaking Changes
-        List<ApiChange> breakingChanges = result.getBreakingChanges();
-        if (!breakingChanges.isEmpty()) {
-            report.append("═══════════════════════════════════════════════════════════════\n");
-            report.append("  BREAKING CHANGES\n");
-            report.append("═══════════════════════════════════════════════════════════════\n\n");
-
-            Map<String, List<ApiChange>> groupedByPath = breakingChanges.stream()
-                    .collect(Collectors.groupingBy(ApiChange::getPath));
-
-            int changeNumber = 1;
-            for (Map.Entry<String, List<ApiChange>> entry : groupedByPath.entrySet()) {
-                for (ApiChange change : entry.getValue()) {
-                    report.append(String.format("%d. %s%n", changeNumber++, formatChange(change)));
-                }
-            }
-            report.append("\n");
+        if (result.getBreakingChangesCount() > 0) {
+            writeSection(report, "  BREAKING CHANGES\n", result, true);
+        }
+        if (nonBreakingCount > 0) {
+            writeSection(report, "  WEITERE ÄNDERUNGEN (Nicht-Breaking)\n", result, false);
         }
 
-        // Nicht-Breaking Changes
-        List<ApiChange> nonBreakingChanges = result.getNonBreakingChanges();
-        if (!nonBreakingChanges.isEmpty()) {
-            report.append("═══════════════════════════════════════════════════════════════\n");
-            report.append("  WEITERE ÄNDERUNGEN (Nicht-Breaking)\n");
-            report.append("═══════════════════════════════════════════════════════════════\n\n");
+        report.append(DOUBLE_RULE);
+        report.append("  ENDE DES BERICHTS\n");
+        report.append(DOUBLE_RULE);
 
-            Map<String, List<ApiChange>> groupedByPath = nonBreakingChanges.stream()
-                    .collect(Collectors.groupingBy(ApiChange::getPath));
+        if (event.shouldCommit()) {
+            event.reportType = "TEXT";
+            event.changeCount = result.getTotalChangesCount();
+            event.length = report.length;
+            event.commit();
+        }
+    }
 
-            int changeNumber = 1;
-            for (Map.Entry<String, List<ApiChange>> entry : groupedByPath.entrySet()) {
-                for (ApiChange change : entry.getValue()) {
-                    report.append(String.format("%d. %s%n", changeNumber++, formatChange(change)));
+    private void writeSection(CountingAppendable report, String title, ComparisonResult result, boolean breaking)
+            throws IOException {
+        report.append(DOUBLE_RULE);
+        report.append(title);
+        report.append(DOUBLE_RULE).append('\n');
+
+        int changeNumber = 1;
+        for (List<ApiChange> pathChanges : result.getChangesByPath().values()) {
+            for (ApiChange change : pathChanges) {
+                if (change.isBreakingChange() == breaking) {
+                    report.append(Integer.toString(changeNumber++)).append(". ");
+                    writeChange(report, change);
+                    report.append(NL);
                 }
             }
-            report.append("\n");
         }
-
-        report.append("═══════════════════════════════════════════════════════════════\n");
-        report.append("  ENDE DES BERICHTS\n");
-        report.append("═══════════════════════════════════════════════════════════════\n");
-
-        return report.toString();
+        report.append('\n');
     }
 
-    private String formatChange(ApiChange change) {
-        StringBuilder sb = new StringBuilder();
-
-        sb.append(String.format("[%s] ", change.getSeverity().getDisplayName()));
-        sb.append(change.getPath());
-        sb.append("\n   ");
-        sb.append(change.getType().getDescription());
-        sb.append(": ");
-        sb.append(change.getDescription());
+    private void writeChange(CountingAppendable report, ApiChange change) throws IOException {
+        report.append('[').append(change.getSeverity().getDisplayName()).append("] ");
+        report.append(change.getPath());
+        report.append("\n   ");
+        report.append(change.getType().getDescription());
+        report.append(": ");
+        report.append(String.valueOf(change.getDescription()));
 
         if (change.getOldValue() != null || change.getNewValue() != null) {
-            sb.append("\n   ");
+            report.append("\n   ");
             if (change.getOldValue() != null) {
-                sb.append("Alt: ").append(change.getOldValue());
+                report.append("Alt: ").append(change.getOldValue());
             }
             if (change.getNewValue() != null) {
                 if (change.getOldValue() != null) {
-                    sb.append(" → ");
+                    report.append(" → ");
                 }
-                sb.append("Neu: ").append(change.getNewValue());
+                report.append("Neu: ").append(change.getNewValue());
             }
         }
 
-        sb.append("\n");
-
-        return sb.toString();
+        report.append('\n');
     }
 
     /**
@@ -129,5 +153,29 @@ public class HumanReadableReportGenerator {
     public String generateCompactReport(ComparisonResult result) {
         return result.getSummary();
     }
-}
 
+    /**
+     * Zählt die geschriebenen Zeichen für das {@link ReportGenerationEvent}.
+     */
+    private static final class CountingAppendable {
+
+        private final Appendable out;
+        private long length;
+
+        CountingAppendable(Appendable out) {
+            this.out = out;
+        }
+
+        CountingAppendable append(String text) throws IOException {
+            out.append(text);
+            length += text.length();
+            return this;
+        }
+
+        CountingAppendable append(char c) throws IOException {
+            out.append(c);
+            length++;
+            return this;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.majtom.oas.rules;
 
 import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.sink.ChangeSink;
 import io.swagger.v3.oas.models.OpenAPI;
 
 import java.util.List;
@@ -20,11 +21,34 @@ public interface BreakingChangeRule {
      */
     List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec);
 
+    /**
+     * Überprüft die Änderung und gibt jede gefundene Änderung an die Senke weiter.
+     * Regeln können diese Methode überschreiben, um ohne eigene Ergebnisliste auszukommen.
+     *
+     * @param oldSpec Alte OpenAPI-Spezifikation
+     * @param newSpec Neue OpenAPI-Spezifikation
+     * @param sink Empfänger der gefundenen Änderungen
+     */
+    default void evaluate(OpenAPI oldSpec, OpenAPI newSpec, ChangeSink sink) {
+        sink.acceptAll(evaluate(oldSpec, newSpec));
+    }
+
     /**
      * Name der Regel für Logging und Reporting.
      *
      * @return Regelname
      */
     String getRuleName();
+
+    /**
+     * Gibt an, ob die Regel Änderungen mit {@code isBreakingChange == true} melden kann.
+     * Regeln, die ausschließlich informative Änderungen liefern, werden bei der reinen
+     * Breaking-Change-Prüfung übersprungen.
+     *
+     * @return true, wenn die Regel Breaking Changes erkennen kann
+     */
+    default boolean canProduceBreakingChanges() {
+        return true;
+    }
 }
 
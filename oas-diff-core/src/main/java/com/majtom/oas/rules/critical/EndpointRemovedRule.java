@@ -3,46 +3,31 @@ package com.majtom.oas.rules.critical;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
+import io.swagger.v3.oas.models.PathItem;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Regel: Erkennt entfernte Endpoints (Breaking Change).
  */
 @Component
-public class EndpointRemovedRule implements BreakingChangeRule {
+public class EndpointRemovedRule implements TraversalRule {
 
     @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getPaths() == null || newSpec.getPaths() == null) {
-            return changes;
-        }
-
-        Set<String> oldPaths = oldSpec.getPaths().keySet();
-        Set<String> newPaths = newSpec.getPaths().keySet();
-
-        for (String path : oldPaths) {
-            if (!newPaths.contains(path)) {
-                changes.add(ApiChange.builder()
-                        .type(ChangeType.ENDPOINT_REMOVED)
-                        .severity(ChangeSeverity.CRITICAL)
-                        .path(path)
-                        .description("Endpoint wurde entfernt")
-                        .oldValue(path)
-                        .newValue(null)
-                        .isBreakingChange(true)
-                        .build());
-            }
+    public void visitPathItem(String path, PathItem oldPathItem, PathItem newPathItem, List<ApiChange> changes) {
+        if (oldPathItem != null && newPathItem == null) {
+            changes.add(ApiChange.builder()
+                    .type(ChangeType.ENDPOINT_REMOVED)
+                    .severity(ChangeSeverity.CRITICAL)
+                    .path(path)
+                    .description("Endpoint wurde entfernt")
+                    .oldValue(path)
+                    .newValue(null)
+                    .isBreakingChange(true)
+                    .build());
         }
-
-        return changes;
     }
 
     @Override
@@ -50,4 +35,3 @@ public class EndpointRemovedRule implements BreakingChangeRule {
         return "Endpoint Removed Rule";
     }
 }
-
@@ -3,15 +3,12 @@ package com.majtom.oas.rules.critical;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.media.Schema;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -19,33 +16,15 @@ import java.util.Set;
  * Wenn eine Option entfernt wird, werden bestimmte Werte nicht mehr akzeptiert.
  */
 @Component
-public class OneOfOptionRemovedRule implements BreakingChangeRule {
+public class OneOfOptionRemovedRule implements TraversalRule {
 
     @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getComponents() == null || oldSpec.getComponents().getSchemas() == null ||
-            newSpec.getComponents() == null || newSpec.getComponents().getSchemas() == null) {
-            return changes;
-        }
-
-        Map<String, Schema> oldSchemas = oldSpec.getComponents().getSchemas();
-        Map<String, Schema> newSchemas = newSpec.getComponents().getSchemas();
-
-        for (Map.Entry<String, Schema> entry : oldSchemas.entrySet()) {
-            String schemaName = entry.getKey();
-            Schema oldSchema = entry.getValue();
-            Schema newSchema = newSchemas.get(schemaName);
-
-            if (newSchema == null) {
-                continue;
-            }
-
-            checkOneOfOptions(schemaName, oldSchema, newSchema, changes);
+    public void visitSchema(String schemaName, Schema oldSchema, Schema newSchema, List<ApiChange> changes) {
+        if (oldSchema == null || newSchema == null) {
+            return;
         }
 
-        return changes;
+        checkOneOfOptions(schemaName, oldSchema, newSchema, changes);
     }
 
     @SuppressWarnings("rawtypes")
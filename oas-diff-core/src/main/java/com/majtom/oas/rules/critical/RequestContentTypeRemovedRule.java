@@ -3,17 +3,13 @@ package com.majtom.oas.rules.critical;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -21,31 +17,15 @@ import java.util.Set;
  * Wenn ein Content-Type nicht mehr akzeptiert wird (z.B. kein XML mehr), ist das ein Breaking Change.
  */
 @Component
-public class RequestContentTypeRemovedRule implements BreakingChangeRule {
+public class RequestContentTypeRemovedRule implements TraversalRule {
 
-    @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getPaths() == null || newSpec.getPaths() == null) {
-            return changes;
-        }
-
-        for (Map.Entry<String, PathItem> entry : oldSpec.getPaths().entrySet()) {
-            String path = entry.getKey();
-            PathItem oldPathItem = entry.getValue();
-            PathItem newPathItem = newSpec.getPaths().get(path);
+    private static final Set<String> CHECKED_METHODS = Set.of("POST", "PUT", "PATCH");
 
-            if (newPathItem == null) {
-                continue;
-            }
-
-            checkOperationRequestContent(path, "POST", oldPathItem.getPost(), newPathItem.getPost(), changes);
-            checkOperationRequestContent(path, "PUT", oldPathItem.getPut(), newPathItem.getPut(), changes);
-            checkOperationRequestContent(path, "PATCH", oldPathItem.getPatch(), newPathItem.getPatch(), changes);
+    @Override
+    public void visitOperation(String path, String method, Operation oldOp, Operation newOp, List<ApiChange> changes) {
+        if (CHECKED_METHODS.contains(method)) {
+            checkOperationRequestContent(path, method, oldOp, newOp, changes);
         }
-
-        return changes;
     }
 
     private void checkOperationRequestContent(String path, String method, Operation oldOp, Operation newOp,
@@ -3,48 +3,28 @@ package com.majtom.oas.rules.critical;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Regel: Erkennt Änderungen am Security-Schema-Typ (Breaking Change).
  * Z.B. Wechsel von OAuth2 zu API-Key Authentication.
  */
 @Component
-public class SecuritySchemeChangedRule implements BreakingChangeRule {
+public class SecuritySchemeChangedRule implements TraversalRule {
 
     @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getComponents() == null || oldSpec.getComponents().getSecuritySchemes() == null ||
-            newSpec.getComponents() == null || newSpec.getComponents().getSecuritySchemes() == null) {
-            return changes;
-        }
-
-        Map<String, SecurityScheme> oldSchemes = oldSpec.getComponents().getSecuritySchemes();
-        Map<String, SecurityScheme> newSchemes = newSpec.getComponents().getSecuritySchemes();
-
-        for (Map.Entry<String, SecurityScheme> entry : oldSchemes.entrySet()) {
-            String schemeName = entry.getKey();
-            SecurityScheme oldScheme = entry.getValue();
-            SecurityScheme newScheme = newSchemes.get(schemeName);
-
-            if (newScheme == null) {
-                continue; // Schema entfernt, könnte separate Rule sein
-            }
-
-            checkSchemeType(schemeName, oldScheme, newScheme, changes);
-            checkSchemeDetails(schemeName, oldScheme, newScheme, changes);
+    public void visitSecurityScheme(String schemeName, SecurityScheme oldScheme, SecurityScheme newScheme,
+                                    List<ApiChange> changes) {
+        if (oldScheme == null || newScheme == null) {
+            return; // Schema entfernt, könnte separate Rule sein
         }
 
-        return changes;
+        checkSchemeType(schemeName, oldScheme, newScheme, changes);
+        checkSchemeDetails(schemeName, oldScheme, newScheme, changes);
     }
 
     private void checkSchemeType(String schemeName, SecurityScheme oldScheme, SecurityScheme newScheme,
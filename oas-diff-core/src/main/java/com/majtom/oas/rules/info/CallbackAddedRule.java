@@ -91,6 +91,11 @@ public class CallbackAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Callback Added Rule";
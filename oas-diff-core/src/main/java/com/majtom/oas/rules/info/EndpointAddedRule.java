@@ -3,46 +3,36 @@ package com.majtom.oas.rules.info;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
+import io.swagger.v3.oas.models.PathItem;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Regel: Erkennt hinzugefügte Endpoints (Non-Breaking Change).
  */
 @Component
-public class EndpointAddedRule implements BreakingChangeRule {
+public class EndpointAddedRule implements TraversalRule {
 
     @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getPaths() == null || newSpec.getPaths() == null) {
-            return changes;
-        }
-
-        Set<String> oldPaths = oldSpec.getPaths().keySet();
-        Set<String> newPaths = newSpec.getPaths().keySet();
-
-        for (String path : newPaths) {
-            if (!oldPaths.contains(path)) {
-                changes.add(ApiChange.builder()
-                        .type(ChangeType.ENDPOINT_ADDED)
-                        .severity(ChangeSeverity.INFO)
-                        .path(path)
-                        .description("Neuer Endpoint hinzugefügt")
-                        .oldValue(null)
-                        .newValue(path)
-                        .isBreakingChange(false)
-                        .build());
-            }
+    public void visitPathItem(String path, PathItem oldPathItem, PathItem newPathItem, List<ApiChange> changes) {
+        if (oldPathItem == null && newPathItem != null) {
+            changes.add(ApiChange.builder()
+                    .type(ChangeType.ENDPOINT_ADDED)
+                    .severity(ChangeSeverity.INFO)
+                    .path(path)
+                    .description("Neuer Endpoint hinzugefügt")
+                    .oldValue(null)
+                    .newValue(path)
+                    .isBreakingChange(false)
+                    .build());
         }
+    }
 
-        return changes;
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
     }
 
     @Override
@@ -50,4 +40,3 @@ public class EndpointAddedRule implements BreakingChangeRule {
         return "Endpoint Added Rule";
     }
 }
-
@@ -105,6 +105,11 @@ public class EnumValueAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Enum Value Added Rule";
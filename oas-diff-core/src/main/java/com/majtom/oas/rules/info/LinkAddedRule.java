@@ -113,6 +113,11 @@ public class LinkAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Link Added Rule";
@@ -62,6 +62,11 @@ public class MethodAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Method Added Rule";
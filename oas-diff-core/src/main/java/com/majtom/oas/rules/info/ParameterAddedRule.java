@@ -74,6 +74,11 @@ public class ParameterAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Parameter Added Rule";
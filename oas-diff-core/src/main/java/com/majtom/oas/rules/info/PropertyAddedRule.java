@@ -82,6 +82,11 @@ public class PropertyAddedRule implements BreakingChangeRule {
         return required != null && required.contains(propertyName);
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Property Added Rule";
@@ -87,6 +87,11 @@ public class RequestContentTypeAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Request Content Type Added Rule";
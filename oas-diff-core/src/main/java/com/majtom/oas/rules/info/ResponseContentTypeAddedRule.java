@@ -102,6 +102,11 @@ public class ResponseContentTypeAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Response Content Type Added Rule";
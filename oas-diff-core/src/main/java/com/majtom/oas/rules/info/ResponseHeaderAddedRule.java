@@ -102,6 +102,11 @@ public class ResponseHeaderAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Response Header Added Rule";
@@ -3,49 +3,29 @@ package com.majtom.oas.rules.info;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * Regel: Erkennt entfernte Security-Requirements (Non-Breaking).
  * Wenn Authentication-Anforderungen entfernt werden, wird die API weniger restriktiv (kein Breaking Change).
  */
 @Component
-public class SecurityRequirementRemovedRule implements BreakingChangeRule {
+public class SecurityRequirementRemovedRule implements TraversalRule {
 
-    @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getPaths() == null || newSpec.getPaths() == null) {
-            return changes;
-        }
-
-        for (Map.Entry<String, PathItem> entry : oldSpec.getPaths().entrySet()) {
-            String path = entry.getKey();
-            PathItem oldPathItem = entry.getValue();
-            PathItem newPathItem = newSpec.getPaths().get(path);
-
-            if (newPathItem == null) {
-                continue;
-            }
+    private static final Set<String> CHECKED_METHODS = Set.of("GET", "POST", "PUT", "DELETE", "PATCH");
 
-            checkOperationSecurity(path, "GET", oldPathItem.getGet(), newPathItem.getGet(), changes);
-            checkOperationSecurity(path, "POST", oldPathItem.getPost(), newPathItem.getPost(), changes);
-            checkOperationSecurity(path, "PUT", oldPathItem.getPut(), newPathItem.getPut(), changes);
-            checkOperationSecurity(path, "DELETE", oldPathItem.getDelete(), newPathItem.getDelete(), changes);
-            checkOperationSecurity(path, "PATCH", oldPathItem.getPatch(), newPathItem.getPatch(), changes);
+    @Override
+    public void visitOperation(String path, String method, Operation oldOp, Operation newOp, List<ApiChange> changes) {
+        if (CHECKED_METHODS.contains(method)) {
+            checkOperationSecurity(path, method, oldOp, newOp, changes);
         }
-
-        return changes;
     }
 
     private void checkOperationSecurity(String path, String method, Operation oldOp, Operation newOp,
@@ -84,6 +64,11 @@ public class SecurityRequirementRemovedRule implements BreakingChangeRule {
         return String.join(", ", schemes);
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Security Requirement Removed Rule";
@@ -3,47 +3,26 @@ package com.majtom.oas.rules.major;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.media.Schema;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Regel: Erkennt Änderungen am Typ der additionalProperties (Breaking Change).
  * Wenn der Typ der zusätzlichen Properties geändert wird, können bestehende Werte ungültig werden.
  */
 @Component
-public class AdditionalPropertiesTypeChangedRule implements BreakingChangeRule {
+public class AdditionalPropertiesTypeChangedRule implements TraversalRule {
 
     @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getComponents() == null || oldSpec.getComponents().getSchemas() == null ||
-            newSpec.getComponents() == null || newSpec.getComponents().getSchemas() == null) {
-            return changes;
-        }
-
-        Map<String, Schema> oldSchemas = oldSpec.getComponents().getSchemas();
-        Map<String, Schema> newSchemas = newSpec.getComponents().getSchemas();
-
-        for (Map.Entry<String, Schema> entry : oldSchemas.entrySet()) {
-            String schemaName = entry.getKey();
-            Schema oldSchema = entry.getValue();
-            Schema newSchema = newSchemas.get(schemaName);
-
-            if (newSchema == null) {
-                continue;
-            }
-
-            checkAdditionalPropertiesType(schemaName, oldSchema, newSchema, changes);
+    public void visitSchema(String schemaName, Schema oldSchema, Schema newSchema, List<ApiChange> changes) {
+        if (oldSchema == null || newSchema == null) {
+            return;
         }
 
-        return changes;
+        checkAdditionalPropertiesType(schemaName, oldSchema, newSchema, changes);
     }
 
     @SuppressWarnings("rawtypes")
@@ -3,49 +3,29 @@ package com.majtom.oas.rules.major;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * Regel: Erkennt Änderungen am Parameter-Serialisierungs-Style (Breaking Change).
  * Z.B. style: form → style: deepObject
  */
 @Component
-public class ParameterStyleChangedRule implements BreakingChangeRule {
+public class ParameterStyleChangedRule implements TraversalRule {
 
-    @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getPaths() == null || newSpec.getPaths() == null) {
-            return changes;
-        }
-
-        for (Map.Entry<String, PathItem> entry : oldSpec.getPaths().entrySet()) {
-            String path = entry.getKey();
-            PathItem oldPathItem = entry.getValue();
-            PathItem newPathItem = newSpec.getPaths().get(path);
+    private static final Set<String> CHECKED_METHODS = Set.of("GET", "POST", "PUT", "DELETE", "PATCH");
 
-            if (newPathItem == null) {
-                continue;
-            }
-
-            checkOperationParameters(path, "GET", oldPathItem.getGet(), newPathItem.getGet(), changes);
-            checkOperationParameters(path, "POST", oldPathItem.getPost(), newPathItem.getPost(), changes);
-            checkOperationParameters(path, "PUT", oldPathItem.getPut(), newPathItem.getPut(), changes);
-            checkOperationParameters(path, "DELETE", oldPathItem.getDelete(), newPathItem.getDelete(), changes);
-            checkOperationParameters(path, "PATCH", oldPathItem.getPatch(), newPathItem.getPatch(), changes);
+    @Override
+    public void visitOperation(String path, String method, Operation oldOp, Operation newOp, List<ApiChange> changes) {
+        if (CHECKED_METHODS.contains(method)) {
+            checkOperationParameters(path, method, oldOp, newOp, changes);
         }
-
-        return changes;
     }
 
     private void checkOperationParameters(String path, String method, Operation oldOp, Operation newOp,
@@ -3,97 +3,53 @@ package com.majtom.oas.rules.major;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
-import io.swagger.v3.oas.models.media.Content;
+import com.majtom.oas.traversal.RefAwareSchemaComparator;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.oas.models.parameters.RequestBody;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * Regel: Erkennt Änderungen am Request-Schema (Breaking Change).
  */
 @Component
-public class RequestSchemaChangedRule implements BreakingChangeRule {
+public class RequestSchemaChangedRule implements TraversalRule {
 
-    @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getPaths() == null || newSpec.getPaths() == null) {
-            return changes;
-        }
-
-        for (Map.Entry<String, PathItem> entry : oldSpec.getPaths().entrySet()) {
-            String path = entry.getKey();
-            PathItem oldPathItem = entry.getValue();
-            PathItem newPathItem = newSpec.getPaths().get(path);
-
-            if (newPathItem == null) {
-                continue;
-            }
-
-            checkOperationRequestBody(path, "POST", oldPathItem.getPost(), newPathItem.getPost(), changes);
-            checkOperationRequestBody(path, "PUT", oldPathItem.getPut(), newPathItem.getPut(), changes);
-            checkOperationRequestBody(path, "PATCH", oldPathItem.getPatch(), newPathItem.getPatch(), changes);
-        }
-
-        return changes;
-    }
-
-    private void checkOperationRequestBody(String path, String method, Operation oldOp, Operation newOp, List<ApiChange> changes) {
-        if (oldOp == null || newOp == null) {
-            return;
-        }
-
-        RequestBody oldRequestBody = oldOp.getRequestBody();
-        RequestBody newRequestBody = newOp.getRequestBody();
+    private static final Set<String> CHECKED_METHODS = Set.of("POST", "PUT", "PATCH");
 
-        if (oldRequestBody == null || newRequestBody == null) {
-            return;
+    @Override
+    public void visitMediaType(String path, String method, String statusCode, String mediaType,
+                               MediaType oldMediaType, MediaType newMediaType,
+                               RefAwareSchemaComparator schemaComparator, List<ApiChange> changes) {
+        if (statusCode != null || !CHECKED_METHODS.contains(method)) {
+            return; // Responses werden von ResponseSchemaChangedRule behandelt
         }
 
-        Content oldContent = oldRequestBody.getContent();
-        Content newContent = newRequestBody.getContent();
-
-        if (oldContent == null || newContent == null) {
+        if (oldMediaType == null || newMediaType == null) {
             return;
         }
 
-        for (Map.Entry<String, MediaType> entry : oldContent.entrySet()) {
-            String mediaTypeStr = entry.getKey();
-            MediaType oldMediaType = entry.getValue();
-            MediaType newMediaType = newContent.get(mediaTypeStr);
-
-            if (newMediaType == null) {
-                continue;
-            }
-
-            Schema oldSchema = oldMediaType.getSchema();
-            Schema newSchema = newMediaType.getSchema();
-
-            if (oldSchema != null && newSchema != null) {
-                String oldSchemaRef = getSchemaReference(oldSchema);
-                String newSchemaRef = getSchemaReference(newSchema);
-
-                if (!oldSchemaRef.equals(newSchemaRef)) {
-                    changes.add(ApiChange.builder()
-                            .type(ChangeType.REQUEST_SCHEMA_CHANGED)
-                            .severity(ChangeSeverity.MAJOR)
-                            .path(path + " [" + method + "]")
-                            .description("Request-Schema geändert für " + mediaTypeStr)
-                            .oldValue(oldSchemaRef)
-                            .newValue(newSchemaRef)
-                            .isBreakingChange(true)
-                            .build());
-                }
+        Schema oldSchema = oldMediaType.getSchema();
+        Schema newSchema = newMediaType.getSchema();
+
+        if (oldSchema != null && newSchema != null) {
+            String oldSchemaRef = getSchemaReference(oldSchema);
+            String newSchemaRef = getSchemaReference(newSchema);
+
+            // Umbenannte oder inline ersetzte, inhaltlich gleiche Schemas sind keine Änderung
+            if (!oldSchemaRef.equals(newSchemaRef) && !schemaComparator.equivalent(oldSchema, newSchema)) {
+                changes.add(ApiChange.builder()
+                        .type(ChangeType.REQUEST_SCHEMA_CHANGED)
+                        .severity(ChangeSeverity.MAJOR)
+                        .path(path + " [" + method + "]")
+                        .description("Request-Schema geändert für " + mediaType)
+                        .oldValue(oldSchemaRef)
+                        .newValue(newSchemaRef)
+                        .isBreakingChange(true)
+                        .build());
             }
         }
     }
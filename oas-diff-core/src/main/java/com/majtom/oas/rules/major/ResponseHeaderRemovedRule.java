@@ -3,15 +3,12 @@ package com.majtom.oas.rules.major;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,33 +18,15 @@ import java.util.Set;
  * Wenn ein Response-Header entfernt wird, können Clients die darauf angewiesen sind, brechen.
  */
 @Component
-public class ResponseHeaderRemovedRule implements BreakingChangeRule {
+public class ResponseHeaderRemovedRule implements TraversalRule {
 
-    @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getPaths() == null || newSpec.getPaths() == null) {
-            return changes;
-        }
+    private static final Set<String> CHECKED_METHODS = Set.of("GET", "POST", "PUT", "DELETE", "PATCH");
 
-        for (Map.Entry<String, PathItem> entry : oldSpec.getPaths().entrySet()) {
-            String path = entry.getKey();
-            PathItem oldPathItem = entry.getValue();
-            PathItem newPathItem = newSpec.getPaths().get(path);
-
-            if (newPathItem == null) {
-                continue;
-            }
-
-            checkOperationHeaders(path, "GET", oldPathItem.getGet(), newPathItem.getGet(), changes);
-            checkOperationHeaders(path, "POST", oldPathItem.getPost(), newPathItem.getPost(), changes);
-            checkOperationHeaders(path, "PUT", oldPathItem.getPut(), newPathItem.getPut(), changes);
-            checkOperationHeaders(path, "DELETE", oldPathItem.getDelete(), newPathItem.getDelete(), changes);
-            checkOperationHeaders(path, "PATCH", oldPathItem.getPatch(), newPathItem.getPatch(), changes);
+    @Override
+    public void visitOperation(String path, String method, Operation oldOp, Operation newOp, List<ApiChange> changes) {
+        if (CHECKED_METHODS.contains(method)) {
+            checkOperationHeaders(path, method, oldOp, newOp, changes);
         }
-
-        return changes;
     }
 
     private void checkOperationHeaders(String path, String method, Operation oldOp, Operation newOp,
@@ -3,47 +3,30 @@ package com.majtom.oas.rules.minor;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.callbacks.Callback;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Regel: Erkennt geänderte Callback-URLs (Breaking Change).
  * Wenn Callback URL Patterns geändert werden, ist das ein Breaking Change.
  */
 @Component
-public class CallbackUrlChangedRule implements BreakingChangeRule {
+public class CallbackUrlChangedRule implements TraversalRule {
 
-    @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getPaths() == null || newSpec.getPaths() == null) {
-            return changes;
-        }
-
-        for (Map.Entry<String, PathItem> entry : oldSpec.getPaths().entrySet()) {
-            String path = entry.getKey();
-            PathItem oldPathItem = entry.getValue();
-            PathItem newPathItem = newSpec.getPaths().get(path);
+    private static final Set<String> CHECKED_METHODS = Set.of("POST", "PUT", "PATCH");
 
-            if (newPathItem == null) {
-                continue;
-            }
-
-            checkOperationCallbacks(path, "POST", oldPathItem.getPost(), newPathItem.getPost(), changes);
-            checkOperationCallbacks(path, "PUT", oldPathItem.getPut(), newPathItem.getPut(), changes);
-            checkOperationCallbacks(path, "PATCH", oldPathItem.getPatch(), newPathItem.getPatch(), changes);
+    @Override
+    public void visitOperation(String path, String method, Operation oldOp, Operation newOp, List<ApiChange> changes) {
+        if (CHECKED_METHODS.contains(method)) {
+            checkOperationCallbacks(path, method, oldOp, newOp, changes);
         }
-
-        return changes;
     }
 
     private void checkOperationCallbacks(String path, String method, Operation oldOp, Operation newOp,
@@ -3,49 +3,30 @@ package com.majtom.oas.rules.minor;
 import com.majtom.oas.model.ApiChange;
 import com.majtom.oas.model.ChangeSeverity;
 import com.majtom.oas.model.ChangeType;
-import com.majtom.oas.rules.BreakingChangeRule;
-import io.swagger.v3.oas.models.OpenAPI;
+import com.majtom.oas.traversal.TraversalRule;
 import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.links.Link;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Regel: Erkennt entfernte HATEOAS Links (Breaking Change).
  * Wenn Links entfernt werden, können Clients die darauf angewiesen sind, brechen.
  */
 @Component
-public class LinkRemovedRule implements BreakingChangeRule {
+public class LinkRemovedRule implements TraversalRule {
 
-    @Override
-    public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
-        List<ApiChange> changes = new ArrayList<>();
-
-        if (oldSpec.getPaths() == null || newSpec.getPaths() == null) {
-            return changes;
-        }
+    private static final Set<String> CHECKED_METHODS = Set.of("GET", "POST", "PUT", "DELETE");
 
-        for (Map.Entry<String, PathItem> entry : oldSpec.getPaths().entrySet()) {
-            String path = entry.getKey();
-            PathItem oldPathItem = entry.getValue();
-            PathItem newPathItem = newSpec.getPaths().get(path);
-
-            if (newPathItem == null) {
-                continue;
-            }
-
-            checkOperationLinks(path, "GET", oldPathItem.getGet(), newPathItem.getGet(), changes);
-            checkOperationLinks(path, "POST", oldPathItem.getPost(), newPathItem.getPost(), changes);
-            checkOperationLinks(path, "PUT", oldPathItem.getPut(), newPathItem.getPut(), changes);
-            checkOperationLinks(path, "DELETE", oldPathItem.getDelete(), newPathItem.getDelete(), changes);
+    @Override
+    public void visitOperation(String path, String method, Operation oldOp, Operation newOp, List<ApiChange> changes) {
+        if (CHECKED_METHODS.contains(method)) {
+            checkOperationLinks(path, method, oldOp, newOp, changes);
         }
-
-        return changes;
     }
 
     private void checkOperationLinks(String path, String method, Operation oldOp, Operation newOp,
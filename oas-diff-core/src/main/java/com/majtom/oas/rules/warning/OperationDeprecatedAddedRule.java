@@ -72,6 +72,11 @@ public class OperationDeprecatedAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Operation Deprecated Added Rule";
@@ -89,6 +89,11 @@ public class ParameterDeprecatedAddedRule implements BreakingChangeRule {
         return null;
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Parameter Deprecated Added Rule";
@@ -65,6 +65,11 @@ public class SchemaDeprecatedAddedRule implements BreakingChangeRule {
         }
     }
 
+    @Override
+    public boolean canProduceBreakingChanges() {
+        return false;
+    }
+
     @Override
     public String getRuleName() {
         return "Schema Deprecated Added Rule";
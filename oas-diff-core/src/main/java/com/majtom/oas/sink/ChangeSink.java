@@ -0,0 +1,62 @@
+package com.majtom.oas.sink;
+
+import com.majtom.oas.model.ApiChange;
+
+import java.util.Collection;
+
+/**
+ * Empfänger für gefundene Änderungen.
+ *
+ * Regeln und {@code RuleExecutor} geben Änderungen einzeln an eine Senke weiter, statt
+ * eine vollständige Liste aufzubauen. Je nach Senke werden die Änderungen gesammelt,
+ * nur gezählt, gefiltert oder direkt serialisiert.
+ *
+ * Senken werden immer aus einem Thread aufgerufen und müssen nicht threadsicher sein.
+ */
+@FunctionalInterface
+public interface ChangeSink {
+
+    /**
+     * Nimmt eine Änderung entgegen.
+     *
+     * @param change Gefundene Änderung
+     */
+    void accept(ApiChange change);
+
+    /**
+     * Nimmt mehrere Änderungen in ihrer Reihenfolge entgegen. Der {@code RuleExecutor}
+     * übergibt hier die Änderungen eines Traversal-Callbacks oder einer klassischen Regel.
+     *
+     * @param changes Gefundene Änderungen
+     */
+    default void acceptAll(Collection<ApiChange> changes) {
+        for (ApiChange change : changes) {
+            accept(change);
+        }
+    }
+
+    /**
+     * Gibt jede Änderung zuerst an diese und dann an die andere Senke weiter. Bei
+     * {@link #acceptAll} erhält zuerst diese Senke den ganzen Block, dann die andere.
+     *
+     * @param next Weitere Senke
+     * @return Kombinierte Senke
+     */
+    default ChangeSink andThen(ChangeSink next) {
+        ChangeSink first = this;
+        return new ChangeSink() {
+            @Override
+            public void accept(ApiChange change) {
+                first.accept(change);
+                next.accept(change);
+            }
+
+            @Override
+            public void acceptAll(Collection<ApiChange> changes) {
+                // Blöcke erhalten, z.B. für das Flushen pro Regel
+                first.acceptAll(changes);
+                next.acceptAll(changes);
+            }
+        };
+    }
+}
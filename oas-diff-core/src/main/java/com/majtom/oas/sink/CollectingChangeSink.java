@@ -0,0 +1,47 @@
+package com.majtom.oas.sink;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ComparisonResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sammelt alle Änderungen in einer Liste.
+ */
+public class CollectingChangeSink implements ChangeSink {
+
+    private final ArrayList<ApiChange> changes = new ArrayList<>();
+
+    @Override
+    public void accept(ApiChange change) {
+        changes.add(change);
+    }
+
+    @Override
+    public void acceptAll(Collection<ApiChange> changes) {
+        this.changes.addAll(changes);
+    }
+
+    public List<ApiChange> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Erstellt ein Vergleichsergebnis aus den gesammelten Änderungen, ohne sie zu kopieren.
+     * Danach darf die Senke keine weiteren Änderungen annehmen.
+     *
+     * @param oldVersion Version der alten Spezifikation
+     * @param newVersion Version der neuen Spezifikation
+     * @return Vergleichsergebnis
+     */
+    public ComparisonResult toResult(String oldVersion, String newVersion) {
+        return ComparisonResult.ofCollected(oldVersion, newVersion, changes);
+    }
+}
@@ -0,0 +1,57 @@
+package com.majtom.oas.sink;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeSeverity;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Zählt Änderungen pro Severity, ohne sie zu speichern.
+ */
+public class CountingChangeSink implements ChangeSink {
+
+    private static final ChangeSeverity[] SEVERITIES = ChangeSeverity.values();
+
+    private final int[] severityCounts = new int[SEVERITIES.length];
+    private int totalCount;
+    private int breakingCount;
+
+    @Override
+    public void accept(ApiChange change) {
+        totalCount++;
+        if (change.isBreakingChange()) {
+            breakingCount++;
+        }
+        if (change.getSeverity() != null) {
+            severityCounts[change.getSeverity().ordinal()]++;
+        }
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public int getBreakingCount() {
+        return breakingCount;
+    }
+
+    public int getNonBreakingCount() {
+        return totalCount - breakingCount;
+    }
+
+    public int getCount(ChangeSeverity severity) {
+        return severityCounts[severity.ordinal()];
+    }
+
+    /**
+     * @return Anzahl pro Severity, Severities ohne Änderungen mit 0
+     */
+    public Map<ChangeSeverity, Integer> getCountsBySeverity() {
+        Map<ChangeSeverity, Integer> counts = new EnumMap<>(ChangeSeverity.class);
+        for (ChangeSeverity severity : SEVERITIES) {
+            counts.put(severity, severityCounts[severity.ordinal()]);
+        }
+        return counts;
+    }
+}
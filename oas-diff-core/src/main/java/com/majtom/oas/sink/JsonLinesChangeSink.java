@@ -0,0 +1,123 @@
+package com.majtom.oas.sink;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeSeverity;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Schreibt jede Änderung sofort als JSON-Objekt in eine Zeile eines Ausgabestroms
+ * (Newline-delimited JSON). Die Felder entsprechen der JSON-Darstellung der REST-API.
+ *
+ * Der Ausgabestrom gehört dem Aufrufer und wird nicht geschlossen; {@link #flush()}
+ * schreibt gepufferte Daten durch. Mit {@code flushPerBlock} wird nach jedem nicht leeren
+ * Block aus {@link #acceptAll} (den Änderungen eines Traversal-Callbacks oder einer Regel)
+ * geflusht, damit ein Empfänger die ersten Zeilen erhält, während der Vergleich noch läuft. Schreibfehler werden als
+ * {@link UncheckedIOException} weitergegeben.
+ *
+ * Nach den Änderungen kann mit {@link #writeSummary} eine abschließende Zeile
+ * {@code {"summary": {...}}} geschrieben werden.
+ */
+public class JsonLinesChangeSink implements ChangeSink, Flushable {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+    private final boolean flushPerBlock;
+
+    public JsonLinesChangeSink(OutputStream out) {
+        this(out, false);
+    }
+
+    public JsonLinesChangeSink(OutputStream out, boolean flushPerBlock) {
+        this.flushPerBlock = flushPerBlock;
+        try {
+            this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void accept(ApiChange change) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("type", change.getType() != null ? change.getType().name() : null);
+            generator.writeStringField("severity", change.getSeverity() != null ? change.getSeverity().name() : null);
+            generator.writeStringField("path", change.getPath());
+            generator.writeStringField("description", change.getDescription());
+            generator.writeStringField("oldValue", change.getOldValue());
+            generator.writeStringField("newValue", change.getNewValue());
+            generator.writeBooleanField("breakingChange", change.isBreakingChange());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Fehler beim Schreiben einer Änderung", e);
+        }
+    }
+
+    @Override
+    public void acceptAll(Collection<ApiChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (ApiChange change : changes) {
+            accept(change);
+        }
+        if (flushPerBlock) {
+            flush();
+        }
+    }
+
+    /**
+     * Schreibt die Zusammenfassung als letzte Zeile und flusht den Strom.
+     *
+     * @param oldVersion Version der alten Spezifikation
+     * @param newVersion Version der neuen Spezifikation
+     * @param counts Zähler, der alle geschriebenen Änderungen gesehen hat
+     */
+    public void writeSummary(String oldVersion, String newVersion, CountingChangeSink counts) {
+        try {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("summary");
+            generator.writeStringField("oldVersion", oldVersion);
+            generator.writeStringField("newVersion", newVersion);
+            generator.writeBooleanField("hasBreakingChanges", counts.getBreakingCount() > 0);
+            generator.writeNumberField("totalChanges", counts.getTotalCount());
+            generator.writeNumberField("breakingChangesCount", counts.getBreakingCount());
+            generator.writeObjectFieldStart("severityCounts");
+            for (Map.Entry<ChangeSeverity, Integer> entry : counts.getCountsBySeverity().entrySet()) {
+                generator.writeNumberField(entry.getKey().name(), entry.getValue());
+            }
+            generator.writeEndObject();
+            generator.writeNumberField("timestamp", System.currentTimeMillis());
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Fehler beim Schreiben der Zusammenfassung", e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.majtom.oas.sink;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeSeverity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Gibt nur Änderungen mit bestimmten Severities an eine weitere Senke weiter.
+ */
+public class SeverityFilterChangeSink implements ChangeSink {
+
+    private final ChangeSink delegate;
+    private final Set<ChangeSeverity> severities;
+
+    public SeverityFilterChangeSink(ChangeSink delegate, Set<ChangeSeverity> severities) {
+        this.delegate = delegate;
+        this.severities = severities.isEmpty()
+                ? EnumSet.noneOf(ChangeSeverity.class)
+                : EnumSet.copyOf(severities);
+    }
+
+    /**
+     * Erstellt einen Filter für Änderungen mindestens der angegebenen Schwere.
+     *
+     * @param minimum Geringste weitergegebene Severity, z.B. MAJOR für CRITICAL und MAJOR
+     * @param delegate Empfänger der gefilterten Änderungen
+     * @return Filternde Senke
+     */
+    public static SeverityFilterChangeSink atLeast(ChangeSeverity minimum, ChangeSink delegate) {
+        // Die Enum-Reihenfolge geht von kritisch zu informativ
+        return new SeverityFilterChangeSink(delegate, EnumSet.range(ChangeSeverity.values()[0], minimum));
+    }
+
+    @Override
+    public void accept(ApiChange change) {
+        if (severities.contains(change.getSeverity())) {
+            delegate.accept(change);
+        }
+    }
+}
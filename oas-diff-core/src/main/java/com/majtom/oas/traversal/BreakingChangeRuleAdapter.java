@@ -0,0 +1,31 @@
+package com.majtom.oas.traversal;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.rules.BreakingChangeRule;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.List;
+
+/**
+ * Bindet eine klassische {@link BreakingChangeRule} in einen {@link SpecTraversal} ein.
+ *
+ * Die Regel wird einmal in {@link #visitSpec} mit den vollständigen Spezifikationen
+ * ausgewertet, bis sie auf {@link TraversalRule} migriert ist.
+ */
+public class BreakingChangeRuleAdapter implements SpecVisitor {
+
+    private final BreakingChangeRule rule;
+
+    public BreakingChangeRuleAdapter(BreakingChangeRule rule) {
+        this.rule = rule;
+    }
+
+    @Override
+    public void visitSpec(OpenAPI oldSpec, OpenAPI newSpec, List<ApiChange> changes) {
+        rule.evaluate(oldSpec, newSpec, changes::add);
+    }
+
+    public BreakingChangeRule getRule() {
+        return rule;
+    }
+}
@@ -0,0 +1,75 @@
+package com.majtom.oas.traversal;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Vergleicht Schemas zweier Spezifikationen strukturell und löst dabei lokale
+ * {@code $ref}s lazy gegen die Components der jeweiligen Spezifikation auf.
+ *
+ * Zwei Schemas gelten als äquivalent, wenn ihr Inhalt nach Auflösung aller Referenzen
+ * übereinstimmt; Referenznamen selbst spielen keine Rolle. Ergebnisse für Referenz-Paare
+ * werden pro (alte Referenz, neue Referenz) gemerkt, jedes referenzierte Schema wird pro
+ * Seite nur einmal gehasht.
+ *
+ * Eine Instanz gilt für genau ein Spezifikationspaar und ist nicht threadsicher.
+ */
+public class RefAwareSchemaComparator {
+
+    private final SpecReferences oldReferences;
+    private final SpecReferences newReferences;
+    private final ToLongFunction<Schema> oldHasher;
+    private final ToLongFunction<Schema> newHasher;
+    private final Map<ReferencePair, Boolean> referenceResults = new HashMap<>();
+
+    public RefAwareSchemaComparator(OpenAPI oldSpec, OpenAPI newSpec) {
+        this.oldReferences = new SpecReferences(oldSpec);
+        this.newReferences = new SpecReferences(newSpec);
+        this.oldHasher = SpecFingerprints.referenceResolvingHasher(oldReferences::resolve);
+        this.newHasher = SpecFingerprints.referenceResolvingHasher(newReferences::resolve);
+    }
+
+    /**
+     * Prüft, ob zwei Schemas nach Auflösung aller Referenzen strukturell übereinstimmen.
+     *
+     * @param oldSchema Schema der alten Spezifikation
+     * @param newSchema Schema der neuen Spezifikation
+     * @return true wenn beide Schemas äquivalent (oder beide null) sind
+     */
+    public boolean equivalent(Schema oldSchema, Schema newSchema) {
+        if (oldSchema == null || newSchema == null) {
+            return oldSchema == newSchema;
+        }
+        if (oldSchema.get$ref() != null && newSchema.get$ref() != null) {
+            return referenceResults.computeIfAbsent(
+                    new ReferencePair(oldSchema.get$ref(), newSchema.get$ref()),
+                    pair -> compare(oldSchema, newSchema));
+        }
+        return compare(oldSchema, newSchema);
+    }
+
+    /**
+     * @return Referenziertes Schema der alten Spezifikation bzw. das Schema selbst
+     */
+    public Schema resolveOld(Schema schema) {
+        return oldReferences.resolve(schema);
+    }
+
+    /**
+     * @return Referenziertes Schema der neuen Spezifikation bzw. das Schema selbst
+     */
+    public Schema resolveNew(Schema schema) {
+        return newReferences.resolve(schema);
+    }
+
+    private boolean compare(Schema oldSchema, Schema newSchema) {
+        return oldHasher.applyAsLong(oldSchema) == newHasher.applyAsLong(newSchema);
+    }
+
+    private record ReferencePair(String oldRef, String newRef) {
+    }
+}
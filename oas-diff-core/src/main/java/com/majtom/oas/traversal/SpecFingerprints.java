@@ -0,0 +1,698 @@
+package com.majtom.oas.traversal;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Strukturelle Fingerprints (64-Bit-Hashes) für die Teilbäume einer OpenAPI-Spezifikation.
+ *
+ * Für jedes {@link PathItem}, jede {@link Operation}, jede {@link ApiResponse}, jeden
+ * {@link MediaType} und jedes {@link Schema} wird ein Hash über den gesamten Inhalt
+ * berechnet (Merkle-Prinzip: der Hash eines Knotens enthält die Hashes seiner Kinder).
+ * Stimmen die Fingerprints eines Paares überein, kann {@link SpecTraversal} den
+ * kompletten Teilbaum überspringen.
+ *
+ * Die Fingerprints werden einmal pro Spezifikation berechnet (üblicherweise direkt beim
+ * Parsen) und über die Identität des {@link OpenAPI}-Objekts wiederverwendet. Geparste
+ * Spezifikationen dürfen danach nicht mehr verändert werden. Die Registry ist nur für das
+ * Nachschlagen und Eintragen gesperrt; berechnen zwei Threads gleichzeitig dieselbe
+ * Spezifikation, wird das zuerst eingetragene Ergebnis verwendet.
+ *
+ * Für Spezifikationen, die großteils aus den Knoten einer anderen bestehen (z.B. nach dem
+ * Austausch einzelner Pfade), übernimmt {@link #derive} deren Fingerprints und hasht nur die
+ * neuen Knoten.
+ *
+ * Bei zyklischen Schemas (z.B. nach {@code resolveFully}) fließt ein Rückverweis als
+ * Platzhalter mit seinem Abstand auf dem Pfad in den Hash ein. Der Fingerprint eines Schemas
+ * aus einem Zyklus mehrerer Schemas wird immer mit diesem Schema als Einstiegspunkt berechnet
+ * und innerhalb anderer Einstiege nicht wiederverwendet; sonst hinge er von der
+ * Besuchsreihenfolge ab. Verbleibende {@code $ref}s gehen mit ihrem Namen in den Hash
+ * ein; das referenzierte Schema wird als Component-Schema separat verglichen.
+ */
+public final class SpecFingerprints {
+
+    private static final Map<IdentityKey, SpecFingerprints> REGISTRY = new HashMap<>();
+    private static final ReferenceQueue<OpenAPI> COLLECTED = new ReferenceQueue<>();
+
+    private static final long NULL_HASH = 0x5bd1e9955bd1e995L;
+    private static final long CYCLE_HASH = 0x27d4eb2f165667c5L;
+
+    private final Map<Object, Long> fingerprints = new IdentityHashMap<>();
+    /** Schemas aus Zyklen, deren Fingerprint nur als Einstiegspunkt gilt. */
+    private final Set<Object> cyclic = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Vollständig berechnete Fingerprints, aus denen diese abgeleitet sind, oder null. */
+    private final SpecFingerprints base;
+
+    private SpecFingerprints(SpecFingerprints base) {
+        this.base = base;
+    }
+
+    /**
+     * Liefert die Fingerprints einer Spezifikation und berechnet sie beim ersten Aufruf.
+     *
+     * @param spec OpenAPI-Spezifikation
+     * @return Fingerprints der Spezifikation
+     */
+    public static SpecFingerprints of(OpenAPI spec) {
+        SpecFingerprints fingerprints = lookup(spec);
+        if (fingerprints != null) {
+            return fingerprints;
+        }
+        // Außerhalb der Sperre, damit parallele Vergleiche nicht aufeinander warten
+        return register(spec, compute(spec, null));
+    }
+
+    /**
+     * Liefert die Fingerprints einer Spezifikation, die Knoten einer bereits berechneten
+     * Spezifikation wiederverwendet. Nur Knoten, die in der Basis nicht vorkommen, werden
+     * gehasht; die Kosten hängen damit von der Größe der Änderung ab, nicht der Spezifikation.
+     *
+     * Abgeleitete Fingerprints verweisen auf die vollständig berechneten Fingerprints ihrer
+     * Basis. Ist der eigene Anteil der Basis auf mehr als die Hälfte davon angewachsen, werden
+     * die Fingerprints neu berechnet, damit ersetzte Knoten nicht unbegrenzt gehalten werden.
+     *
+     * @param spec OpenAPI-Spezifikation
+     * @param baseSpec Spezifikation, deren Knoten {@code spec} teilweise enthält
+     * @return Fingerprints der Spezifikation
+     */
+    public static SpecFingerprints derive(OpenAPI spec, OpenAPI baseSpec) {
+        SpecFingerprints fingerprints = lookup(spec);
+        if (fingerprints != null) {
+            return fingerprints;
+        }
+        SpecFingerprints baseFingerprints = of(baseSpec);
+        SpecFingerprints root = baseFingerprints.base != null ? baseFingerprints.base : baseFingerprints;
+        if (baseFingerprints.base != null
+                && baseFingerprints.fingerprints.size() > root.fingerprints.size() / 2) {
+            fingerprints = compute(spec, null);
+        } else {
+            fingerprints = new SpecFingerprints(root);
+            if (baseFingerprints != root) {
+                // Eigene Knoten der Basis können auch in spec vorkommen
+                fingerprints.fingerprints.putAll(baseFingerprints.fingerprints);
+                fingerprints.cyclic.addAll(baseFingerprints.cyclic);
+            }
+            hashAll(spec, fingerprints);
+        }
+        return register(spec, fingerprints);
+    }
+
+    /**
+     * Erstellt eine Hash-Funktion für Schemas, die {@code $ref}s über den Resolver auflöst
+     * und statt des Referenznamens den Inhalt des Ziels hasht. Zwischenergebnisse werden
+     * in der Funktion gemerkt.
+     *
+     * @param resolver Liefert zu einem Schema mit {@code $ref} das referenzierte Schema
+     * @return Hash-Funktion für Schemas einer Spezifikation
+     */
+    static ToLongFunction<Schema> referenceResolvingHasher(UnaryOperator<Schema> resolver) {
+        Hasher hasher = new Hasher(new IdentityHashMap<>(), Collections.newSetFromMap(new IdentityHashMap<>()),
+                null, resolver);
+        return hasher::schema;
+    }
+
+    private static SpecFingerprints compute(OpenAPI spec, SpecFingerprints base) {
+        SpecFingerprints fingerprints = new SpecFingerprints(base);
+        hashAll(spec, fingerprints);
+        return fingerprints;
+    }
+
+    private static void hashAll(OpenAPI spec, SpecFingerprints fingerprints) {
+        Hasher hasher = new Hasher(fingerprints.fingerprints, fingerprints.cyclic, fingerprints.base, null);
+
+        if (spec.getPaths() != null) {
+            for (PathItem pathItem : spec.getPaths().values()) {
+                hasher.pathItem(pathItem);
+            }
+        }
+        if (spec.getComponents() != null && spec.getComponents().getSchemas() != null) {
+            for (Schema schema : spec.getComponents().getSchemas().values()) {
+                hasher.schema(schema);
+            }
+        }
+        hasher.hashCycleMembers();
+    }
+
+    /**
+     * Prüft, ob zwei Knoten der beiden Spezifikationen strukturell identisch sind.
+     *
+     * @param oldFingerprints Fingerprints der alten Spezifikation
+     * @param oldNode Knoten der alten Spezifikation
+     * @param newFingerprints Fingerprints der neuen Spezifikation
+     * @param newNode Knoten der neuen Spezifikation
+     * @return true wenn beide Knoten existieren und denselben Fingerprint haben
+     */
+    public static boolean unchanged(SpecFingerprints oldFingerprints, Object oldNode,
+                                    SpecFingerprints newFingerprints, Object newNode) {
+        if (oldNode == null || newNode == null) {
+            return false;
+        }
+        Long oldFingerprint = oldFingerprints.get(oldNode);
+        Long newFingerprint = newFingerprints.get(newNode);
+        return oldFingerprint != null && oldFingerprint.equals(newFingerprint);
+    }
+
+    /**
+     * Fingerprint eines Knotens dieser Spezifikation.
+     *
+     * @param node PathItem, Operation, ApiResponse, MediaType oder Schema
+     * @return Fingerprint oder {@code null}, wenn der Knoten nicht zu dieser Spezifikation gehört
+     */
+    public Long get(Object node) {
+        Long fingerprint = fingerprints.get(node);
+        return fingerprint != null || base == null ? fingerprint : base.fingerprints.get(node);
+    }
+
+    private boolean isCyclic(Object node) {
+        return cyclic.contains(node) || base != null && base.cyclic.contains(node);
+    }
+
+    private static SpecFingerprints lookup(OpenAPI spec) {
+        synchronized (REGISTRY) {
+            expungeCollected();
+            return REGISTRY.get(new IdentityKey(spec, null));
+        }
+    }
+
+    /**
+     * Trägt berechnete Fingerprints ein. Hat ein anderer Thread dieselbe Spezifikation
+     * gleichzeitig berechnet, gewinnt der erste Eintrag, damit alle Aufrufer dieselbe Instanz
+     * erhalten.
+     */
+    private static SpecFingerprints register(OpenAPI spec, SpecFingerprints fingerprints) {
+        synchronized (REGISTRY) {
+            expungeCollected();
+            SpecFingerprints existing = REGISTRY.putIfAbsent(new IdentityKey(spec, COLLECTED), fingerprints);
+            return existing != null ? existing : fingerprints;
+        }
+    }
+
+    private static void expungeCollected() {
+        Reference<? extends OpenAPI> reference;
+        while ((reference = COLLECTED.poll()) != null) {
+            REGISTRY.remove(reference);
+        }
+    }
+
+    /**
+     * Schlüssel über die Objektidentität, hält die Spezifikation nur schwach referenziert.
+     */
+    private static final class IdentityKey extends WeakReference<OpenAPI> {
+
+        private final int hash;
+
+        IdentityKey(OpenAPI spec, ReferenceQueue<OpenAPI> queue) {
+            super(spec, queue);
+            this.hash = System.identityHashCode(spec);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey otherKey)) {
+                return false;
+            }
+            OpenAPI spec = get();
+            return spec != null && spec == otherKey.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Berechnet die Hashes rekursiv und merkt sich jedes Zwischenergebnis.
+     */
+    private static final class Hasher {
+
+        private final Map<Object, Long> memo;
+        private final Set<Object> cyclic;
+        private final SpecFingerprints known;
+        /** Schemas auf dem aktuellen Pfad mit ihrer Tiefe. */
+        private final Map<Object, Integer> inProgress = new IdentityHashMap<>();
+        private final UnaryOperator<Schema> resolver;
+        private Object current;
+        /** Geringste Tiefe, auf die ein Rückverweis im aktuellen Teilbaum zeigt. */
+        private int lowestCycleTarget = Integer.MAX_VALUE;
+        /** Schemas aus Zyklen, die bisher nur innerhalb eines anderen Einstiegs gehasht wurden. */
+        private final Deque<Schema<?>> cycleMembers = new ArrayDeque<>();
+
+        Hasher(Map<Object, Long> memo, Set<Object> cyclic, SpecFingerprints known, UnaryOperator<Schema> resolver) {
+            this.memo = memo;
+            this.cyclic = cyclic;
+            this.known = known;
+            this.resolver = resolver;
+        }
+
+        private Long cached(Object node) {
+            Long cached = memo.get(node);
+            if (cached == null && known != null) {
+                cached = known.get(node);
+            }
+            // Fingerprints von Zyklus-Schemas gelten nur, wenn der Durchlauf bei ihnen beginnt
+            if (cached != null && !inProgress.isEmpty()
+                    && (cyclic.contains(node) || known != null && known.isCyclic(node))) {
+                return null;
+            }
+            return cached;
+        }
+
+        /**
+         * Hasht alle Zyklus-Schemas, die bisher nur als Teil eines anderen Einstiegs besucht
+         * wurden, mit sich selbst als Einstiegspunkt.
+         */
+        void hashCycleMembers() {
+            while (!cycleMembers.isEmpty()) {
+                Schema<?> schema = cycleMembers.pop();
+                if (cached(schema) == null) {
+                    schema(schema);
+                }
+            }
+        }
+
+        long pathItem(PathItem pathItem) {
+            if (pathItem == null) {
+                return NULL_HASH;
+            }
+            Long cached = cached(pathItem);
+            if (cached != null) {
+                return cached;
+            }
+
+            long h = seed("PathItem");
+            h = combine(h, value(pathItem.get$ref()));
+            h = combine(h, value(pathItem.getSummary()));
+            h = combine(h, value(pathItem.getDescription()));
+            h = combine(h, operation(pathItem.getGet()));
+            h = combine(h, operation(pathItem.getPut()));
+            h = combine(h, operation(pathItem.getPost()));
+            h = combine(h, operation(pathItem.getDelete()));
+            h = combine(h, operation(pathItem.getOptions()));
+            h = combine(h, operation(pathItem.getHead()));
+            h = combine(h, operation(pathItem.getPatch()));
+            h = combine(h, operation(pathItem.getTrace()));
+            h = combine(h, parameters(pathItem.getParameters()));
+            h = combine(h, value(pathItem.getServers()));
+            h = combine(h, value(pathItem.getExtensions()));
+
+            memo.put(pathItem, h);
+            return h;
+        }
+
+        long operation(Operation operation) {
+            if (operation == null) {
+                return NULL_HASH;
+            }
+            Long cached = cached(operation);
+            if (cached != null) {
+                return cached;
+            }
+
+            long h = seed("Operation");
+            h = combine(h, value(operation.getOperationId()));
+            h = combine(h, value(operation.getTags()));
+            h = combine(h, value(operation.getSummary()));
+            h = combine(h, value(operation.getDescription()));
+            h = combine(h, value(operation.getDeprecated()));
+            h = combine(h, parameters(operation.getParameters()));
+            h = combine(h, requestBody(operation.getRequestBody()));
+            if (operation.getResponses() != null) {
+                for (Map.Entry<String, ApiResponse> entry : operation.getResponses().entrySet()) {
+                    h = combine(h, value(entry.getKey()));
+                    h = combine(h, response(entry.getValue()));
+                }
+            } else {
+                h = combine(h, NULL_HASH);
+            }
+            if (operation.getCallbacks() != null) {
+                for (Map.Entry<String, Callback> entry : operation.getCallbacks().entrySet()) {
+                    h = combine(h, value(entry.getKey()));
+                    h = combine(h, callback(entry.getValue()));
+                }
+            } else {
+                h = combine(h, NULL_HASH);
+            }
+            h = combine(h, value(operation.getSecurity()));
+            h = combine(h, value(operation.getServers()));
+            h = combine(h, value(operation.getExtensions()));
+
+            memo.put(operation, h);
+            return h;
+        }
+
+        long response(ApiResponse response) {
+            if (response == null) {
+                return NULL_HASH;
+            }
+            Long cached = cached(response);
+            if (cached != null) {
+                return cached;
+            }
+
+            long h = seed("ApiResponse");
+            h = combine(h, value(response.get$ref()));
+            h = combine(h, value(response.getDescription()));
+            if (response.getHeaders() != null) {
+                for (Map.Entry<String, Header> entry : response.getHeaders().entrySet()) {
+                    h = combine(h, value(entry.getKey()));
+                    h = combine(h, header(entry.getValue()));
+                }
+            } else {
+                h = combine(h, NULL_HASH);
+            }
+            h = combine(h, content(response.getContent()));
+            h = combine(h, value(response.getLinks()));
+            h = combine(h, value(response.getExtensions()));
+
+            memo.put(response, h);
+            return h;
+        }
+
+        long mediaType(MediaType mediaType) {
+            if (mediaType == null) {
+                return NULL_HASH;
+            }
+            Long cached = cached(mediaType);
+            if (cached != null) {
+                return cached;
+            }
+
+            long h = seed("MediaType");
+            h = combine(h, schema(mediaType.getSchema()));
+            h = combine(h, value(mediaType.getExample()));
+            h = combine(h, value(mediaType.getExamples()));
+            if (mediaType.getEncoding() != null) {
+                for (Map.Entry<String, Encoding> entry : mediaType.getEncoding().entrySet()) {
+                    Encoding encoding = entry.getValue();
+                    h = combine(h, value(entry.getKey()));
+                    h = combine(h, value(encoding.getContentType()));
+                    h = combine(h, value(encoding.getStyle()));
+                    h = combine(h, value(encoding.getExplode()));
+                    h = combine(h, value(encoding.getAllowReserved()));
+                    if (encoding.getHeaders() != null) {
+                        for (Map.Entry<String, Header> header : encoding.getHeaders().entrySet()) {
+                            h = combine(h, value(header.getKey()));
+                            h = combine(h, header(header.getValue()));
+                        }
+                    }
+                }
+            }
+            h = combine(h, value(mediaType.getExtensions()));
+
+            memo.put(mediaType, h);
+            return h;
+        }
+
+        long schema(Schema<?> schema) {
+            if (schema == null) {
+                return NULL_HASH;
+            }
+            Long cached = cached(schema);
+            if (cached != null) {
+                return cached;
+            }
+            Integer targetDepth = inProgress.get(schema);
+            if (targetDepth != null) {
+                // Rückverweis über seine Position auf dem Pfad; direkte Selbstreferenzen hängen
+                // nicht davon ab, wo der Durchlauf eingestiegen ist
+                if (schema != current) {
+                    lowestCycleTarget = Math.min(lowestCycleTarget, targetDepth);
+                }
+                return combine(CYCLE_HASH, inProgress.size() - targetDepth);
+            }
+            if (resolver != null && schema.get$ref() != null) {
+                Schema target = resolver.apply(schema);
+                if (target != schema) {
+                    long h = schema(target);
+                    if (cached(target) != null) {
+                        memo.put(schema, h);
+                        if (cyclic.contains(target) || known != null && known.isCyclic(target)) {
+                            cyclic.add(schema);
+                        }
+                    }
+                    return h;
+                }
+            }
+            int depth = inProgress.size();
+            inProgress.put(schema, depth);
+            Object parent = current;
+            int outerLowest = lowestCycleTarget;
+            current = schema;
+            lowestCycleTarget = Integer.MAX_VALUE;
+
+            long h = seed("Schema");
+            h = combine(h, value(schema.get$ref()));
+            h = combine(h, value(schema.getType()));
+            h = combine(h, value(schema.getTypes()));
+            h = combine(h, value(schema.getFormat()));
+            h = combine(h, value(schema.getTitle()));
+            h = combine(h, value(schema.getDescription()));
+            h = combine(h, value(schema.getDefault()));
+            h = combine(h, value(schema.getEnum()));
+            h = combine(h, value(schema.getConst()));
+            h = combine(h, value(schema.getMultipleOf()));
+            h = combine(h, value(schema.getMaximum()));
+            h = combine(h, value(schema.getExclusiveMaximum()));
+            h = combine(h, value(schema.getExclusiveMaximumValue()));
+            h = combine(h, value(schema.getMinimum()));
+            h = combine(h, value(schema.getExclusiveMinimum()));
+            h = combine(h, value(schema.getExclusiveMinimumValue()));
+            h = combine(h, value(schema.getMaxLength()));
+            h = combine(h, value(schema.getMinLength()));
+            h = combine(h, value(schema.getPattern()));
+            h = combine(h, value(schema.getMaxItems()));
+            h = combine(h, value(schema.getMinItems()));
+            h = combine(h, value(schema.getUniqueItems()));
+            h = combine(h, value(schema.getMaxProperties()));
+            h = combine(h, value(schema.getMinProperties()));
+            h = combine(h, value(schema.getRequired()));
+            h = combine(h, value(schema.getNullable()));
+            h = combine(h, value(schema.getReadOnly()));
+            h = combine(h, value(schema.getWriteOnly()));
+            h = combine(h, value(schema.getDeprecated()));
+            h = combine(h, value(schema.getExample()));
+            h = combine(h, discriminator(schema.getDiscriminator()));
+            h = combine(h, schemaMap(schema.getProperties()));
+            h = combine(h, schemaMap(schema.getPatternProperties()));
+            Object additionalProperties = schema.getAdditionalProperties();
+            h = combine(h, additionalProperties instanceof Schema<?> additionalSchema
+                    ? schema(additionalSchema)
+                    : value(additionalProperties));
+            h = combine(h, schema(schema.getItems()));
+            h = combine(h, schema(schema.getNot()));
+            h = combine(h, schemaList(schema.getAllOf()));
+            h = combine(h, schemaList(schema.getAnyOf()));
+            h = combine(h, schemaList(schema.getOneOf()));
+            h = combine(h, schemaList(schema.getPrefixItems()));
+            h = combine(h, value(schema.getXml()));
+            h = combine(h, value(schema.getExtensions()));
+
+            inProgress.remove(schema);
+            current = parent;
+            // Zeigt ein Rückverweis auf dieses oder ein äußeres Schema, hängt der Hash vom
+            // Einstiegspunkt in den Zyklus ab: Er gilt nur für den Einstieg bei diesem Schema
+            // und wird innerhalb anderer Einstiege neu berechnet
+            if (lowestCycleTarget > depth) {
+                memo.put(schema, h);
+            } else if (depth == 0) {
+                memo.put(schema, h);
+                cyclic.add(schema);
+            } else {
+                cycleMembers.push(schema);
+            }
+            lowestCycleTarget = Math.min(outerLowest, lowestCycleTarget);
+            return h;
+        }
+
+        private long parameters(List<Parameter> parameters) {
+            if (parameters == null) {
+                return NULL_HASH;
+            }
+            long h = seed("Parameters");
+            for (Parameter parameter : parameters) {
+                h = combine(h, value(parameter.get$ref()));
+                h = combine(h, value(parameter.getName()));
+                h = combine(h, value(parameter.getIn()));
+                h = combine(h, value(parameter.getDescription()));
+                h = combine(h, value(parameter.getRequired()));
+                h = combine(h, value(parameter.getDeprecated()));
+                h = combine(h, value(parameter.getAllowEmptyValue()));
+                h = combine(h, value(parameter.getStyle()));
+                h = combine(h, value(parameter.getExplode()));
+                h = combine(h, value(parameter.getAllowReserved()));
+                h = combine(h, schema(parameter.getSchema()));
+                h = combine(h, value(parameter.getExample()));
+                h = combine(h, value(parameter.getExamples()));
+                h = combine(h, content(parameter.getContent()));
+                h = combine(h, value(parameter.getExtensions()));
+            }
+            return h;
+        }
+
+        private long requestBody(RequestBody requestBody) {
+            if (requestBody == null) {
+                return NULL_HASH;
+            }
+            long h = seed("RequestBody");
+            h = combine(h, value(requestBody.get$ref()));
+            h = combine(h, value(requestBody.getDescription()));
+            h = combine(h, value(requestBody.getRequired()));
+            h = combine(h, content(requestBody.getContent()));
+            h = combine(h, value(requestBody.getExtensions()));
+            return h;
+        }
+
+        private long header(Header header) {
+            if (header == null) {
+                return NULL_HASH;
+            }
+            long h = seed("Header");
+            h = combine(h, value(header.get$ref()));
+            h = combine(h, value(header.getDescription()));
+            h = combine(h, value(header.getRequired()));
+            h = combine(h, value(header.getDeprecated()));
+            h = combine(h, value(header.getStyle()));
+            h = combine(h, value(header.getExplode()));
+            h = combine(h, schema(header.getSchema()));
+            h = combine(h, value(header.getExample()));
+            h = combine(h, value(header.getExamples()));
+            h = combine(h, content(header.getContent()));
+            h = combine(h, value(header.getExtensions()));
+            return h;
+        }
+
+        private long callback(Callback callback) {
+            if (callback == null) {
+                return NULL_HASH;
+            }
+            long h = seed("Callback");
+            h = combine(h, value(callback.get$ref()));
+            for (Map.Entry<String, PathItem> entry : callback.entrySet()) {
+                h = combine(h, value(entry.getKey()));
+                h = combine(h, pathItem(entry.getValue()));
+            }
+            return h;
+        }
+
+        private long content(Content content) {
+            if (content == null) {
+                return NULL_HASH;
+            }
+            long h = seed("Content");
+            for (Map.Entry<String, MediaType> entry : content.entrySet()) {
+                h = combine(h, value(entry.getKey()));
+                h = combine(h, mediaType(entry.getValue()));
+            }
+            return h;
+        }
+
+        private long discriminator(Discriminator discriminator) {
+            if (discriminator == null) {
+                return NULL_HASH;
+            }
+            long h = seed("Discriminator");
+            h = combine(h, value(discriminator.getPropertyName()));
+            h = combine(h, value(discriminator.getMapping()));
+            return h;
+        }
+
+        private long schemaMap(Map<String, Schema> schemas) {
+            if (schemas == null) {
+                return NULL_HASH;
+            }
+            long h = seed("SchemaMap");
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                h = combine(h, value(entry.getKey()));
+                h = combine(h, schema(entry.getValue()));
+            }
+            return h;
+        }
+
+        private long schemaList(List<Schema> schemas) {
+            if (schemas == null) {
+                return NULL_HASH;
+            }
+            long h = seed("SchemaList");
+            for (Schema schema : schemas) {
+                h = combine(h, schema(schema));
+            }
+            return h;
+        }
+    }
+
+    private static long seed(String type) {
+        return hashString(type);
+    }
+
+    private static long combine(long h, long value) {
+        return Long.rotateLeft(h ^ value, 27) * 0x9E3779B97F4A7C15L + 0x632BE59BD9B4E019L;
+    }
+
+    private static long value(Object value) {
+        if (value == null) {
+            return NULL_HASH;
+        }
+        if (value instanceof String string) {
+            return hashString(string);
+        }
+        // Blattwerte (Enums, Zahlen, Beispiele, Extensions) ohne Schema-Referenzen. Listen und Maps
+        // elementweise, da hashCode() mit 32 Bit leicht kollidiert (z.B. [Aa] und [BB])
+        if (value instanceof Collection<?> collection) {
+            long h = seed("Collection");
+            for (Object element : collection) {
+                h = combine(h, value(element));
+            }
+            return combine(h, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            long h = seed("Map");
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                h = combine(h, value(entry.getKey()));
+                h = combine(h, value(entry.getValue()));
+            }
+            return combine(h, map.size());
+        }
+        // Zahlen über ihre kanonische Darstellung (BigDecimal#toString unterscheidet auch die Skala),
+        // Modellobjekte und JSON-Beispiele über ihre vollständige Textdarstellung
+        return combine(hashString(value.getClass().getName()), hashString(value.toString()));
+    }
+
+    private static long hashString(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,48 @@
+package com.majtom.oas.traversal;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Löst lokale Schema-Referenzen ({@code #/components/schemas/...}) einer Spezifikation
+ * bei Bedarf auf. Ketten von Referenzen werden bis zum ersten Schema ohne {@code $ref}
+ * verfolgt.
+ */
+final class SpecReferences {
+
+    static final String SCHEMA_PREFIX = "#/components/schemas/";
+
+    private static final int MAX_REFERENCE_DEPTH = 32;
+
+    private final Map<String, Schema> schemas;
+
+    SpecReferences(OpenAPI spec) {
+        this.schemas = spec.getComponents() != null && spec.getComponents().getSchemas() != null
+                ? spec.getComponents().getSchemas()
+                : Collections.emptyMap();
+    }
+
+    /**
+     * @param schema Schema, ggf. mit {@code $ref}
+     * @return Referenziertes Schema, oder das übergebene Schema, wenn es keine auflösbare
+     *         lokale Referenz ist
+     */
+    Schema resolve(Schema schema) {
+        Schema current = schema;
+        for (int depth = 0; depth < MAX_REFERENCE_DEPTH && current != null && current.get$ref() != null; depth++) {
+            String ref = current.get$ref();
+            if (!ref.startsWith(SCHEMA_PREFIX)) {
+                break;
+            }
+            Schema target = schemas.get(ref.substring(SCHEMA_PREFIX.length()));
+            if (target == null || target == current) {
+                break;
+            }
+            current = target;
+        }
+        return current;
+    }
+}
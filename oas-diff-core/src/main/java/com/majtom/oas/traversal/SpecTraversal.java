@@ -0,0 +1,366 @@
+package com.majtom.oas.traversal;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.sink.ChangeSink;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Durchläuft alte und neue Spezifikation gemeinsam in einem einzigen Durchgang und
+ * übergibt jedes zusammengehörige Element-Paar an alle registrierten {@link SpecVisitor}.
+ *
+ * Reihenfolge: Elemente der alten Version in ihrer Reihenfolge, danach nur in der neuen
+ * Version vorhandene Elemente in deren Reihenfolge. Operationen werden in der Reihenfolge
+ * GET, POST, PUT, DELETE, PATCH, HEAD, OPTIONS, TRACE besucht.
+ *
+ * Jeder Visitor erhält eine eigene Ergebnisliste, die Ergebnisse verschiedener Visitors
+ * werden also nicht vermischt. Alternativ gibt {@link #traverse(OpenAPI, OpenAPI, List)} die
+ * Änderungen jedes Callbacks sofort an eine Senke weiter.
+ *
+ * Paare von PathItems, Operationen, Responses, Media-Types und Component-Schemas mit
+ * identischem {@link SpecFingerprints Fingerprint} werden samt Teilbaum übersprungen.
+ * Visitors dürfen deshalb nur Unterschiede zwischen alter und neuer Version melden.
+ *
+ * Mit {@link #withTiming()} wird die in den Callbacks jedes Visitors verbrachte Zeit gemessen.
+ *
+ * Eine Instanz ist nicht für gleichzeitige Durchläufe aus mehreren Threads gedacht.
+ */
+public class SpecTraversal {
+
+    static final List<String> HTTP_METHODS =
+            List.of("GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS", "TRACE");
+
+    private final List<? extends SpecVisitor> visitors;
+
+    private SpecFingerprints oldFingerprints;
+    private SpecFingerprints newFingerprints;
+    private RefAwareSchemaComparator schemaComparator;
+    private long[] visitorNanos;
+    private List<List<ApiChange>> buffers;
+    private List<? extends ChangeSink> sinks;
+
+    public SpecTraversal(List<? extends SpecVisitor> visitors) {
+        this.visitors = visitors;
+    }
+
+    /**
+     * Erstellt einen Durchlauf für beliebige Regeln. {@link TraversalRule}s werden direkt
+     * registriert, alle anderen Regeln über einen {@link BreakingChangeRuleAdapter}.
+     *
+     * @param rules Regeln in Ausführungsreihenfolge
+     * @return Durchlauf mit einem Visitor pro Regel
+     */
+    public static SpecTraversal forRules(List<? extends BreakingChangeRule> rules) {
+        List<SpecVisitor> visitors = new ArrayList<>(rules.size());
+        for (BreakingChangeRule rule : rules) {
+            visitors.add(rule instanceof TraversalRule traversalRule
+                    ? traversalRule
+                    : new BreakingChangeRuleAdapter(rule));
+        }
+        return new SpecTraversal(visitors);
+    }
+
+    /**
+     * Aktiviert die Zeitmessung pro Visitor für folgende Durchläufe.
+     *
+     * @return Diese Instanz
+     */
+    public SpecTraversal withTiming() {
+        visitorNanos = new long[visitors.size()];
+        return this;
+    }
+
+    /**
+     * Gibt die im letzten Durchlauf in den Callbacks jedes Visitors verbrachte Zeit zurück.
+     * Der gemeinsame Durchlauf selbst ist darin nicht enthalten.
+     *
+     * @return Nanosekunden pro Visitor in der Reihenfolge der Visitor-Liste
+     * @throws IllegalStateException wenn die Zeitmessung nicht aktiviert ist
+     */
+    public long[] getVisitorNanos() {
+        if (visitorNanos == null) {
+            throw new IllegalStateException("Zeitmessung ist nicht aktiviert");
+        }
+        return visitorNanos.clone();
+    }
+
+    /**
+     * Durchläuft beide Spezifikationen.
+     *
+     * @param oldSpec Alte OpenAPI-Spezifikation
+     * @param newSpec Neue OpenAPI-Spezifikation
+     * @return Gefundene Änderungen pro Visitor, in der Reihenfolge der Visitor-Liste
+     */
+    public List<List<ApiChange>> traverse(OpenAPI oldSpec, OpenAPI newSpec) {
+        List<List<ApiChange>> results = new ArrayList<>(visitors.size());
+        for (int i = 0; i < visitors.size(); i++) {
+            results.add(new ArrayList<>());
+        }
+        run(oldSpec, newSpec, results, null);
+        return results;
+    }
+
+    /**
+     * Durchläuft beide Spezifikationen und gibt die Änderungen aller Visitors an eine Senke weiter.
+     *
+     * @param oldSpec Alte OpenAPI-Spezifikation
+     * @param newSpec Neue OpenAPI-Spezifikation
+     * @param sink Empfänger der gefundenen Änderungen
+     * @see #traverse(OpenAPI, OpenAPI, List)
+     */
+    public void traverse(OpenAPI oldSpec, OpenAPI newSpec, ChangeSink sink) {
+        traverse(oldSpec, newSpec, Collections.nCopies(visitors.size(), sink));
+    }
+
+    /**
+     * Durchläuft beide Spezifikationen und gibt die Änderungen jedes Visitors an seine Senke weiter.
+     *
+     * Die Änderungen eines Callbacks werden direkt danach weitergegeben, es werden keine
+     * Ergebnislisten pro Visitor aufgebaut. Die Reihenfolge ist die Durchlaufreihenfolge,
+     * für dasselbe Element-Paar in der Reihenfolge der Visitor-Liste. Die Weitergabe an die
+     * Senken zählt nicht zur gemessenen Zeit der Visitors.
+     *
+     * @param oldSpec Alte OpenAPI-Spezifikation
+     * @param newSpec Neue OpenAPI-Spezifikation
+     * @param sinks Eine Senke pro Visitor, in der Reihenfolge der Visitor-Liste
+     */
+    public void traverse(OpenAPI oldSpec, OpenAPI newSpec, List<? extends ChangeSink> sinks) {
+        if (sinks.size() != visitors.size()) {
+            throw new IllegalArgumentException("Anzahl der Senken (" + sinks.size()
+                    + ") passt nicht zur Anzahl der Visitors (" + visitors.size() + ")");
+        }
+        run(oldSpec, newSpec, Collections.nCopies(visitors.size(), new ArrayList<>()), sinks);
+    }
+
+    private void run(OpenAPI oldSpec, OpenAPI newSpec, List<List<ApiChange>> buffers,
+                     List<? extends ChangeSink> sinks) {
+        if (visitorNanos != null) {
+            Arrays.fill(visitorNanos, 0L);
+        }
+
+        this.buffers = buffers;
+        this.sinks = sinks;
+        oldFingerprints = SpecFingerprints.of(oldSpec);
+        newFingerprints = SpecFingerprints.of(newSpec);
+        schemaComparator = new RefAwareSchemaComparator(oldSpec, newSpec);
+
+        try {
+            dispatch((visitor, changes) -> visitor.visitSpec(oldSpec, newSpec, changes));
+
+            if (oldSpec.getPaths() != null && newSpec.getPaths() != null) {
+                traversePaths(oldSpec.getPaths(), newSpec.getPaths());
+            }
+
+            if (oldSpec.getComponents() != null && newSpec.getComponents() != null) {
+                traverseComponents(oldSpec, newSpec);
+            }
+        } finally {
+            this.buffers = null;
+            this.sinks = null;
+        }
+    }
+
+    private void traversePaths(Map<String, PathItem> oldPaths, Map<String, PathItem> newPaths) {
+        forEachPair(oldPaths, newPaths, (path, oldPathItem, newPathItem) -> {
+            if (unchanged(oldPathItem, newPathItem)) {
+                return;
+            }
+
+            dispatch((visitor, changes) ->
+                    visitor.visitPathItem(path, oldPathItem, newPathItem, changes));
+
+            if (oldPathItem != null && newPathItem != null) {
+                traverseOperations(path, oldPathItem, newPathItem);
+            }
+        });
+    }
+
+    private void traverseOperations(String path, PathItem oldPathItem, PathItem newPathItem) {
+        for (String method : HTTP_METHODS) {
+            Operation oldOp = operation(oldPathItem, method);
+            Operation newOp = operation(newPathItem, method);
+
+            if ((oldOp == null && newOp == null) || unchanged(oldOp, newOp)) {
+                continue;
+            }
+
+            dispatch((visitor, changes) ->
+                    visitor.visitOperation(path, method, oldOp, newOp, changes));
+
+            if (oldOp != null && newOp != null) {
+                traverseParameters(path, method, oldOp.getParameters(), newOp.getParameters());
+                traverseRequestBody(path, method, oldOp.getRequestBody(), newOp.getRequestBody());
+                traverseResponses(path, method, oldOp.getResponses(), newOp.getResponses());
+            }
+        }
+    }
+
+    private void traverseParameters(String path, String method, List<Parameter> oldParams, List<Parameter> newParams) {
+        List<Parameter> oldList = oldParams != null ? oldParams : Collections.emptyList();
+        List<Parameter> newList = newParams != null ? newParams : Collections.emptyList();
+
+        for (Parameter oldParam : oldList) {
+            Parameter newParam = findParameter(newList, oldParam);
+            dispatch((visitor, changes) ->
+                    visitor.visitParameter(path, method, oldParam, newParam, changes));
+        }
+
+        for (Parameter newParam : newList) {
+            if (findParameter(oldList, newParam) == null) {
+                dispatch((visitor, changes) ->
+                        visitor.visitParameter(path, method, null, newParam, changes));
+            }
+        }
+    }
+
+    private void traverseRequestBody(String path, String method, RequestBody oldBody, RequestBody newBody) {
+        if (oldBody == null || newBody == null) {
+            return;
+        }
+        traverseContent(path, method, null, oldBody.getContent(), newBody.getContent());
+    }
+
+    private void traverseResponses(String path, String method, ApiResponses oldResponses, ApiResponses newResponses) {
+        if (oldResponses == null || newResponses == null) {
+            return;
+        }
+
+        forEachPair(oldResponses, newResponses, (statusCode, oldResponse, newResponse) -> {
+            if (unchanged(oldResponse, newResponse)) {
+                return;
+            }
+
+            dispatch((visitor, changes) ->
+                    visitor.visitResponse(path, method, statusCode, oldResponse, newResponse, changes));
+
+            if (oldResponse != null && newResponse != null) {
+                traverseContent(path, method, statusCode, oldResponse.getContent(), newResponse.getContent());
+            }
+        });
+    }
+
+    private void traverseContent(String path, String method, String statusCode, Content oldContent, Content newContent) {
+        if (oldContent == null || newContent == null) {
+            return;
+        }
+
+        forEachPair(oldContent, newContent, (mediaType, oldMediaType, newMediaType) -> {
+            if (unchanged(oldMediaType, newMediaType)) {
+                return;
+            }
+
+            dispatch((visitor, changes) ->
+                    visitor.visitMediaType(path, method, statusCode, mediaType, oldMediaType, newMediaType,
+                            schemaComparator, changes));
+        });
+    }
+
+    private void traverseComponents(OpenAPI oldSpec, OpenAPI newSpec) {
+        if (oldSpec.getComponents().getSchemas() != null && newSpec.getComponents().getSchemas() != null) {
+            forEachPair(oldSpec.getComponents().getSchemas(), newSpec.getComponents().getSchemas(),
+                    (schemaName, oldSchema, newSchema) -> {
+                        if (unchanged(oldSchema, newSchema)) {
+                            return;
+                        }
+
+                        dispatch((visitor, changes) ->
+                                visitor.visitSchema(schemaName, oldSchema, newSchema, changes));
+                    });
+        }
+
+        if (oldSpec.getComponents().getSecuritySchemes() != null
+                && newSpec.getComponents().getSecuritySchemes() != null) {
+            forEachPair(oldSpec.getComponents().getSecuritySchemes(), newSpec.getComponents().getSecuritySchemes(),
+                    (schemeName, oldScheme, newScheme) ->
+                            dispatch((visitor, changes) ->
+                                    visitor.visitSecurityScheme(schemeName, oldScheme, newScheme, changes)));
+        }
+    }
+
+    private boolean unchanged(Object oldNode, Object newNode) {
+        return SpecFingerprints.unchanged(oldFingerprints, oldNode, newFingerprints, newNode);
+    }
+
+    private void dispatch(BiConsumer<SpecVisitor, List<ApiChange>> callback) {
+        for (int i = 0; i < visitors.size(); i++) {
+            List<ApiChange> changes = buffers.get(i);
+            if (visitorNanos != null) {
+                long start = System.nanoTime();
+                callback.accept(visitors.get(i), changes);
+                visitorNanos[i] += System.nanoTime() - start;
+            } else {
+                callback.accept(visitors.get(i), changes);
+            }
+            if (sinks != null && !changes.isEmpty()) {
+                sinks.get(i).acceptAll(changes);
+                changes.clear();
+            }
+        }
+    }
+
+    private static <T> void forEachPair(Map<String, ? extends T> oldMap, Map<String, ? extends T> newMap,
+                                        PairCallback<T> callback) {
+        for (Map.Entry<String, ? extends T> entry : oldMap.entrySet()) {
+            callback.accept(entry.getKey(), entry.getValue(), newMap.get(entry.getKey()));
+        }
+        for (Map.Entry<String, ? extends T> entry : newMap.entrySet()) {
+            if (!oldMap.containsKey(entry.getKey())) {
+                callback.accept(entry.getKey(), null, entry.getValue());
+            }
+        }
+    }
+
+    private static Parameter findParameter(List<Parameter> parameters, Parameter template) {
+        for (Parameter parameter : parameters) {
+            if (Objects.equals(parameter.getName(), template.getName())
+                    && Objects.equals(parameter.getIn(), template.getIn())) {
+                return parameter;
+            }
+        }
+        return null;
+    }
+
+    static Operation operation(PathItem pathItem, String method) {
+        switch (method) {
+            case "GET":
+                return pathItem.getGet();
+            case "POST":
+                return pathItem.getPost();
+            case "PUT":
+                return pathItem.getPut();
+            case "DELETE":
+                return pathItem.getDelete();
+            case "PATCH":
+                return pathItem.getPatch();
+            case "HEAD":
+                return pathItem.getHead();
+            case "OPTIONS":
+                return pathItem.getOptions();
+            case "TRACE":
+                return pathItem.getTrace();
+            default:
+                return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface PairCallback<T> {
+        void accept(String key, T oldValue, T newValue);
+    }
+}
@@ -0,0 +1,92 @@
+package com.majtom.oas.traversal;
+
+import com.majtom.oas.model.ApiChange;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+
+import java.util.List;
+
+/**
+ * Callback-Interface für den gemeinsamen Durchlauf von alter und neuer Spezifikation.
+ *
+ * {@link SpecTraversal} übergibt jedes zusammengehörige Element-Paar genau einmal.
+ * Ist ein Element nur in einer Version vorhanden, ist die jeweils andere Seite {@code null}
+ * (entfernt bzw. hinzugefügt). Unterelemente werden nur besucht, wenn beide Seiten existieren.
+ *
+ * Alle Methoden sind optional; ein Visitor überschreibt nur die Ebenen, die er prüft.
+ *
+ * Gefundene Änderungen werden an {@code changes} angehängt. Die Liste kann nach jedem Callback
+ * an eine Senke weitergegeben und geleert werden; Visitors dürfen sie also nicht auswerten.
+ */
+public interface SpecVisitor {
+
+    /**
+     * Wird einmal pro Durchlauf vor allen anderen Callbacks aufgerufen.
+     */
+    default void visitSpec(OpenAPI oldSpec, OpenAPI newSpec, List<ApiChange> changes) {
+    }
+
+    /**
+     * Pfad-Paar, z.B. {@code /users/{id}}.
+     */
+    default void visitPathItem(String path, PathItem oldPathItem, PathItem newPathItem, List<ApiChange> changes) {
+    }
+
+    /**
+     * Operation-Paar eines Pfades, {@code method} ist die HTTP-Methode in Großbuchstaben.
+     */
+    default void visitOperation(String path, String method, Operation oldOperation, Operation newOperation,
+                                List<ApiChange> changes) {
+    }
+
+    /**
+     * Parameter-Paar einer Operation, zugeordnet über Name und Location.
+     */
+    default void visitParameter(String path, String method, Parameter oldParameter, Parameter newParameter,
+                                List<ApiChange> changes) {
+    }
+
+    /**
+     * Response-Paar einer Operation, zugeordnet über den Status-Code.
+     */
+    default void visitResponse(String path, String method, String statusCode, ApiResponse oldResponse,
+                               ApiResponse newResponse, List<ApiChange> changes) {
+    }
+
+    /**
+     * Media-Type-Paar eines Request-Bodys ({@code statusCode == null}) oder einer Response.
+     */
+    default void visitMediaType(String path, String method, String statusCode, String mediaType,
+                                MediaType oldMediaType, MediaType newMediaType, List<ApiChange> changes) {
+    }
+
+    /**
+     * Wie {@link #visitMediaType(String, String, String, String, MediaType, MediaType, List)}, zusätzlich
+     * mit einem Vergleicher, der {@code $ref}s gegen die Components beider Spezifikationen auflöst.
+     * Die Standardimplementierung delegiert an die Variante ohne Vergleicher.
+     */
+    default void visitMediaType(String path, String method, String statusCode, String mediaType,
+                                MediaType oldMediaType, MediaType newMediaType,
+                                RefAwareSchemaComparator schemaComparator, List<ApiChange> changes) {
+        visitMediaType(path, method, statusCode, mediaType, oldMediaType, newMediaType, changes);
+    }
+
+    /**
+     * Schema-Paar aus {@code components/schemas}.
+     */
+    default void visitSchema(String schemaName, Schema oldSchema, Schema newSchema, List<ApiChange> changes) {
+    }
+
+    /**
+     * Security-Scheme-Paar aus {@code components/securitySchemes}.
+     */
+    default void visitSecurityScheme(String schemeName, SecurityScheme oldScheme, SecurityScheme newScheme,
+                                     List<ApiChange> changes) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.majtom.oas.traversal;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.rules.BreakingChangeRule;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.List;
+
+/**
+ * Breaking-Change-Regel, die als {@link SpecVisitor} implementiert ist.
+ *
+ * Solche Regeln durchlaufen die Spezifikationen nicht selbst, sondern werden von
+ * {@link SpecTraversal} zusammen mit allen anderen Traversal-Regeln in einem einzigen
+ * Durchgang aufgerufen. Über {@link #evaluate(OpenAPI, OpenAPI)} bleiben sie weiterhin
+ * als normale {@link BreakingChangeRule} verwendbar.
+ */
+public interface TraversalRule extends BreakingChangeRule, SpecVisitor {
+
+    @Override
+    default List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
+        return new SpecTraversal(List.of(this)).traverse(oldSpec, newSpec).get(0);
+    }
+}
@@ -0,0 +1,268 @@
+package com.majtom.oas.watch;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.ExternalReferenceScanner;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Beobachtet eine alte und eine neue Spezifikation samt ihrer extern referenzierten Dateien
+ * und vergleicht sie nach jeder Änderung erneut.
+ *
+ * Änderungen werden gesammelt, bis für die Entprellzeit keine weitere eintrifft; ein Editor,
+ * der beim Speichern mehrfach schreibt, löst so nur einen Vergleich aus. Neu geparst wird
+ * nur die Seite, zu der eine geänderte Datei gehört, das Modell der anderen Seite bleibt im
+ * Speicher. Jede Beobachtung hat einen eigenen {@link WatchService} und Thread; sie endet
+ * mit {@link #close()} oder wenn der Empfänger eine Exception wirft.
+ */
+public final class SpecWatch implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SpecWatch.class);
+
+    private final Path oldSpec;
+    private final Path newSpec;
+    private final OasParser parser;
+    private final OasComparisonService comparisonService;
+    private final long debounceMillis;
+    private final Consumer<SpecWatchUpdate> listener;
+    private final Consumer<SpecWatch> onClose;
+    private final WatchService watchService;
+    private final Map<Path, WatchKey> directories = new HashMap<>();
+    private final Thread thread;
+
+    // Nach dem Start nur noch vom Beobachtungs-Thread verwendet
+    private Set<Path> oldFiles;
+    private Set<Path> newFiles;
+    private OpenAPI oldApi;
+    private OpenAPI newApi;
+    private SpecWatchUpdate initialUpdate;
+    private long sequence;
+
+    private volatile boolean closed;
+
+    SpecWatch(Path oldSpec, Path newSpec, OasParser parser, OasComparisonService comparisonService,
+              long debounceMillis, Consumer<SpecWatchUpdate> listener, Consumer<SpecWatch> onClose)
+            throws OasParseException {
+        this.oldSpec = oldSpec;
+        this.newSpec = newSpec;
+        this.parser = parser;
+        this.comparisonService = comparisonService;
+        this.debounceMillis = debounceMillis;
+        this.listener = listener;
+        this.onClose = onClose;
+        this.thread = Thread.ofPlatform().name("oas-watch-" + oldSpec.getFileName()).daemon().unstarted(this::run);
+
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new OasParseException("Dateibeobachtung nicht verfügbar", e);
+        }
+
+        try {
+            // Erst registrieren, dann parsen: Änderungen während des ersten Parsens gehen nicht verloren
+            oldFiles = ExternalReferenceScanner.scan(oldSpec);
+            newFiles = ExternalReferenceScanner.scan(newSpec);
+            updateRegistrations();
+
+            long start = System.nanoTime();
+            List<OpenAPI> specs = parser.parseFromFiles(List.of(oldSpec.toString(), newSpec.toString()));
+            oldApi = specs.get(0);
+            newApi = specs.get(1);
+            initialUpdate = new SpecWatchUpdate(sequence++, comparisonService.compareSpecifications(oldApi, newApi),
+                    null, true, true, List.of(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (OasParseException | RuntimeException e) {
+            closeWatchService();
+            throw e;
+        }
+    }
+
+    void start() {
+        log.info("Beobachte {} und {} ({} Dateien)", oldSpec, newSpec, watchedFiles().size());
+        thread.start();
+    }
+
+    public Path getOldSpec() {
+        return oldSpec;
+    }
+
+    public Path getNewSpec() {
+        return newSpec;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Beendet die Beobachtung. Ein laufender Vergleich wird noch abgeschlossen, aber nicht
+     * mehr zugestellt.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        closeWatchService();
+        onClose.accept(this);
+        log.info("Beobachtung von {} und {} beendet", oldSpec, newSpec);
+    }
+
+    private void closeWatchService() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("WatchService nicht geschlossen: {}", e.getMessage());
+        }
+    }
+
+    private void run() {
+        try {
+            publish(initialUpdate);
+            initialUpdate = null;
+            while (!closed) {
+                Set<Path> changed = awaitChanges();
+                boolean reparseOld = !Collections.disjoint(changed, oldFiles);
+                boolean reparseNew = !Collections.disjoint(changed, newFiles);
+                if (reparseOld || reparseNew) {
+                    changed.retainAll(watchedFiles());
+                    publish(recompare(reparseOld, reparseNew, changed));
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Beobachtung wurde beendet
+        } catch (RuntimeException e) {
+            log.warn("Beobachtung von {} und {} abgebrochen: {}", oldSpec, newSpec, e.getMessage());
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Wartet auf die erste Änderung und sammelt weitere, bis für die Entprellzeit keine mehr
+     * eintrifft.
+     */
+    private Set<Path> awaitChanges() throws InterruptedException {
+        Set<Path> changed = new HashSet<>();
+        WatchKey key = watchService.take();
+        while (key != null) {
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // Ereignisse verloren, alles als geändert betrachten
+                    changed.addAll(watchedFiles());
+                } else {
+                    changed.add(directory.resolve((Path) event.context()));
+                }
+            }
+            key.reset();
+            key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+        }
+        return changed;
+    }
+
+    private SpecWatchUpdate recompare(boolean reparseOld, boolean reparseNew, Set<Path> changed) {
+        long start = System.nanoTime();
+        List<String> changedFiles = List.copyOf(new TreeSet<>(changed.stream().map(Path::toString).toList()));
+        log.info("Änderung erkannt: {}", changedFiles);
+
+        OasParseException error = null;
+        try {
+            if (reparseOld && reparseNew) {
+                List<OpenAPI> specs = parser.parseFromFiles(List.of(oldSpec.toString(), newSpec.toString()));
+                oldApi = specs.get(0);
+                newApi = specs.get(1);
+            } else if (reparseOld) {
+                oldApi = parser.parseFromFile(oldSpec.toString());
+            } else {
+                newApi = parser.parseFromFile(newSpec.toString());
+            }
+        } catch (OasParseException e) {
+            // Modelle der letzten erfolgreichen Version behalten; die nächste Änderung parst erneut
+            log.info("Spezifikation nach Änderung nicht parsebar: {}", e.getMessage());
+            error = e;
+        }
+
+        // Referenzen können hinzugekommen oder weggefallen sein, auch wenn das Parsen fehlschlug
+        if (reparseOld) {
+            oldFiles = ExternalReferenceScanner.scan(oldSpec);
+        }
+        if (reparseNew) {
+            newFiles = ExternalReferenceScanner.scan(newSpec);
+        }
+        updateRegistrations();
+
+        ComparisonResult result = error == null ? comparisonService.compareSpecifications(oldApi, newApi) : null;
+        return new SpecWatchUpdate(sequence++, result, error, reparseOld, reparseNew, changedFiles,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void publish(SpecWatchUpdate update) {
+        if (!closed) {
+            listener.accept(update);
+        }
+    }
+
+    private Set<Path> watchedFiles() {
+        Set<Path> files = new HashSet<>(oldFiles);
+        files.addAll(newFiles);
+        return files;
+    }
+
+    /**
+     * Registriert die Verzeichnisse aller beobachteten Dateien und gibt nicht mehr benötigte frei.
+     * Beobachtet werden Verzeichnisse, weil Editoren beim Speichern oft eine neue Datei anlegen
+     * und umbenennen.
+     */
+    private void updateRegistrations() {
+        Set<Path> needed = new HashSet<>();
+        for (Path file : watchedFiles()) {
+            needed.add(file.getParent());
+        }
+
+        Iterator<Map.Entry<Path, WatchKey>> iterator = directories.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, WatchKey> entry = iterator.next();
+            if (!needed.contains(entry.getKey())) {
+                entry.getValue().cancel();
+                iterator.remove();
+            }
+        }
+
+        for (Path directory : needed) {
+            if (!directories.containsKey(directory) && Files.isDirectory(directory)) {
+                try {
+                    directories.put(directory, directory.register(watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE));
+                } catch (IOException e) {
+                    log.warn("Verzeichnis {} kann nicht beobachtet werden: {}", directory, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.majtom.oas.watch;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Startet {@link SpecWatch}es, die zwei Spezifikationen bei jeder Änderung erneut vergleichen.
+ *
+ * Beim Herunterfahren des Spring-Kontexts werden alle noch laufenden Beobachtungen beendet.
+ */
+@Service
+public class SpecWatchService implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SpecWatchService.class);
+
+    private final OasParser parser;
+    private final OasComparisonService comparisonService;
+    private final long debounceMillis;
+    private final Set<SpecWatch> activeWatches = ConcurrentHashMap.newKeySet();
+
+    public SpecWatchService(OasParser parser, OasComparisonService comparisonService) {
+        this(parser, comparisonService, 300);
+    }
+
+    @Autowired
+    public SpecWatchService(OasParser parser, OasComparisonService comparisonService,
+                            @Value("${oas.watch.debounce-millis:300}") long debounceMillis) {
+        this.parser = parser;
+        this.comparisonService = comparisonService;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Vergleicht zwei OAS-Dateien und beobachtet sie anschließend. Der Empfänger erhält
+     * zuerst das aktuelle Ergebnis, danach nach jeder Änderung ein neues, jeweils auf dem
+     * Thread der Beobachtung.
+     *
+     * @param oldSpecPath Pfad zur alten OAS-Datei
+     * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @param listener Empfänger der Ergebnisse; wirft er eine Exception, endet die Beobachtung
+     * @return Laufende Beobachtung, mit {@link SpecWatch#close()} zu beenden
+     * @throws OasParseException wenn eine Datei fehlt oder sich nicht parsen lässt
+     */
+    public SpecWatch watch(String oldSpecPath, String newSpecPath, Consumer<SpecWatchUpdate> listener)
+            throws OasParseException {
+        Path oldSpec = existingFile(oldSpecPath);
+        Path newSpec = existingFile(newSpecPath);
+
+        SpecWatch watch = new SpecWatch(oldSpec, newSpec, parser, comparisonService, debounceMillis, listener,
+                activeWatches::remove);
+        activeWatches.add(watch);
+        watch.start();
+        return watch;
+    }
+
+    public int getActiveWatchCount() {
+        return activeWatches.size();
+    }
+
+    /**
+     * Beendet alle laufenden Beobachtungen.
+     */
+    @Override
+    public void close() {
+        List<SpecWatch> watches = List.copyOf(activeWatches);
+        if (!watches.isEmpty()) {
+            log.info("Beende {} Beobachtungen", watches.size());
+        }
+        watches.forEach(SpecWatch::close);
+    }
+
+    private static Path existingFile(String specPath) throws OasParseException {
+        try {
+            Path path = Path.of(specPath).toAbsolutePath().normalize();
+            if (!Files.isRegularFile(path)) {
+                throw new OasParseException("Datei nicht gefunden: " + specPath);
+            }
+            return path;
+        } catch (InvalidPathException e) {
+            throw new OasParseException("Ungültiger Pfad: " + specPath, e);
+        }
+    }
+}
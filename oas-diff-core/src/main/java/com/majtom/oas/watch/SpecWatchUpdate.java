@@ -0,0 +1,26 @@
+package com.majtom.oas.watch;
+
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.OasParseException;
+
+import java.util.List;
+
+/**
+ * Neues Vergleichsergebnis einer {@link SpecWatch}.
+ *
+ * @param sequence Laufende Nummer, 0 für das Ergebnis beim Start
+ * @param result Vergleichsergebnis oder null, wenn das Parsen fehlgeschlagen ist
+ * @param error Fehler beim Parsen oder null
+ * @param oldReparsed Ob die alte Spezifikation neu geparst wurde
+ * @param newReparsed Ob die neue Spezifikation neu geparst wurde
+ * @param changedFiles Geänderte Dateien, die den Vergleich ausgelöst haben
+ * @param durationMillis Dauer von Parsen und Vergleich
+ */
+public record SpecWatchUpdate(long sequence, ComparisonResult result, OasParseException error,
+                              boolean oldReparsed, boolean newReparsed, List<String> changedFiles,
+                              long durationMillis) {
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
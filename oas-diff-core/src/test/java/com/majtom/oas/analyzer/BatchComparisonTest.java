@@ -0,0 +1,191 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.metrics.OasMetrics;
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParsedSpecCache;
+import com.majtom.oas.parser.ResolutionMode;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.info.EndpointAddedRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für den Batch-Vergleich mehrerer Dateipaare und Versionsketten.
+ */
+class BatchComparisonTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: %s
+            paths:
+            %s
+            """;
+
+    private final List<BreakingChangeRule> rules = List.of(new EndpointRemovedRule(), new EndpointAddedRule());
+
+    @TempDir
+    Path dir;
+
+    private SimpleMeterRegistry registry;
+    private OasComparisonService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        OasParser parser = new OasParser(new FormatDetector(), new FormatConverter(), ParsedSpecCache.disabled(),
+                ResolutionMode.FULL, new OasMetrics(registry));
+        service = new OasComparisonService(parser, rules, RuleExecutor.sequential(), 3);
+    }
+
+    @Test
+    @DisplayName("Sollte gemeinsame Baseline nur einmal parsen und Ergebnisse in Paar-Reihenfolge liefern")
+    void shouldParseSharedBaselineOnce() throws IOException {
+        String baseline = write("base.yaml", "1.0.0", "/users", "/orders");
+        List<SpecPair> pairs = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String candidate = write("v" + i + ".yaml", "2.0." + i, "/users", "/new" + i);
+            // Unterschiedliche Schreibweisen desselben Pfads zählen als eine Datei
+            pairs.add(new SpecPair(i % 2 == 0 ? baseline : dir.resolve("./base.yaml").toString(), candidate));
+        }
+
+        List<BatchItemResult> results = service.compareBatch(pairs);
+
+        assertEquals(6, results.size());
+        for (int i = 0; i < 6; i++) {
+            BatchItemResult item = results.get(i);
+            assertTrue(item.isSuccess());
+            assertEquals(i, item.index());
+            assertEquals("2.0." + i, item.result().getNewVersion());
+            assertEquals(2, item.result().getTotalChangesCount());
+        }
+        assertEquals(7, registry.get(OasMetrics.PARSE_DURATION).tag("format", "YAML").timer().count());
+    }
+
+    @Test
+    @DisplayName("Sollte Parse-Fehler nur für betroffene Paare melden")
+    void shouldReportErrorsPerPair() throws IOException {
+        String baseline = write("base.yaml", "1.0.0", "/users");
+        String candidate = write("v2.yaml", "2.0.0", "/users", "/orders");
+        String missing = dir.resolve("missing.yaml").toString();
+
+        List<BatchItemResult> results = service.compareBatch(List.of(
+                new SpecPair(baseline, candidate),
+                new SpecPair(missing, candidate),
+                new SpecPair(baseline, missing)));
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(1, results.get(0).result().getTotalChangesCount());
+        assertInstanceOf(OasParseException.class, results.get(1).error());
+        assertInstanceOf(OasParseException.class, results.get(2).error());
+        assertNull(results.get(2).result());
+    }
+
+    @Test
+    @DisplayName("Sollte gleichzeitige Batches auf die gemeinsamen Batch-Threads begrenzen")
+    void shouldShareBoundedPoolAcrossBatches() throws Exception {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        BreakingChangeRule slowRule = new BreakingChangeRule() {
+            @Override
+            public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    active.decrementAndGet();
+                }
+                return List.of();
+            }
+
+            @Override
+            public String getRuleName() {
+                return "Langsame Regel";
+            }
+        };
+        OasParser parser = new OasParser(new FormatDetector(), new FormatConverter());
+        List<SpecPair> pairs = new ArrayList<>();
+        String baseline = write("base.yaml", "1.0.0", "/users");
+        for (int i = 0; i < 4; i++) {
+            pairs.add(new SpecPair(baseline, write("v" + i + ".yaml", "2.0." + i, "/users")));
+        }
+
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try (OasComparisonService bounded = new OasComparisonService(parser, List.of(slowRule),
+                RuleExecutor.sequential(), 2)) {
+            List<Future<List<BatchItemResult>>> batches = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                batches.add(callers.submit(() -> bounded.compareBatch(pairs)));
+            }
+            for (Future<List<BatchItemResult>> batch : batches) {
+                assertTrue(batch.get(10, TimeUnit.SECONDS).stream().allMatch(BatchItemResult::isSuccess));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertTrue(maxActive.get() <= 2, "Gleichzeitige Vergleiche: " + maxActive.get());
+    }
+
+    @Test
+    @DisplayName("Sollte Versionskette mit einmaligem Parsen pro Version vergleichen")
+    void shouldCompareVersionChain() throws IOException {
+        List<String> versions = List.of(
+                write("v1.yaml", "1.0.0", "/users"),
+                write("v2.yaml", "2.0.0", "/users", "/orders"),
+                write("v3.yaml", "3.0.0", "/orders", "/invoices"),
+                write("v4.yaml", "4.0.0", "/orders", "/invoices"));
+
+        VersionChainResult chain = service.compareChain(versions);
+
+        assertEquals(3, chain.steps().size());
+        assertEquals("1.0.0", chain.steps().get(0).result().getOldVersion());
+        assertEquals(1, chain.steps().get(0).result().getTotalChangesCount());
+        assertEquals(2, chain.steps().get(1).result().getTotalChangesCount());
+        assertEquals(0, chain.steps().get(2).result().getTotalChangesCount());
+        assertEquals(1, chain.getBreakingStepCount());
+        assertEquals("4.0.0", chain.cumulative().result().getNewVersion());
+        assertEquals(3, chain.cumulative().result().getTotalChangesCount());
+        assertFalse(chain.hasFailures());
+        assertEquals(4, registry.get(OasMetrics.PARSE_DURATION).tag("format", "YAML").timer().count());
+    }
+
+    private String write(String name, String version, String... paths) throws IOException {
+        StringBuilder pathItems = new StringBuilder();
+        for (String path : paths) {
+            pathItems.append("  ").append(path).append(":\n")
+                    .append("    get:\n")
+                    .append("      responses:\n")
+                    .append("        '200':\n")
+                    .append("          description: OK\n");
+        }
+        Path file = dir.resolve(name);
+        Files.writeString(file, SPEC.formatted(version, pathItems));
+        return file.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.analyzer.ComparisonFixtures.BlockingRule;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.majtom.oas.analyzer.ComparisonFixtures.uncachedParser;
+import static com.majtom.oas.analyzer.ComparisonFixtures.writeSpec;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für das Zusammenfassen gleichzeitiger Vergleiche mit demselben Schlüssel.
+ */
+class CoalescedComparisonTest {
+
+    private static final int CALLERS = 8;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Sollte gleichzeitige Vergleiche desselben Paares nur einmal berechnen")
+    void shouldComputeConcurrentComparisonsOnce() throws Exception {
+        Path oldSpec = writeSpec(tempDir, "v1.yaml", "/users");
+        Path newSpec = writeSpec(tempDir, "v2.yaml", "/orders");
+        BlockingRule rule = new BlockingRule();
+        // Ohne Ergebnis-Cache: Nur das Zusammenfassen verhindert doppelte Berechnungen
+        OasComparisonService service = new OasComparisonService(uncachedParser(), List.of(rule, new EndpointRemovedRule()),
+                RuleExecutor.sequential());
+
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<ComparisonResult>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> service.compareSpecifications(
+                        service.comparisonKey(oldSpec.toString(), newSpec.toString()),
+                        oldSpec.toString(), newSpec.toString())));
+            }
+            assertTrue(rule.awaitStarted());
+            while (service.getCoalescedComparisons() < CALLERS - 1) {
+                Thread.sleep(5);
+            }
+            rule.release();
+
+            ComparisonResult first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<ComparisonResult> result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, rule.getEvaluations());
+            assertTrue(first.hasBreakingChanges());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Nach Abschluss wird wieder neu berechnet
+        service.compareSpecifications(service.comparisonKey(oldSpec.toString(), newSpec.toString()),
+                oldSpec.toString(), newSpec.toString());
+        assertEquals(2, rule.getEvaluations());
+    }
+
+    @Test
+    @DisplayName("Sollte den Fehler der gemeinsamen Berechnung an alle Aufrufer weitergeben")
+    void shouldPropagateFailureToAllCallers() throws IOException, OasParseException {
+        Path oldSpec = writeSpec(tempDir, "v1.yaml", "/users");
+        Path newSpec = tempDir.resolve("v2.yaml");
+        Files.writeString(newSpec, "openapi: [");
+        OasComparisonService service = new OasComparisonService(uncachedParser(), List.of(new EndpointRemovedRule()),
+                RuleExecutor.sequential());
+        ComparisonKey key = service.comparisonKey(oldSpec.toString(), newSpec.toString());
+
+        assertThrows(OasParseException.class,
+                () -> service.compareSpecifications(key, oldSpec.toString(), newSpec.toString()));
+        // Fehlgeschlagene Berechnungen bleiben nicht hängen
+        assertThrows(OasParseException.class,
+                () -> service.compareSpecifications(key, oldSpec.toString(), newSpec.toString()));
+    }
+}
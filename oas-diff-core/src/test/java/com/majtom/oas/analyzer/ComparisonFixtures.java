@@ -0,0 +1,139 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParsedSpecCache;
+import com.majtom.oas.parser.ResolutionMode;
+import com.majtom.oas.rules.BreakingChangeRule;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gemeinsame Testdaten für Vergleiche über Dateien: eine minimale Spezifikation mit einem
+ * GET-Pfad, Parser-Fabriken und eine Regel, die bis zur Freigabe durch den Test wartet.
+ */
+public final class ComparisonFixtures {
+
+    /** Spezifikation mit Platzhaltern für Titel und Pfad. */
+    public static final String SPEC = """
+            openapi: 3.0.3
+            info:
+              title: %s
+              version: 1.0.0
+            paths:
+              %s:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private ComparisonFixtures() {
+    }
+
+    /**
+     * Schreibt eine Spezifikation mit dem Titel {@code Shop} und einem GET-Pfad.
+     *
+     * @param directory Zielverzeichnis
+     * @param name Dateiname
+     * @param path Einziger Pfad der Spezifikation, z.B. {@code /users}
+     * @return Geschriebene Datei
+     */
+    public static Path writeSpec(Path directory, String name, String path) throws IOException {
+        return writeSpec(directory, name, "Shop", path);
+    }
+
+    /**
+     * Schreibt eine Spezifikation mit einem GET-Pfad.
+     *
+     * @param directory Zielverzeichnis
+     * @param name Dateiname
+     * @param title Titel der Spezifikation
+     * @param path Einziger Pfad der Spezifikation, z.B. {@code /users}
+     * @return Geschriebene Datei
+     */
+    public static Path writeSpec(Path directory, String name, String title, String path) throws IOException {
+        return Files.writeString(directory.resolve(name), SPEC.formatted(title, path));
+    }
+
+    /**
+     * @return Parser ohne Parse-Cache im Modus {@link ResolutionMode#FULL}
+     */
+    public static OasParser uncachedParser() {
+        return parser(ParsedSpecCache.disabled(), ResolutionMode.FULL);
+    }
+
+    /**
+     * @param cache Parse-Cache des Parsers
+     * @param mode Auflösungsmodus des Parsers
+     * @return Parser mit Standard-Formaterkennung
+     */
+    public static OasParser parser(ParsedSpecCache cache, ResolutionMode mode) {
+        return new OasParser(new FormatDetector(), new FormatConverter(), cache, mode);
+    }
+
+    /**
+     * Regel ohne Änderungen, die die Titel der neuen Spezifikationen in Auswertungsreihenfolge
+     * festhält und bei jeder Auswertung wartet, bis der Test sie freigibt.
+     */
+    public static final class BlockingRule implements BreakingChangeRule {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger evaluations = new AtomicInteger();
+        private final List<String> titles = new CopyOnWriteArrayList<>();
+
+        @Override
+        public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
+            evaluations.incrementAndGet();
+            titles.add(newSpec.getInfo().getTitle());
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        }
+
+        @Override
+        public String getRuleName() {
+            return "Blockierende Regel";
+        }
+
+        /**
+         * @return true, sobald die erste Auswertung begonnen hat
+         */
+        public boolean awaitStarted() throws InterruptedException {
+            return started.await(10, TimeUnit.SECONDS);
+        }
+
+        /**
+         * Gibt die laufende und alle folgenden Auswertungen frei.
+         */
+        public void release() {
+            release.countDown();
+        }
+
+        public int getEvaluations() {
+            return evaluations.get();
+        }
+
+        /**
+         * @return Titel der neuen Spezifikationen in Auswertungsreihenfolge
+         */
+        public List<String> getTitles() {
+            return titles;
+        }
+    }
+}
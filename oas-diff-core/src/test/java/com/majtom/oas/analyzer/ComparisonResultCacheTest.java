@@ -0,0 +1,211 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParsedSpecCache;
+import com.majtom.oas.parser.ResolutionMode;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.critical.MethodRemovedRule;
+import com.majtom.oas.rules.info.EndpointAddedRule;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.majtom.oas.analyzer.ComparisonFixtures.writeSpec;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für den Ergebnis-Cache und seine Verwendung im {@link OasComparisonService}.
+ */
+class ComparisonResultCacheTest {
+
+    private static final String PATH_ITEM = """
+            %s:
+              responses:
+                '200':
+                  description: OK
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Sollte Einträge nach Ablauf der TTL verwerfen")
+    void shouldExpireEntries() {
+        AtomicLong clock = new AtomicLong();
+        ComparisonResultCache cache = new ComparisonResultCache(4, Duration.ofSeconds(10), clock::get);
+        ComparisonKey key = new ComparisonKey("a", "b", "r");
+        ComparisonResult result = result();
+
+        cache.put(key, result);
+        clock.set(Duration.ofSeconds(9).toNanos());
+        assertSame(result, cache.get(key));
+
+        clock.set(Duration.ofSeconds(10).toNanos());
+        assertNull(cache.get(key));
+        assertEquals(new ResultCacheStats(1, 1, 0, 1, 0, 4), cache.getStats());
+    }
+
+    @Test
+    @DisplayName("Sollte den am längsten nicht verwendeten Eintrag verdrängen")
+    void shouldEvictLeastRecentlyUsed() {
+        ComparisonResultCache cache = new ComparisonResultCache(2, Duration.ofMinutes(1), System::nanoTime);
+        ComparisonKey first = new ComparisonKey("1", "1", "r");
+        ComparisonKey second = new ComparisonKey("2", "2", "r");
+        ComparisonKey third = new ComparisonKey("3", "3", "r");
+
+        cache.put(first, result());
+        cache.put(second, result());
+        cache.get(first);
+        cache.put(third, result());
+
+        assertNotNull(cache.get(first));
+        assertNull(cache.get(second));
+        assertNotNull(cache.get(third));
+        assertEquals(1, cache.getStats().evictions());
+    }
+
+    @Test
+    @DisplayName("Sollte im deaktivierten Zustand nichts speichern")
+    void shouldNotStoreWhenDisabled() {
+        ComparisonResultCache cache = ComparisonResultCache.disabled();
+        ComparisonKey key = new ComparisonKey("a", "b", "r");
+
+        cache.put(key, result());
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(key));
+        assertEquals(0, cache.getStats().entryCount());
+    }
+
+    @Test
+    @DisplayName("Sollte gecachte Ergebnisse liefern, bis sich eine Datei ändert")
+    void shouldServeCachedResultUntilFileChanges() throws IOException, OasParseException {
+        Path oldSpec = writeSpec(tempDir, "v1.yaml", "/users");
+        Path newSpec = writeSpec(tempDir, "v2.yaml", "/orders");
+        OasComparisonService service = service();
+
+        ComparisonKey key = service.comparisonKey(oldSpec.toString(), newSpec.toString());
+        ComparisonResult first = service.compareSpecifications(key, oldSpec.toString(), newSpec.toString());
+        ComparisonKey again = service.comparisonKey(oldSpec.toString(), newSpec.toString());
+
+        assertEquals(key, again);
+        assertEquals(key.hash(), again.hash());
+        assertSame(first, service.compareSpecifications(again, oldSpec.toString(), newSpec.toString()));
+        assertTrue(service.hasBreakingChanges(again, oldSpec.toString(), newSpec.toString()));
+        assertEquals(2, service.getResultCacheStats().hits());
+
+        writeSpec(tempDir, "v2.yaml", "/users");
+        Files.setLastModifiedTime(newSpec, FileTime.from(Instant.now().plusSeconds(5)));
+        ComparisonKey changed = service.comparisonKey(oldSpec.toString(), newSpec.toString());
+
+        assertNotEquals(key.hash(), changed.hash());
+        assertEquals(0, service.compareSpecifications(changed, oldSpec.toString(), newSpec.toString())
+                .getTotalChangesCount());
+    }
+
+    @Test
+    @DisplayName("Sollte Änderungen extern referenzierter Dateien im Schlüssel und Ergebnis berücksichtigen")
+    void shouldIncludeExternalReferencesInKey() throws IOException, OasParseException {
+        Path oldSpec = writeSpec(tempDir, "v1.yaml", "/users");
+        Path newSpec = Files.writeString(tempDir.resolve("v2.yaml"), """
+                openapi: 3.0.3
+                info:
+                  title: Shop
+                  version: 1.0.0
+                paths:
+                  /users:
+                    $ref: './users.yaml'
+                """);
+        Path users = Files.writeString(tempDir.resolve("users.yaml"), PATH_ITEM.formatted("get"));
+        OasComparisonService service = new OasComparisonService(parser(ResolutionMode.FULL),
+                List.of(new MethodRemovedRule()), RuleExecutor.sequential(),
+                new ComparisonResultCache(16, Duration.ofMinutes(1), System::nanoTime), 1);
+
+        ComparisonKey key = service.comparisonKey(oldSpec.toString(), newSpec.toString());
+        assertEquals(0, service.compareSpecifications(key, oldSpec.toString(), newSpec.toString())
+                .getTotalChangesCount());
+
+        // Nur die referenzierte Datei ändert sich
+        Files.writeString(users, PATH_ITEM.formatted("post"));
+        Files.setLastModifiedTime(users, FileTime.from(Instant.now().plusSeconds(5)));
+        ComparisonKey changed = service.comparisonKey(oldSpec.toString(), newSpec.toString());
+
+        assertNotEquals(key.hash(), changed.hash());
+        assertTrue(service.compareSpecifications(changed, oldSpec.toString(), newSpec.toString())
+                .hasBreakingChanges());
+    }
+
+    @Test
+    @DisplayName("Sollte kein Ergebnis cachen, wenn sich eine Datei während des Vergleichs ändert")
+    void shouldNotCacheResultOfChangedFiles() throws IOException, OasParseException {
+        Path oldSpec = writeSpec(tempDir, "v1.yaml", "/users");
+        Path newSpec = writeSpec(tempDir, "v2.yaml", "/orders");
+        BreakingChangeRule editingRule = new BreakingChangeRule() {
+            @Override
+            public List<ApiChange> evaluate(OpenAPI oldApi, OpenAPI newApi) {
+                try {
+                    writeSpec(tempDir, "v2.yaml", "/invoices");
+                    Files.setLastModifiedTime(newSpec, FileTime.from(Instant.now().plusSeconds(5)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return List.of();
+            }
+
+            @Override
+            public String getRuleName() {
+                return "Bearbeitende Regel";
+            }
+        };
+        OasComparisonService service = new OasComparisonService(parser(ResolutionMode.FULL),
+                List.of(editingRule), RuleExecutor.sequential(),
+                new ComparisonResultCache(16, Duration.ofMinutes(1), System::nanoTime), 1);
+
+        ComparisonKey key = service.comparisonKey(oldSpec.toString(), newSpec.toString());
+        service.compareSpecifications(key, oldSpec.toString(), newSpec.toString());
+
+        assertEquals(0, service.getResultCacheStats().entryCount());
+    }
+
+    @Test
+    @DisplayName("Sollte die Regelsatz-Version von Regeln und Auflösungsmodus abhängig machen")
+    void shouldDeriveRuleSetVersion() {
+        OasComparisonService service = service();
+
+        assertEquals(service.getRuleSetVersion(), service().getRuleSetVersion());
+        assertNotEquals(service.getRuleSetVersion(), new OasComparisonService(parser(ResolutionMode.FULL),
+                List.of(new EndpointRemovedRule()), RuleExecutor.sequential()).getRuleSetVersion());
+        assertNotEquals(service.getRuleSetVersion(), new OasComparisonService(parser(ResolutionMode.REFERENCES),
+                List.of(new EndpointRemovedRule(), new EndpointAddedRule()), RuleExecutor.sequential())
+                .getRuleSetVersion());
+    }
+
+    private OasComparisonService service() {
+        return new OasComparisonService(parser(ResolutionMode.FULL),
+                List.of(new EndpointRemovedRule(), new EndpointAddedRule()), RuleExecutor.sequential(),
+                new ComparisonResultCache(16, Duration.ofMinutes(1), System::nanoTime), 1);
+    }
+
+    private static OasParser parser(ResolutionMode mode) {
+        return ComparisonFixtures.parser(new ParsedSpecCache(16), mode);
+    }
+
+    private static ComparisonResult result() {
+        return new ComparisonResult("1.0.0", "1.0.0", List.of());
+    }
+}
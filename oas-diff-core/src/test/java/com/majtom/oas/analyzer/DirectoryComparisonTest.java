@@ -0,0 +1,117 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.info.EndpointAddedRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für den Vergleich zweier Verzeichnisbäume.
+ */
+class DirectoryComparisonTest {
+
+    private final List<BreakingChangeRule> rules = List.of(new EndpointRemovedRule(), new EndpointAddedRule());
+
+    @TempDir
+    Path dir;
+
+    private Path oldRoot;
+    private Path newRoot;
+    private OasComparisonService service;
+
+    @BeforeEach
+    void setUp() {
+        oldRoot = dir.resolve("release");
+        newRoot = dir.resolve("current");
+        service = new OasComparisonService(new OasParser(new FormatDetector(), new FormatConverter()), rules,
+                RuleExecutor.sequential(), 2);
+    }
+
+    @Test
+    @DisplayName("Sollte Spezifikationen nach relativem Pfad zuordnen und andere Dateien ignorieren")
+    void shouldMatchByRelativePath() throws IOException {
+        write(oldRoot, "orders/api.yaml", "Orders", "/orders");
+        write(newRoot, "orders/api.yaml", "Orders", "/orders", "/orders/search");
+        write(oldRoot, "billing/openapi.json", "Billing", "/invoices");
+        write(newRoot, "billing/openapi.json", "Billing");
+        write(oldRoot, "legacy/api.yaml", "Legacy", "/old");
+        write(newRoot, "users/api.yml", "Users", "/users");
+        Files.writeString(newRoot.resolve("users/package.json"), "{\"name\": \"users\"}");
+        write(newRoot, ".git/api.yaml", "Git", "/ignored");
+
+        List<BatchItemResult> items = new ArrayList<>();
+        DirectoryComparisonSummary summary = service.compareDirectories(oldRoot, newRoot,
+                DirectoryMatchMode.RELATIVE_PATH, items::add);
+
+        items.sort(Comparator.comparingInt(BatchItemResult::index));
+        assertEquals(2, items.size());
+        assertTrue(items.get(0).pair().newSpecPath().endsWith("openapi.json"));
+        assertEquals(2, summary.comparedCount());
+        assertEquals(0, summary.failedCount());
+        assertEquals(1, summary.withBreakingChangesCount());
+        assertEquals(2, summary.totalChanges());
+        assertEquals(List.of("legacy/api.yaml"), summary.removedSpecs());
+        assertEquals(List.of("users/api.yml"), summary.addedSpecs());
+        assertTrue(summary.hasBreakingChanges());
+    }
+
+    @Test
+    @DisplayName("Sollte verschobene Spezifikationen über info.title zuordnen")
+    void shouldMatchByTitle() throws IOException {
+        write(oldRoot, "orders.yaml", "Orders", "/orders");
+        write(newRoot, "services/orders/openapi.json", "Orders", "/orders");
+        write(oldRoot, "a.yaml", "Shared", "/a");
+        write(newRoot, "a.yaml", "Shared", "/a");
+        write(newRoot, "b.yaml", "Shared", "/b");
+
+        List<BatchItemResult> items = new ArrayList<>();
+        DirectoryComparisonSummary summary = service.compareDirectories(oldRoot, newRoot,
+                DirectoryMatchMode.TITLE, items::add);
+
+        assertEquals(1, items.size());
+        assertTrue(items.get(0).pair().newSpecPath().endsWith("openapi.json"));
+        assertEquals(0, items.get(0).result().getTotalChangesCount());
+        assertEquals(List.of("a.yaml"), summary.removedSpecs());
+        assertTrue(summary.addedSpecs().isEmpty());
+        assertEquals(2, summary.ambiguousSpecs().size());
+    }
+
+    private void write(Path root, String relativePath, String title, String... paths) throws IOException {
+        Path file = root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        boolean json = relativePath.endsWith(".json");
+        StringBuilder content = new StringBuilder();
+        if (json) {
+            content.append("{\"openapi\": \"3.0.0\", \"info\": {\"title\": \"").append(title)
+                    .append("\", \"version\": \"1.0.0\"}, \"paths\": {");
+            for (int i = 0; i < paths.length; i++) {
+                content.append(i > 0 ? ", " : "").append('"').append(paths[i])
+                        .append("\": {\"get\": {\"responses\": {\"200\": {\"description\": \"OK\"}}}}");
+            }
+            content.append("}}");
+        } else {
+            content.append("openapi: 3.0.0\ninfo:\n  title: ").append(title).append("\n  version: 1.0.0\npaths:");
+            content.append(paths.length == 0 ? " {}\n" : "\n");
+            for (String path : paths) {
+                content.append("  ").append(path).append(":\n    get:\n      responses:\n")
+                        .append("        '200':\n          description: OK\n");
+            }
+        }
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,282 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeSeverity;
+import com.majtom.oas.model.ChangeType;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParsedSpecCache;
+import com.majtom.oas.parser.ResolutionMode;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.critical.ResponseCodeRemovedRule;
+import com.majtom.oas.rules.info.EndpointAddedRule;
+import com.majtom.oas.rules.info.PropertyAddedRule;
+import com.majtom.oas.rules.major.PropertyRemovedRule;
+import com.majtom.oas.rules.minor.ApiVersionChangedRule;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die inkrementelle Vergleichssitzung.
+ */
+class IncrementalComparisonSessionTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.3
+            info:
+              title: Shop
+              version: %s
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/User'
+                    '404':
+                      description: Nicht gefunden
+              /orders:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/Order'
+            components:
+              schemas:
+                User:
+                  type: object
+                  properties:
+                    id:
+                      type: string
+                    address:
+                      $ref: '#/components/schemas/Address'
+                Address:
+                  type: object
+                  properties:
+                    street:
+                      type: string
+                    %s:
+                      type: string
+                Order:
+                  type: object
+                  properties:
+                    id:
+                      type: string
+            """;
+
+    private static final String OLD = SPEC.formatted("1.0.0", "city");
+
+    private final List<BreakingChangeRule> rules = List.of(new EndpointRemovedRule(), new EndpointAddedRule(),
+            new ResponseCodeRemovedRule(), new PropertyRemovedRule(), new PropertyAddedRule(),
+            new ApiVersionChangedRule());
+
+    @ParameterizedTest
+    @EnumSource(ResolutionMode.class)
+    @DisplayName("Sollte nach jeder Bearbeitung dieselben Änderungen wie ein vollständiger Vergleich liefern")
+    void shouldMatchFullComparison(ResolutionMode mode) throws OasParseException {
+        OasComparisonService service = service(mode);
+        IncrementalComparisonSession session = service.openIncrementalSession(OLD, OLD);
+        assertEquals(0, session.getResult().getTotalChangesCount());
+
+        String renamed = SPEC.formatted("1.0.0", "town");
+        IncrementalUpdate update = session.update(renamed);
+        assertEquals(List.of("/components/schemas/Address"), update.changedPointers());
+        // Address wird über User nur von /users erreicht
+        assertEquals(1, update.reevaluatedPaths());
+        assertFalse(update.fullRecompute());
+        assertSameChanges(service.compareSpecifications(parse(mode, OLD), parse(mode, renamed)), update.result());
+
+        String edited = renamed.replace("/orders:", "/invoices:").replace("1.0.0", "2.0.0");
+        update = session.update(edited);
+        assertEquals(List.of("/info", "/paths/~1orders", "/paths/~1invoices"), update.changedPointers());
+        // Zwei von drei Pfaden betroffen: eine vollständige Auswertung ist günstiger
+        assertEquals(3, update.reevaluatedPaths());
+        assertSameChanges(service.compareSpecifications(parse(mode, OLD), parse(mode, edited)), update.result());
+        assertEquals("2.0.0", update.result().getNewVersion());
+    }
+
+    @Test
+    @DisplayName("Sollte einzelne Teilbäume per JSON-Pointer ersetzen und entfernen")
+    void shouldReplaceSubtree() throws OasParseException {
+        OasComparisonService service = service(ResolutionMode.FULL);
+        IncrementalComparisonSession session = service.openIncrementalSession(OLD, OLD);
+
+        IncrementalUpdate update = session.replace("/paths/~1users/get/responses/404", null);
+        assertEquals(List.of("/paths/~1users"), update.changedPointers());
+        assertEquals(1, update.reevaluatedPaths());
+        assertEquals(1, update.result().getTotalChangesCount());
+
+        update = session.replace("/components/schemas/Order/properties/total", "{\"type\": \"number\"}");
+        assertEquals(List.of("/components/schemas/Order"), update.changedPointers());
+        assertEquals(2, update.result().getTotalChangesCount());
+
+        // Rückgängig machen ergibt wieder keine Änderungen
+        session.replace("/paths/~1users/get/responses/404", "description: Nicht gefunden");
+        update = session.replace("/components/schemas/Order/properties/total", null);
+        assertEquals(0, update.result().getTotalChangesCount());
+    }
+
+    @Test
+    @DisplayName("Sollte bei ungültigen Bearbeitungen den bisherigen Stand behalten")
+    void shouldKeepStateOnInvalidEdit() throws OasParseException {
+        IncrementalComparisonSession session = service(ResolutionMode.FULL).openIncrementalSession(OLD, OLD);
+        ComparisonResult before = session.getResult();
+
+        assertThrows(IllegalArgumentException.class, () -> session.replace("/paths/~1fehlt/get", null));
+        assertThrows(IllegalArgumentException.class, () -> session.replace("paths", null));
+        assertThrows(OasParseException.class, () -> session.update("openapi: ["));
+
+        IncrementalUpdate update = session.update(OLD);
+        assertTrue(update.changedPointers().isEmpty());
+        assertSame(before, update.result());
+    }
+
+    @Test
+    @DisplayName("Sollte bei Änderung der OpenAPI-Version vollständig neu auswerten")
+    void shouldRecomputeOnStructuralChange() throws OasParseException {
+        IncrementalComparisonSession session = service(ResolutionMode.FULL).openIncrementalSession(OLD, OLD);
+
+        IncrementalUpdate update = session.replace("/openapi", "3.0.0");
+
+        assertTrue(update.fullRecompute());
+        assertEquals(2, update.reevaluatedPaths());
+        assertEquals(0, update.result().getTotalChangesCount());
+    }
+
+    @Test
+    @DisplayName("Sollte fehlende paths-Abschnitte nicht als leere Pfade auswerten")
+    void shouldKeepMissingPaths() throws OasParseException {
+        // Unterscheidet wie manche Regeln zwischen fehlendem und leerem paths-Abschnitt
+        BreakingChangeRule pathsSection = new BreakingChangeRule() {
+            @Override
+            public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
+                if ((oldSpec.getPaths() == null) == (newSpec.getPaths() == null)) {
+                    return List.of();
+                }
+                return List.of(ApiChange.builder()
+                        .type(ChangeType.ENDPOINT_REMOVED)
+                        .severity(ChangeSeverity.CRITICAL)
+                        .path("/paths")
+                        .description("paths-Abschnitt " + (newSpec.getPaths() == null ? "entfernt" : "hinzugefügt"))
+                        .isBreakingChange(true)
+                        .build());
+            }
+
+            @Override
+            public String getRuleName() {
+                return "paths-Abschnitt";
+            }
+        };
+        List<BreakingChangeRule> withPathsSection = new ArrayList<>(rules);
+        withPathsSection.add(pathsSection);
+        OasComparisonService service = new OasComparisonService(parser(ResolutionMode.FULL), withPathsSection,
+                RuleExecutor.sequential());
+        String withoutPaths = OLD.substring(0, OLD.indexOf("paths:")) + OLD.substring(OLD.indexOf("components:"));
+
+        IncrementalComparisonSession session = service.openIncrementalSession(OLD, withoutPaths);
+        assertSameChanges(service.compareSpecifications(parse(ResolutionMode.FULL, OLD),
+                parse(ResolutionMode.FULL, withoutPaths)), session.getResult());
+        assertEquals(1, session.getResult().getChangesForPath("/paths").size());
+
+        IncrementalUpdate update = session.replace("/components/schemas/Order/properties/total",
+                "{\"type\": \"number\"}");
+        assertFalse(update.fullRecompute());
+        assertEquals(1, update.result().getChangesForPath("/paths").size());
+
+        // Hinzufügen des paths-Abschnitts betrifft alle Pfade
+        update = session.update(OLD);
+        assertTrue(update.fullRecompute());
+        assertEquals(0, update.result().getTotalChangesCount());
+    }
+
+    @Test
+    @DisplayName("Sollte bei Änderungen an den meisten Pfaden einmal vollständig auswerten")
+    void shouldEvaluateFullyWhenMostPathsChange() throws OasParseException {
+        AtomicInteger runs = new AtomicInteger();
+        BreakingChangeRule counting = new BreakingChangeRule() {
+            @Override
+            public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
+                runs.incrementAndGet();
+                return List.of();
+            }
+
+            @Override
+            public String getRuleName() {
+                return "Zählende Regel";
+            }
+        };
+        List<BreakingChangeRule> withCounting = new ArrayList<>(rules);
+        withCounting.add(counting);
+        OasComparisonService service = new OasComparisonService(parser(ResolutionMode.FULL), withCounting,
+                RuleExecutor.sequential());
+        IncrementalComparisonSession session = service.openIncrementalSession(OLD, OLD);
+
+        String secured = OLD.replace("paths:", "security:\n  - apiKey: []\npaths:");
+        runs.set(0);
+        IncrementalUpdate update = session.update(secured);
+        assertEquals(List.of("/security"), update.changedPointers());
+        assertEquals(2, update.reevaluatedPaths());
+        assertFalse(update.fullRecompute());
+        // Ein Regellauf statt zwei pro Pfad
+        assertEquals(1, runs.get());
+        assertEquals(describe(service.compareSpecifications(parse(ResolutionMode.FULL, OLD),
+                parse(ResolutionMode.FULL, secured))), describe(update.result()));
+
+        // Die nächste kleine Bearbeitung erhebt die Änderungen pro Teilbaum neu, danach wieder inkrementell
+        String renamed = secured.replace("city", "town");
+        update = session.update(renamed);
+        assertEquals(2, update.reevaluatedPaths());
+        assertSameChanges(service.compareSpecifications(parse(ResolutionMode.FULL, OLD),
+                parse(ResolutionMode.FULL, renamed)), update.result());
+        update = session.update(secured);
+        assertEquals(1, update.reevaluatedPaths());
+        assertEquals(0, update.result().getTotalChangesCount());
+    }
+
+    private OasComparisonService service(ResolutionMode mode) {
+        return new OasComparisonService(parser(mode), rules, RuleExecutor.sequential());
+    }
+
+    private static OasParser parser(ResolutionMode mode) {
+        return new OasParser(new FormatDetector(), new FormatConverter(), ParsedSpecCache.disabled(), mode);
+    }
+
+    private static OpenAPI parse(ResolutionMode mode, String content) throws OasParseException {
+        return parser(mode).parseFromString(content);
+    }
+
+    private static void assertSameChanges(ComparisonResult expected, ComparisonResult actual) {
+        assertEquals(describe(expected), describe(actual));
+        assertTrue(expected.getTotalChangesCount() > 0);
+    }
+
+    private static List<String> describe(ComparisonResult result) {
+        return result.getChanges().stream()
+                .map(IncrementalComparisonSessionTest::describe)
+                .sorted()
+                .toList();
+    }
+
+    private static String describe(ApiChange change) {
+        return change.getType() + " " + change.getPath() + " " + change.getDescription();
+    }
+}
@@ -0,0 +1,159 @@
+package com.majtom.oas.analyzer;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.critical.MethodRemovedRule;
+import com.majtom.oas.rules.critical.RequiredParameterAddedRule;
+import com.majtom.oas.rules.critical.ResponseCodeChangedRule;
+import com.majtom.oas.rules.info.EndpointAddedRule;
+import com.majtom.oas.rules.info.MethodAddedRule;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die parallele Regelauswertung.
+ */
+class RuleExecutorTest {
+
+    private static final String V1 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                delete:
+                  responses:
+                    '204':
+                      description: Deleted
+              /orders:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private static final String V2 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 2.0.0
+            paths:
+              /users:
+                get:
+                  parameters:
+                    - name: tenant
+                      in: query
+                      required: true
+                      schema:
+                        type: string
+                  responses:
+                    '201':
+                      description: Created
+                post:
+                  responses:
+                    '201':
+                      description: Created
+              /invoices:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private final List<BreakingChangeRule> rules = List.of(
+            new EndpointRemovedRule(),
+            new MethodRemovedRule(),
+            new RequiredParameterAddedRule(),
+            new ResponseCodeChangedRule(),
+            new EndpointAddedRule(),
+            new MethodAddedRule()
+    );
+
+    private OasParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new OasParser(new FormatDetector(), new FormatConverter());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RuleExecutionMode.class)
+    @DisplayName("Sollte Änderungen unabhängig vom Modus in Regelreihenfolge liefern")
+    void shouldMergeChangesInRuleOrder(RuleExecutionMode mode) throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(V1);
+        OpenAPI newSpec = parser.parseFromString(V2);
+
+        ComparisonResult expected = new OasComparisonService(parser, rules).compareSpecifications(oldSpec, newSpec);
+
+        try (RuleExecutor executor = new RuleExecutor(mode, 4)) {
+            ComparisonResult actual = new OasComparisonService(parser, rules, executor)
+                    .compareSpecifications(oldSpec, newSpec);
+
+            assertFalse(expected.getChanges().isEmpty());
+            assertEquals(describe(expected.getChanges()), describe(actual.getChanges()));
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte beim ersten Breaking Change abbrechen und informative Regeln überspringen")
+    void shouldShortCircuitOnFirstBreakingChange() throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(V1);
+        OpenAPI newSpec = parser.parseFromString(V2);
+        BreakingChangeRule informativeRule = new BreakingChangeRule() {
+            @Override
+            public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
+                throw new AssertionError("Informative Regel darf nicht ausgewertet werden");
+            }
+
+            @Override
+            public String getRuleName() {
+                return "Informative Rule";
+            }
+
+            @Override
+            public boolean canProduceBreakingChanges() {
+                return false;
+            }
+        };
+
+        Optional<ApiChange> breakingChange = RuleExecutor.sequential()
+                .findFirstBreakingChange(List.of(informativeRule, new EndpointRemovedRule()), oldSpec, newSpec);
+
+        assertTrue(breakingChange.isPresent());
+        assertEquals("/orders", breakingChange.get().getPath());
+    }
+
+    @Test
+    @DisplayName("Sollte für identische Spezifikationen keinen Breaking Change finden")
+    void shouldFindNoBreakingChangeForIdenticalSpecs() throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(V1);
+        OpenAPI newSpec = parser.parseFromString(V1);
+
+        assertTrue(RuleExecutor.sequential().findFirstBreakingChange(rules, oldSpec, newSpec).isEmpty());
+        assertFalse(new OasComparisonService(parser, rules).hasBreakingChanges(oldSpec, newSpec));
+    }
+
+    private List<String> describe(List<ApiChange> changes) {
+        return changes.stream().map(ApiChange::toString).toList();
+    }
+}
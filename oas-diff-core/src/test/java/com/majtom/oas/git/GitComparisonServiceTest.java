@@ -0,0 +1,105 @@
+package com.majtom.oas.git;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.analyzer.RuleExecutor;
+import com.majtom.oas.analyzer.VersionChainResult;
+import com.majtom.oas.metrics.OasMetrics;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParsedSpecCache;
+import com.majtom.oas.parser.ResolutionMode;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.info.EndpointAddedRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für den Vergleich von Spezifikationen aus einem Git-Repository.
+ */
+class GitComparisonServiceTest {
+
+    private static final String SPEC_PATH = "api/openapi.yaml";
+
+    private final List<BreakingChangeRule> rules = List.of(new EndpointRemovedRule(), new EndpointAddedRule());
+
+    @TempDir
+    Path repositoryDir;
+
+    private SimpleMeterRegistry registry;
+    private GitComparisonService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        OasParser parser = new OasParser(new FormatDetector(), new FormatConverter(), new ParsedSpecCache(16),
+                ResolutionMode.FULL, new OasMetrics(registry));
+        service = new GitComparisonService(new GitSpecReader(parser),
+                new OasComparisonService(parser, rules, RuleExecutor.sequential(), 2));
+
+        try (Git git = Git.init().setDirectory(repositoryDir.toFile()).setInitialBranch("main").call()) {
+            commit(git, "1.0.0", "/users");
+            git.tag().setName("v1").call();
+            commit(git, "2.0.0", "/users", "/orders");
+            Files.writeString(repositoryDir.resolve("README.md"), "Ohne Spezifikation");
+            git.add().addFilepattern("README.md").call();
+            git.commit().setMessage("Readme").setSign(false).call();
+            commit(git, "3.0.0", "/orders");
+            commit(git, "1.0.0", "/users");
+        }
+        // Nicht committete Änderungen im Arbeitsverzeichnis dürfen keine Rolle spielen
+        Files.writeString(repositoryDir.resolve(SPEC_PATH), "kaputt: [");
+    }
+
+    @Test
+    @DisplayName("Sollte Spezifikation zwischen Tag und Branch ohne Checkout vergleichen")
+    void shouldCompareRevisions() throws OasParseException {
+        ComparisonResult result = service.compareRevisions(repositoryDir, SPEC_PATH, "v1", "main~1");
+
+        assertEquals("1.0.0", result.getOldVersion());
+        assertEquals("3.0.0", result.getNewVersion());
+        assertEquals(2, result.getTotalChangesCount());
+        assertTrue(result.hasBreakingChanges());
+    }
+
+    @Test
+    @DisplayName("Sollte Historie als Versionskette vergleichen und Blobs nur einmal parsen")
+    void shouldCompareHistoryParsingEachBlobOnce() throws OasParseException {
+        VersionChainResult chain = service.compareHistory(repositoryDir, SPEC_PATH, "main", 0);
+
+        assertEquals(4, chain.specPaths().size());
+        assertEquals(3, chain.steps().size());
+        assertFalse(chain.hasFailures());
+        assertEquals(2, chain.getBreakingStepCount());
+        assertEquals(0, chain.cumulative().result().getTotalChangesCount());
+        // Version 1.0.0 kommt zweimal vor, ihr Blob wird nur einmal geparst
+        assertEquals(3, registry.get(OasMetrics.PARSE_DURATION).tag("format", "YAML").timer().count());
+    }
+
+    private void commit(Git git, String version, String... paths) throws Exception {
+        StringBuilder spec = new StringBuilder("openapi: 3.0.0\ninfo:\n  title: Test API\n  version: ")
+                .append(version).append("\npaths:\n");
+        for (String path : paths) {
+            spec.append("  ").append(path).append(":\n    get:\n      responses:\n")
+                    .append("        '200':\n          description: OK\n");
+        }
+        Path file = repositoryDir.resolve(SPEC_PATH);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, spec);
+        git.add().addFilepattern(SPEC_PATH).call();
+        git.commit().setMessage("Version " + version).setSign(false).call();
+    }
+}
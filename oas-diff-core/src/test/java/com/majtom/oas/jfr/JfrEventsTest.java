@@ -0,0 +1,133 @@
+package com.majtom.oas.jfr;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.analyzer.RuleExecutor;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.report.HumanReadableReportGenerator;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.info.EndpointAddedRule;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die JFR-Events der Vergleichspipeline.
+ */
+class JfrEventsTest {
+
+    private static final String V1 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            components:
+              schemas:
+                User:
+                  type: object
+                  properties:
+                    id:
+                      type: string
+            """;
+
+    private static final String V2 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 2.0.0
+            paths:
+              /orders:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/User'
+            components:
+              schemas:
+                User:
+                  type: object
+                  properties:
+                    id:
+                      type: string
+            """;
+
+    private final List<BreakingChangeRule> rules = List.of(new EndpointRemovedRule(), new EndpointAddedRule());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Sollte Events für Parsen, Auflösung, Regeln, Ergebnis und Bericht aufzeichnen")
+    void shouldRecordPipelineEvents() throws OasParseException, IOException {
+        OasParser parser = new OasParser(new FormatDetector(), new FormatConverter());
+        OasComparisonService service = new OasComparisonService(parser, rules, RuleExecutor.sequential());
+
+        Path dump = tempDir.resolve("oas.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ParseEvent.class).withoutThreshold();
+            recording.enable(ReferenceResolutionEvent.class).withoutThreshold();
+            recording.enable(RuleEvaluationEvent.class).withoutThreshold();
+            recording.enable(ResultConstructionEvent.class).withoutThreshold();
+            recording.enable(ReportGenerationEvent.class).withoutThreshold();
+            recording.start();
+
+            ComparisonResult result = service.compareSpecifications(
+                    parser.parseFromString(V1), parser.parseFromString(V2));
+            new HumanReadableReportGenerator().generateTextReport(result);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+        List<RecordedEvent> parseEvents = eventsOf(events, "com.majtom.oas.Parse");
+        assertEquals(2, parseEvents.size());
+        assertEquals("YAML", parseEvents.get(0).getString("format"));
+        assertEquals(V1.length(), parseEvents.get(0).getLong("size"));
+        assertEquals(2, eventsOf(events, "com.majtom.oas.ReferenceResolution").size());
+
+        List<RecordedEvent> ruleEvents = eventsOf(events, "com.majtom.oas.RuleEvaluation");
+        assertEquals(2, ruleEvents.size());
+        for (RecordedEvent event : ruleEvents) {
+            assertEquals(1, event.getInt("changeCount"), event.getString("ruleName"));
+        }
+
+        List<RecordedEvent> resultEvents = eventsOf(events, "com.majtom.oas.ResultConstruction");
+        assertEquals(1, resultEvents.size());
+        assertEquals(2, resultEvents.get(0).getInt("changeCount"));
+        assertEquals("2.0.0", resultEvents.get(0).getString("newVersion"));
+
+        List<RecordedEvent> reportEvents = eventsOf(events, "com.majtom.oas.ReportGeneration");
+        assertEquals(1, reportEvents.size());
+        assertTrue(reportEvents.get(0).getLong("length") > 0);
+    }
+
+    private static List<RecordedEvent> eventsOf(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
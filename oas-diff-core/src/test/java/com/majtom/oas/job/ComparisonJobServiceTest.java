@@ -0,0 +1,164 @@
+package com.majtom.oas.job;
+
+import com.majtom.oas.analyzer.ComparisonFixtures.BlockingRule;
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.analyzer.RuleExecutor;
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.majtom.oas.analyzer.ComparisonFixtures.uncachedParser;
+import static com.majtom.oas.analyzer.ComparisonFixtures.writeSpec;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die asynchrone Ausführung von Vergleichen.
+ */
+class ComparisonJobServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final BlockingRule rule = new BlockingRule();
+    private ComparisonJobService jobService;
+
+    @AfterEach
+    void tearDown() {
+        rule.release();
+        jobService.close();
+    }
+
+    @Test
+    @DisplayName("Sollte einen Job asynchron ausführen und das Ergebnis bereitstellen")
+    void shouldRunJob() throws Exception {
+        jobService = jobService(2, 10);
+        rule.release();
+
+        ComparisonJob job = jobService.submit(spec("alt", "/users"), spec("neu", "/orders"), JobPriority.NORMAL);
+        ComparisonJob done = job.completion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertSame(job, done);
+        assertEquals(JobState.SUCCEEDED, job.getState());
+        assertTrue(job.getResult().hasBreakingChanges());
+        assertNotNull(job.getStartedAt());
+        assertFalse(job.getFinishedAt().isBefore(job.getStartedAt()));
+        assertSame(job, jobService.getJob(job.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Sollte wartende Jobs nach Priorität und Eingang starten")
+    void shouldStartJobsByPriority() throws Exception {
+        jobService = jobService(1, 10);
+        String old = spec("alt", "/users");
+
+        ComparisonJob blocker = jobService.submit(old, spec("blocker", "/users"), JobPriority.NORMAL);
+        assertTrue(rule.awaitStarted());
+        ComparisonJob low = jobService.submit(old, spec("low", "/users"), JobPriority.LOW);
+        jobService.submit(old, spec("normal-1", "/users"), JobPriority.NORMAL);
+        jobService.submit(old, spec("high", "/users"), JobPriority.HIGH);
+        jobService.submit(old, spec("normal-2", "/users"), JobPriority.NORMAL);
+        assertEquals(JobState.QUEUED, low.getState());
+        assertEquals(4, jobService.getStats().queued());
+
+        rule.release();
+        blocker.completion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        low.completion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("blocker", "high", "normal-1", "normal-2", "low"), rule.getTitles());
+    }
+
+    @Test
+    @DisplayName("Sollte Jobs bei voller Warteschlange mit Retry-After ablehnen")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        jobService = jobService(1, 2);
+        String old = spec("alt", "/users");
+
+        jobService.submit(old, spec("blocker", "/users"), JobPriority.NORMAL);
+        assertTrue(rule.awaitStarted());
+        jobService.submit(old, spec("a", "/users"), JobPriority.NORMAL);
+        jobService.submit(old, spec("b", "/users"), JobPriority.NORMAL);
+
+        QueueFullException e = assertThrows(QueueFullException.class,
+                () -> jobService.submit(old, spec("c", "/users"), JobPriority.HIGH));
+        assertTrue(e.getRetryAfterSeconds() >= 1);
+        assertEquals(new JobQueueStats(2, 1, 2, 1, 3), jobService.getStats());
+    }
+
+    @Test
+    @DisplayName("Sollte fehlende Dateien sofort und Parse-Fehler am Job melden")
+    void shouldReportFailures() throws Exception {
+        jobService = jobService(1, 10);
+        rule.release();
+        Path broken = tempDir.resolve("kaputt.yaml");
+        Files.writeString(broken, "openapi: [");
+
+        assertThrows(OasParseException.class, () -> jobService.submit(tempDir.resolve("fehlt.yaml").toString(),
+                broken.toString(), JobPriority.NORMAL));
+
+        ComparisonJob job = jobService.submit(spec("alt", "/users"), broken.toString(), JobPriority.NORMAL);
+        job.completion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(JobState.FAILED, job.getState());
+        assertNotNull(job.getError());
+        assertNull(job.getResult());
+    }
+
+    @Test
+    @DisplayName("Sollte Jobs bei einem Error fehlschlagen lassen und den Worker weiterlaufen lassen")
+    void shouldSurviveErrors() throws Exception {
+        BreakingChangeRule overflowingRule = new BreakingChangeRule() {
+            @Override
+            public List<ApiChange> evaluate(OpenAPI oldSpec, OpenAPI newSpec) {
+                if ("tief".equals(newSpec.getInfo().getTitle())) {
+                    throw new StackOverflowError();
+                }
+                return List.of();
+            }
+
+            @Override
+            public String getRuleName() {
+                return "Überlaufende Regel";
+            }
+        };
+        jobService = jobService(1, 10, List.of(overflowingRule, new EndpointRemovedRule()));
+        String old = spec("alt", "/users");
+
+        ComparisonJob failing = jobService.submit(old, spec("tief", "/users"), JobPriority.NORMAL);
+        failing.completion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        ComparisonJob next = jobService.submit(old, spec("neu", "/orders"), JobPriority.NORMAL);
+        next.completion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(JobState.FAILED, failing.getState());
+        assertTrue(failing.getError().contains("StackOverflowError"));
+        assertEquals(JobState.SUCCEEDED, next.getState());
+    }
+
+    private ComparisonJobService jobService(int workers, int capacity) {
+        return jobService(workers, capacity, List.of(rule, new EndpointRemovedRule()));
+    }
+
+    private ComparisonJobService jobService(int workers, int capacity, List<BreakingChangeRule> rules) {
+        OasComparisonService comparisonService = new OasComparisonService(uncachedParser(), rules,
+                RuleExecutor.sequential());
+        return new ComparisonJobService(comparisonService, workers, capacity, Duration.ofMinutes(1),
+                Clock.systemUTC());
+    }
+
+    private String spec(String title, String path) throws IOException {
+        return writeSpec(tempDir, title + ".yaml", title, path).toString();
+    }
+}
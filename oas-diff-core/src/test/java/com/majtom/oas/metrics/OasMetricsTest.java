@@ -0,0 +1,164 @@
+package com.majtom.oas.metrics;
+
+import com.majtom.oas.analyzer.RuleExecutionMode;
+import com.majtom.oas.analyzer.RuleExecutor;
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeSeverity;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParsedSpecCache;
+import com.majtom.oas.parser.ResolutionMode;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.critical.RequiredParameterAddedRule;
+import com.majtom.oas.rules.info.EndpointAddedRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die Micrometer-Metriken von Regelauswertung und Parsen.
+ */
+class OasMetricsTest {
+
+    private static final String V1 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+              /orders:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private static final String V2 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 2.0.0
+            paths:
+              /users:
+                get:
+                  parameters:
+                    - name: tenant
+                      in: query
+                      required: true
+                      schema:
+                        type: string
+                  responses:
+                    '200':
+                      description: OK
+              /invoices:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private final List<BreakingChangeRule> rules = List.of(
+            new EndpointRemovedRule(),
+            new RequiredParameterAddedRule(),
+            new EndpointAddedRule()
+    );
+
+    private SimpleMeterRegistry registry;
+    private OasMetrics metrics;
+    private OasParser parser;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new OasMetrics(registry);
+        parser = new OasParser(new FormatDetector(), new FormatConverter(), ParsedSpecCache.disabled(),
+                ResolutionMode.FULL, metrics);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RuleExecutionMode.class, names = {"SEQUENTIAL", "FORK_JOIN"})
+    @DisplayName("Sollte Laufzeit und Änderungen pro Regel und Severity erfassen")
+    void shouldRecordRuleTimersAndChangeCounters(RuleExecutionMode mode) throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(V1);
+        OpenAPI newSpec = parser.parseFromString(V2);
+
+        try (RuleExecutor executor = new RuleExecutor(mode, 2, metrics)) {
+            executor.evaluateAll(rules, oldSpec, newSpec);
+        }
+
+        for (BreakingChangeRule rule : rules) {
+            assertEquals(1, registry.get(OasMetrics.RULE_DURATION).tag("rule", rule.getRuleName()).timer().count());
+        }
+        assertEquals(1.0, changeCount(new EndpointRemovedRule(), ChangeSeverity.CRITICAL));
+        assertEquals(1.0, changeCount(new RequiredParameterAddedRule(), ChangeSeverity.CRITICAL));
+        assertEquals(1.0, changeCount(new EndpointAddedRule(), ChangeSeverity.INFO));
+        assertNull(registry.find(OasMetrics.RULE_CHANGES)
+                .tag("rule", new EndpointAddedRule().getRuleName())
+                .tag("severity", ChangeSeverity.CRITICAL.name())
+                .counter());
+    }
+
+    @Test
+    @DisplayName("Sollte Änderungen pro Regel auch beim Streamen in eine Senke erfassen")
+    void shouldRecordChangeCountersWhenStreaming() throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(V1);
+        OpenAPI newSpec = parser.parseFromString(V2);
+
+        try (RuleExecutor executor = new RuleExecutor(RuleExecutionMode.SEQUENTIAL, 0, metrics)) {
+            executor.evaluateAll(rules, oldSpec, newSpec, change -> { });
+        }
+
+        for (BreakingChangeRule rule : rules) {
+            assertEquals(1, registry.get(OasMetrics.RULE_DURATION).tag("rule", rule.getRuleName()).timer().count());
+        }
+        assertEquals(1.0, changeCount(new EndpointRemovedRule(), ChangeSeverity.CRITICAL));
+        assertEquals(1.0, changeCount(new RequiredParameterAddedRule(), ChangeSeverity.CRITICAL));
+        assertEquals(1.0, changeCount(new EndpointAddedRule(), ChangeSeverity.INFO));
+    }
+
+    @Test
+    @DisplayName("Sollte Parse-Dauer und Spezifikationsgröße pro Format erfassen")
+    void shouldRecordParseDurationAndSize() throws OasParseException {
+        parser.parseFromString(V1);
+        parser.parseFromString(V2);
+
+        assertEquals(2, registry.get(OasMetrics.PARSE_DURATION).tag("format", "YAML").timer().count());
+        assertEquals(V1.length() + V2.length(),
+                registry.get(OasMetrics.SPEC_SIZE).tag("format", "YAML").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Sollte ohne Registry nichts aufzeichnen")
+    void shouldRecordNothingWhenDisabled() {
+        OasMetrics disabled = OasMetrics.disabled();
+
+        disabled.recordRule(new EndpointRemovedRule(), 1_000, List.<ApiChange>of());
+
+        assertFalse(disabled.isEnabled());
+        assertTrue(registry.getMeters().isEmpty());
+    }
+
+    private double changeCount(BreakingChangeRule rule, ChangeSeverity severity) {
+        return registry.get(OasMetrics.RULE_CHANGES)
+                .tag("rule", rule.getRuleName())
+                .tag("severity", severity.name())
+                .counter()
+                .count();
+    }
+}
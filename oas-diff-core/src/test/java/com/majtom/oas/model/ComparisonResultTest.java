@@ -0,0 +1,91 @@
+package com.majtom.oas.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die vorberechneten Sichten des Vergleichsergebnisses.
+ */
+class ComparisonResultTest {
+
+    private static final ApiChange USERS_REMOVED = change(ChangeType.ENDPOINT_REMOVED, ChangeSeverity.CRITICAL,
+            "/users", true);
+    private static final ApiChange ORDERS_PARAM = change(ChangeType.PARAMETER_ADDED, ChangeSeverity.INFO,
+            "/orders [GET]", false);
+    private static final ApiChange USERS_DEPRECATED = change(ChangeType.OPERATION_DEPRECATED_ADDED, ChangeSeverity.WARNING,
+            "/users", false);
+    private static final ApiChange ORDERS_REQUIRED = change(ChangeType.PARAMETER_REQUIRED_ADDED,
+            ChangeSeverity.CRITICAL, "/orders [GET]", true);
+
+    @Test
+    @DisplayName("Sollte Aufteilung, Zähler und Pfadgruppen in Änderungsreihenfolge liefern")
+    void shouldPrecomputeViews() {
+        ComparisonResult result = new ComparisonResult("1.0.0", "2.0.0",
+                List.of(USERS_REMOVED, ORDERS_PARAM, USERS_DEPRECATED, ORDERS_REQUIRED));
+
+        assertEquals(List.of(USERS_REMOVED, ORDERS_REQUIRED), result.getBreakingChanges());
+        assertEquals(List.of(ORDERS_PARAM, USERS_DEPRECATED), result.getNonBreakingChanges());
+        assertTrue(result.hasBreakingChanges());
+        assertEquals(2, result.getBreakingChangesCount());
+
+        assertEquals(2, result.getChangesCount(ChangeSeverity.CRITICAL));
+        assertEquals(0, result.getChangesCount(ChangeSeverity.MAJOR));
+        assertEquals(1, result.getChangesCount(ChangeType.OPERATION_DEPRECATED_ADDED));
+
+        assertEquals(List.of("/users", "/orders [GET]"), List.copyOf(result.getChangesByPath().keySet()));
+        assertEquals(List.of(USERS_REMOVED, USERS_DEPRECATED), result.getChangesForPath("/users"));
+        assertTrue(result.getChangesForPath("/unbekannt").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Sollte von späteren Änderungen der Eingabeliste unabhängig sein")
+    void shouldCopyInputList() {
+        List<ApiChange> changes = new ArrayList<>(List.of(ORDERS_PARAM));
+        ComparisonResult result = new ComparisonResult("1.0.0", "2.0.0", changes);
+
+        changes.add(USERS_REMOVED);
+
+        assertEquals(1, result.getTotalChangesCount());
+        assertFalse(result.hasBreakingChanges());
+        assertThrows(UnsupportedOperationException.class, () -> result.getBreakingChanges().add(USERS_REMOVED));
+    }
+
+    @Test
+    @DisplayName("Sollte aus Änderungsmengen dieselben Sichten wie aus einer Liste liefern")
+    void shouldCombineChangeSets() {
+        ComparisonResult.ChangeSet users = ComparisonResult.ChangeSet.of(List.of(USERS_REMOVED, ORDERS_PARAM));
+        ComparisonResult.ChangeSet orders = ComparisonResult.ChangeSet.of(List.of(USERS_DEPRECATED, ORDERS_REQUIRED));
+
+        ComparisonResult combined = ComparisonResult.ofChangeSets("1.0.0", "2.0.0",
+                List.of(users, ComparisonResult.ChangeSet.EMPTY, orders));
+        ComparisonResult expected = new ComparisonResult("1.0.0", "2.0.0",
+                List.of(USERS_REMOVED, ORDERS_PARAM, USERS_DEPRECATED, ORDERS_REQUIRED));
+
+        assertEquals(expected.getChanges(), combined.getChanges());
+        assertEquals(USERS_DEPRECATED, combined.getChanges().get(2));
+        assertEquals(expected.getBreakingChanges(), combined.getBreakingChanges());
+        assertEquals(expected.getNonBreakingChanges(), combined.getNonBreakingChanges());
+        assertEquals(expected.getSeverityCounts(), combined.getSeverityCounts());
+        assertEquals(expected.getTypeCounts(), combined.getTypeCounts());
+        assertEquals(expected.getChangesByPath(), combined.getChangesByPath());
+        assertEquals(List.copyOf(expected.getChangesByPath().keySet()),
+                List.copyOf(combined.getChangesByPath().keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> combined.getChanges().add(USERS_REMOVED));
+        assertThrows(IndexOutOfBoundsException.class, () -> combined.getChanges().get(4));
+    }
+
+    private static ApiChange change(ChangeType type, ChangeSeverity severity, String path, boolean breaking) {
+        return ApiChange.builder()
+                .type(type)
+                .severity(severity)
+                .path(path)
+                .description(type.getDescription())
+                .isBreakingChange(breaking)
+                .build();
+    }
+}
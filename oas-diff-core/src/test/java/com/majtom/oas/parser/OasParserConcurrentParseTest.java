@@ -0,0 +1,75 @@
+package com.majtom.oas.parser;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für das gleichzeitige Parsen mehrerer OAS-Dateien.
+ */
+class OasParserConcurrentParseTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: %s
+            paths: {}
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private final OasParser parser = new OasParser(new FormatDetector(), new FormatConverter());
+
+    @Test
+    @DisplayName("Sollte Ergebnisse in der Reihenfolge der Pfade liefern")
+    void shouldKeepPathOrder() throws IOException, OasParseException {
+        Path v1 = tempDir.resolve("v1.yaml");
+        Path v2 = tempDir.resolve("v2.yaml");
+        Files.writeString(v1, SPEC.formatted("1.0.0"));
+        Files.writeString(v2, SPEC.formatted("2.0.0"));
+
+        List<OpenAPI> specs = parser.parseFromFiles(List.of(v1.toString(), v2.toString()));
+
+        assertEquals("1.0.0", specs.get(0).getInfo().getVersion());
+        assertEquals("2.0.0", specs.get(1).getInfo().getVersion());
+    }
+
+    @Test
+    @DisplayName("Sollte einzelnen Fehler unverändert weiterreichen")
+    void shouldRethrowSingleFailure() throws IOException {
+        Path v1 = tempDir.resolve("v1.yaml");
+        Files.writeString(v1, SPEC.formatted("1.0.0"));
+        String missing = tempDir.resolve("missing.yaml").toString();
+
+        OasParseException e = assertThrows(OasParseException.class,
+                () -> parser.parseFromFiles(List.of(v1.toString(), missing)));
+
+        assertTrue(e.getMessage().contains(missing));
+        assertEquals(0, e.getSuppressed().length);
+    }
+
+    @Test
+    @DisplayName("Sollte Fehler beider Dateien zusammenfassen")
+    void shouldAggregateFailures() {
+        String missingOld = tempDir.resolve("old.yaml").toString();
+        String missingNew = tempDir.resolve("new.yaml").toString();
+
+        OasParseException e = assertThrows(OasParseException.class,
+                () -> parser.parseFromFiles(List.of(missingOld, missingNew)));
+
+        assertTrue(e.getMessage().startsWith("2 von 2"));
+        assertTrue(e.getCause().getMessage().contains(missingOld));
+        assertEquals(1, e.getSuppressed().length);
+        assertTrue(e.getSuppressed()[0].getMessage().contains(missingNew));
+    }
+}
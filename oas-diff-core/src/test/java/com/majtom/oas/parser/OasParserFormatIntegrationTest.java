@@ -1,22 +1,31 @@
 package com.majtom.oas.parser;
 
+import com.majtom.oas.metrics.OasMetrics;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Integrationstests für OasParser mit YAML- und JSON-Unterstützung.
  */
-@SpringBootTest(classes = {OasParser.class, FormatDetector.class, FormatConverter.class})
+@SpringBootTest(classes = {OasParser.class, ParsedSpecCache.class, OasMetrics.class, FormatDetector.class,
+        FormatConverter.class})
 class OasParserFormatIntegrationTest {
 
     @Autowired
@@ -86,6 +95,83 @@ class OasParserFormatIntegrationTest {
         assertEquals("1.0.0", openAPI.getInfo().getVersion());
     }
 
+    @Test
+    @DisplayName("Sollte Stream parsen und den Cache mit dem String-Parsen teilen")
+    void shouldParseStreamSharingCacheWithString() throws OasParseException {
+        String yamlContent = "openapi: 3.0.0\n" +
+                "info:\n" +
+                "  title: Stream API\n" +
+                "  version: 2.1.0\n" +
+                "paths: {}\n";
+
+        OpenAPI fromStream = oasParser.parseFromStream(
+                new ByteArrayInputStream(yamlContent.getBytes(StandardCharsets.UTF_8)));
+        OpenAPI fromString = oasParser.parseFromString(yamlContent);
+
+        assertEquals("Stream API", fromStream.getInfo().getTitle());
+        assertEquals("2.1.0", fromStream.getInfo().getVersion());
+        assertSame(fromStream, fromString);
+    }
+
+    @Test
+    @DisplayName("Sollte mehrere YAML-Dokumente aus einem Stream parsen")
+    void shouldParseMultipleDocumentsFromStream() throws OasParseException {
+        String documents = "openapi: 3.0.0\n" +
+                "info:\n" +
+                "  title: Test API\n" +
+                "  version: 1.0.0\n" +
+                "paths: {}\n" +
+                "---\n" +
+                "openapi: 3.0.0\n" +
+                "info:\n" +
+                "  title: Test API\n" +
+                "  version: 2.0.0\n" +
+                "paths: {}\n";
+
+        List<OpenAPI> specs = oasParser.parseDocumentsFromStream(
+                new ByteArrayInputStream(documents.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, specs.size());
+        assertEquals("1.0.0", specs.get(0).getInfo().getVersion());
+        assertEquals("2.0.0", specs.get(1).getInfo().getVersion());
+    }
+
+    @Test
+    @DisplayName("Sollte Referenzen in OpenAPI 3.1 aus String und Baum auflösen")
+    void shouldResolveOpenApi31References() throws OasParseException {
+        String content = """
+                openapi: 3.1.0
+                info:
+                  title: Test API
+                  version: 1.0.0
+                paths:
+                  /users:
+                    get:
+                      responses:
+                        '200':
+                          description: OK
+                          content:
+                            application/json:
+                              schema:
+                                $ref: '#/components/schemas/User'
+                components:
+                  schemas:
+                    User:
+                      type: object
+                      properties:
+                        name:
+                          type: string
+                """;
+
+        for (OpenAPI openAPI : List.of(oasParser.parseFromString(content),
+                oasParser.parseFromTree(oasParser.readTree(content)))) {
+            Schema<?> schema = openAPI.getPaths().get("/users").getGet().getResponses().get("200")
+                    .getContent().get("application/json").getSchema();
+            assertNull(schema.get$ref());
+            assertTrue(schema.getProperties().containsKey("name"));
+        }
+    }
+
     @Test
     @DisplayName("Sollte FormatDetector und FormatConverter bereitstellen")
     void shouldProvideFormatDetectorAndConverter() {
@@ -0,0 +1,137 @@
+package com.majtom.oas.parser;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für den inhaltsadressierten Parse-Cache.
+ */
+class ParsedSpecCacheTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: %s
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private ParsedSpecCache cache;
+    private OasParser parser;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ParsedSpecCache(16);
+        parser = new OasParser(new FormatDetector(), new FormatConverter(), cache);
+    }
+
+    @Test
+    @DisplayName("Sollte gleichen String-Content nur einmal parsen")
+    void shouldReuseModelForSameContent() throws OasParseException {
+        OpenAPI first = parser.parseFromString(SPEC.formatted("1.0.0"));
+        OpenAPI second = parser.parseFromString(SPEC.formatted("1.0.0"));
+        OpenAPI other = parser.parseFromString(SPEC.formatted("2.0.0"));
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(1, cache.getStats().hits());
+        assertEquals(2, cache.getStats().misses());
+    }
+
+    @Test
+    @DisplayName("Sollte kein Modell cachen, wenn sich die Datei zwischen Hashen und Parsen ändert")
+    void shouldNotCacheModelOfFileChangedDuringParse() throws IOException, OasParseException {
+        Path file = Files.writeString(tempDir.resolve("api.yaml"), SPEC.formatted("1.0.0"));
+        AtomicBoolean edited = new AtomicBoolean();
+        ParsedSpecCache editingCache = new ParsedSpecCache(16) {
+            @Override
+            public synchronized OpenAPI get(String key) {
+                // Einmalig nach der Schlüsselberechnung, vor dem Parsen
+                if (edited.compareAndSet(false, true)) {
+                    try {
+                        Files.writeString(file, SPEC.formatted("2.0.0"));
+                        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return super.get(key);
+            }
+        };
+        OasParser editingParser = new OasParser(new FormatDetector(), new FormatConverter(), editingCache);
+
+        assertEquals("2.0.0", editingParser.parseFromFile(file.toString()).getInfo().getVersion());
+        assertEquals(0, editingCache.getStats().entryCount());
+
+        // Der ursprüngliche Inhalt darf nicht das Modell des geänderten liefern
+        Files.writeString(file, SPEC.formatted("1.0.0"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+        assertEquals("1.0.0", editingParser.parseFromFile(file.toString()).getInfo().getVersion());
+    }
+
+    @Test
+    @DisplayName("Sollte geänderte Dateien neu parsen")
+    void shouldReparseChangedFile() throws IOException, OasParseException {
+        Path file = tempDir.resolve("api.yaml");
+        Files.writeString(file, SPEC.formatted("1.0.0"));
+
+        OpenAPI first = parser.parseFromFile(file.toString());
+        assertSame(first, parser.parseFromFile(file.toString()));
+
+        Files.writeString(file, SPEC.formatted("2.0.0"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        OpenAPI changed = parser.parseFromFile(file.toString());
+
+        assertNotSame(first, changed);
+        assertEquals("2.0.0", changed.getInfo().getVersion());
+    }
+
+    @Test
+    @DisplayName("Sollte Einträge nach Gewicht verdrängen")
+    void shouldEvictByWeight() {
+        long weight = 1024 * 1024 / ParsedSpecCache.HEAP_BYTES_PER_CONTENT_BYTE;
+        ParsedSpecCache smallCache = new ParsedSpecCache(1);
+
+        smallCache.put("a", new OpenAPI(), weight / 2);
+        smallCache.put("b", new OpenAPI(), weight / 2);
+        assertNotNull(smallCache.get("a"));
+        smallCache.put("c", new OpenAPI(), weight / 2);
+
+        assertNotNull(smallCache.get("a"));
+        assertNull(smallCache.get("b"));
+        assertNotNull(smallCache.get("c"));
+        assertEquals(1, smallCache.getStats().evictions());
+        assertEquals(2, smallCache.getStats().entryCount());
+    }
+
+    @Test
+    @DisplayName("Sollte im deaktivierten Zustand nichts speichern")
+    void shouldNotCacheWhenDisabled() {
+        ParsedSpecCache disabled = ParsedSpecCache.disabled();
+
+        disabled.put("a", new OpenAPI(), 1);
+
+        assertFalse(disabled.isEnabled());
+        assertNull(disabled.get("a"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.majtom.oas.report;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeSeverity;
+import com.majtom.oas.model.ChangeType;
+import com.majtom.oas.model.ComparisonResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für den Textbericht.
+ */
+class HumanReadableReportGeneratorTest {
+
+    private final HumanReadableReportGenerator generator = new HumanReadableReportGenerator();
+
+    private final ComparisonResult result = new ComparisonResult("1.0.0", "2.0.0", List.of(
+            change(ChangeType.ENDPOINT_REMOVED, "/zebras", true),
+            change(ChangeType.PARAMETER_REQUIRED_ADDED, "/apes [GET]", true),
+            change(ChangeType.ENDPOINT_ADDED, "/birds", false),
+            change(ChangeType.RESPONSE_CODE_REMOVED, "/zebras", true)
+    ));
+
+    @Test
+    @DisplayName("Sollte in einen Writer denselben Bericht schreiben wie als String")
+    void shouldWriteSameReportToWriter() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        generator.writeTextReport(result, writer);
+
+        assertEquals(generator.generateTextReport(result), writer.toString());
+    }
+
+    @Test
+    @DisplayName("Sollte Änderungen nach Pfad in Reihenfolge der ersten Änderung gruppieren")
+    void shouldGroupByPathInResultOrder() {
+        String report = generator.generateTextReport(result);
+
+        assertTrue(report.contains("1. [Kritisch] /zebras\n   Endpoint entfernt"));
+        assertTrue(report.contains("2. [Kritisch] /zebras\n   " + ChangeType.RESPONSE_CODE_REMOVED.getDescription()));
+        assertTrue(report.contains("3. [Kritisch] /apes [GET]"));
+        assertTrue(report.contains("1. [Information] /birds"));
+        assertTrue(report.indexOf("BREAKING CHANGES\n") < report.indexOf("WEITERE ÄNDERUNGEN"));
+    }
+
+    private static ApiChange change(ChangeType type, String path, boolean breaking) {
+        return ApiChange.builder()
+                .type(type)
+                .severity(breaking ? ChangeSeverity.CRITICAL : ChangeSeverity.INFO)
+                .path(path)
+                .description(type.getDescription())
+                .isBreakingChange(breaking)
+                .build();
+    }
+}
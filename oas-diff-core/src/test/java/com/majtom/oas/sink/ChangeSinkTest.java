@@ -0,0 +1,205 @@
+package com.majtom.oas.sink;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.analyzer.RuleExecutionMode;
+import com.majtom.oas.analyzer.RuleExecutor;
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeSeverity;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.critical.RequiredParameterAddedRule;
+import com.majtom.oas.rules.info.EndpointAddedRule;
+import com.majtom.oas.traversal.TraversalRule;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die Senken der gestreamten Regelauswertung.
+ */
+class ChangeSinkTest {
+
+    private static final String V1 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+              /orders:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private static final String V2 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 2.0.0
+            paths:
+              /users:
+                get:
+                  parameters:
+                    - name: tenant
+                      in: query
+                      required: true
+                      schema:
+                        type: string
+                  responses:
+                    '200':
+                      description: OK
+              /invoices:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private final List<BreakingChangeRule> rules = List.of(
+            new EndpointRemovedRule(),
+            new RequiredParameterAddedRule(),
+            new EndpointAddedRule()
+    );
+
+    private OasParser parser;
+    private OpenAPI oldSpec;
+    private OpenAPI newSpec;
+
+    @BeforeEach
+    void setUp() throws OasParseException {
+        parser = new OasParser(new FormatDetector(), new FormatConverter());
+        oldSpec = parser.parseFromString(V1);
+        newSpec = parser.parseFromString(V2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RuleExecutionMode.class)
+    @DisplayName("Sollte dieselben Änderungen wie das Vergleichsergebnis liefern")
+    void shouldStreamSameChangesAsResult(RuleExecutionMode mode) {
+        try (RuleExecutor executor = new RuleExecutor(mode, 2)) {
+            OasComparisonService service = new OasComparisonService(parser, rules, executor);
+            ComparisonResult result = service.compareSpecifications(oldSpec, newSpec);
+
+            CollectingChangeSink sink = new CollectingChangeSink();
+            service.compareSpecifications(oldSpec, newSpec, sink);
+
+            assertEquals(3, sink.size());
+            assertEquals(result.getChanges().stream().map(ApiChange::toString).sorted().toList(),
+                    sink.getChanges().stream().map(ApiChange::toString).sorted().toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte Änderungen im sequentiellen Modus in Durchlaufreihenfolge streamen")
+    void shouldStreamChangesInTraversalOrder() {
+        OasComparisonService service = new OasComparisonService(parser, rules);
+        CollectingChangeSink sink = new CollectingChangeSink();
+
+        service.compareSpecifications(oldSpec, newSpec, sink);
+
+        // Klassische Regel beim Start des Durchlaufs, danach die Pfade in Durchlaufreihenfolge
+        assertEquals(List.of("/users [GET]", "/orders", "/invoices"),
+                sink.getChanges().stream().map(ApiChange::getPath).toList());
+        // Das Vergleichsergebnis bleibt in Regelreihenfolge
+        assertEquals(List.of("/orders", "/users [GET]", "/invoices"),
+                service.compareSpecifications(oldSpec, newSpec).getChanges().stream().map(ApiChange::getPath).toList());
+    }
+
+    @Test
+    @DisplayName("Sollte Änderungen pro Severity zählen und filtern")
+    void shouldCountAndFilterBySeverity() {
+        OasComparisonService service = new OasComparisonService(parser, rules);
+        CountingChangeSink all = new CountingChangeSink();
+        CountingChangeSink critical = new CountingChangeSink();
+
+        service.compareSpecifications(oldSpec, newSpec,
+                all.andThen(SeverityFilterChangeSink.atLeast(ChangeSeverity.MAJOR, critical)));
+
+        assertEquals(3, all.getTotalCount());
+        assertEquals(2, all.getBreakingCount());
+        assertEquals(2, all.getCount(ChangeSeverity.CRITICAL));
+        assertEquals(1, all.getCount(ChangeSeverity.INFO));
+        assertEquals(2, critical.getTotalCount());
+        assertEquals(0, critical.getCount(ChangeSeverity.INFO));
+    }
+
+    @Test
+    @DisplayName("Sollte jede Änderung als JSON-Zeile und zuletzt die Zusammenfassung schreiben")
+    void shouldWriteJsonLines() throws IOException {
+        OasComparisonService service = new OasComparisonService(parser, rules);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonLinesChangeSink sink = new JsonLinesChangeSink(out, true);
+        CountingChangeSink counts = new CountingChangeSink();
+
+        service.compareSpecifications(oldSpec, newSpec, counts.andThen(sink));
+        sink.writeSummary("1.0.0", "2.0.0", counts);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        JsonNode summary = new ObjectMapper().readTree(lines[3]).get("summary");
+        assertEquals(3, summary.get("totalChanges").asInt());
+        assertEquals(2, summary.get("breakingChangesCount").asInt());
+        assertEquals(2, summary.get("severityCounts").get("CRITICAL").asInt());
+
+        CollectingChangeSink collected = new CollectingChangeSink();
+        service.compareSpecifications(oldSpec, newSpec, collected);
+        ApiChange first = collected.getChanges().get(0);
+        JsonNode json = new ObjectMapper().readTree(lines[0]);
+        assertEquals(first.getType().name(), json.get("type").asText());
+        assertEquals(first.getPath(), json.get("path").asText());
+        assertTrue(json.get("breakingChange").asBoolean());
+    }
+
+    @Test
+    @DisplayName("Sollte JSON-Zeilen schon während des Durchlaufs schreiben")
+    void shouldWriteJsonLinesDuringTraversal() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Map<String, Integer> writtenBeforePath = new LinkedHashMap<>();
+        TraversalRule probe = new TraversalRule() {
+            @Override
+            public void visitPathItem(String path, PathItem oldPathItem, PathItem newPathItem,
+                                      List<ApiChange> changes) {
+                writtenBeforePath.put(path, out.size());
+            }
+
+            @Override
+            public String getRuleName() {
+                return "Sonde";
+            }
+        };
+        OasComparisonService service = new OasComparisonService(parser, List.of(new EndpointRemovedRule(), probe));
+
+        service.compareSpecifications(oldSpec, newSpec, new JsonLinesChangeSink(out, true));
+
+        // Die Entfernung von /orders steht im Strom, bevor der Durchlauf /invoices erreicht
+        assertEquals(0, writtenBeforePath.get("/users"));
+        assertTrue(writtenBeforePath.get("/orders") > 0);
+        assertEquals(writtenBeforePath.get("/orders"), writtenBeforePath.get("/invoices"));
+    }
+}
@@ -0,0 +1,133 @@
+package com.majtom.oas.traversal;
+
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParsedSpecCache;
+import com.majtom.oas.parser.ResolutionMode;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für den Referenz-bewussten Schema-Vergleich.
+ */
+class RefAwareSchemaComparatorTest {
+
+    private static final String V1 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/User'
+            components:
+              schemas:
+                User:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+                    manager:
+                      $ref: '#/components/schemas/User'
+            """;
+
+    private static final String V2 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 2.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/Person'
+            components:
+              schemas:
+                Person:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+                    manager:
+                      $ref: '#/components/schemas/Person'
+                Order:
+                  type: object
+                  properties:
+                    id:
+                      type: integer
+            """;
+
+    private OasParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new OasParser(new FormatDetector(), new FormatConverter(), ParsedSpecCache.disabled(),
+                ResolutionMode.REFERENCES);
+    }
+
+    @Test
+    @DisplayName("Sollte Schema-Referenzen beim Parsen erhalten")
+    void shouldKeepReferences() throws OasParseException {
+        OpenAPI spec = parser.parseFromString(V1);
+
+        assertEquals("#/components/schemas/User", responseSchema(spec).get$ref());
+    }
+
+    @Test
+    @DisplayName("Sollte umbenannte, inhaltlich gleiche Schemas als äquivalent erkennen")
+    void shouldTreatRenamedSchemaAsEquivalent() throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(V1);
+        OpenAPI newSpec = parser.parseFromString(V2);
+        RefAwareSchemaComparator comparator = new RefAwareSchemaComparator(oldSpec, newSpec);
+
+        assertTrue(comparator.equivalent(responseSchema(oldSpec), responseSchema(newSpec)));
+        assertSame(newSpec.getComponents().getSchemas().get("Person"), comparator.resolveNew(responseSchema(newSpec)));
+    }
+
+    @Test
+    @DisplayName("Sollte unterschiedliche Schemas hinter Referenzen erkennen")
+    void shouldDetectDifferentTargets() throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(V1);
+        OpenAPI newSpec = parser.parseFromString(V2);
+        RefAwareSchemaComparator comparator = new RefAwareSchemaComparator(oldSpec, newSpec);
+
+        Schema orderRef = new Schema().$ref("#/components/schemas/Order");
+
+        assertFalse(comparator.equivalent(responseSchema(oldSpec), orderRef));
+        assertFalse(comparator.equivalent(responseSchema(oldSpec), newSpec.getComponents().getSchemas().get("Order")));
+    }
+
+    @Test
+    @DisplayName("Sollte Referenz und gleiches Inline-Schema als äquivalent erkennen")
+    void shouldTreatInlineSchemaAsEquivalent() throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(V1);
+        OpenAPI newSpec = parser.parseFromString(V2);
+        RefAwareSchemaComparator comparator = new RefAwareSchemaComparator(oldSpec, newSpec);
+
+        assertTrue(comparator.equivalent(responseSchema(oldSpec), newSpec.getComponents().getSchemas().get("Person")));
+    }
+
+    private Schema responseSchema(OpenAPI spec) {
+        return spec.getPaths().get("/users").getGet().getResponses().get("200")
+                .getContent().get("application/json").getSchema();
+    }
+}
@@ -0,0 +1,187 @@
+package com.majtom.oas.traversal;
+
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die strukturellen Fingerprints.
+ */
+class SpecFingerprintsTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/User'
+            components:
+              schemas:
+                User:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+                      maxLength: %d
+                    manager:
+                      $ref: '#/components/schemas/User'
+            """;
+
+    private static final String LIST_SPEC = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths: {}
+            components:
+              schemas:
+                User:
+                  type: object
+                  required: [%s]
+                  properties:
+                    code:
+                      type: string
+                      enum: [%s]
+            """;
+
+    private final OasParser parser = new OasParser(new FormatDetector(), new FormatConverter());
+
+    @Test
+    @DisplayName("Sollte gleiche Fingerprints für strukturell identische Spezifikationen liefern")
+    void shouldProduceEqualFingerprintsForIdenticalSpecs() throws OasParseException {
+        OpenAPI first = parser.parseFromString(SPEC.formatted(50));
+        OpenAPI second = parser.parseFromString(SPEC.formatted(50));
+
+        assertTrue(SpecFingerprints.unchanged(
+                SpecFingerprints.of(first), first.getPaths().get("/users"),
+                SpecFingerprints.of(second), second.getPaths().get("/users")));
+        assertTrue(SpecFingerprints.unchanged(
+                SpecFingerprints.of(first), first.getComponents().getSchemas().get("User"),
+                SpecFingerprints.of(second), second.getComponents().getSchemas().get("User")));
+    }
+
+    @Test
+    @DisplayName("Sollte Änderungen in verschachtelten Schemas bis zum PathItem propagieren")
+    void shouldPropagateNestedChanges() throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(SPEC.formatted(50));
+        OpenAPI newSpec = parser.parseFromString(SPEC.formatted(20));
+
+        assertFalse(SpecFingerprints.unchanged(
+                SpecFingerprints.of(oldSpec), oldSpec.getPaths().get("/users"),
+                SpecFingerprints.of(newSpec), newSpec.getPaths().get("/users")));
+        assertFalse(SpecFingerprints.unchanged(
+                SpecFingerprints.of(oldSpec), oldSpec.getComponents().getSchemas().get("User"),
+                SpecFingerprints.of(newSpec), newSpec.getComponents().getSchemas().get("User")));
+    }
+
+    @Test
+    @DisplayName("Sollte Listen in required und enum trotz gleichem hashCode unterscheiden")
+    void shouldDistinguishListsWithCollidingHashCodes() throws OasParseException {
+        // "Aa" und "BB" haben denselben String#hashCode, damit auch List.of("Aa") und List.of("BB")
+        assertEquals(List.of("Aa").hashCode(), List.of("BB").hashCode());
+
+        assertSchemaChanged(LIST_SPEC.formatted("Aa", "X"), LIST_SPEC.formatted("BB", "X"));
+        assertSchemaChanged(LIST_SPEC.formatted("X", "Aa"), LIST_SPEC.formatted("X", "BB"));
+    }
+
+    @Test
+    @DisplayName("Sollte zyklische Schemas unabhängig vom Einstiegspunkt hashen")
+    void shouldHashCyclesIndependentOfEntryPoint() {
+        OpenAPI first = cyclicSpec(List.of("Parent", "Child"));
+        OpenAPI second = cyclicSpec(List.of("Child", "Parent"));
+
+        for (String name : List.of("Parent", "Child")) {
+            assertTrue(SpecFingerprints.unchanged(
+                    SpecFingerprints.of(first), first.getComponents().getSchemas().get(name),
+                    SpecFingerprints.of(second), second.getComponents().getSchemas().get(name)), name);
+        }
+
+        OpenAPI changed = cyclicSpec(List.of("Child", "Parent"));
+        changed.getComponents().getSchemas().get("Child").addProperty("extra", new StringSchema());
+        assertFalse(SpecFingerprints.unchanged(
+                SpecFingerprints.of(first), first.getComponents().getSchemas().get("Parent"),
+                SpecFingerprints.of(changed), changed.getComponents().getSchemas().get("Parent")));
+    }
+
+    @Test
+    @DisplayName("Sollte Fingerprints pro Spezifikation nur einmal berechnen")
+    void shouldReuseFingerprintsPerSpec() throws OasParseException {
+        OpenAPI spec = parser.parseFromString(SPEC.formatted(50));
+
+        assertSame(SpecFingerprints.of(spec), SpecFingerprints.of(spec));
+    }
+
+    @Test
+    @DisplayName("Sollte bei gleichzeitiger Berechnung allen Aufrufern dieselben Fingerprints liefern")
+    void shouldShareFingerprintsComputedConcurrently() throws Exception {
+        OpenAPI spec = parser.parseFromString(SPEC.formatted(50));
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SpecFingerprints>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> SpecFingerprints.of(spec)));
+            }
+            for (Future<SpecFingerprints> result : results) {
+                assertSame(SpecFingerprints.of(spec), result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Spezifikation mit zwei aufgelösten, gegenseitig referenzierten Schemas in der angegebenen
+     * Reihenfolge.
+     */
+    private static OpenAPI cyclicSpec(List<String> order) {
+        Schema<Object> parent = new ObjectSchema();
+        Schema<Object> child = new ObjectSchema();
+        parent.addProperty("name", new StringSchema());
+        parent.addProperty("child", child);
+        child.addProperty("id", new IntegerSchema());
+        child.addProperty("parent", parent);
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        for (String name : order) {
+            schemas.put(name, name.equals("Parent") ? parent : child);
+        }
+        return new OpenAPI().components(new Components().schemas(schemas));
+    }
+
+    private void assertSchemaChanged(String oldContent, String newContent) throws OasParseException {
+        OpenAPI oldSpec = parser.parseFromString(oldContent);
+        OpenAPI newSpec = parser.parseFromString(newContent);
+
+        assertFalse(SpecFingerprints.unchanged(
+                SpecFingerprints.of(oldSpec), oldSpec.getComponents().getSchemas().get("User"),
+                SpecFingerprints.of(newSpec), newSpec.getComponents().getSchemas().get("User")));
+    }
+}
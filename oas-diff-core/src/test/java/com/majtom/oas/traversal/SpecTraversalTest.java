@@ -0,0 +1,211 @@
+package com.majtom.oas.traversal;
+
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für den gemeinsamen Durchlauf von alter und neuer Spezifikation.
+ */
+class SpecTraversalTest {
+
+    private static final String V1 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  parameters:
+                    - name: page
+                      in: query
+                      schema:
+                        type: integer
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+              /legacy:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            components:
+              schemas:
+                User:
+                  type: object
+            """;
+
+    private static final String V2 = """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 2.0.0
+            paths:
+              /users:
+                get:
+                  parameters:
+                    - name: page
+                      in: query
+                      schema:
+                        type: integer
+                    - name: size
+                      in: query
+                      schema:
+                        type: integer
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+                post:
+                  responses:
+                    '201':
+                      description: Created
+            components:
+              schemas:
+                User:
+                  type: object
+                Order:
+                  type: object
+            """;
+
+    private OpenAPI oldSpec;
+    private OpenAPI newSpec;
+
+    @BeforeEach
+    void setUp() throws OasParseException {
+        OasParser parser = new OasParser(new FormatDetector(), new FormatConverter());
+        oldSpec = parser.parseFromString(V1);
+        newSpec = parser.parseFromString(V2);
+    }
+
+    @Test
+    @DisplayName("Sollte geänderte Element-Paare in stabiler Reihenfolge besuchen")
+    void shouldVisitAllPairsInOrder() {
+        RecordingVisitor visitor = new RecordingVisitor();
+
+        new SpecTraversal(List.of(visitor)).traverse(oldSpec, newSpec);
+
+        assertEquals(List.of(
+                "spec",
+                "path /users both",
+                "operation /users GET both",
+                "parameter /users GET page both",
+                "parameter /users GET size added",
+                "operation /users POST added",
+                "path /legacy removed",
+                "schema Order added"
+        ), visitor.events);
+    }
+
+    @Test
+    @DisplayName("Sollte identische Spezifikationen ohne Element-Callbacks durchlaufen")
+    void shouldSkipUnchangedSubtrees() throws OasParseException {
+        OasParser parser = new OasParser(new FormatDetector(), new FormatConverter());
+        OpenAPI sameSpec = parser.parseFromString(V1);
+        RecordingVisitor visitor = new RecordingVisitor();
+
+        new SpecTraversal(List.of(visitor)).traverse(oldSpec, sameSpec);
+
+        assertEquals(List.of("spec"), visitor.events);
+    }
+
+    @Test
+    @DisplayName("Sollte Änderungen direkt nach dem Callback an die Senke weitergeben")
+    void shouldEmitChangesIntoSinkPerCallback() {
+        RecordingVisitor visitor = new RecordingVisitor();
+        List<String> received = new ArrayList<>();
+
+        new SpecTraversal(List.of(visitor, new EndpointRemovedRule())).traverse(oldSpec, newSpec,
+                change -> received.add(change.getPath() + " nach " + visitor.events.get(visitor.events.size() - 1)));
+
+        assertEquals(List.of("/legacy nach path /legacy removed"), received);
+    }
+
+    @Test
+    @DisplayName("Sollte Traversal-Regel auch einzeln auswerten können")
+    void shouldEvaluateTraversalRuleStandalone() {
+        List<ApiChange> changes = new EndpointRemovedRule().evaluate(oldSpec, newSpec);
+
+        assertEquals(1, changes.size());
+        assertEquals("/legacy", changes.get(0).getPath());
+    }
+
+    private static class RecordingVisitor implements SpecVisitor {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void visitSpec(OpenAPI oldSpec, OpenAPI newSpec, List<ApiChange> changes) {
+            events.add("spec");
+        }
+
+        @Override
+        public void visitPathItem(String path, PathItem oldPathItem, PathItem newPathItem, List<ApiChange> changes) {
+            events.add("path " + path + " " + state(oldPathItem, newPathItem));
+        }
+
+        @Override
+        public void visitOperation(String path, String method, Operation oldOperation, Operation newOperation,
+                                   List<ApiChange> changes) {
+            events.add("operation " + path + " " + method + " " + state(oldOperation, newOperation));
+        }
+
+        @Override
+        public void visitParameter(String path, String method, Parameter oldParameter, Parameter newParameter,
+                                   List<ApiChange> changes) {
+            String name = oldParameter != null ? oldParameter.getName() : newParameter.getName();
+            events.add("parameter " + path + " " + method + " " + name + " " + state(oldParameter, newParameter));
+        }
+
+        @Override
+        public void visitResponse(String path, String method, String statusCode, ApiResponse oldResponse,
+                                  ApiResponse newResponse, List<ApiChange> changes) {
+            events.add("response " + path + " " + method + " " + statusCode + " " + state(oldResponse, newResponse));
+        }
+
+        @Override
+        public void visitMediaType(String path, String method, String statusCode, String mediaType,
+                                   MediaType oldMediaType, MediaType newMediaType, List<ApiChange> changes) {
+            events.add("mediaType " + path + " " + method + " " + statusCode + " " + mediaType + " "
+                    + state(oldMediaType, newMediaType));
+        }
+
+        @Override
+        public void visitSchema(String schemaName, Schema oldSchema, Schema newSchema, List<ApiChange> changes) {
+            events.add("schema " + schemaName + " " + state(oldSchema, newSchema));
+        }
+
+        private String state(Object oldValue, Object newValue) {
+            if (oldValue == null) {
+                return "added";
+            }
+            return newValue == null ? "removed" : "both";
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.majtom.oas.watch;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.analyzer.RuleExecutor;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParsedSpecCache;
+import com.majtom.oas.rules.BreakingChangeRule;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import com.majtom.oas.rules.major.PropertyRemovedRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die Beobachtung von Spezifikationen mit erneutem Vergleich bei Änderungen.
+ */
+class SpecWatchServiceTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.3
+            info:
+              title: Users
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: './schemas.yaml#/User'
+            """;
+
+    private final List<BreakingChangeRule> rules = List.of(new EndpointRemovedRule(), new PropertyRemovedRule());
+
+    @TempDir
+    Path tempDir;
+
+    private SpecWatchService service;
+    private final BlockingQueue<SpecWatchUpdate> updates = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        OasParser parser = new OasParser(new FormatDetector(), new FormatConverter(), new ParsedSpecCache(16));
+        service = new SpecWatchService(parser, new OasComparisonService(parser, rules, RuleExecutor.sequential()), 100);
+
+        Files.createDirectories(tempDir.resolve("old"));
+        Files.createDirectories(tempDir.resolve("new"));
+        Files.writeString(tempDir.resolve("old/openapi.yaml"), SPEC);
+        Files.writeString(tempDir.resolve("new/openapi.yaml"), SPEC);
+        writeSchema(tempDir.resolve("old/schemas.yaml"), "id", "name");
+        writeSchema(tempDir.resolve("new/schemas.yaml"), "id", "name");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("Sollte nach Änderung einer referenzierten Datei nur die betroffene Seite neu parsen")
+    void shouldReparseOnlyChangedSide() throws Exception {
+        try (SpecWatch watch = watch()) {
+            SpecWatchUpdate initial = nextUpdate();
+            assertEquals(0, initial.sequence());
+            assertEquals(0, initial.result().getTotalChangesCount());
+
+            writeSchema(tempDir.resolve("new/schemas.yaml"), "id");
+
+            SpecWatchUpdate update = nextUpdate();
+            assertTrue(update.isSuccess());
+            assertFalse(update.oldReparsed());
+            assertTrue(update.newReparsed());
+            assertEquals(List.of(tempDir.resolve("new/schemas.yaml").toAbsolutePath().normalize().toString()),
+                    update.changedFiles());
+            assertEquals(1, update.result().getBreakingChangesCount());
+            assertEquals(1, service.getActiveWatchCount());
+        }
+        assertEquals(0, service.getActiveWatchCount());
+    }
+
+    @Test
+    @DisplayName("Sollte Parse-Fehler melden und nach Korrektur weiter vergleichen")
+    void shouldReportParseErrorAndRecover() throws Exception {
+        try (SpecWatch watch = watch()) {
+            nextUpdate();
+
+            Files.writeString(tempDir.resolve("old/openapi.yaml"), "openapi: [");
+            SpecWatchUpdate broken = nextUpdate();
+            assertFalse(broken.isSuccess());
+            assertNull(broken.result());
+            assertTrue(broken.oldReparsed());
+
+            Files.writeString(tempDir.resolve("old/openapi.yaml"), SPEC);
+            SpecWatchUpdate fixed = nextUpdate();
+            assertTrue(fixed.isSuccess());
+            assertEquals(2, fixed.sequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte fehlende Dateien beim Start als Parse-Fehler melden")
+    void shouldRejectMissingFile() {
+        assertThrows(OasParseException.class,
+                () -> service.watch(tempDir.resolve("fehlt.yaml").toString(), spec("new"), updates::add));
+        assertEquals(0, service.getActiveWatchCount());
+    }
+
+    private SpecWatch watch() throws OasParseException {
+        return service.watch(spec("old"), spec("new"), updates::add);
+    }
+
+    private String spec(String side) {
+        return tempDir.resolve(side).resolve("openapi.yaml").toString();
+    }
+
+    private SpecWatchUpdate nextUpdate() throws InterruptedException {
+        // Polling-basierte WatchServices (z.B. macOS) melden Änderungen erst nach einigen Sekunden
+        SpecWatchUpdate update = updates.poll(30, TimeUnit.SECONDS);
+        assertNotNull(update, "Kein Ergebnis nach Änderung");
+        return update;
+    }
+
+    private static void writeSchema(Path file, String... properties) throws IOException {
+        StringBuilder schema = new StringBuilder("User:\n  type: object\n  properties:\n");
+        for (String property : properties) {
+            schema.append("    ").append(property).append(":\n      type: string\n");
+        }
+        Files.writeString(file, schema);
+    }
+}
@@ -0,0 +1,12 @@
+package com.majtom.oas.examples.generator;
+
+import com.majtom.oas.model.ChangeType;
+
+/**
+ * Eine vom {@link SpecGenerator} in der neuen Version angewendete Änderung.
+ *
+ * @param type Erwarteter Änderungstyp
+ * @param location Betroffenes Element, z.B. {@code /resources3 [GET] limit} oder {@code Model7.name}
+ */
+public record AppliedMutation(ChangeType type, String location) {
+}
@@ -0,0 +1,64 @@
+package com.majtom.oas.examples.generator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.majtom.oas.model.ChangeType;
+import com.majtom.oas.parser.SpecificationFormat;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ergebnis des {@link SpecGenerator}: alte und neue Version sowie die angewendeten Änderungen.
+ *
+ * Die Modelle sind nicht aufgelöst ($refs bleiben erhalten). Für einen Vergleich sollten
+ * die serialisierten Varianten über den {@code OasParser} eingelesen werden.
+ *
+ * @param oldSpec Ursprüngliche Version
+ * @param newSpec Version mit angewendeten Änderungen
+ * @param mutations Angewendete Änderungen in Anwendungsreihenfolge
+ */
+public record GeneratedSpecPair(OpenAPI oldSpec, OpenAPI newSpec, List<AppliedMutation> mutations) {
+
+    public String oldSpecAsString(SpecificationFormat format) {
+        return serialize(oldSpec, format);
+    }
+
+    public String newSpecAsString(SpecificationFormat format) {
+        return serialize(newSpec, format);
+    }
+
+    /**
+     * Zählt die angewendeten Änderungen pro Typ.
+     *
+     * @return Anzahl pro Änderungstyp
+     */
+    public Map<ChangeType, Integer> expectedChangeCounts() {
+        Map<ChangeType, Integer> counts = new EnumMap<>(ChangeType.class);
+        for (AppliedMutation mutation : mutations) {
+            counts.merge(mutation.type(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Serialisiert eine generierte Spezifikation.
+     *
+     * @param openAPI Generiertes Modell
+     * @param format YAML oder JSON
+     * @return Spezifikation als String
+     */
+    public static String serialize(OpenAPI openAPI, SpecificationFormat format) {
+        try {
+            return format == SpecificationFormat.JSON
+                    ? Json.pretty().writeValueAsString(openAPI)
+                    : Yaml.mapper().writeValueAsString(openAPI);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
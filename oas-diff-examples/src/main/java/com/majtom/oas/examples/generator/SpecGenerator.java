@@ -0,0 +1,747 @@
+package com.majtom.oas.examples.generator;
+
+import com.majtom.oas.model.ChangeType;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.OAuthFlow;
+import io.swagger.v3.oas.models.security.OAuthFlows;
+import io.swagger.v3.oas.models.security.Scopes;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.servers.Server;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Erzeugt deterministisch synthetische OpenAPI-Spezifikationen beliebiger Größe sowie eine
+ * neue Version mit gezielt angewendeten Änderungen aus dem {@link ChangeType}-Katalog.
+ *
+ * Aufbau der alten Version:
+ * <ul>
+ *   <li>Pfade {@code /resources<i>} mit den ersten {@code operationsPerPath} Methoden aus
+ *       GET, POST, PUT, PATCH, DELETE</li>
+ *   <li>Component-Schemas {@code Model<i>} mit festen Properties für alle Constraint-Regeln,
+ *       zusätzlichen Properties, verschachtelten Inline-Objekten und $ref-Properties</li>
+ *   <li>pro Schema eine oneOf-Variante {@code Model<i>Variant} mit Discriminator</li>
+ *   <li>ein OAuth2- und ein API-Key-Security-Schema</li>
+ * </ul>
+ *
+ * $refs zeigen nur auf Schemas der nächsten Ebene (Ebene = Index modulo {@code nestingDepth + 1}).
+ * Dadurch bleibt der Referenzgraph zyklenfrei und die vollständig aufgelöste Größe begrenzt.
+ *
+ * Jede Änderung wird auf ein eigenes, noch unverändertes Element angewendet, sodass sich
+ * Änderungen nicht gegenseitig aufheben. Die angewendeten Änderungen eignen sich deshalb
+ * als Orakel: der Vergleich muss jeden Typ mindestens so oft melden wie angewendet.
+ */
+public class SpecGenerator {
+
+    /** Änderungstypen, die der Generator anwenden kann. */
+    public static final Set<ChangeType> SUPPORTED_MUTATIONS = Collections.unmodifiableSet(EnumSet.of(
+            ChangeType.ENDPOINT_REMOVED, ChangeType.ENDPOINT_ADDED,
+            ChangeType.METHOD_REMOVED, ChangeType.METHOD_ADDED,
+            ChangeType.SECURITY_REQUIREMENT_ADDED, ChangeType.SECURITY_REQUIREMENT_REMOVED,
+            ChangeType.SECURITY_SCHEME_CHANGED, ChangeType.OAUTH_FLOW_CHANGED,
+            ChangeType.OAUTH_SCOPE_REMOVED, ChangeType.OAUTH_SCOPE_ADDED,
+            ChangeType.REQUEST_BODY_REMOVED, ChangeType.REQUEST_BODY_REQUIRED_ADDED,
+            ChangeType.REQUEST_CONTENT_TYPE_REMOVED, ChangeType.REQUEST_CONTENT_TYPE_ADDED,
+            ChangeType.RESPONSE_CONTENT_TYPE_REMOVED, ChangeType.RESPONSE_CONTENT_TYPE_ADDED,
+            ChangeType.RESPONSE_CODE_REMOVED, ChangeType.RESPONSE_CODE_CHANGED,
+            ChangeType.API_VERSION_CHANGED, ChangeType.BASE_PATH_CHANGED,
+            ChangeType.PARAMETER_REMOVED, ChangeType.PARAMETER_ADDED, ChangeType.PARAMETER_REQUIRED_ADDED,
+            ChangeType.PARAMETER_TYPE_CHANGED, ChangeType.PARAMETER_LOCATION_CHANGED,
+            ChangeType.PARAMETER_STYLE_CHANGED, ChangeType.PARAMETER_EXPLODE_CHANGED,
+            ChangeType.PARAMETER_DEPRECATED_ADDED, ChangeType.OPERATION_DEPRECATED_ADDED,
+            ChangeType.RESPONSE_HEADER_REMOVED, ChangeType.RESPONSE_HEADER_ADDED,
+            ChangeType.RESPONSE_HEADER_REQUIRED_ADDED,
+            ChangeType.CALLBACK_REMOVED, ChangeType.CALLBACK_ADDED, ChangeType.CALLBACK_URL_CHANGED,
+            ChangeType.LINK_REMOVED, ChangeType.LINK_ADDED,
+            ChangeType.PROPERTY_REMOVED, ChangeType.PROPERTY_ADDED, ChangeType.PROPERTY_REQUIRED_ADDED,
+            ChangeType.PROPERTY_TYPE_CHANGED, ChangeType.PROPERTY_FORMAT_CHANGED,
+            ChangeType.PROPERTY_PATTERN_ADDED, ChangeType.PROPERTY_PATTERN_CHANGED,
+            ChangeType.PROPERTY_MIN_LENGTH_INCREASED, ChangeType.PROPERTY_MAX_LENGTH_DECREASED,
+            ChangeType.PROPERTY_MINIMUM_INCREASED, ChangeType.PROPERTY_MAXIMUM_DECREASED,
+            ChangeType.PROPERTY_READ_ONLY_CHANGED, ChangeType.PROPERTY_WRITE_ONLY_CHANGED,
+            ChangeType.ARRAY_MIN_ITEMS_INCREASED, ChangeType.ARRAY_MAX_ITEMS_DECREASED,
+            ChangeType.ARRAY_UNIQUE_ITEMS_ADDED,
+            ChangeType.ENUM_VALUE_REMOVED, ChangeType.ENUM_VALUE_ADDED,
+            ChangeType.DISCRIMINATOR_CHANGED, ChangeType.ONE_OF_OPTION_REMOVED,
+            ChangeType.ADDITIONAL_PROPERTIES_FORBIDDEN, ChangeType.ADDITIONAL_PROPERTIES_TYPE_CHANGED,
+            ChangeType.DEFAULT_VALUE_CHANGED, ChangeType.DEFAULT_VALUE_REMOVED,
+            ChangeType.SCHEMA_DEPRECATED_ADDED));
+
+    private static final Set<ChangeType> GLOBAL_MUTATIONS = EnumSet.of(
+            ChangeType.API_VERSION_CHANGED, ChangeType.BASE_PATH_CHANGED,
+            ChangeType.SECURITY_SCHEME_CHANGED, ChangeType.OAUTH_FLOW_CHANGED,
+            ChangeType.OAUTH_SCOPE_REMOVED);
+
+    private static final Set<ChangeType> SCHEMA_MUTATIONS = EnumSet.of(
+            ChangeType.PROPERTY_REMOVED, ChangeType.PROPERTY_ADDED, ChangeType.PROPERTY_REQUIRED_ADDED,
+            ChangeType.PROPERTY_TYPE_CHANGED, ChangeType.PROPERTY_FORMAT_CHANGED,
+            ChangeType.PROPERTY_PATTERN_ADDED, ChangeType.PROPERTY_PATTERN_CHANGED,
+            ChangeType.PROPERTY_MIN_LENGTH_INCREASED, ChangeType.PROPERTY_MAX_LENGTH_DECREASED,
+            ChangeType.PROPERTY_MINIMUM_INCREASED, ChangeType.PROPERTY_MAXIMUM_DECREASED,
+            ChangeType.PROPERTY_READ_ONLY_CHANGED, ChangeType.PROPERTY_WRITE_ONLY_CHANGED,
+            ChangeType.ARRAY_MIN_ITEMS_INCREASED, ChangeType.ARRAY_MAX_ITEMS_DECREASED,
+            ChangeType.ARRAY_UNIQUE_ITEMS_ADDED,
+            ChangeType.ENUM_VALUE_REMOVED, ChangeType.ENUM_VALUE_ADDED,
+            ChangeType.DISCRIMINATOR_CHANGED, ChangeType.ONE_OF_OPTION_REMOVED,
+            ChangeType.ADDITIONAL_PROPERTIES_FORBIDDEN, ChangeType.ADDITIONAL_PROPERTIES_TYPE_CHANGED,
+            ChangeType.DEFAULT_VALUE_CHANGED, ChangeType.DEFAULT_VALUE_REMOVED,
+            ChangeType.SCHEMA_DEPRECATED_ADDED);
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final String JSON = "application/json";
+    private static final String XML = "application/xml";
+    private static final String OAUTH2 = "oauth2";
+    private static final String API_KEY = "apiKey";
+    private static final String CALLBACK_EXPRESSION = "{$request.body#/callbackUrl}";
+
+    private final SpecGeneratorConfig config;
+
+    public SpecGenerator(SpecGeneratorConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Erzeugt die alte Version.
+     *
+     * @return Spezifikation ohne Änderungen
+     */
+    public OpenAPI generateOldSpec() {
+        Random random = new Random(config.getSeed());
+
+        OpenAPI openAPI = new OpenAPI()
+                .info(new Info().title("Synthetic API " + config.getSeed()).version("1.0.0"))
+                .addServersItem(new Server().url("https://api.example.com/v1"))
+                .components(new Components());
+
+        for (int i = 0; i < config.getSchemaCount(); i++) {
+            openAPI.getComponents().addSchemas(modelName(i), model(i, random));
+            if (config.getOneOfBreadth() > 0) {
+                openAPI.getComponents().addSchemas(variantName(i), variant(i));
+            }
+        }
+
+        Paths paths = new Paths();
+        for (int i = 0; i < config.getPathCount(); i++) {
+            paths.addPathItem(resourcePath(i), pathItem(i, random.nextInt(config.getSchemaCount())));
+        }
+        openAPI.setPaths(paths);
+
+        openAPI.getComponents()
+                .addSecuritySchemes(OAUTH2, new SecurityScheme()
+                        .type(SecurityScheme.Type.OAUTH2)
+                        .flows(new OAuthFlows().authorizationCode(new OAuthFlow()
+                                .authorizationUrl("https://auth.example.com/authorize")
+                                .tokenUrl("https://auth.example.com/token")
+                                .scopes(new Scopes()
+                                        .addString("read", "Lesezugriff")
+                                        .addString("write", "Schreibzugriff")
+                                        .addString("admin", "Administration")))))
+                .addSecuritySchemes(API_KEY, new SecurityScheme()
+                        .type(SecurityScheme.Type.APIKEY)
+                        .in(SecurityScheme.In.HEADER)
+                        .name("X-API-Key"));
+
+        return openAPI;
+    }
+
+    /**
+     * Erzeugt alte und neue Version. Die neue Version entsteht aus einer identischen Kopie
+     * der alten, auf die die konfigurierten Änderungen angewendet werden.
+     *
+     * @return Spezifikationspaar mit Liste der angewendeten Änderungen
+     * @throws IllegalArgumentException wenn eine Änderung nicht unterstützt wird oder nicht
+     *                                  genügend passende Elemente vorhanden sind
+     */
+    public GeneratedSpecPair generate() {
+        OpenAPI oldSpec = generateOldSpec();
+        OpenAPI newSpec = generateOldSpec();
+        List<AppliedMutation> applied = new Mutator(newSpec).apply();
+        return new GeneratedSpecPair(oldSpec, newSpec, applied);
+    }
+
+    // ---------------------------------------------------------------------------------------
+    // Alte Version
+    // ---------------------------------------------------------------------------------------
+
+    private PathItem pathItem(int index, int modelIndex) {
+        PathItem pathItem = new PathItem();
+        String ref = SCHEMA_REF_PREFIX + modelName(modelIndex);
+
+        for (int m = 0; m < config.getOperationsPerPath(); m++) {
+            String method = SpecGeneratorConfig.METHODS[m];
+            Operation operation = new Operation().operationId(method.toLowerCase() + "Resource" + index);
+            switch (method) {
+                case "GET" -> {
+                    operation.addParametersItem(new Parameter().name("limit").in("query")
+                                    .schema(new IntegerSchema().minimum(BigDecimal.ONE).maximum(BigDecimal.valueOf(100))))
+                            .addParametersItem(new Parameter().name("filter").in("query")
+                                    .style(Parameter.StyleEnum.FORM).explode(true)
+                                    .schema(new StringSchema()));
+                    ApiResponse ok = new ApiResponse().description("OK")
+                            .content(content(ref, JSON, XML))
+                            .addHeaderObject("X-Rate-Limit", new Header().schema(new IntegerSchema()))
+                            .link("self", new Link().operationId(operation.getOperationId()));
+                    operation.responses(new ApiResponses()
+                            .addApiResponse("200", ok)
+                            .addApiResponse("404", new ApiResponse().description("Not Found")));
+                }
+                case "POST" -> {
+                    operation.requestBody(new RequestBody().required(true).content(content(ref, JSON, XML)))
+                            .addSecurityItem(new SecurityRequirement().addList(OAUTH2, "write"))
+                            .addCallback("onCreated", callback(CALLBACK_EXPRESSION))
+                            .responses(new ApiResponses().addApiResponse("201",
+                                    new ApiResponse().description("Created").content(content(ref, JSON))));
+                }
+                case "PUT", "PATCH" -> {
+                    operation.requestBody(new RequestBody().content(content(ref, JSON)))
+                            .addSecurityItem(new SecurityRequirement().addList(OAUTH2, "write"))
+                            .responses(new ApiResponses().addApiResponse("200",
+                                    new ApiResponse().description("OK").content(content(ref, JSON))));
+                }
+                default -> operation.responses(new ApiResponses()
+                        .addApiResponse("204", new ApiResponse().description("No Content")));
+            }
+            pathItem.operation(PathItem.HttpMethod.valueOf(method), operation);
+        }
+        return pathItem;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Schema model(int index, Random random) {
+        ObjectSchema model = new ObjectSchema();
+        model.addProperty("id", new IntegerSchema().format("int64")
+                .minimum(BigDecimal.ZERO).maximum(BigDecimal.valueOf(1_000_000)));
+        model.addProperty("name", new StringSchema().minLength(1).maxLength(100));
+        model.addProperty("code", new StringSchema());
+        model.addProperty("sku", new StringSchema().pattern("^[0-9]+$"));
+        if (config.getEnumSize() > 0) {
+            StringSchema status = new StringSchema();
+            for (int v = 0; v < config.getEnumSize(); v++) {
+                status.addEnumItem("VALUE_" + v);
+            }
+            model.addProperty("status", status);
+        }
+        model.addProperty("priority", new IntegerSchema()._default(1));
+        model.addProperty("tags", new ArraySchema().items(new StringSchema()).minItems(0).maxItems(50));
+        model.addProperty("createdAt", new StringSchema().format("date-time"));
+
+        for (int f = 0; f < config.getPropertiesPerSchema(); f++) {
+            Schema field = switch (random.nextInt(3)) {
+                case 0 -> new StringSchema().maxLength(10 + random.nextInt(500));
+                case 1 -> new IntegerSchema().maximum(BigDecimal.valueOf(1 + random.nextInt(10_000)));
+                default -> new BooleanSchema();
+            };
+            model.addProperty("field" + f, field);
+        }
+
+        if (config.getNestingDepth() > 0) {
+            model.addProperty("details", details(config.getNestingDepth()));
+        }
+
+        for (int target : referenceTargets(index, config.getRefFanOut())) {
+            model.addProperty("related" + modelName(target), new Schema().$ref(SCHEMA_REF_PREFIX + modelName(target)));
+        }
+
+        if (config.getOneOfBreadth() > 0) {
+            model.addProperty("kind", new StringSchema());
+            model.addProperty("variant", new Schema().$ref(SCHEMA_REF_PREFIX + variantName(index)));
+        }
+
+        model.setAdditionalProperties(new StringSchema());
+        model.setRequired(new ArrayList<>(List.of("id", "name")));
+        return model;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Schema details(int depth) {
+        ObjectSchema details = new ObjectSchema();
+        details.addProperty("note", new StringSchema());
+        details.addProperty("level", new IntegerSchema()._default(depth));
+        if (depth > 1) {
+            details.addProperty("details", details(depth - 1));
+        }
+        return details;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Schema variant(int index) {
+        ComposedSchema variant = new ComposedSchema();
+        List<Integer> targets = referenceTargets(index, config.getOneOfBreadth());
+        for (int target : targets) {
+            variant.addOneOfItem(new Schema<>().$ref(SCHEMA_REF_PREFIX + modelName(target)));
+        }
+        for (int option = targets.size(); option < config.getOneOfBreadth(); option++) {
+            variant.addOneOfItem(new ObjectSchema()
+                    .addProperty("kind", new StringSchema())
+                    .addProperty("option" + option, new StringSchema()));
+        }
+        variant.discriminator(new Discriminator().propertyName("kind"));
+        return variant;
+    }
+
+    /**
+     * Liefert die Ziele der $refs eines Schemas: nur Schemas der nächsten Ebene, damit $ref-Ketten
+     * höchstens {@code nestingDepth} lang werden.
+     */
+    private List<Integer> referenceTargets(int index, int count) {
+        int levels = config.getNestingDepth() + 1;
+        List<Integer> targets = new ArrayList<>();
+        if (index % levels == levels - 1) {
+            return targets;
+        }
+        for (int k = 0; k < count; k++) {
+            int target = index + 1 + k * levels;
+            if (target >= config.getSchemaCount()) {
+                break;
+            }
+            targets.add(target);
+        }
+        return targets;
+    }
+
+    private static Content content(String ref, String... mediaTypes) {
+        Content content = new Content();
+        for (String mediaType : mediaTypes) {
+            content.addMediaType(mediaType, new MediaType().schema(new Schema<>().$ref(ref)));
+        }
+        return content;
+    }
+
+    private static Callback callback(String expression) {
+        return new Callback().addPathItem(expression, new PathItem().post(new Operation()
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")))));
+    }
+
+    private static String resourcePath(int index) {
+        return "/resources" + index;
+    }
+
+    private static String modelName(int index) {
+        return "Model" + index;
+    }
+
+    private static String variantName(int index) {
+        return "Model" + index + "Variant";
+    }
+
+    // ---------------------------------------------------------------------------------------
+    // Änderungen
+    // ---------------------------------------------------------------------------------------
+
+    /**
+     * Wendet die konfigurierten Änderungen auf eine Kopie der alten Version an. Ziele werden
+     * mit einem eigenen, vom Seed abgeleiteten Zufallsgenerator gewählt.
+     */
+    private class Mutator {
+
+        private final OpenAPI spec;
+        private final List<Integer> freePaths = new ArrayList<>();
+        private final List<Integer> freeSchemas = new ArrayList<>();
+        private final List<AppliedMutation> applied = new ArrayList<>();
+        private int addedPaths;
+
+        Mutator(OpenAPI spec) {
+            this.spec = spec;
+            Random random = new Random(config.getSeed() ^ 0x5DEECE66DL);
+            for (int i = 0; i < config.getPathCount(); i++) {
+                freePaths.add(i);
+            }
+            for (int i = 0; i < config.getSchemaCount(); i++) {
+                freeSchemas.add(i);
+            }
+            Collections.shuffle(freePaths, random);
+            Collections.shuffle(freeSchemas, random);
+        }
+
+        List<AppliedMutation> apply() {
+            for (Map.Entry<ChangeType, Integer> entry : config.getMutations().entrySet()) {
+                ChangeType type = entry.getKey();
+                if (!SUPPORTED_MUTATIONS.contains(type)) {
+                    throw new IllegalArgumentException("Änderungstyp wird vom Generator nicht unterstützt: " + type);
+                }
+                if (GLOBAL_MUTATIONS.contains(type) && entry.getValue() > 1) {
+                    throw new IllegalArgumentException("Änderungstyp kann nur einmal angewendet werden: " + type);
+                }
+                for (int n = 0; n < entry.getValue(); n++) {
+                    if (GLOBAL_MUTATIONS.contains(type)) {
+                        applyGlobal(type);
+                    } else if (SCHEMA_MUTATIONS.contains(type)) {
+                        applyToSchema(type, nextSchema(type));
+                    } else if (type == ChangeType.ENDPOINT_ADDED) {
+                        String path = "/added" + addedPaths++;
+                        spec.getPaths().addPathItem(path, new PathItem().get(new Operation()
+                                .responses(new ApiResponses().addApiResponse("200",
+                                        new ApiResponse().description("OK")))));
+                        record(type, path);
+                    } else {
+                        applyToPath(type, nextPath(type));
+                    }
+                }
+            }
+            return applied;
+        }
+
+        private void applyGlobal(ChangeType type) {
+            Components components = spec.getComponents();
+            OAuthFlow flow = components.getSecuritySchemes().get(OAUTH2).getFlows().getAuthorizationCode();
+            switch (type) {
+                case API_VERSION_CHANGED -> spec.getInfo().setVersion("2.0.0");
+                case BASE_PATH_CHANGED -> spec.getServers().getFirst().setUrl("https://api.example.com/v2");
+                case SECURITY_SCHEME_CHANGED -> components.getSecuritySchemes().get(API_KEY).setName("X-Api-Token");
+                case OAUTH_FLOW_CHANGED -> flow.setAuthorizationUrl("https://login.example.com/authorize");
+                case OAUTH_SCOPE_REMOVED -> flow.getScopes().remove("admin");
+                default -> throw new IllegalStateException(type.name());
+            }
+            record(type, "Global");
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private void applyToSchema(ChangeType type, int index) {
+            String name = modelName(index);
+            Schema model = spec.getComponents().getSchemas().get(name);
+            Map<String, Schema> properties = model.getProperties();
+            String element = switch (type) {
+                case PROPERTY_REMOVED -> {
+                    properties.remove("code");
+                    yield "code";
+                }
+                case PROPERTY_ADDED -> {
+                    properties.put("addedProperty", new StringSchema());
+                    yield "addedProperty";
+                }
+                case PROPERTY_REQUIRED_ADDED -> {
+                    model.getRequired().add("code");
+                    yield "code";
+                }
+                case PROPERTY_TYPE_CHANGED -> {
+                    properties.put("code", new IntegerSchema());
+                    yield "code";
+                }
+                case PROPERTY_FORMAT_CHANGED -> {
+                    properties.get("createdAt").setFormat("date");
+                    yield "createdAt";
+                }
+                case PROPERTY_PATTERN_ADDED -> {
+                    properties.get("code").setPattern("^[A-Z]+$");
+                    yield "code";
+                }
+                case PROPERTY_PATTERN_CHANGED -> {
+                    properties.get("sku").setPattern("^[0-9A-F]+$");
+                    yield "sku";
+                }
+                case PROPERTY_MIN_LENGTH_INCREASED -> {
+                    properties.get("name").setMinLength(3);
+                    yield "name";
+                }
+                case PROPERTY_MAX_LENGTH_DECREASED -> {
+                    properties.get("name").setMaxLength(50);
+                    yield "name";
+                }
+                case PROPERTY_MINIMUM_INCREASED -> {
+                    properties.get("id").setMinimum(BigDecimal.ONE);
+                    yield "id";
+                }
+                case PROPERTY_MAXIMUM_DECREASED -> {
+                    properties.get("id").setMaximum(BigDecimal.valueOf(1000));
+                    yield "id";
+                }
+                case PROPERTY_READ_ONLY_CHANGED -> {
+                    properties.get("id").setReadOnly(true);
+                    yield "id";
+                }
+                case PROPERTY_WRITE_ONLY_CHANGED -> {
+                    properties.get("code").setWriteOnly(true);
+                    yield "code";
+                }
+                case ARRAY_MIN_ITEMS_INCREASED -> {
+                    properties.get("tags").setMinItems(1);
+                    yield "tags";
+                }
+                case ARRAY_MAX_ITEMS_DECREASED -> {
+                    properties.get("tags").setMaxItems(10);
+                    yield "tags";
+                }
+                case ARRAY_UNIQUE_ITEMS_ADDED -> {
+                    properties.get("tags").setUniqueItems(true);
+                    yield "tags";
+                }
+                case ENUM_VALUE_REMOVED -> {
+                    List<Object> values = properties.get("status").getEnum();
+                    values.removeLast();
+                    yield "status";
+                }
+                case ENUM_VALUE_ADDED -> {
+                    properties.get("status").getEnum().add("VALUE_ADDED");
+                    yield "status";
+                }
+                case DISCRIMINATOR_CHANGED -> {
+                    spec.getComponents().getSchemas().get(variantName(index))
+                            .setDiscriminator(new Discriminator().propertyName("type"));
+                    name = variantName(index);
+                    yield "discriminator";
+                }
+                case ONE_OF_OPTION_REMOVED -> {
+                    List<Schema> options = spec.getComponents().getSchemas().get(variantName(index)).getOneOf();
+                    options.removeLast();
+                    name = variantName(index);
+                    yield "oneOf";
+                }
+                case ADDITIONAL_PROPERTIES_FORBIDDEN -> {
+                    model.setAdditionalProperties(false);
+                    yield "additionalProperties";
+                }
+                case ADDITIONAL_PROPERTIES_TYPE_CHANGED -> {
+                    model.setAdditionalProperties(new IntegerSchema());
+                    yield "additionalProperties";
+                }
+                case DEFAULT_VALUE_CHANGED -> {
+                    properties.put("priority", new IntegerSchema()._default(5));
+                    yield "priority";
+                }
+                case DEFAULT_VALUE_REMOVED -> {
+                    properties.put("priority", new IntegerSchema());
+                    yield "priority";
+                }
+                case SCHEMA_DEPRECATED_ADDED -> {
+                    model.setDeprecated(true);
+                    yield "deprecated";
+                }
+                default -> throw new IllegalStateException(type.name());
+            };
+            record(type, name + "." + element);
+        }
+
+        private void applyToPath(ChangeType type, int index) {
+            String path = resourcePath(index);
+            PathItem pathItem = spec.getPaths().get(path);
+            Operation get = pathItem.getGet();
+            Operation post = pathItem.getPost();
+            String location = switch (type) {
+                case ENDPOINT_REMOVED -> {
+                    spec.getPaths().remove(path);
+                    yield path;
+                }
+                case METHOD_REMOVED -> {
+                    String method = SpecGeneratorConfig.METHODS[config.getOperationsPerPath() - 1];
+                    pathItem.operation(PathItem.HttpMethod.valueOf(method), null);
+                    yield path + " [" + method + "]";
+                }
+                case METHOD_ADDED -> {
+                    pathItem.head(new Operation().responses(new ApiResponses()
+                            .addApiResponse("200", new ApiResponse().description("OK"))));
+                    yield path + " [HEAD]";
+                }
+                case SECURITY_REQUIREMENT_ADDED -> {
+                    get.addSecurityItem(new SecurityRequirement().addList(API_KEY));
+                    yield path + " [GET]";
+                }
+                case OAUTH_SCOPE_ADDED -> {
+                    post.getSecurity().getFirst().put(OAUTH2, List.of("write", "admin"));
+                    yield path + " [POST] admin";
+                }
+                case SECURITY_REQUIREMENT_REMOVED -> {
+                    post.setSecurity(null);
+                    yield path + " [POST]";
+                }
+                case REQUEST_BODY_REMOVED -> {
+                    post.setRequestBody(null);
+                    yield path + " [POST]";
+                }
+                case REQUEST_BODY_REQUIRED_ADDED -> {
+                    pathItem.getPut().getRequestBody().setRequired(true);
+                    yield path + " [PUT]";
+                }
+                case REQUEST_CONTENT_TYPE_REMOVED -> {
+                    post.getRequestBody().getContent().remove(XML);
+                    yield path + " [POST] " + XML;
+                }
+                case REQUEST_CONTENT_TYPE_ADDED -> {
+                    post.getRequestBody().getContent().addMediaType("application/yaml",
+                            post.getRequestBody().getContent().get(JSON));
+                    yield path + " [POST] application/yaml";
+                }
+                case RESPONSE_CONTENT_TYPE_REMOVED -> {
+                    get.getResponses().get("200").getContent().remove(XML);
+                    yield path + " [GET] 200 " + XML;
+                }
+                case RESPONSE_CONTENT_TYPE_ADDED -> {
+                    Content content = get.getResponses().get("200").getContent();
+                    content.addMediaType("application/yaml", content.get(JSON));
+                    yield path + " [GET] 200 application/yaml";
+                }
+                case RESPONSE_CODE_REMOVED -> {
+                    get.getResponses().remove("404");
+                    yield path + " [GET] 404";
+                }
+                case RESPONSE_CODE_CHANGED -> {
+                    ApiResponses responses = new ApiResponses();
+                    get.getResponses().forEach((code, response) ->
+                            responses.addApiResponse("200".equals(code) ? "203" : code, response));
+                    get.setResponses(responses);
+                    yield path + " [GET] 200";
+                }
+                case PARAMETER_REMOVED -> {
+                    get.getParameters().remove(parameter(get, "filter"));
+                    yield path + " [GET] filter";
+                }
+                case PARAMETER_ADDED -> {
+                    get.addParametersItem(new Parameter().name("sort").in("query").schema(new StringSchema()));
+                    yield path + " [GET] sort";
+                }
+                case PARAMETER_REQUIRED_ADDED -> {
+                    get.addParametersItem(new Parameter().name("tenant").in("query").required(true)
+                            .schema(new StringSchema()));
+                    yield path + " [GET] tenant";
+                }
+                case PARAMETER_TYPE_CHANGED -> {
+                    parameter(get, "limit").setSchema(new StringSchema());
+                    yield path + " [GET] limit";
+                }
+                case PARAMETER_LOCATION_CHANGED -> {
+                    Parameter filter = parameter(get, "filter");
+                    filter.setIn("header");
+                    filter.setStyle(Parameter.StyleEnum.SIMPLE);
+                    yield path + " [GET] filter";
+                }
+                case PARAMETER_STYLE_CHANGED -> {
+                    parameter(get, "filter").setStyle(Parameter.StyleEnum.SPACEDELIMITED);
+                    yield path + " [GET] filter";
+                }
+                case PARAMETER_EXPLODE_CHANGED -> {
+                    parameter(get, "filter").setExplode(false);
+                    yield path + " [GET] filter";
+                }
+                case PARAMETER_DEPRECATED_ADDED -> {
+                    parameter(get, "filter").setDeprecated(true);
+                    yield path + " [GET] filter";
+                }
+                case OPERATION_DEPRECATED_ADDED -> {
+                    get.setDeprecated(true);
+                    yield path + " [GET]";
+                }
+                case RESPONSE_HEADER_REMOVED -> {
+                    get.getResponses().get("200").getHeaders().remove("X-Rate-Limit");
+                    yield path + " [GET] 200 X-Rate-Limit";
+                }
+                case RESPONSE_HEADER_ADDED -> {
+                    get.getResponses().get("200").addHeaderObject("X-Request-Id",
+                            new Header().schema(new StringSchema()));
+                    yield path + " [GET] 200 X-Request-Id";
+                }
+                case RESPONSE_HEADER_REQUIRED_ADDED -> {
+                    get.getResponses().get("200").getHeaders().get("X-Rate-Limit").setRequired(true);
+                    yield path + " [GET] 200 X-Rate-Limit";
+                }
+                case LINK_REMOVED -> {
+                    get.getResponses().get("200").getLinks().remove("self");
+                    yield path + " [GET] 200 self";
+                }
+                case LINK_ADDED -> {
+                    get.getResponses().get("200").link("collection",
+                            new Link().operationId(get.getOperationId()));
+                    yield path + " [GET] 200 collection";
+                }
+                case CALLBACK_REMOVED -> {
+                    post.getCallbacks().remove("onCreated");
+                    yield path + " [POST] onCreated";
+                }
+                case CALLBACK_ADDED -> {
+                    post.addCallback("onDeleted", callback(CALLBACK_EXPRESSION));
+                    yield path + " [POST] onDeleted";
+                }
+                case CALLBACK_URL_CHANGED -> {
+                    post.getCallbacks().put("onCreated", callback("{$request.body#/webhookUrl}"));
+                    yield path + " [POST] onCreated";
+                }
+                default -> throw new IllegalStateException(type.name());
+            };
+            record(type, location);
+        }
+
+        private int nextPath(ChangeType type) {
+            String requiredMethod = switch (type) {
+                case OAUTH_SCOPE_ADDED, SECURITY_REQUIREMENT_REMOVED, REQUEST_BODY_REMOVED, REQUEST_CONTENT_TYPE_REMOVED,
+                     REQUEST_CONTENT_TYPE_ADDED, CALLBACK_REMOVED, CALLBACK_ADDED, CALLBACK_URL_CHANGED -> "POST";
+                case REQUEST_BODY_REQUIRED_ADDED -> "PUT";
+                default -> "GET";
+            };
+            if (indexOf(requiredMethod) >= config.getOperationsPerPath()) {
+                throw new IllegalArgumentException(type + " benötigt " + requiredMethod
+                        + "-Operationen (operationsPerPath >= " + (indexOf(requiredMethod) + 1) + ")");
+            }
+            if (freePaths.isEmpty()) {
+                throw new IllegalArgumentException("Nicht genügend Pfade für alle Änderungen (" + type + ")");
+            }
+            return freePaths.removeLast();
+        }
+
+        private int nextSchema(ChangeType type) {
+            boolean supported = switch (type) {
+                case ENUM_VALUE_REMOVED -> config.getEnumSize() >= 2;
+                case ENUM_VALUE_ADDED -> config.getEnumSize() >= 1;
+                case ONE_OF_OPTION_REMOVED -> config.getOneOfBreadth() >= 2;
+                case DISCRIMINATOR_CHANGED -> config.getOneOfBreadth() >= 1;
+                default -> true;
+            };
+            if (!supported) {
+                throw new IllegalArgumentException(type + " ist mit enumSize/oneOfBreadth der Konfiguration nicht möglich");
+            }
+            if (freeSchemas.isEmpty()) {
+                throw new IllegalArgumentException("Nicht genügend Schemas für alle Änderungen (" + type + ")");
+            }
+            return freeSchemas.removeLast();
+        }
+
+        private int indexOf(String method) {
+            for (int i = 0; i < SpecGeneratorConfig.METHODS.length; i++) {
+                if (SpecGeneratorConfig.METHODS[i].equals(method)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private Parameter parameter(Operation operation, String name) {
+            for (Parameter parameter : operation.getParameters()) {
+                if (name.equals(parameter.getName())) {
+                    return parameter;
+                }
+            }
+            throw new IllegalStateException("Parameter nicht gefunden: " + name);
+        }
+
+        private void record(ChangeType type, String location) {
+            applied.add(new AppliedMutation(type, location));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.majtom.oas.examples.generator;
+
+import com.majtom.oas.model.ChangeType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Konfiguration des {@link SpecGenerator}.
+ *
+ * Alle Größen sind unabhängig voneinander einstellbar. Gleiche Konfiguration und gleicher
+ * Seed erzeugen immer identische Spezifikationen.
+ */
+public class SpecGeneratorConfig {
+
+    /** Reihenfolge, in der HTTP-Methoden pro Pfad vergeben werden. */
+    static final String[] METHODS = {"GET", "POST", "PUT", "PATCH", "DELETE"};
+
+    private final long seed;
+    private final int pathCount;
+    private final int operationsPerPath;
+    private final int schemaCount;
+    private final int propertiesPerSchema;
+    private final int nestingDepth;
+    private final int refFanOut;
+    private final int enumSize;
+    private final int oneOfBreadth;
+    private final Map<ChangeType, Integer> mutations;
+
+    private SpecGeneratorConfig(Builder builder) {
+        this.seed = builder.seed;
+        this.pathCount = builder.pathCount;
+        this.operationsPerPath = builder.operationsPerPath;
+        this.schemaCount = builder.schemaCount;
+        this.propertiesPerSchema = builder.propertiesPerSchema;
+        this.nestingDepth = builder.nestingDepth;
+        this.refFanOut = builder.refFanOut;
+        this.enumSize = builder.enumSize;
+        this.oneOfBreadth = builder.oneOfBreadth;
+        this.mutations = Collections.unmodifiableMap(new EnumMap<>(builder.mutations));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getPathCount() {
+        return pathCount;
+    }
+
+    public int getOperationsPerPath() {
+        return operationsPerPath;
+    }
+
+    public int getSchemaCount() {
+        return schemaCount;
+    }
+
+    public int getPropertiesPerSchema() {
+        return propertiesPerSchema;
+    }
+
+    public int getNestingDepth() {
+        return nestingDepth;
+    }
+
+    public int getRefFanOut() {
+        return refFanOut;
+    }
+
+    public int getEnumSize() {
+        return enumSize;
+    }
+
+    public int getOneOfBreadth() {
+        return oneOfBreadth;
+    }
+
+    public Map<ChangeType, Integer> getMutations() {
+        return mutations;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private long seed = 42;
+        private int pathCount = 50;
+        private int operationsPerPath = 3;
+        private int schemaCount = 50;
+        private int propertiesPerSchema = 5;
+        private int nestingDepth = 2;
+        private int refFanOut = 2;
+        private int enumSize = 5;
+        private int oneOfBreadth = 3;
+        private final Map<ChangeType, Integer> mutations = new EnumMap<>(ChangeType.class);
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * @param pathCount Anzahl der Pfade
+         */
+        public Builder pathCount(int pathCount) {
+            this.pathCount = pathCount;
+            return this;
+        }
+
+        /**
+         * @param operationsPerPath Operationen pro Pfad (1-5), vergeben in der Reihenfolge
+         *                          GET, POST, PUT, PATCH, DELETE
+         */
+        public Builder operationsPerPath(int operationsPerPath) {
+            this.operationsPerPath = operationsPerPath;
+            return this;
+        }
+
+        /**
+         * @param schemaCount Anzahl der Component-Schemas (ohne oneOf-Varianten)
+         */
+        public Builder schemaCount(int schemaCount) {
+            this.schemaCount = schemaCount;
+            return this;
+        }
+
+        /**
+         * @param propertiesPerSchema Zusätzliche String-Properties pro Schema
+         */
+        public Builder propertiesPerSchema(int propertiesPerSchema) {
+            this.propertiesPerSchema = propertiesPerSchema;
+            return this;
+        }
+
+        /**
+         * @param nestingDepth Tiefe verschachtelter Inline-Objekte und maximale Länge von $ref-Ketten
+         */
+        public Builder nestingDepth(int nestingDepth) {
+            this.nestingDepth = nestingDepth;
+            return this;
+        }
+
+        /**
+         * @param refFanOut Anzahl der $ref-Properties pro Schema
+         */
+        public Builder refFanOut(int refFanOut) {
+            this.refFanOut = refFanOut;
+            return this;
+        }
+
+        /**
+         * @param enumSize Anzahl der Werte der Enum-Property (0 = keine Enum-Property)
+         */
+        public Builder enumSize(int enumSize) {
+            this.enumSize = enumSize;
+            return this;
+        }
+
+        /**
+         * @param oneOfBreadth Anzahl der Optionen der oneOf-Variante pro Schema (0 = keine Varianten)
+         */
+        public Builder oneOfBreadth(int oneOfBreadth) {
+            this.oneOfBreadth = oneOfBreadth;
+            return this;
+        }
+
+        /**
+         * Legt fest, wie oft eine Änderung in der neuen Version angewendet wird.
+         *
+         * @param type Art der Änderung, siehe {@link SpecGenerator#SUPPORTED_MUTATIONS}
+         * @param count Anzahl der Anwendungen
+         */
+        public Builder mutation(ChangeType type, int count) {
+            if (count > 0) {
+                mutations.put(type, count);
+            } else {
+                mutations.remove(type);
+            }
+            return this;
+        }
+
+        public SpecGeneratorConfig build() {
+            requireRange("pathCount", pathCount, 1, Integer.MAX_VALUE);
+            requireRange("operationsPerPath", operationsPerPath, 1, METHODS.length);
+            requireRange("schemaCount", schemaCount, 1, Integer.MAX_VALUE);
+            requireRange("propertiesPerSchema", propertiesPerSchema, 0, Integer.MAX_VALUE);
+            requireRange("nestingDepth", nestingDepth, 0, Integer.MAX_VALUE);
+            requireRange("refFanOut", refFanOut, 0, Integer.MAX_VALUE);
+            requireRange("enumSize", enumSize, 0, Integer.MAX_VALUE);
+            requireRange("oneOfBreadth", oneOfBreadth, 0, Integer.MAX_VALUE);
+            return new SpecGeneratorConfig(this);
+        }
+
+        private static void requireRange(String name, int value, int min, int max) {
+            if (value < min || value > max) {
+                throw new IllegalArgumentException(name + " muss zwischen " + min + " und " + max
+                        + " liegen, war: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.majtom.oas.examples.generator;
+
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.model.ApiChange;
+import com.majtom.oas.model.ChangeType;
+import com.majtom.oas.model.ComparisonResult;
+import com.majtom.oas.parser.FormatConverter;
+import com.majtom.oas.parser.FormatDetector;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.SpecificationFormat;
+import com.majtom.oas.rules.BreakingChangeRule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für den Generator synthetischer Spezifikationen. Die angewendeten Änderungen dienen
+ * als Orakel für den Vergleich mit allen Regeln.
+ */
+class SpecGeneratorTest {
+
+    private static AnnotationConfigApplicationContext rulesContext;
+    private static OasComparisonService comparisonService;
+    private static OasParser parser;
+
+    @BeforeAll
+    static void setUp() {
+        rulesContext = new AnnotationConfigApplicationContext("com.majtom.oas.rules");
+        List<BreakingChangeRule> rules = new ArrayList<>(rulesContext.getBeansOfType(BreakingChangeRule.class).values());
+        parser = new OasParser(new FormatDetector(), new FormatConverter());
+        comparisonService = new OasComparisonService(parser, rules);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        rulesContext.close();
+    }
+
+    @Test
+    @DisplayName("Sollte bei gleichem Seed identische Spezifikationen erzeugen")
+    void shouldBeDeterministic() {
+        SpecGeneratorConfig config = allMutations(SpecGeneratorConfig.builder().seed(7)).build();
+
+        GeneratedSpecPair first = new SpecGenerator(config).generate();
+        GeneratedSpecPair second = new SpecGenerator(config).generate();
+
+        assertEquals(first.oldSpecAsString(SpecificationFormat.YAML), second.oldSpecAsString(SpecificationFormat.YAML));
+        assertEquals(first.newSpecAsString(SpecificationFormat.JSON), second.newSpecAsString(SpecificationFormat.JSON));
+        assertEquals(first.mutations(), second.mutations());
+    }
+
+    @Test
+    @DisplayName("Sollte Größen der Konfiguration einhalten")
+    void shouldRespectConfiguredSizes() {
+        SpecGeneratorConfig config = SpecGeneratorConfig.builder()
+                .pathCount(30).operationsPerPath(5).schemaCount(20).oneOfBreadth(0).build();
+
+        GeneratedSpecPair pair = new SpecGenerator(config).generate();
+
+        assertEquals(30, pair.oldSpec().getPaths().size());
+        assertNotNull(pair.oldSpec().getPaths().get("/resources0").getDelete());
+        assertEquals(20, pair.oldSpec().getComponents().getSchemas().size());
+        assertTrue(pair.mutations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Sollte ohne Änderungen keine Unterschiede melden")
+    void shouldReportNoChangesWithoutMutations() throws OasParseException {
+        GeneratedSpecPair pair = new SpecGenerator(SpecGeneratorConfig.builder().build()).generate();
+
+        ComparisonResult result = compare(pair, SpecificationFormat.YAML);
+
+        assertTrue(result.getChanges().isEmpty(), () -> "Unerwartete Änderungen: " + result.getChanges());
+    }
+
+    @Test
+    @DisplayName("Sollte jede angewendete Änderung im Vergleich wiederfinden")
+    void shouldDetectAllAppliedMutations() throws OasParseException {
+        SpecGeneratorConfig config = allMutations(SpecGeneratorConfig.builder()
+                .seed(11).pathCount(120).schemaCount(60)).build();
+        GeneratedSpecPair pair = new SpecGenerator(config).generate();
+
+        ComparisonResult result = compare(pair, SpecificationFormat.JSON);
+
+        Map<ChangeType, Integer> detected = new EnumMap<>(ChangeType.class);
+        for (ApiChange change : result.getChanges()) {
+            detected.merge(change.getType(), 1, Integer::sum);
+        }
+        pair.expectedChangeCounts().forEach((type, expected) ->
+                assertTrue(detected.getOrDefault(type, 0) >= expected,
+                        () -> type + ": erwartet mindestens " + expected + ", gefunden " + detected.get(type)));
+    }
+
+    @Test
+    @DisplayName("Sollte nicht unterstützte Änderungen ablehnen")
+    void shouldRejectUnsupportedMutation() {
+        SpecGeneratorConfig config = SpecGeneratorConfig.builder()
+                .mutation(ChangeType.ALL_OF_SCHEMA_CHANGED, 1).build();
+
+        assertThrows(IllegalArgumentException.class, () -> new SpecGenerator(config).generate());
+    }
+
+    @Test
+    @DisplayName("Sollte mehr Änderungen als verfügbare Pfade ablehnen")
+    void shouldRejectTooManyMutations() {
+        SpecGeneratorConfig config = SpecGeneratorConfig.builder()
+                .pathCount(2).mutation(ChangeType.ENDPOINT_REMOVED, 3).build();
+
+        assertThrows(IllegalArgumentException.class, () -> new SpecGenerator(config).generate());
+    }
+
+    private static SpecGeneratorConfig.Builder allMutations(SpecGeneratorConfig.Builder builder) {
+        for (ChangeType type : SpecGenerator.SUPPORTED_MUTATIONS) {
+            builder.mutation(type, 1);
+        }
+        return builder.mutation(ChangeType.ENDPOINT_REMOVED, 3).mutation(ChangeType.PROPERTY_REMOVED, 2);
+    }
+
+    private static ComparisonResult compare(GeneratedSpecPair pair, SpecificationFormat format)
+            throws OasParseException {
+        return comparisonService.compareSpecifications(
+                parser.parseFromString(pair.oldSpecAsString(format)),
+                parser.parseFromString(pair.newSpecAsString(format)));
+    }
+}
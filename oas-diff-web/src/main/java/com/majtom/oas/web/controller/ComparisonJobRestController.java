@@ -0,0 +1,142 @@
+package com.majtom.oas.web.controller;
+
+import com.majtom.oas.job.ComparisonJob;
+import com.majtom.oas.job.ComparisonJobService;
+import com.majtom.oas.job.JobPriority;
+import com.majtom.oas.job.JobQueueStats;
+import com.majtom.oas.job.JobState;
+import com.majtom.oas.job.QueueFullException;
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.web.dto.ComparisonResultDto;
+import com.majtom.oas.web.dto.JobStatusDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * REST-Controller für asynchrone Vergleiche. Jobs werden eingereiht und von den Workern des
+ * {@link ComparisonJobService} ausgeführt, ohne einen Request-Thread zu blockieren.
+ */
+@RestController
+@RequestMapping("/api/oas/jobs")
+public class ComparisonJobRestController {
+
+    private static final Logger log = LoggerFactory.getLogger(ComparisonJobRestController.class);
+
+    private final ComparisonJobService jobService;
+    private final long maxWaitSeconds;
+
+    public ComparisonJobRestController(ComparisonJobService jobService,
+                                       @Value("${oas.jobs.max-wait-seconds:30}") long maxWaitSeconds) {
+        this.jobService = jobService;
+        this.maxWaitSeconds = maxWaitSeconds;
+    }
+
+    /**
+     * Reiht einen Vergleich ein.
+     *
+     * @param oldSpecPath Pfad zur alten OAS-Datei
+     * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @param priority Priorität des Jobs
+     * @return 202 mit Status und {@code Location} des Jobs, 429 mit {@code Retry-After} bei voller
+     *         Warteschlange
+     */
+    @PostMapping
+    public ResponseEntity<JobStatusDto> submitJob(
+            @RequestParam String oldSpecPath,
+            @RequestParam String newSpecPath,
+            @RequestParam(defaultValue = "NORMAL") JobPriority priority) {
+
+        try {
+            ComparisonJob job = jobService.submit(oldSpecPath, newSpecPath, priority);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/oas/jobs/" + job.getId()))
+                    .body(JobStatusDto.fromModel(job));
+
+        } catch (QueueFullException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
+        } catch (OasParseException e) {
+            log.error("Fehler beim Einreihen des Jobs", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Liefert den Status eines Jobs. Mit {@code waitSeconds} antwortet der Server erst, wenn der
+     * Job abgeschlossen ist oder die Wartezeit (höchstens {@code oas.jobs.max-wait-seconds})
+     * verstrichen ist; der Request-Thread wird währenddessen freigegeben.
+     *
+     * @param id ID des Jobs
+     * @param waitSeconds Maximale Wartezeit auf den Abschluss (Long-Polling), 0 = sofort
+     * @return Status des Jobs oder 404
+     */
+    @GetMapping("/{id}")
+    public DeferredResult<ResponseEntity<JobStatusDto>> getJobStatus(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "0") long waitSeconds) {
+
+        Optional<ComparisonJob> found = jobService.getJob(id);
+        if (found.isEmpty()) {
+            return completed(ResponseEntity.notFound().build());
+        }
+
+        ComparisonJob job = found.get();
+        long wait = Math.min(waitSeconds, maxWaitSeconds);
+        if (wait <= 0 || job.isFinished()) {
+            return completed(ResponseEntity.ok(JobStatusDto.fromModel(job)));
+        }
+        DeferredResult<ResponseEntity<JobStatusDto>> deferred = new DeferredResult<>(wait * 1000);
+        deferred.onTimeout(() -> deferred.setResult(ResponseEntity.ok(JobStatusDto.fromModel(job))));
+        job.completion().thenAccept(done -> deferred.setResult(ResponseEntity.ok(JobStatusDto.fromModel(done))));
+        return deferred;
+    }
+
+    /**
+     * Liefert das Ergebnis eines erfolgreich abgeschlossenen Jobs.
+     *
+     * @param id ID des Jobs
+     * @return Vergleichsergebnis, 409 solange der Job nicht erfolgreich abgeschlossen ist, oder 404
+     */
+    @GetMapping("/{id}/result")
+    public ResponseEntity<ComparisonResultDto> getJobResult(@PathVariable String id) {
+        Optional<ComparisonJob> job = jobService.getJob(id);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.get().getState() != JobState.SUCCEEDED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(ComparisonResultDto.fromModel(job.get().getResult()));
+    }
+
+    /**
+     * Liefert die Auslastung der Job-Warteschlange.
+     *
+     * @return Wartende und laufende Jobs, Kapazität und Anzahl Worker
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<JobQueueStats> getStats() {
+        return ResponseEntity.ok(jobService.getStats());
+    }
+
+    private static <T> DeferredResult<T> completed(T result) {
+        DeferredResult<T> deferred = new DeferredResult<>();
+        deferred.setResult(result);
+        return deferred;
+    }
+}
@@ -1,23 +1,66 @@
 package com.majtom.oas.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.majtom.oas.analyzer.ComparisonKey;
+import com.majtom.oas.analyzer.DirectoryComparisonSummary;
+import com.majtom.oas.analyzer.DirectoryMatchMode;
 import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.analyzer.ResultCacheStats;
+import com.majtom.oas.analyzer.SpecPair;
+import com.majtom.oas.analyzer.VersionChainResult;
+import com.majtom.oas.git.GitComparisonService;
 import com.majtom.oas.model.ComparisonResult;
 import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import com.majtom.oas.parser.ParseCacheStats;
 import com.majtom.oas.report.HumanReadableReportGenerator;
+import com.majtom.oas.sink.CountingChangeSink;
+import com.majtom.oas.sink.JsonLinesChangeSink;
+import com.majtom.oas.watch.SpecWatch;
+import com.majtom.oas.watch.SpecWatchService;
+import com.majtom.oas.web.dto.BatchItemDto;
 import com.majtom.oas.web.dto.ComparisonResultDto;
+import com.majtom.oas.web.dto.VersionChainDto;
+import com.majtom.oas.web.dto.WatchUpdateDto;
+import io.swagger.v3.oas.models.OpenAPI;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -29,64 +72,429 @@ public class OasComparisonRestController {
 
     private static final Logger log = LoggerFactory.getLogger(OasComparisonRestController.class);
 
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final OasComparisonService comparisonService;
+    private final GitComparisonService gitComparisonService;
+    private final SpecWatchService specWatchService;
     private final HumanReadableReportGenerator reportGenerator;
+    private final OasParser parser;
+    private final ObjectMapper objectMapper;
+    private final long maxRequestSize;
+    private final long sseTimeoutMillis;
 
     public OasComparisonRestController(OasComparisonService comparisonService,
-                                       HumanReadableReportGenerator reportGenerator) {
+                                       GitComparisonService gitComparisonService,
+                                       SpecWatchService specWatchService,
+                                       HumanReadableReportGenerator reportGenerator,
+                                       OasParser parser,
+                                       ObjectMapper objectMapper,
+                                       MultipartProperties multipartProperties,
+                                       @Value("${oas.watch.sse-timeout-millis:1800000}") long sseTimeoutMillis) {
         this.comparisonService = comparisonService;
+        this.gitComparisonService = gitComparisonService;
+        this.specWatchService = specWatchService;
         this.reportGenerator = reportGenerator;
+        this.parser = parser;
+        this.objectMapper = objectMapper;
+        DataSize limit = multipartProperties.getMaxRequestSize();
+        this.maxRequestSize = limit != null ? limit.toBytes() : -1;
+        this.sseTimeoutMillis = sseTimeoutMillis;
     }
 
     /**
      * Vergleicht zwei OAS-Dateien und gibt das Ergebnis als JSON zurück.
      *
+     * Ergebnisse werden im Ergebnis-Cache gehalten. Die Antwort trägt ein starkes ETag aus den
+     * Inhalten beider Dateien und dem Regelsatz; stimmt {@code If-None-Match} überein, antwortet
+     * GET ohne Parsen mit 304 (POST gemäß HTTP mit 412).
+     *
      * @param oldSpecPath Pfad zur alten OAS-Datei
      * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @param webRequest Request für die Prüfung von {@code If-None-Match}
      * @return Vergleichsergebnis als JSON
      */
-    @PostMapping("/compare")
+    @RequestMapping(value = "/compare", method = {RequestMethod.GET, RequestMethod.POST})
     public ResponseEntity<ComparisonResultDto> compareSpecifications(
             @RequestParam String oldSpecPath,
-            @RequestParam String newSpecPath) {
+            @RequestParam String newSpecPath,
+            WebRequest webRequest) {
 
         try {
+            ComparisonKey key = comparisonService.comparisonKey(oldSpecPath, newSpecPath);
+            if (webRequest.checkNotModified(etag(key))) {
+                return null;
+            }
             log.info("REST API: Vergleiche {} mit {}", oldSpecPath, newSpecPath);
 
-            ComparisonResult result = comparisonService.compareSpecifications(oldSpecPath, newSpecPath);
+            ComparisonResult result = comparisonService.compareSpecifications(key, oldSpecPath, newSpecPath);
             ComparisonResultDto dto = ComparisonResultDto.fromModel(result);
 
-            return ResponseEntity.ok(dto);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag(key)).body(dto);
+
+        } catch (OasParseException e) {
+            log.error("Fehler beim Parsen der OAS-Dateien", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Vergleicht zwei OAS-Dateien und streamt das Ergebnis als Newline-delimited JSON.
+     *
+     * Jede Änderung wird als eigene Zeile geschrieben und geflusht, sobald sie gefunden ist: im
+     * sequentiellen Modus nach jedem Element des gemeinsamen Durchlaufs bzw. nach jeder klassischen
+     * Regel, in den parallelen Modi pro Regel in Regelreihenfolge. Die Zeilen enthalten dieselben
+     * Änderungen wie {@code changes} der JSON-Antwort, im sequentiellen Modus aber in
+     * Durchlaufreihenfolge. Die letzte Zeile enthält die Zusammenfassung
+     * ({@code {"summary": {...}}}). Wird mit {@code Accept: application/x-ndjson} gewählt.
+     *
+     * @param oldSpecPath Pfad zur alten OAS-Datei
+     * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @return Gestreamtes Vergleichsergebnis
+     */
+    @PostMapping(value = "/compare", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> compareSpecificationsStreaming(
+            @RequestParam String oldSpecPath,
+            @RequestParam String newSpecPath) {
+
+        List<OpenAPI> specs;
+        try {
+            log.info("REST API: Vergleiche {} mit {} (gestreamt)", oldSpecPath, newSpecPath);
+
+            // Vor dem Streamen parsen, damit Parse-Fehler noch als 400 gemeldet werden können
+            specs = parser.parseFromFiles(List.of(oldSpecPath, newSpecPath));
 
         } catch (OasParseException e) {
             log.error("Fehler beim Parsen der OAS-Dateien", e);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
+
+        OpenAPI oldSpec = specs.get(0);
+        OpenAPI newSpec = specs.get(1);
+        StreamingResponseBody body = out -> {
+            JsonLinesChangeSink json = new JsonLinesChangeSink(out, true);
+            CountingChangeSink counts = new CountingChangeSink();
+            comparisonService.compareSpecifications(oldSpec, newSpec, counts.andThen(json));
+            json.writeSummary(parser.extractVersion(oldSpec), parser.extractVersion(newSpec), counts);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * Vergleicht viele Dateipaare in einem Aufruf und streamt die Ergebnisse als Newline-delimited JSON.
+     *
+     * Jede Datei wird nur einmal geparst, auch wenn mehrere Paare sie verwenden. Pro Paar wird eine
+     * Zeile geschrieben, sobald es verglichen ist ({@code index} verweist auf die Position im
+     * Request), mit {@code result} oder {@code error}; die letzte Zeile enthält die Zusammenfassung.
+     *
+     * @param pairs Zu vergleichende Paare
+     * @return Gestreamte Ergebnisse pro Paar
+     */
+    @PostMapping(value = "/compare/batch", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> compareBatch(@RequestBody List<SpecPair> pairs) {
+        if (pairs.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        log.info("REST API: Batch-Vergleich mit {} Paaren", pairs.size());
+
+        StreamingResponseBody body = out -> {
+            int[] counts = new int[3];
+            comparisonService.compareBatch(pairs, item -> {
+                if (!item.isSuccess()) {
+                    counts[1]++;
+                } else if (item.result().hasBreakingChanges()) {
+                    counts[2]++;
+                }
+                counts[0]++;
+                writeLine(out, BatchItemDto.fromModel(item));
+            });
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("pairs", counts[0]);
+            summary.put("failed", counts[1]);
+            summary.put("withBreakingChanges", counts[2]);
+            writeLine(out, Map.of("summary", summary));
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * Vergleicht alle Spezifikationen zweier Verzeichnisbäume und streamt die Ergebnisse als
+     * Newline-delimited JSON: eine Zeile pro Dateipaar wie bei {@code /compare/batch}, zuletzt
+     * die Zusammenfassung inklusive nur in einem Baum vorhandener Dateien.
+     *
+     * @param oldRoot Wurzel des alten Baums, z.B. ein Release-Checkout
+     * @param newRoot Wurzel des neuen Baums
+     * @param matchBy Zuordnung nach relativem Pfad oder {@code info.title}
+     * @return Gestreamte Ergebnisse pro Datei und Zusammenfassung
+     */
+    @PostMapping(value = "/compare/directories", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> compareDirectories(
+            @RequestParam String oldRoot,
+            @RequestParam String newRoot,
+            @RequestParam(defaultValue = "RELATIVE_PATH") DirectoryMatchMode matchBy) {
+
+        Path oldDir = Path.of(oldRoot);
+        Path newDir = Path.of(newRoot);
+        if (!Files.isDirectory(oldDir) || !Files.isDirectory(newDir)) {
+            log.error("Kein Verzeichnis: {} / {}", oldRoot, newRoot);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        log.info("REST API: Verzeichnisvergleich {} -> {} (Zuordnung: {})", oldRoot, newRoot, matchBy);
+
+        StreamingResponseBody body = out -> {
+            DirectoryComparisonSummary summary = comparisonService.compareDirectories(oldDir, newDir, matchBy,
+                    item -> writeLine(out, BatchItemDto.fromModel(item)));
+            writeLine(out, Map.of("summary", summary));
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * Vergleicht eine geordnete Folge von Versionen: alle benachbarten Paare sowie die erste
+     * mit der letzten Version. Jede Datei wird genau einmal geparst.
+     *
+     * @param specPaths Pfade zu den OAS-Dateien, älteste Version zuerst
+     * @return Ergebnisse aller Schritte und der kumulierte Vergleich
+     */
+    @PostMapping("/compare/chain")
+    public ResponseEntity<VersionChainDto> compareChain(@RequestBody List<String> specPaths) {
+        if (specPaths.size() < 2) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        log.info("REST API: Versionskette mit {} Versionen", specPaths.size());
+
+        VersionChainResult chain = comparisonService.compareChain(specPaths);
+        return ResponseEntity.ok(VersionChainDto.fromModel(chain));
     }
 
     /**
-     * Überprüft, ob Breaking Changes vorhanden sind.
+     * Vergleicht eine Spezifikation zwischen zwei Revisionen eines lokalen Git-Repositories,
+     * ohne sie auszuchecken.
+     *
+     * @param repository Verzeichnis des Repositories
+     * @param specPath Pfad der Datei relativ zur Wurzel des Repositories
+     * @param oldRevision Alter Commit, Tag oder Branch
+     * @param newRevision Neuer Commit, Tag oder Branch
+     * @return Vergleichsergebnis als JSON
+     */
+    @PostMapping("/compare/git")
+    public ResponseEntity<ComparisonResultDto> compareGitRevisions(
+            @RequestParam String repository,
+            @RequestParam String specPath,
+            @RequestParam String oldRevision,
+            @RequestParam(defaultValue = "HEAD") String newRevision) {
+
+        try {
+            log.info("REST API: Git-Vergleich {} in {}: {} -> {}", specPath, repository, oldRevision, newRevision);
+
+            ComparisonResult result = gitComparisonService.compareRevisions(Path.of(repository), specPath,
+                    oldRevision, newRevision);
+            return ResponseEntity.ok(ComparisonResultDto.fromModel(result));
+
+        } catch (OasParseException e) {
+            log.error("Fehler beim Lesen der Spezifikation aus Git", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Vergleicht alle Versionen einer Spezifikation in der Git-Historie als Versionskette.
+     *
+     * @param repository Verzeichnis des Repositories
+     * @param specPath Pfad der Datei relativ zur Wurzel des Repositories
+     * @param revision Revision, deren Historie durchlaufen wird
+     * @param maxCount Maximale Anzahl der jüngsten Versionen, 0 für alle
+     * @return Ergebnisse aller Schritte und der kumulierte Vergleich
+     */
+    @PostMapping("/compare/git/history")
+    public ResponseEntity<VersionChainDto> compareGitHistory(
+            @RequestParam String repository,
+            @RequestParam String specPath,
+            @RequestParam(defaultValue = "HEAD") String revision,
+            @RequestParam(defaultValue = "0") int maxCount) {
+
+        try {
+            log.info("REST API: Git-Historie {} in {} bis {}", specPath, repository, revision);
+
+            VersionChainResult chain = gitComparisonService.compareHistory(Path.of(repository), specPath,
+                    revision, maxCount);
+            return ResponseEntity.ok(VersionChainDto.fromModel(chain));
+
+        } catch (OasParseException e) {
+            log.error("Fehler beim Lesen der Git-Historie", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Beobachtet zwei OAS-Dateien und sendet nach jeder Änderung das neue Ergebnis als
+     * Server-Sent Event.
+     *
+     * Das erste Event enthält das aktuelle Ergebnis. Events heißen {@code comparison} bzw.
+     * {@code parse-error}, wenn eine geänderte Datei nicht parsebar ist; ihre ID ist die
+     * laufende Nummer des Ergebnisses. Die Beobachtung endet, wenn der Client die Verbindung
+     * trennt oder nach {@code oas.watch.sse-timeout-millis}.
      *
      * @param oldSpecPath Pfad zur alten OAS-Datei
      * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @return Event-Stream mit {@link WatchUpdateDto}s
+     */
+    @GetMapping(value = "/watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> watchSpecifications(
+            @RequestParam String oldSpecPath,
+            @RequestParam String newSpecPath) {
+
+        try {
+            log.info("REST API: Beobachte {} und {}", oldSpecPath, newSpecPath);
+
+            SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+            SpecWatch watch = specWatchService.watch(oldSpecPath, newSpecPath, update -> {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(update.sequence()))
+                            .name(update.isSuccess() ? "comparison" : "parse-error")
+                            .data(WatchUpdateDto.fromModel(update), MediaType.APPLICATION_JSON));
+                } catch (IOException e) {
+                    // Client hat die Verbindung getrennt, die Beobachtung endet
+                    throw new UncheckedIOException(e);
+                }
+            });
+            emitter.onTimeout(emitter::complete);
+            emitter.onCompletion(watch::close);
+            emitter.onError(e -> watch.close());
+            return ResponseEntity.ok(emitter);
+
+        } catch (OasParseException e) {
+            log.error("Fehler beim Starten der Beobachtung", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            // Client getrennt: bricht den Batch ab
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Vergleicht zwei hochgeladene OAS-Dateien (YAML oder JSON) und gibt das Ergebnis als JSON zurück.
+     *
+     * Die Teile werden direkt aus dem Upload-Stream geparst. Es gelten die Grenzen aus
+     * {@code spring.servlet.multipart.*}; größere Uploads werden mit 413 abgelehnt.
+     *
+     * @param oldSpec Alte OAS-Datei
+     * @param newSpec Neue OAS-Datei
+     * @return Vergleichsergebnis als JSON
+     */
+    @PostMapping(value = "/compare/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ComparisonResultDto> compareUploadedSpecifications(
+            @RequestPart MultipartFile oldSpec,
+            @RequestPart MultipartFile newSpec) {
+
+        try {
+            log.info("REST API: Vergleiche Upload {} mit {}", oldSpec.getOriginalFilename(),
+                    newSpec.getOriginalFilename());
+
+            OpenAPI oldApi = UploadedSpecs.parse(parser, oldSpec);
+            OpenAPI newApi = UploadedSpecs.parse(parser, newSpec);
+
+            ComparisonResult result = comparisonService.compareSpecifications(oldApi, newApi);
+            return ResponseEntity.ok(ComparisonResultDto.fromModel(result));
+
+        } catch (OasParseException e) {
+            log.error("Fehler beim Parsen der hochgeladenen OAS-Dateien", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Vergleicht zwei OAS-Spezifikationen aus dem Request-Body und gibt das Ergebnis als JSON zurück.
+     *
+     * Der Body enthält genau zwei Dokumente, erst die alte, dann die neue Version: als YAML
+     * getrennt durch {@code ---} oder als zwei aufeinanderfolgende JSON-Objekte. Er wird direkt
+     * aus dem Request-Stream geparst; Bodies über {@code spring.servlet.multipart.max-request-size}
+     * werden mit 413 abgelehnt.
+     *
+     * @param request HTTP-Request mit den beiden Spezifikationen im Body
+     * @return Vergleichsergebnis als JSON
+     */
+    @PostMapping("/compare/raw")
+    public ResponseEntity<ComparisonResultDto> compareRawSpecifications(HttpServletRequest request) {
+        if (maxRequestSize >= 0 && request.getContentLengthLong() > maxRequestSize) {
+            log.warn("Request-Body zu groß: {} Bytes (max. {})", request.getContentLengthLong(), maxRequestSize);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        LimitedInputStream body = null;
+        try {
+            log.info("REST API: Vergleiche Spezifikationen aus Request-Body ({} Bytes)",
+                    request.getContentLengthLong());
+
+            body = new LimitedInputStream(request.getInputStream(), maxRequestSize);
+            List<OpenAPI> specs = parser.parseDocumentsFromStream(body);
+            if (specs.size() != 2) {
+                log.error("Request-Body enthält {} statt 2 Spezifikationen", specs.size());
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            }
+
+            ComparisonResult result = comparisonService.compareSpecifications(specs.get(0), specs.get(1));
+            return ResponseEntity.ok(ComparisonResultDto.fromModel(result));
+
+        } catch (OasParseException | IOException e) {
+            if (body != null && body.isExceeded()) {
+                log.warn("Request-Body überschreitet {} Bytes", maxRequestSize);
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+            }
+            log.error("Fehler beim Parsen des Request-Bodys", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Überprüft, ob Breaking Changes vorhanden sind. Liegt das Ergebnis im Ergebnis-Cache,
+     * wird es von dort beantwortet; ETag und 304 wie bei {@code /compare}.
+     *
+     * @param oldSpecPath Pfad zur alten OAS-Datei
+     * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @param webRequest Request für die Prüfung von {@code If-None-Match}
      * @return Status mit hasBreakingChanges-Flag
      */
     @GetMapping("/breaking-changes")
     public ResponseEntity<Map<String, Object>> checkBreakingChanges(
             @RequestParam String oldSpecPath,
-            @RequestParam String newSpecPath) {
+            @RequestParam String newSpecPath,
+            WebRequest webRequest) {
 
         try {
+            ComparisonKey key = comparisonService.comparisonKey(oldSpecPath, newSpecPath);
+            if (webRequest.checkNotModified(etag(key))) {
+                return null;
+            }
             log.info("REST API: Prüfe Breaking Changes {} -> {}", oldSpecPath, newSpecPath);
 
-            boolean hasBreakingChanges = comparisonService.hasBreakingChanges(oldSpecPath, newSpecPath);
+            boolean hasBreakingChanges = comparisonService.hasBreakingChanges(key, oldSpecPath, newSpecPath);
 
             Map<String, Object> response = new HashMap<>();
             response.put("hasBreakingChanges", hasBreakingChanges);
             response.put("oldSpecPath", oldSpecPath);
             response.put("newSpecPath", newSpecPath);
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag(key)).body(response);
 
         } catch (OasParseException e) {
             log.error("Fehler beim Parsen der OAS-Dateien", e);
@@ -95,29 +503,133 @@ public class OasComparisonRestController {
     }
 
     /**
-     * Erstellt einen menschenlesbaren Textbericht.
+     * Erstellt einen menschenlesbaren Textbericht. Der Bericht wird abschnittsweise direkt
+     * in die Response geschrieben; ETag und 304 wie bei {@code /compare}.
      *
      * @param oldSpecPath Pfad zur alten OAS-Datei
      * @param newSpecPath Pfad zur neuen OAS-Datei
+     * @param webRequest Request für die Prüfung von {@code If-None-Match}
      * @return Textbericht
      */
     @GetMapping(value = "/report", produces = MediaType.TEXT_PLAIN_VALUE)
-    public ResponseEntity<String> generateTextReport(
+    public ResponseEntity<StreamingResponseBody> generateTextReport(
             @RequestParam String oldSpecPath,
-            @RequestParam String newSpecPath) {
+            @RequestParam String newSpecPath,
+            WebRequest webRequest) {
 
+        MediaType textUtf8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
         try {
+            ComparisonKey key = comparisonService.comparisonKey(oldSpecPath, newSpecPath);
+            if (webRequest.checkNotModified(etag(key))) {
+                return null;
+            }
             log.info("REST API: Generiere Textbericht {} -> {}", oldSpecPath, newSpecPath);
 
-            ComparisonResult result = comparisonService.compareSpecifications(oldSpecPath, newSpecPath);
-            String report = reportGenerator.generateTextReport(result);
+            ComparisonResult result = comparisonService.compareSpecifications(key, oldSpecPath, newSpecPath);
 
-            return ResponseEntity.ok(report);
+            StreamingResponseBody body = out -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                reportGenerator.writeTextReport(result, writer);
+                writer.flush();
+            };
+            return ResponseEntity.ok()
+                    .contentType(textUtf8)
+                    .cacheControl(CacheControl.noCache())
+                    .eTag(etag(key))
+                    .body(body);
 
         } catch (OasParseException e) {
             log.error("Fehler beim Parsen der OAS-Dateien", e);
+            String message = "Fehler: " + e.getMessage();
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body("Fehler: " + e.getMessage());
+                    .contentType(textUtf8)
+                    .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    /**
+     * Liefert die Statistik des Parse-Caches.
+     *
+     * @return Treffer, Fehlschläge, Verdrängungen und aktuelles Gewicht
+     */
+    @GetMapping("/parse-cache")
+    public ResponseEntity<ParseCacheStats> getParseCacheStats() {
+        return ResponseEntity.ok(parser.getCacheStats());
+    }
+
+    /**
+     * Liefert die Statistik des Ergebnis-Caches.
+     *
+     * @return Treffer, Fehlschläge, Verdrängungen und abgelaufene Einträge
+     */
+    @GetMapping("/result-cache")
+    public ResponseEntity<ResultCacheStats> getResultCacheStats() {
+        return ResponseEntity.ok(comparisonService.getResultCacheStats());
+    }
+
+    /**
+     * Starkes ETag eines Vergleichs: gleiche Inhalte und gleicher Regelsatz ergeben
+     * byteweise dieselbe Antwort.
+     */
+    private static String etag(ComparisonKey key) {
+        return "\"" + key.hash() + "\"";
+    }
+
+    /**
+     * Bricht das Lesen ab, sobald mehr als die erlaubte Anzahl Bytes gelesen wurde.
+     * Nötig für Bodies ohne Content-Length (chunked), für die keine Multipart-Grenze greift.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+        private boolean exceeded;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        boolean isExceeded() {
+            return exceeded;
+        }
+
+        private void count(long bytes) throws IOException {
+            count += bytes;
+            if (limit >= 0 && count > limit) {
+                exceeded = true;
+                throw new IOException("Request-Body überschreitet " + limit + " Bytes");
+            }
         }
     }
 
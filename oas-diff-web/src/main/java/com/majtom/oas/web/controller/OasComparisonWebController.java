@@ -3,14 +3,19 @@ package com.majtom.oas.web.controller;
 import com.majtom.oas.analyzer.OasComparisonService;
 import com.majtom.oas.model.ComparisonResult;
 import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
 import com.majtom.oas.report.HumanReadableReportGenerator;
+import io.swagger.v3.oas.models.OpenAPI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * Web-Controller für HTML-Ansichten.
@@ -22,11 +27,14 @@ public class OasComparisonWebController {
 
     private final OasComparisonService comparisonService;
     private final HumanReadableReportGenerator reportGenerator;
+    private final OasParser parser;
 
     public OasComparisonWebController(OasComparisonService comparisonService,
-                                      HumanReadableReportGenerator reportGenerator) {
+                                      HumanReadableReportGenerator reportGenerator,
+                                      OasParser parser) {
         this.comparisonService = comparisonService;
         this.reportGenerator = reportGenerator;
+        this.parser = parser;
     }
 
     /**
@@ -64,5 +72,49 @@ public class OasComparisonWebController {
             return "index";
         }
     }
-}
 
+    /**
+     * Zeigt das Ergebnis eines Vergleichs an und aktualisiert es live, sobald eine der
+     * Dateien geändert wird (Server-Sent Events von {@code /api/oas/watch}).
+     */
+    @GetMapping("/watch")
+    public String watch(@RequestParam String oldSpecPath,
+                        @RequestParam String newSpecPath,
+                        Model model) {
+        model.addAttribute("oldSpecPath", oldSpecPath);
+        model.addAttribute("newSpecPath", newSpecPath);
+        return "watch";
+    }
+
+    /**
+     * Vergleicht zwei hochgeladene OAS-Dateien und zeigt das Ergebnis an.
+     */
+    @PostMapping(value = "/compare/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public String compareUpload(@RequestPart MultipartFile oldSpec,
+                                @RequestPart MultipartFile newSpec,
+                                Model model) {
+
+        try {
+            log.info("Web: Vergleiche Upload {} mit {}", oldSpec.getOriginalFilename(),
+                    newSpec.getOriginalFilename());
+
+            OpenAPI oldApi = UploadedSpecs.parse(parser, oldSpec);
+            OpenAPI newApi = UploadedSpecs.parse(parser, newSpec);
+
+            ComparisonResult result = comparisonService.compareSpecifications(oldApi, newApi);
+            String report = reportGenerator.generateTextReport(result);
+
+            model.addAttribute("result", result);
+            model.addAttribute("report", report);
+            model.addAttribute("oldSpecPath", oldSpec.getOriginalFilename());
+            model.addAttribute("newSpecPath", newSpec.getOriginalFilename());
+
+            return "result";
+
+        } catch (OasParseException e) {
+            log.error("Fehler beim Vergleich", e);
+            model.addAttribute("error", "Fehler beim Parsen der hochgeladenen OAS-Dateien: " + e.getMessage());
+            return "index";
+        }
+    }
+}
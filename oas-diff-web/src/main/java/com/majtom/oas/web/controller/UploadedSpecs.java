@@ -0,0 +1,38 @@
+package com.majtom.oas.web.controller;
+
+import com.majtom.oas.parser.OasParseException;
+import com.majtom.oas.parser.OasParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Parst hochgeladene OAS-Dateien für die Upload-Endpunkte der REST- und Web-Oberfläche.
+ *
+ * Die Teile werden direkt aus ihrem Upload-Stream geparst. Lesefehler werden wie Parse-Fehler
+ * als {@link OasParseException} gemeldet, damit beide Controller nur einen Fehlerfall behandeln.
+ */
+final class UploadedSpecs {
+
+    private UploadedSpecs() {
+    }
+
+    /**
+     * Parst eine hochgeladene OAS-Datei (YAML oder JSON).
+     *
+     * @param parser Parser für die Spezifikation
+     * @param file Hochgeladene Datei
+     * @return Geparste OpenAPI-Spezifikation
+     * @throws OasParseException wenn das Lesen oder Parsen fehlschlägt
+     */
+    static OpenAPI parse(OasParser parser, MultipartFile file) throws OasParseException {
+        try (InputStream in = file.getInputStream()) {
+            return parser.parseFromStream(in);
+        } catch (IOException e) {
+            throw new OasParseException("Fehler beim Lesen der hochgeladenen Datei "
+                    + file.getOriginalFilename(), e);
+        }
+    }
+}
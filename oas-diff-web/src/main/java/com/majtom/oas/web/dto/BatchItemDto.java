@@ -0,0 +1,72 @@
+package com.majtom.oas.web.dto;
+
+import com.majtom.oas.analyzer.BatchItemResult;
+
+/**
+ * DTO für das Ergebnis eines Paars im Batch-Vergleich.
+ */
+public class BatchItemDto {
+
+    private int index;
+    private String oldSpecPath;
+    private String newSpecPath;
+    private ComparisonResultDto result;
+    private String error;
+
+    public BatchItemDto() {
+    }
+
+    public static BatchItemDto fromModel(BatchItemResult item) {
+        BatchItemDto dto = new BatchItemDto();
+        dto.setIndex(item.index());
+        dto.setOldSpecPath(item.pair().oldSpecPath());
+        dto.setNewSpecPath(item.pair().newSpecPath());
+        if (item.isSuccess()) {
+            dto.setResult(ComparisonResultDto.fromModel(item.result()));
+        } else {
+            dto.setError(item.error().getMessage());
+        }
+        return dto;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getOldSpecPath() {
+        return oldSpecPath;
+    }
+
+    public void setOldSpecPath(String oldSpecPath) {
+        this.oldSpecPath = oldSpecPath;
+    }
+
+    public String getNewSpecPath() {
+        return newSpecPath;
+    }
+
+    public void setNewSpecPath(String newSpecPath) {
+        this.newSpecPath = newSpecPath;
+    }
+
+    public ComparisonResultDto getResult() {
+        return result;
+    }
+
+    public void setResult(ComparisonResultDto result) {
+        this.result = result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
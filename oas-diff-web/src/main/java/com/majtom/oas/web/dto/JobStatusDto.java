@@ -0,0 +1,124 @@
+package com.majtom.oas.web.dto;
+
+import com.majtom.oas.job.ComparisonJob;
+import com.majtom.oas.job.JobPriority;
+import com.majtom.oas.job.JobState;
+
+import java.time.Instant;
+
+/**
+ * DTO für den Status eines asynchronen Vergleichs.
+ */
+public class JobStatusDto {
+    private String id;
+    private JobState state;
+    private JobPriority priority;
+    private String oldSpecPath;
+    private String newSpecPath;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Boolean hasBreakingChanges;
+    private String error;
+
+    public JobStatusDto() {
+    }
+
+    public static JobStatusDto fromModel(ComparisonJob job) {
+        JobStatusDto dto = new JobStatusDto();
+        dto.setId(job.getId());
+        dto.setState(job.getState());
+        dto.setPriority(job.getPriority());
+        dto.setOldSpecPath(job.getOldSpecPath());
+        dto.setNewSpecPath(job.getNewSpecPath());
+        dto.setSubmittedAt(job.getSubmittedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        if (job.getResult() != null) {
+            dto.setHasBreakingChanges(job.getResult().hasBreakingChanges());
+        }
+        dto.setError(job.getError());
+        return dto;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public JobState getState() {
+        return state;
+    }
+
+    public void setState(JobState state) {
+        this.state = state;
+    }
+
+    public JobPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(JobPriority priority) {
+        this.priority = priority;
+    }
+
+    public String getOldSpecPath() {
+        return oldSpecPath;
+    }
+
+    public void setOldSpecPath(String oldSpecPath) {
+        this.oldSpecPath = oldSpecPath;
+    }
+
+    public String getNewSpecPath() {
+        return newSpecPath;
+    }
+
+    public void setNewSpecPath(String newSpecPath) {
+        this.newSpecPath = newSpecPath;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Boolean getHasBreakingChanges() {
+        return hasBreakingChanges;
+    }
+
+    public void setHasBreakingChanges(Boolean hasBreakingChanges) {
+        this.hasBreakingChanges = hasBreakingChanges;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
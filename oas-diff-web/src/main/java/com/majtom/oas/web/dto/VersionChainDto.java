@@ -0,0 +1,74 @@
+package com.majtom.oas.web.dto;
+
+import com.majtom.oas.analyzer.VersionChainResult;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DTO für den Vergleich einer Versionskette.
+ */
+public class VersionChainDto {
+
+    private List<String> versions;
+    private List<BatchItemDto> steps;
+    private BatchItemDto cumulative;
+    private int breakingStepCount;
+    private boolean hasFailures;
+
+    public VersionChainDto() {
+    }
+
+    public static VersionChainDto fromModel(VersionChainResult chain) {
+        VersionChainDto dto = new VersionChainDto();
+        dto.setVersions(chain.specPaths());
+        dto.setSteps(chain.steps().stream()
+                .map(BatchItemDto::fromModel)
+                .collect(Collectors.toList()));
+        dto.setCumulative(BatchItemDto.fromModel(chain.cumulative()));
+        dto.setBreakingStepCount(chain.getBreakingStepCount());
+        dto.setHasFailures(chain.hasFailures());
+        return dto;
+    }
+
+    // Getters and Setters
+    public List<String> getVersions() {
+        return versions;
+    }
+
+    public void setVersions(List<String> versions) {
+        this.versions = versions;
+    }
+
+    public List<BatchItemDto> getSteps() {
+        return steps;
+    }
+
+    public void setSteps(List<BatchItemDto> steps) {
+        this.steps = steps;
+    }
+
+    public BatchItemDto getCumulative() {
+        return cumulative;
+    }
+
+    public void setCumulative(BatchItemDto cumulative) {
+        this.cumulative = cumulative;
+    }
+
+    public int getBreakingStepCount() {
+        return breakingStepCount;
+    }
+
+    public void setBreakingStepCount(int breakingStepCount) {
+        this.breakingStepCount = breakingStepCount;
+    }
+
+    public boolean isHasFailures() {
+        return hasFailures;
+    }
+
+    public void setHasFailures(boolean hasFailures) {
+        this.hasFailures = hasFailures;
+    }
+}
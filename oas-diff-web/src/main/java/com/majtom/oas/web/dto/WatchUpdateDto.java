@@ -0,0 +1,94 @@
+package com.majtom.oas.web.dto;
+
+import com.majtom.oas.watch.SpecWatchUpdate;
+
+import java.util.List;
+
+/**
+ * DTO für ein per Server-Sent Events übertragenes Ergebnis einer Beobachtung.
+ */
+public class WatchUpdateDto {
+
+    private long sequence;
+    private ComparisonResultDto result;
+    private String error;
+    private boolean oldReparsed;
+    private boolean newReparsed;
+    private List<String> changedFiles;
+    private long durationMillis;
+
+    public WatchUpdateDto() {
+    }
+
+    public static WatchUpdateDto fromModel(SpecWatchUpdate update) {
+        WatchUpdateDto dto = new WatchUpdateDto();
+        dto.setSequence(update.sequence());
+        if (update.isSuccess()) {
+            dto.setResult(ComparisonResultDto.fromModel(update.result()));
+        } else {
+            dto.setError(update.error().getMessage());
+        }
+        dto.setOldReparsed(update.oldReparsed());
+        dto.setNewReparsed(update.newReparsed());
+        dto.setChangedFiles(update.changedFiles());
+        dto.setDurationMillis(update.durationMillis());
+        return dto;
+    }
+
+    // Getters and Setters
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public ComparisonResultDto getResult() {
+        return result;
+    }
+
+    public void setResult(ComparisonResultDto result) {
+        this.result = result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public boolean isOldReparsed() {
+        return oldReparsed;
+    }
+
+    public void setOldReparsed(boolean oldReparsed) {
+        this.oldReparsed = oldReparsed;
+    }
+
+    public boolean isNewReparsed() {
+        return newReparsed;
+    }
+
+    public void setNewReparsed(boolean newReparsed) {
+        this.newReparsed = newReparsed;
+    }
+
+    public List<String> getChangedFiles() {
+        return changedFiles;
+    }
+
+    public void setChangedFiles(List<String> changedFiles) {
+        this.changedFiles = changedFiles;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+}
@@ -0,0 +1,183 @@
+package com.majtom.oas.web.controller;
+
+import com.majtom.oas.analyzer.ComparisonFixtures.BlockingRule;
+import com.majtom.oas.analyzer.OasComparisonService;
+import com.majtom.oas.analyzer.RuleExecutor;
+import com.majtom.oas.job.ComparisonJobService;
+import com.majtom.oas.rules.critical.EndpointRemovedRule;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.majtom.oas.analyzer.ComparisonFixtures.uncachedParser;
+import static com.majtom.oas.analyzer.ComparisonFixtures.writeSpec;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests für die HTTP-Semantik der Job-Endpunkte: Einreihen, Gegendruck, Ergebnisabruf und
+ * Long-Polling.
+ */
+class ComparisonJobRestControllerTest {
+
+    private static final String JOBS = "/api/oas/jobs/";
+    private static final long MAX_WAIT_SECONDS = 1;
+
+    @TempDir
+    Path tempDir;
+
+    private final BlockingRule rule = new BlockingRule();
+    private ComparisonJobService jobService;
+    private MockMvc mockMvc;
+    private String oldSpec;
+    private String newSpec;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        OasComparisonService comparisonService = new OasComparisonService(uncachedParser(),
+                List.of(rule, new EndpointRemovedRule()), RuleExecutor.sequential());
+        // Ein Worker, ein Warteplatz: Der dritte gleichzeitige Job wird abgelehnt
+        jobService = new ComparisonJobService(comparisonService, 1, 1, 60);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ComparisonJobRestController(jobService, MAX_WAIT_SECONDS))
+                .build();
+        oldSpec = writeSpec(tempDir, "v1.yaml", "/users").toString();
+        newSpec = writeSpec(tempDir, "v2.yaml", "/orders").toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rule.release();
+        jobService.close();
+    }
+
+    @Test
+    @DisplayName("Sollte eingereichte Jobs mit 202 und Location des Jobs bestätigen")
+    void shouldAcceptJobWithLocation() throws Exception {
+        String location = submit().andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.priority").value("NORMAL"))
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+        assertNotNull(location);
+        assertTrue(location.startsWith(JOBS));
+        awaitStatus(location, 0)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(location.substring(JOBS.length())));
+    }
+
+    @Test
+    @DisplayName("Sollte bei voller Warteschlange mit 429 und Retry-After antworten")
+    void shouldRejectWithRetryAfter() throws Exception {
+        submit().andExpect(status().isAccepted());
+        assertTrue(rule.awaitStarted());
+        submit().andExpect(status().isAccepted());
+
+        String retryAfter = submit().andExpect(status().isTooManyRequests())
+                .andReturn().getResponse().getHeader(HttpHeaders.RETRY_AFTER);
+
+        assertNotNull(retryAfter);
+        assertTrue(Long.parseLong(retryAfter) >= 1);
+    }
+
+    @Test
+    @DisplayName("Sollte das Ergebnis erst nach erfolgreichem Abschluss liefern")
+    void shouldAnswerConflictUntilResultIsReady() throws Exception {
+        String location = location();
+        assertTrue(rule.awaitStarted());
+
+        mockMvc.perform(get(location + "/result")).andExpect(status().isConflict());
+
+        rule.release();
+        jobService.getJob(location.substring(JOBS.length())).orElseThrow()
+                .completion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        mockMvc.perform(get(location + "/result"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasBreakingChanges").value(true));
+        mockMvc.perform(get(JOBS + "unbekannt/result")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Sollte beim Long-Polling nach Ablauf der Wartezeit den aktuellen Status liefern")
+    void shouldAnswerLongPollOnTimeout() throws Exception {
+        String location = location();
+        assertTrue(rule.awaitStarted());
+
+        MvcResult pending = mockMvc.perform(get(location).param("waitSeconds", "30"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) pending.getRequest().getAsyncContext();
+        // Die Wartezeit wird auf oas.jobs.max-wait-seconds begrenzt
+        assertEquals(MAX_WAIT_SECONDS * 1000, asyncContext.getTimeout());
+
+        // MockMvc löst keine Timeouts aus, der Test simuliert den Ablauf über den AsyncContext
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(null);
+        }
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+    }
+
+    @Test
+    @DisplayName("Sollte beim Long-Polling antworten, sobald der Job abgeschlossen ist")
+    void shouldAnswerLongPollOnCompletion() throws Exception {
+        String location = location();
+        assertTrue(rule.awaitStarted());
+
+        MvcResult pending = mockMvc.perform(get(location).param("waitSeconds", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        rule.release();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.hasBreakingChanges").value(true));
+    }
+
+    @Test
+    @DisplayName("Sollte ohne Wartezeit und für unbekannte Jobs sofort antworten")
+    void shouldAnswerImmediatelyWithoutWait() throws Exception {
+        String location = location();
+        assertTrue(rule.awaitStarted());
+
+        awaitStatus(location, 0).andExpect(jsonPath("$.state").value("RUNNING"));
+        awaitStatus(JOBS + "unbekannt", 0).andExpect(status().isNotFound());
+    }
+
+    private ResultActions submit() throws Exception {
+        return mockMvc.perform(post("/api/oas/jobs")
+                .param("oldSpecPath", oldSpec)
+                .param("newSpecPath", newSpec));
+    }
+
+    private String location() throws Exception {
+        return submit().andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+    }
+
+    private ResultActions awaitStatus(String location, long waitSeconds) throws Exception {
+        MvcResult result = mockMvc.perform(get(location).param("waitSeconds", String.valueOf(waitSeconds)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,142 @@
+package com.majtom.oas.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests für ETags und bedingte Requests der Vergleichs-Endpunkte.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OasComparisonRestControllerTest {
+
+    private static final String OLD_SPEC = """
+            openapi: 3.0.3
+            info:
+              title: Shop
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    private static final String NEW_SPEC = """
+            openapi: 3.0.3
+            info:
+              title: Shop
+              version: 1.0.0
+            paths:
+              /users:
+                $ref: './users.yaml'
+            """;
+
+    private static final String PATH_ITEM = """
+            %s:
+              responses:
+                '200':
+                  description: OK
+            """;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Sollte bei passendem If-None-Match mit 304 antworten")
+    void shouldAnswerNotModified() throws Exception {
+        Path[] specs = specs();
+        String etag = compare(specs).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotNull(etag);
+        compare(specs, etag)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get("/api/oas/breaking-changes")
+                        .param("oldSpecPath", specs[0].toString())
+                        .param("newSpecPath", specs[1].toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Sollte POST bei passendem If-None-Match mit 412 ablehnen")
+    void shouldRejectPostWithPreconditionFailed() throws Exception {
+        Path[] specs = specs();
+        String etag = compare(specs).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/api/oas/compare")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .param("oldSpecPath", specs[0].toString())
+                        .param("newSpecPath", specs[1].toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Sollte nach Änderung einer referenzierten Datei ein neues ETag liefern")
+    void shouldChangeEtagAfterEdit() throws Exception {
+        Path[] specs = specs();
+        String etag = compare(specs)
+                .andExpect(jsonPath("$.breakingChangesCount").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Path users = tempDir.resolve("users.yaml");
+        Files.writeString(users, PATH_ITEM.formatted("post"));
+        Files.setLastModifiedTime(users, FileTime.from(Instant.now().plusSeconds(5)));
+
+        String changed = compare(specs, etag)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.breakingChangesCount").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, changed);
+    }
+
+    private Path[] specs() throws IOException {
+        Files.writeString(tempDir.resolve("users.yaml"), PATH_ITEM.formatted("get"));
+        return new Path[] {
+                Files.writeString(tempDir.resolve("v1.yaml"), OLD_SPEC),
+                Files.writeString(tempDir.resolve("v2.yaml"), NEW_SPEC)
+        };
+    }
+
+    private ResultActions compare(Path[] specs) throws Exception {
+        return mockMvc.perform(get("/api/oas/compare")
+                .param("oldSpecPath", specs[0].toString())
+                .param("newSpecPath", specs[1].toString()));
+    }
+
+    private ResultActions compare(Path[] specs, String etag) throws Exception {
+        return mockMvc.perform(get("/api/oas/compare")
+                .param("oldSpecPath", specs[0].toString())
+                .param("newSpecPath", specs[1].toString())
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+    }
+}
@@ -0,0 +1,62 @@
+package com.majtom.oas.web.controller;
+
+import com.majtom.oas.parser.OasParseException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.majtom.oas.analyzer.ComparisonFixtures.uncachedParser;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für das Parsen hochgeladener OAS-Dateien.
+ */
+class UploadedSpecsTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.3
+            info:
+              title: Shop
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+    @Test
+    @DisplayName("Sollte hochgeladene Dateien aus dem Upload-Stream parsen")
+    void shouldParseUploadedFile() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("oldSpec", "v1.yaml", "application/yaml",
+                SPEC.getBytes(StandardCharsets.UTF_8));
+
+        OpenAPI api = UploadedSpecs.parse(uncachedParser(), file);
+
+        assertEquals("Shop", api.getInfo().getTitle());
+        assertTrue(api.getPaths().containsKey("/users"));
+    }
+
+    @Test
+    @DisplayName("Sollte Lesefehler des Uploads als Parse-Fehler melden")
+    void shouldReportReadFailureAsParseException() {
+        MockMultipartFile file = new MockMultipartFile("oldSpec", "v1.yaml", "application/yaml", new byte[0]) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("Verbindung abgebrochen");
+            }
+        };
+
+        OasParseException e = assertThrows(OasParseException.class,
+                () -> UploadedSpecs.parse(uncachedParser(), file));
+
+        assertTrue(e.getMessage().contains("v1.yaml"));
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+}